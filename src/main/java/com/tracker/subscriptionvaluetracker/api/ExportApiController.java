@@ -0,0 +1,76 @@
+package com.tracker.subscriptionvaluetracker.api;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import com.tracker.subscriptionvaluetracker.transfer.TransferDataset;
+import com.tracker.subscriptionvaluetracker.transfer.TransferFormat;
+import com.tracker.subscriptionvaluetracker.transfer.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Tag(name = "Export", description = "데이터 내보내기 API")
+@RestController
+@RequestMapping("/api/v1/export")
+public class ExportApiController {
+
+    private final ExportService exportService;
+
+    public ExportApiController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "데이터 내보내기",
+            description = "사용자의 구독(subscriptions), 출석 기록(usage-logs), 투자 항목(investments), " +
+                    "투자 사용 기록(investment-usages)을 CSV 또는 NDJSON으로 스트리밍합니다. 삭제된 항목도 포함됩니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 데이터 또는 형식")
+    })
+    @GetMapping("/{dataset}")
+    public ResponseEntity<?> export(
+            @Parameter(description = "데이터 종류", required = true) @PathVariable String dataset,
+            @Parameter(description = "형식 (csv, ndjson)") @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        TransferDataset exportDataset;
+        TransferFormat exportFormat;
+        try {
+            exportDataset = TransferDataset.fromPath(dataset);
+            exportFormat = TransferFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+
+        // 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰므로 사용자를 다시 바인딩 (샤드 선택)
+        StreamingResponseBody body = outputStream -> {
+            try {
+                UserContext.callAs(userUuid, () ->
+                        exportService.export(userUuid, exportDataset, exportFormat, outputStream));
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        String filename = exportDataset.getPath() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+}
@@ -0,0 +1,58 @@
+package com.tracker.subscriptionvaluetracker.api;
+
+import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import com.tracker.subscriptionvaluetracker.transfer.ImportResult;
+import com.tracker.subscriptionvaluetracker.transfer.ImportService;
+import com.tracker.subscriptionvaluetracker.transfer.TransferDataset;
+import com.tracker.subscriptionvaluetracker.transfer.TransferFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@Tag(name = "Import", description = "데이터 가져오기 API")
+@RestController
+@RequestMapping("/api/v1/import")
+public class ImportApiController {
+
+    private final ImportService importService;
+
+    public ImportApiController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @Operation(summary = "이력 가져오기",
+            description = "요청 본문의 CSV 또는 NDJSON을 읽어 출석 기록(usage-logs) 또는 투자 사용 기록(investment-usages)을 저장합니다. " +
+                    "내보내기 파일과 같은 컬럼을 사용하며, 중단되면 응답의 lastCommittedRow를 resumeAfterRow로 넘겨 이어서 가져올 수 있습니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "가져오기 완료 또는 중단 (행별 오류 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 데이터/형식 또는 잘못된 헤더")
+    })
+    @PostMapping("/{dataset}")
+    public ResponseEntity<ApiResponse<ImportResult>> importData(
+            @Parameter(description = "데이터 종류 (usage-logs, investment-usages)", required = true) @PathVariable String dataset,
+            @Parameter(description = "형식 (csv, ndjson)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "이 행 번호까지 건너뜀 (이어서 가져오기)") @RequestParam(defaultValue = "0") long resumeAfterRow,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        try {
+            TransferDataset transferDataset = TransferDataset.fromPath(dataset);
+            if (!transferDataset.isImportable()) {
+                return ResponseEntity.badRequest().body(ApiResponse.error("가져오기를 지원하지 않는 데이터입니다: " + dataset));
+            }
+            // 본문을 버퍼링하지 않고 요청 스트림에서 바로 읽음
+            ImportResult result = importService.importData(userUuid, transferDataset, TransferFormat.from(format),
+                    request.getInputStream(), resumeAfterRow);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
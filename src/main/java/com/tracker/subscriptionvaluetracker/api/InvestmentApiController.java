@@ -1,5 +1,9 @@
 package com.tracker.subscriptionvaluetracker.api;
 
+import com.tracker.subscriptionvaluetracker.common.ApiView;
+import com.tracker.subscriptionvaluetracker.common.ConditionalGet;
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
+import com.tracker.subscriptionvaluetracker.common.UserDataVersionService;
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
 import com.tracker.subscriptionvaluetracker.domain.investment.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,20 +25,41 @@ import java.util.List;
 public class InvestmentApiController {
 
     private final InvestmentService investmentService;
+    private final UserDataVersionService userDataVersionService;
 
-    public InvestmentApiController(InvestmentService investmentService) {
+    public InvestmentApiController(InvestmentService investmentService,
+                                   UserDataVersionService userDataVersionService) {
         this.investmentService = investmentService;
+        this.userDataVersionService = userDataVersionService;
     }
 
-    @Operation(summary = "투자 목록 조회", description = "사용자의 모든 활성 투자 항목 목록을 통계와 함께 조회합니다.")
+    @Operation(summary = "투자 목록 조회", description = "사용자의 모든 활성 투자 항목 목록을 통계와 함께 조회합니다. view=summary이면 손익 계산 없이 id, 이름, 이모지, 카테고리만 반환합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<InvestmentViewDto>>> getInvestments(
+    public ResponseEntity<ApiResponse<?>> getInvestments(
+            @Parameter(description = "응답 범위 (summary: id/이름/이모지만, full: 통계 포함)", schema = @Schema(allowableValues = {"summary", "full"}))
+            @RequestParam(defaultValue = "full") String view,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        ApiView apiView;
+        try {
+            apiView = ApiView.from(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+        // 같은 데이터 버전이라도 응답 본문이 다르므로 view별로 ETag를 구분
+        String resource = apiView == ApiView.SUMMARY ? "investments-summary" : "investments";
+        String eTag = userDataVersionService.getETag(userUuid, resource);
+        if (ConditionalGet.isNotModified(request, response, eTag)) {
+            return null;
+        }
+        if (apiView == ApiView.SUMMARY) {
+            return ResponseEntity.ok(ApiResponse.success(investmentService.getInvestmentSummaries(userUuid)));
+        }
         List<InvestmentViewDto> investments = investmentService.getInvestmentsWithStats(userUuid);
         return ResponseEntity.ok(ApiResponse.success(investments));
     }
@@ -45,12 +70,23 @@ public class InvestmentApiController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "투자 항목을 찾을 수 없음")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<InvestmentViewDto>> getInvestment(
+    public ResponseEntity<ApiResponse<?>> getInvestment(
             @Parameter(description = "투자 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "응답 범위 (summary: id/이름/이모지만, full: 통계 포함)", schema = @Schema(allowableValues = {"summary", "full"}))
+            @RequestParam(defaultValue = "full") String view,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        ApiView apiView;
+        try {
+            apiView = ApiView.from(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
         try {
+            if (apiView == ApiView.SUMMARY) {
+                return ResponseEntity.ok(ApiResponse.success(investmentService.getInvestmentSummary(id, userUuid)));
+            }
             InvestmentViewDto investment = investmentService.getInvestmentWithStats(id, userUuid);
             return ResponseEntity.ok(ApiResponse.success(investment));
         } catch (IllegalArgumentException e) {
@@ -138,15 +174,18 @@ public class InvestmentApiController {
         }
     }
 
-    @Operation(summary = "사용 기록 조회", description = "투자 항목의 사용 기록을 조회합니다.")
+    @Operation(summary = "사용 기록 조회",
+            description = "투자 항목의 사용 기록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
     @GetMapping("/{id}/usage")
-    public ResponseEntity<ApiResponse<List<InvestmentUsage>>> getUsageLogs(
+    public ResponseEntity<ApiResponse<CursorPage<InvestmentUsage>>> getUsageLogs(
             @Parameter(description = "투자 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
         try {
-            List<InvestmentUsage> logs = investmentService.getUsageLogs(id, userUuid);
+            CursorPage<InvestmentUsage> logs = investmentService.getUsageLogs(id, userUuid, cursor, limit);
             return ResponseEntity.ok(ApiResponse.success(logs));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(404).body(ApiResponse.error(e.getMessage()));
@@ -1,5 +1,9 @@
 package com.tracker.subscriptionvaluetracker.api;
 
+import com.tracker.subscriptionvaluetracker.common.ApiView;
+import com.tracker.subscriptionvaluetracker.common.ConditionalGet;
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
+import com.tracker.subscriptionvaluetracker.common.UserDataVersionService;
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
 import com.tracker.subscriptionvaluetracker.domain.subscription.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,21 +25,48 @@ import java.util.List;
 public class SubscriptionApiController {
 
     private final SubscriptionService subscriptionService;
-
-    public SubscriptionApiController(SubscriptionService subscriptionService) {
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final UserDataVersionService userDataVersionService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+
+    public SubscriptionApiController(SubscriptionService subscriptionService,
+                                     DashboardSnapshotService dashboardSnapshotService,
+                                     UserDataVersionService userDataVersionService,
+                                     CheckInWriteBehindService checkInWriteBehindService) {
         this.subscriptionService = subscriptionService;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.userDataVersionService = userDataVersionService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
     }
 
-    @Operation(summary = "구독 목록 조회", description = "사용자의 모든 활성 구독 목록을 통계와 함께 조회합니다.")
+    @Operation(summary = "구독 목록 조회", description = "사용자의 모든 활성 구독 목록을 통계와 함께 조회합니다. view=summary이면 통계 계산 없이 id, 이름, 이모지만 반환합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SubscriptionViewDto>>> getSubscriptions(
+    public ResponseEntity<ApiResponse<?>> getSubscriptions(
+            @Parameter(description = "응답 범위 (summary: id/이름/이모지만, full: 통계 포함)", schema = @Schema(allowableValues = {"summary", "full"}))
+            @RequestParam(defaultValue = "full") String view,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
-        List<SubscriptionViewDto> subscriptions = subscriptionService.getSubscriptionsWithStats(userUuid);
+        ApiView apiView;
+        try {
+            apiView = ApiView.from(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+        // 같은 데이터 버전이라도 응답 본문이 다르므로 view별로 ETag를 구분
+        String resource = apiView == ApiView.SUMMARY ? "subscriptions-summary" : "subscriptions";
+        String eTag = userDataVersionService.getETag(userUuid, resource);
+        if (ConditionalGet.isNotModified(request, response, eTag)) {
+            return null;
+        }
+        if (apiView == ApiView.SUMMARY) {
+            return ResponseEntity.ok(ApiResponse.success(subscriptionService.getSubscriptionSummaries(userUuid)));
+        }
+        List<SubscriptionViewDto> subscriptions = dashboardSnapshotService.getSnapshot(userUuid).getSubscriptions();
         return ResponseEntity.ok(ApiResponse.success(subscriptions));
     }
 
@@ -45,12 +76,23 @@ public class SubscriptionApiController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "구독을 찾을 수 없음")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<SubscriptionViewDto>> getSubscription(
+    public ResponseEntity<ApiResponse<?>> getSubscription(
             @Parameter(description = "구독 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "응답 범위 (summary: id/이름/이모지만, full: 통계 포함)", schema = @Schema(allowableValues = {"summary", "full"}))
+            @RequestParam(defaultValue = "full") String view,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        ApiView apiView;
         try {
+            apiView = ApiView.from(view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+        try {
+            if (apiView == ApiView.SUMMARY) {
+                return ResponseEntity.ok(ApiResponse.success(subscriptionService.getSubscriptionSummary(id, userUuid)));
+            }
             SubscriptionViewDto subscription = subscriptionService.getSubscriptionWithStats(id, userUuid);
             return ResponseEntity.ok(ApiResponse.success(subscription));
         } catch (IllegalArgumentException e) {
@@ -131,28 +173,71 @@ public class SubscriptionApiController {
         String userUuid = UserIdentifier.getUserUuid(request, response);
         LocalDate checkInDate = (date != null) ? LocalDate.parse(date) : LocalDate.now();
 
-        boolean checkedIn = subscriptionService.toggleCheckIn(id, userUuid, checkInDate);
-        SubscriptionViewDto updatedSubscription = subscriptionService.getSubscriptionWithStats(id, userUuid);
+        // 토글 결과로 카드 상태를 바로 계산 (토글 뒤 통계 재조회 없음)
+        CheckInResult checkInResult = checkInWriteBehindService.toggleCheckInWithState(id, userUuid, checkInDate);
 
-        CheckInResponse result = new CheckInResponse(checkedIn, updatedSubscription);
+        CheckInResponse result = new CheckInResponse(checkInResult.checkedIn(), checkInResult.subscription());
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
-    @Operation(summary = "사용 기록 조회", description = "구독의 최근 사용 기록을 조회합니다.")
+    @Operation(summary = "일괄 출석", description = "여러 구독·날짜의 출석을 한 번에 기록합니다. 이미 출석한 날짜는 건너뛰고 항목별 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/check-ins")
+    public ResponseEntity<ApiResponse<BulkCheckInResponse>> bulkCheckIn(
+            @RequestBody BulkCheckInRequest body,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (body.entries() == null || body.entries().isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("출석 항목이 없습니다."));
+        }
+        try {
+            List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(userUuid, body.entries());
+            long createdCount = results.stream()
+                    .filter(result -> result.status() == BulkCheckInResult.Status.CREATED)
+                    .count();
+            return ResponseEntity.ok(ApiResponse.success(new BulkCheckInResponse(createdCount, results)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "사용 기록 조회",
+            description = "구독의 사용 기록을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "구독을 찾을 수 없음 또는 잘못된 커서")
+    })
     @GetMapping("/{id}/usage")
-    public ResponseEntity<ApiResponse<List<UsageLog>>> getUsageLogs(
+    public ResponseEntity<ApiResponse<CursorPage<UsageLog>>> getUsageLogs(
             @Parameter(description = "구독 ID", required = true) @PathVariable Long id,
+            @Parameter(description = "이전 페이지의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit,
             HttpServletRequest request,
             HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
-        // 권한 확인
-        subscriptionService.getSubscription(id, userUuid)
-                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
-
-        List<UsageLog> logs = subscriptionService.getRecentUsageLogs(id);
-        return ResponseEntity.ok(ApiResponse.success(logs));
+        try {
+            CursorPage<UsageLog> page = subscriptionService.getUsageLogPage(id, userUuid, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(e.getMessage()));
+        }
     }
 
+    @Schema(description = "일괄 출석 요청")
+    public record BulkCheckInRequest(
+            @Schema(description = "출석 항목 목록 (최대 400건)") List<BulkCheckInEntry> entries
+    ) {}
+
+    @Schema(description = "일괄 출석 응답")
+    public record BulkCheckInResponse(
+            @Schema(description = "새로 기록된 출석 수") long createdCount,
+            @Schema(description = "요청 순서와 같은 항목별 결과") List<BulkCheckInResult> results
+    ) {}
+
     @Schema(description = "출석 체크 응답")
     public record CheckInResponse(
             @Schema(description = "출석 여부 (true: 출석, false: 취소)") boolean checkedIn,
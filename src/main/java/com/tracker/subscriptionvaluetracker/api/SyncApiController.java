@@ -0,0 +1,51 @@
+package com.tracker.subscriptionvaluetracker.api;
+
+import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInWriteBehindService;
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncResult;
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Sync", description = "오프라인 클라이언트 동기화 API")
+@RestController
+@RequestMapping("/api/v1/sync")
+public class SyncApiController {
+
+    private final SyncService syncService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+
+    public SyncApiController(SyncService syncService,
+                             CheckInWriteBehindService checkInWriteBehindService) {
+        this.syncService = syncService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+    }
+
+    @Operation(summary = "델타 동기화",
+            description = "since 버전 이후 생성/수정/삭제된 구독, 투자 항목, 출석 기록, 투자 사용 기록과 삭제 항목(tombstones)을 반환합니다. " +
+                    "since를 생략하면 전체 구독/투자 목록을 반환합니다. 응답의 version을 다음 요청의 since로 보내고, hasMore가 true면 바로 다시 요청합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "동기화 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 since")
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResult>> sync(
+            @Parameter(description = "마지막으로 받은 version (생략 시 전체)") @RequestParam(required = false) Long since,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        // 버퍼에만 있는 출석 토글은 아직 변경 기록이 없으므로 먼저 반영
+        checkInWriteBehindService.flushUser(userUuid);
+        try {
+            return ResponseEntity.ok(ApiResponse.success(syncService.sync(userUuid, since)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+/**
+ * 목록/상세 API 응답 범위
+ * - SUMMARY: id, 이름, 이모지만 (통계 계산과 추가 조회를 건너뜀)
+ * - FULL: 통계를 포함한 전체 (기본값)
+ */
+public enum ApiView {
+
+    SUMMARY,
+    FULL;
+
+    public static ApiView from(String value) {
+        if (value == null || value.isBlank() || value.equalsIgnoreCase("full")) {
+            return FULL;
+        }
+        if (value.equalsIgnoreCase("summary")) {
+            return SUMMARY;
+        }
+        throw new IllegalArgumentException("지원하지 않는 view입니다: " + value);
+    }
+}
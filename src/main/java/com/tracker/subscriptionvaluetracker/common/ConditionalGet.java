@@ -0,0 +1,28 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * If-None-Match 처리 (변경 없으면 304, 본문 계산 생략)
+ */
+public class ConditionalGet {
+
+    // 브라우저가 매번 ETag로 재검증하도록 (사용자별 데이터이므로 private)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * ETag/Cache-Control 헤더를 설정하고, 클라이언트 ETag와 같으면 304로 응답한다.
+     * true를 반환하면 컨트롤러는 본문 없이 null을 반환하면 된다.
+     */
+    public static boolean isNotModified(HttpServletRequest request, HttpServletResponse response, String eTag) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return new ServletWebRequest(request, response).checkNotModified(eTag);
+    }
+}
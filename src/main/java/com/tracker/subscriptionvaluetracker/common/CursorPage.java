@@ -0,0 +1,28 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 (nextCursor가 null이면 마지막 페이지)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * limit + 1건을 조회한 결과로 페이지를 만듦 (한 건이 더 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int limit,
+                                       Function<T, LocalDate> usedAt, Function<T, Long> id) {
+        if (fetched.size() <= limit) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new CursorPage<>(List.copyOf(items), new KeysetCursor(usedAt.apply(last), id.apply(last)).encode());
+    }
+}
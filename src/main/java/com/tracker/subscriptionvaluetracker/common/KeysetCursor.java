@@ -0,0 +1,49 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (usedAt, id) 키셋 페이지네이션 커서
+ * - 마지막으로 반환한 행의 정렬 키를 불투명한 토큰으로 전달
+ * - 다음 페이지는 이 키보다 뒤(usedAt DESC, id DESC)인 행부터 인덱스로 바로 찾아 OFFSET 비용이 없음
+ */
+public record KeysetCursor(LocalDate usedAt, Long id) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public String encode() {
+        String raw = usedAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 변환 (없으면 null = 첫 페이지)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_LIMIT 범위로 보정 (없으면 DEFAULT_LIMIT)
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
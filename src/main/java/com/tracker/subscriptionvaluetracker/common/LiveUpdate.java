@@ -0,0 +1,26 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.time.LocalDate;
+
+/**
+ * 실시간 알림으로 보내는 변경 요약 (화면은 이 정보로 바뀐 부분만 다시 조회)
+ * @param type check-in, subscription, investment
+ * @param subscriptionId 단건 출석/취소의 구독 ID (그 외에는 null)
+ * @param date 출석/취소 날짜 (일괄 출석은 해당 월 1일)
+ */
+public record LiveUpdate(String type, Long subscriptionId, LocalDate date) {
+
+    public static final String CHECK_IN = "check-in";
+    public static final String SUBSCRIPTION = "subscription";
+    public static final String INVESTMENT = "investment";
+
+    public static LiveUpdate from(UserDataChangedEvent event) {
+        if (!event.isSubscriptionData()) {
+            return new LiveUpdate(INVESTMENT, null, null);
+        }
+        if (event.getAffectedDate() != null) {
+            return new LiveUpdate(CHECK_IN, event.getSubscriptionId(), event.getAffectedDate());
+        }
+        return new LiveUpdate(SUBSCRIPTION, null, null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 연결 관리와 변경 알림 전송 (다른 탭/기기에서 새로고침 없이 반영)
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결이 요청 스레드를 점유하지 않음
+ * - 쓰기 트랜잭션이 커밋된 뒤 캐시 무효화까지 끝나면 전송 (알림을 받은 화면이 옛 캐시를 읽지 않도록)
+ * - 전송은 가상 스레드에서 하므로 느린 클라이언트가 쓰기 요청이나 다른 연결을 막지 않음
+ */
+@Component
+public class LiveUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    private final Duration timeout;
+    private final int maxPerUser;
+    private final int maxConnections;
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LiveUpdateService(@Value("${tracker.live-updates.timeout:30m}") Duration timeout,
+                             @Value("${tracker.live-updates.max-per-user:5}") int maxPerUser,
+                             @Value("${tracker.live-updates.max-connections:10000}") int maxConnections) {
+        this.timeout = timeout;
+        this.maxPerUser = maxPerUser;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * 새 연결 등록 (사용자당 연결 수를 넘으면 가장 오래된 연결을 닫음)
+     */
+    public SseEmitter subscribe(String userUuid) {
+        if (connectionCount.get() >= maxConnections) {
+            throw new IllegalStateException("실시간 알림 연결 수가 한도를 넘었습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> remove(userUuid, emitter));
+        emitter.onTimeout(() -> remove(userUuid, emitter));
+        emitter.onError(e -> remove(userUuid, emitter));
+
+        SseEmitter[] evicted = new SseEmitter[1];
+        emitters.compute(userUuid, (key, list) -> {
+            List<SseEmitter> userEmitters = list != null ? list : new CopyOnWriteArrayList<>();
+            userEmitters.add(emitter);
+            if (userEmitters.size() > maxPerUser) {
+                evicted[0] = userEmitters.remove(0);
+            }
+            return userEmitters;
+        });
+        connectionCount.incrementAndGet();
+        if (evicted[0] != null) {
+            connectionCount.decrementAndGet();
+            evicted[0].complete();
+        }
+
+        // 응답 헤더를 바로 내보내고 재연결 간격을 알려줌
+        sendQuietly(userUuid, emitter, SseEmitter.event().comment("connected").reconnectTime(3000));
+        return emitter;
+    }
+
+    // 캐시 무효화/데이터 버전 갱신 리스너보다 나중에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        List<SseEmitter> userEmitters = emitters.get(event.getUserUuid());
+        if (userEmitters == null || userEmitters.isEmpty()) {
+            return;
+        }
+        LiveUpdate update = LiveUpdate.from(event);
+        for (SseEmitter emitter : userEmitters) {
+            sender.execute(() -> sendQuietly(event.getUserUuid(), emitter,
+                    SseEmitter.event().name(update.type()).data(update, MediaType.APPLICATION_JSON)));
+        }
+    }
+
+    /**
+     * 주기적으로 주석 한 줄을 보내 프록시의 유휴 연결 종료를 막고, 끊긴 연결을 정리
+     */
+    @Scheduled(fixedDelayString = "${tracker.live-updates.heartbeat-interval:25000}")
+    public void heartbeat() {
+        emitters.forEach((userUuid, userEmitters) -> userEmitters.forEach(emitter ->
+                sender.execute(() -> sendQuietly(userUuid, emitter, SseEmitter.event().comment("ping")))));
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+        sender.shutdown();
+    }
+
+    private void sendQuietly(String userUuid, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            log.debug("실시간 알림 전송 실패, 연결 정리: {}", userUuid);
+            remove(userUuid, emitter);
+        }
+    }
+
+    private void remove(String userUuid, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        emitters.computeIfPresent(userUuid, (key, userEmitters) -> {
+            removed[0] = userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+}
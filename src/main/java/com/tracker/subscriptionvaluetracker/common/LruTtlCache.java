@@ -0,0 +1,227 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(LRU) + TTL 인메모리 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - TTL이 지난 항목은 조회 시 만료 처리
+ * - 로딩 중 그 키가 무효화되면 로딩 결과를 저장하지 않음 (무효화 이전 데이터 캐시 방지, 다른 키의 무효화는 영향 없음)
+ */
+public class LruTtlCache<K, V> {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // 로딩 중인 키별 버전. 그 키가 무효화되면 증가하고, 로딩 시작 시점 값과 다르면 결과를 저장하지 않음
+    private final Map<K, Load> loads = new HashMap<>();
+
+    public LruTtlCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemDefaultZone());
+    }
+
+    public LruTtlCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruTtlCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * 캐시에 없으면 loader로 생성해 저장. loader는 락 밖에서 실행됨
+     */
+    public V getOrLoad(K key, Function<K, V> loader) {
+        Load load;
+        long startVersion;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            load = loads.computeIfAbsent(key, k -> new Load());
+            load.loaders++;
+            startVersion = load.version;
+        }
+
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+        } finally {
+            synchronized (this) {
+                if (loaded != null && load.version == startVersion) {
+                    entries.put(key, new Entry<>(loaded, clock.instant().plus(ttl)));
+                }
+                if (--load.loaders == 0) {
+                    loads.remove(key);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    }
+
+    public synchronized void invalidate(K key) {
+        Load load = loads.get(key);
+        if (load != null) {
+            load.version++;
+        }
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 무효화 (예: 특정 사용자의 모든 항목)
+     */
+    public synchronized void invalidateIf(Predicate<K> condition) {
+        loads.forEach((key, load) -> {
+            if (condition.test(key)) {
+                load.version++;
+            }
+        });
+        int before = entries.size();
+        entries.keySet().removeIf(condition);
+        invalidations.addAndGet(before - entries.size());
+    }
+
+    public synchronized void invalidateAll() {
+        loads.values().forEach(load -> load.version++);
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * 만료되지 않은 항목이 있는지 확인 (적중/실패 통계에는 반영하지 않음)
+     */
+    public synchronized boolean containsKey(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(clock.instant());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), evictions.get(), invalidations.get(), size(), maxSize);
+    }
+
+    // 같은 키를 동시에 로딩하는 요청 수와 무효화 버전 (마지막 로딩이 끝나면 제거)
+    private static final class Load {
+
+        private long version;
+        private int loaders;
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * 캐시 적중/실패/제거 통계
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+        private final int size;
+        private final int maxSize;
+
+        public Stats(long hits, long misses, long evictions, long invalidations, int size, int maxSize) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+            this.size = size;
+            this.maxSize = maxSize;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
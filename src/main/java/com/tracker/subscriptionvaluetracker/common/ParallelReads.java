@@ -0,0 +1,174 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한 페이지 안의 서로 독립적인 읽기 작업을 가상 스레드로 동시에 실행 (페이지 지연 ≈ 가장 느린 조회)
+ * - StructuredTaskScope(Java 21에서는 preview)와 같은 fork/join 모양: 범위를 닫으면 끝나지 않은 작업은 취소
+ * - 작업마다 제한 시간을 두고, 하나라도 실패하거나 시간을 넘기면 나머지를 취소하고 예외를 전파
+ * - 동시에 DB를 쓰는 작업 수는 전역 세마포어로 제한 (커넥션 풀을 다른 요청 몫으로 남겨 둠)
+ */
+@Component
+public class ParallelReads {
+
+    private final boolean enabled;
+    private final Duration taskTimeout;
+    private final Semaphore permits;
+
+    public ParallelReads(@Value("${tracker.parallel-reads.enabled:true}") boolean enabled,
+                         @Value("${tracker.parallel-reads.max-concurrent:6}") int maxConcurrent,
+                         @Value("${tracker.parallel-reads.task-timeout:5s}") Duration taskTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("동시 조회 수는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.taskTimeout = taskTimeout;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 작업 묶음 하나 (try-with-resources로 사용)
+     * - 비활성이면 fork 시점에 호출 스레드에서 바로 실행 (순차 실행과 같은 결과)
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final ExecutorService executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        private final List<Task<?>> tasks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        public <T> Task<T> fork(Callable<T> work) {
+            long deadline = System.nanoTime() + taskTimeout.toNanos();
+            // 요청 스레드의 사용자를 작업 스레드에도 바인딩 (샤드/복제본 라우팅 판단)
+            String userUuid = UserContext.currentUser();
+            Future<T> future = executor != null
+                    ? executor.submit(() -> UserContext.callAs(userUuid, () -> callWithPermit(work, deadline)))
+                    : callInline(work);
+            Task<T> task = new Task<>(future, deadline, failure);
+            tasks.add(task);
+            return task;
+        }
+
+        /**
+         * 모든 작업이 끝날 때까지 대기 (실패/시간 초과가 나면 나머지 작업을 취소하고 예외 전파)
+         */
+        public void join() {
+            try {
+                for (Task<?> task : tasks) {
+                    task.get();
+                }
+            } catch (RuntimeException e) {
+                tasks.forEach(Task::cancel);
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                // 취소된 작업은 인터럽트로 끝나며 그때 세마포어도 반납됨 (요청 스레드는 기다리지 않음)
+                tasks.forEach(Task::cancel);
+                executor.shutdownNow();
+            }
+        }
+
+        private <T> T callWithPermit(Callable<T> work, long deadline) throws Exception {
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("동시 조회 한도를 기다리다 시간이 초과되었습니다.");
+            }
+            try {
+                return work.call();
+            } catch (Exception | Error e) {
+                // 첫 실패가 나면 나머지 작업을 바로 취소 (join이 앞선 작업을 기다리느라 실패를 늦게 알지 않도록)
+                if (failure.compareAndSet(null, e)) {
+                    tasks.forEach(Task::cancel);
+                }
+                throw e;
+            } finally {
+                permits.release();
+            }
+        }
+
+        private <T> Future<T> callInline(Callable<T> work) {
+            try {
+                return CompletableFuture.completedFuture(work.call());
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    public static final class Task<T> {
+
+        private final Future<T> future;
+        private final long deadline;
+        private final AtomicReference<Throwable> scopeFailure;
+
+        private Task(Future<T> future, long deadline, AtomicReference<Throwable> scopeFailure) {
+            this.future = future;
+            this.deadline = deadline;
+            this.scopeFailure = scopeFailure;
+        }
+
+        /**
+         * 결과 조회 (아직 실행 중이면 이 작업의 제한 시간까지 대기)
+         */
+        public T get() {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                throw new IllegalStateException("조회 시간이 초과되었습니다.", e);
+            } catch (CancellationException e) {
+                // 다른 작업의 실패로 취소된 경우 그 실패를 전파
+                Throwable cause = scopeFailure.get();
+                if (cause == null) {
+                    throw new IllegalStateException("조회가 취소되었습니다.", e);
+                }
+                throw propagate(cause);
+            } catch (ExecutionException e) {
+                throw propagate(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("조회가 중단되었습니다.", e);
+            }
+        }
+
+        private void cancel() {
+            future.cancel(true);
+        }
+
+        private static RuntimeException propagate(Throwable cause) {
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException("조회에 실패했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 지연 대비 read-your-writes 창
+ * - 사용자의 쓰기가 커밋되기 직전에 시각을 기록하고, window 동안 그 사용자의 읽기 전용 트랜잭션은 primary에서 조회
+ *   (커밋 전에 기록하므로 캐시 무효화 직후 다시 채우는 조회도 지연된 복제본을 읽지 않음)
+ * - 조회 중인 사용자는 UserContext에서 가져옴
+ * - 최근 쓴 사용자만 기억하고, 밀려난 사용자는 복제본에서 조회
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Instant> lastWrites;
+
+    public ReadYourWrites(@Value("${tracker.read-replicas.read-your-writes-window:5s}") Duration window,
+                          @Value("${tracker.read-replicas.max-users:10000}") int maxUsers) {
+        this(window, maxUsers, Clock.systemDefaultZone());
+    }
+
+    public ReadYourWrites(Duration window, int maxUsers, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+        this.lastWrites = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public synchronized void recordWrite(String userUuid) {
+        lastWrites.put(userUuid, clock.instant());
+    }
+
+    public synchronized boolean isRecentWriter(String userUuid) {
+        Instant lastWrite = lastWrites.get(userUuid);
+        return lastWrite != null && clock.instant().isBefore(lastWrite.plus(window));
+    }
+
+    /**
+     * 현재 스레드의 사용자가 창 안에 있으면 primary에서 읽어야 함
+     */
+    public boolean shouldReadPrimary() {
+        String userUuid = UserContext.currentUser();
+        return userUuid != null && isRecentWriter(userUuid);
+    }
+
+    // 캐시 무효화(커밋 후)보다 먼저, 커밋 직전에 기록
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        recordWrite(event.getUserUuid());
+    }
+}
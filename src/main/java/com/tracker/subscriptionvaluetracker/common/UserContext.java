@@ -0,0 +1,58 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드가 다루는 사용자 (DataSource 라우팅에서 사용: 샤드 선택, read-your-writes 창)
+ * - 요청 필터가 쿠키의 사용자를 바인딩하고, 쿠키가 없어 새로 발급하면 그 사용자를 바인딩
+ * - 다른 스레드로 넘기는 작업(ParallelReads, 캘린더 미리 계산)은 callAs/runAs로 전달
+ */
+public final class UserContext {
+
+    private static final ThreadLocal<String> CURRENT_USER = new ThreadLocal<>();
+
+    private UserContext() {
+    }
+
+    public static String currentUser() {
+        return CURRENT_USER.get();
+    }
+
+    /**
+     * 사용자를 현재 스레드에 바인딩한 채로 실행 (끝나면 이전 바인딩 복원)
+     */
+    public static <T> T callAs(String userUuid, Callable<T> work) throws Exception {
+        String previous = CURRENT_USER.get();
+        bind(userUuid);
+        try {
+            return work.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    public static void runAs(String userUuid, Runnable work) {
+        String previous = CURRENT_USER.get();
+        bind(userUuid);
+        try {
+            work.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // 요청 중 새로 발급한 사용자 바인딩 (요청이 끝나면 필터가 이전 상태로 복원)
+    static void bindIfAbsent(String userUuid) {
+        if (CURRENT_USER.get() == null) {
+            bind(userUuid);
+        }
+    }
+
+    private static void bind(String userUuid) {
+        if (userUuid != null) {
+            CURRENT_USER.set(userUuid);
+        } else {
+            CURRENT_USER.remove();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 구독/투자 데이터가 변경되었음을 알리는 이벤트 (사용자별 캐시 무효화용)
+ * - affectedDate가 있으면 해당 날짜의 출석 기록만 바뀐 것
+ * - 투자 변경은 구독/캘린더 데이터에 영향이 없으므로 구분해서 전달
+ * - 단건 출석/취소는 subscriptionId도 담음 (실시간 알림에서 해당 카드만 갱신)
+ */
+public class UserDataChangedEvent {
+
+    private final String userUuid;
+    private final boolean subscriptionData;
+    private final LocalDate affectedDate;
+    private final Long subscriptionId;
+
+    private UserDataChangedEvent(String userUuid, boolean subscriptionData, LocalDate affectedDate, Long subscriptionId) {
+        this.userUuid = userUuid;
+        this.subscriptionData = subscriptionData;
+        this.affectedDate = affectedDate;
+        this.subscriptionId = subscriptionId;
+    }
+
+    // 구독 생성/수정/삭제 (모든 날짜에 영향)
+    public static UserDataChangedEvent subscription(String userUuid) {
+        return new UserDataChangedEvent(userUuid, true, null, null);
+    }
+
+    // 특정 날짜 출석/취소 (일괄 출석처럼 여러 구독에 걸친 변경)
+    public static UserDataChangedEvent usage(String userUuid, LocalDate date) {
+        return new UserDataChangedEvent(userUuid, true, date, null);
+    }
+
+    // 한 구독의 특정 날짜 출석/취소
+    public static UserDataChangedEvent usage(String userUuid, Long subscriptionId, LocalDate date) {
+        return new UserDataChangedEvent(userUuid, true, date, subscriptionId);
+    }
+
+    public static UserDataChangedEvent investment(String userUuid) {
+        return new UserDataChangedEvent(userUuid, false, null, null);
+    }
+
+    public String getUserUuid() {
+        return userUuid;
+    }
+
+    public boolean isSubscriptionData() {
+        return subscriptionData;
+    }
+
+    public LocalDate getAffectedDate() {
+        return affectedDate;
+    }
+
+    public Long getSubscriptionId() {
+        return subscriptionId;
+    }
+}
@@ -0,0 +1,74 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 데이터 버전 (조건부 GET의 ETag 생성용)
+ * - DB에 저장된 사용자 동기화 버전(sync_version)을 ETag에 포함해 다른 인스턴스에서 커밋된 쓰기도 반영
+ *   (구독/투자/출석 쓰기는 모두 같은 트랜잭션에서 변경 기록과 함께 이 버전을 올림)
+ * - 아직 DB에 반영되지 않은 쓰기(출석 쓰기 지연 버퍼)는 이 인스턴스만 덮어써 보여주므로
+ *   변경 이벤트가 커밋되면 전역 카운터에서 새 버전을 받아 사용자에 기록하고 ETag에 함께 포함
+ * - 최근 변경된 사용자만 기억하고, 밀려난 사용자는 밀려난 버전 중 최댓값(floor)을 버전으로 사용
+ *   (버전은 전역적으로 증가하므로 예전 ETag와 우연히 같아지지 않음)
+ * - ETag에 기동 ID와 날짜를 포함해 재시작/자정 이후에는 항상 새로 계산
+ */
+@Component
+public class UserDataVersionService {
+
+    private final SyncVersionRepository syncVersionRepository;
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> versions;
+    private long floor;
+
+    public UserDataVersionService(SyncVersionRepository syncVersionRepository,
+                                  @Value("${tracker.data-version.max-users:10000}") int maxUsers) {
+        this.syncVersionRepository = syncVersionRepository;
+        this.versions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() > maxUsers) {
+                    floor = Math.max(floor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized long getVersion(String userUuid) {
+        return versions.getOrDefault(userUuid, floor);
+    }
+
+    public synchronized void bump(String userUuid) {
+        versions.put(userUuid, sequence.incrementAndGet());
+    }
+
+    // 캐시 무효화 리스너보다 나중에 실행 (새 ETag로 옛 캐시 내용이 나가지 않도록)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        bump(event.getUserUuid());
+    }
+
+    /**
+     * 리소스 이름을 포함한 약한 ETag (예: W/"subscriptions-1a2b3c4d-42-17-2025-01-15")
+     * - 요청마다 저장된 동기화 버전을 PK로 한 번 조회
+     */
+    public String getETag(String userUuid, String resource) {
+        long persistedVersion = syncVersionRepository.findVersion(userUuid).orElse(0L);
+        return "W/\"" + resource + "-" + bootId + "-" + getVersion(userUuid) + "-" + persistedVersion
+                + "-" + LocalDate.now() + "\"";
+    }
+}
@@ -14,13 +14,9 @@ public class UserIdentifier {
     }
 
     public static String getUserUuid(HttpServletRequest request, HttpServletResponse response) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (COOKIE_NAME.equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
+        String existing = findUserUuid(request);
+        if (existing != null) {
+            return existing;
         }
 
         // 없으면 새로 생성
@@ -30,6 +26,20 @@ public class UserIdentifier {
         newCookie.setPath("/");
         newCookie.setHttpOnly(true);
         response.addCookie(newCookie);
+        UserContext.bindIfAbsent(uuid);
         return uuid;
     }
+
+    // 쿠키가 없으면 새로 만들지 않고 null
+    public static String findUserUuid(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
 }
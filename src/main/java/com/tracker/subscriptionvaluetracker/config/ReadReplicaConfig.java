@@ -0,0 +1,59 @@
+package com.tracker.subscriptionvaluetracker.config;
+
+import com.tracker.subscriptionvaluetracker.common.ReadYourWrites;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 (tracker.read-replicas.enabled, 기본 꺼짐)
+ * - 자동 구성된 primary DataSource(spring.datasource.*)를 ReplicaRoutingDataSource로 감쌈
+ * - 복제본 풀은 tracker.read-replicas.urls마다 하나씩, 계정/드라이버는 primary 설정을 그대로 사용
+ */
+@Configuration
+public class ReadReplicaConfig {
+
+    @Bean
+    static BeanPostProcessor readReplicaRoutingPostProcessor(Environment environment,
+                                                             ObjectProvider<ReadYourWrites> readYourWrites) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                        || !environment.getProperty("tracker.read-replicas.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                return new ReplicaRoutingDataSource(primary, createReplicas(environment), readYourWrites.getObject());
+            }
+        };
+    }
+
+    private static List<DataSource> createReplicas(Environment environment) {
+        List<String> urls = Arrays.stream(environment.getProperty("tracker.read-replicas.urls", String[].class, new String[0]))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(environment.getProperty("spring.datasource.username"));
+            config.setPassword(environment.getProperty("spring.datasource.password"));
+            config.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+            config.setMaximumPoolSize(environment.getProperty("tracker.read-replicas.max-pool-size", Integer.class, 10));
+            config.setReadOnly(true);
+            replicas.add(new HikariDataSource(config));
+        }
+        return replicas;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tracker.subscriptionvaluetracker.config;
+
+import com.tracker.subscriptionvaluetracker.common.ReadYourWrites;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 primary로 보내는 DataSource
+ * - 실제 커넥션을 첫 문장 실행 시점까지 미루고(LazyConnectionDataSourceProxy), 그때 readOnly면 복제본 풀에서 가져옴
+ *   (@Transactional(readOnly = true)가 커넥션에 readOnly를 먼저 설정하므로 트랜잭션 시작 시 라우팅이 결정됨)
+ * - 복제본은 라운드 로빈, read-your-writes 창 안의 사용자는 읽기 전용이어도 primary
+ * - 닫으면 primary와 복제본 풀을 함께 닫음
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWrites readYourWrites) {
+        super(primary);
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("읽기 복제본이 1개 이상 필요합니다.");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReadOnlyRouter(primary, this.replicas, readYourWrites));
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        List<DataSource> all = new ArrayList<>(replicas);
+        all.add(primary);
+        for (DataSource dataSource : all) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * 읽기 전용 커넥션 요청을 복제본(라운드 로빈) 또는 primary(read-your-writes 창)로 분배
+     */
+    private static final class ReadOnlyRouter extends AbstractRoutingDataSource {
+
+        private final int replicaCount;
+        private final ReadYourWrites readYourWrites;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private ReadOnlyRouter(DataSource primary, List<DataSource> replicas, ReadYourWrites readYourWrites) {
+            this.replicaCount = replicas.size();
+            this.readYourWrites = readYourWrites;
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                targets.put(i, replicas.get(i));
+            }
+            setTargetDataSources(targets);
+            setLenientFallback(false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (readYourWrites.shouldReadPrimary()) {
+                return PRIMARY;
+            }
+            return Math.floorMod(next.getAndIncrement(), replicaCount);
+        }
+    }
+}
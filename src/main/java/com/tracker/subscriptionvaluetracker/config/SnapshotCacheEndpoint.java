@@ -0,0 +1,48 @@
+package com.tracker.subscriptionvaluetracker.config;
+
+import com.tracker.subscriptionvaluetracker.common.LruTtlCache;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CalendarGridService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.DashboardSnapshotService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 스냅샷 / 캘린더 그리드 캐시 통계 (/actuator/snapshotcache)
+ */
+@Component
+@Endpoint(id = "snapshotcache")
+public class SnapshotCacheEndpoint {
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final CalendarGridService calendarGridService;
+
+    public SnapshotCacheEndpoint(DashboardSnapshotService dashboardSnapshotService,
+                                 CalendarGridService calendarGridService) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.calendarGridService = calendarGridService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dashboard", toMap(dashboardSnapshotService.getStats()));
+        result.put("calendarGrid", toMap(calendarGridService.getStats()));
+        return result;
+    }
+
+    private Map<String, Object> toMap(LruTtlCache.Stats stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", stats.getSize());
+        result.put("maxSize", stats.getMaxSize());
+        result.put("hits", stats.getHits());
+        result.put("misses", stats.getMisses());
+        result.put("hitRate", stats.getHitRate());
+        result.put("evictions", stats.getEvictions());
+        result.put("invalidations", stats.getInvalidations());
+        return result;
+    }
+}
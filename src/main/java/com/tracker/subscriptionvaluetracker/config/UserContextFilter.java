@@ -0,0 +1,38 @@
+package com.tracker.subscriptionvaluetracker.config;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 사용자를 스레드에 바인딩 (샤드 선택, 읽기 전용 트랜잭션의 복제본/primary 판단용)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UserContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            UserContext.callAs(UserIdentifier.findUserUuid(request), () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
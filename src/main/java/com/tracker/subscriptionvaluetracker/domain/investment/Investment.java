@@ -1,14 +1,17 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "investment", indexes = {
-    @Index(name = "idx_investment_user", columnList = "userUuid")
+    // 사용자별 활성 투자 목록 (동등 조건 + createdAt 역순 정렬을 인덱스 순서로 처리)
+    @Index(name = "idx_investment_user_active", columnList = "userUuid, isActive, createdAt")
 })
+@DynamicUpdate
 public class Investment {
 
     @Id
@@ -42,6 +45,14 @@ public class Investment {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // 사용 횟수 / 총 절약액 (사용 기록 쓰기와 같은 트랜잭션에서 원자적 UPDATE로만 갱신)
+    // @DynamicUpdate로 일반 수정 시 이 컬럼들을 덮어쓰지 않음
+    @Column(nullable = false)
+    private long usageCount = 0;
+
+    @Column(nullable = false, precision = 12, scale = 0)
+    private BigDecimal totalSavings = BigDecimal.ZERO;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -115,6 +126,14 @@ public class Investment {
         return isActive;
     }
 
+    public long getUsageCount() {
+        return usageCount;
+    }
+
+    public BigDecimal getTotalSavings() {
+        return totalSavings;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,5 +1,6 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
 import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
 import jakarta.servlet.http.HttpServletRequest;
@@ -59,14 +60,27 @@ public class InvestmentController {
                 .orElseThrow(() -> new IllegalArgumentException("투자 항목을 찾을 수 없습니다."));
 
         InvestmentViewDto dto = investmentService.toViewDto(investment);
-        List<InvestmentUsage> usages = investmentService.getUsages(id);
+        CursorPage<InvestmentUsage> usagePage = investmentService.getUsagePage(id, null, null);
 
         model.addAttribute("investment", dto);
-        model.addAttribute("usages", usages);
+        model.addAttribute("usagePage", usagePage);
         model.addAttribute("usageForm", new InvestmentUsageForm());
         return "investment/detail";
     }
 
+    // 사용 기록 다음 페이지 (HTMX "더 보기")
+    @GetMapping("/{id}/usages")
+    public String usagePage(@PathVariable Long id,
+                            @RequestParam(required = false) String cursor,
+                            Model model,
+                            HttpServletRequest request,
+                            HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        model.addAttribute("investmentId", id);
+        model.addAttribute("usagePage", investmentService.getUsageLogs(id, userUuid, cursor, null));
+        return "fragments/investment-usages :: page";
+    }
+
     @GetMapping("/{id}/edit")
     public String editForm(@PathVariable Long id,
                            Model model,
@@ -0,0 +1,14 @@
+package com.tracker.subscriptionvaluetracker.domain.investment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 날짜별 절약액 합계 프로젝션 (통계 화면에서 월별로 합산)
+ */
+public interface InvestmentDailySavings {
+
+    LocalDate getUsedAt();
+
+    BigDecimal getSavings();
+}
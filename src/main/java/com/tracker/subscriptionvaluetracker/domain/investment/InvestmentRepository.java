@@ -1,8 +1,18 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InvestmentRepository extends JpaRepository<Investment, Long> {
 
@@ -10,5 +20,45 @@ public interface InvestmentRepository extends JpaRepository<Investment, Long> {
 
     Optional<Investment> findByIdAndUserUuid(Long id, String userUuid);
 
+    List<Investment> findByIdInAndUserUuid(Collection<Long> ids, String userUuid);
+
+    // 요약 보기용: 프로젝션으로 필요한 컬럼만 조회
+    List<InvestmentSummary> findSummariesByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(String userUuid);
+
+    Optional<InvestmentSummary> findSummaryByIdAndUserUuid(Long id, String userUuid);
+
+    // 삭제(비활성)된 항목까지 포함한 사용자 투자 항목 ID 전체 (가져오기 소유권 확인용)
+    @Query("SELECT i.id FROM Investment i WHERE i.userUuid = :userUuid")
+    List<Long> findIdsByUserUuid(@Param("userUuid") String userUuid);
+
+    // 삭제(비활성)된 항목까지 포함한 사용자 전체 투자 항목 스트리밍 (내보내기용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Investment i WHERE i.userUuid = :userUuid ORDER BY i.id")
+    Stream<Investment> streamByUserUuid(@Param("userUuid") String userUuid);
+
     long countByUserUuidAndIsActiveTrue(String userUuid);
+
+    // 사용 기록 추가/삭제 시 사용 횟수와 총 절약액을 단일 UPDATE로 증감
+    @Modifying
+    @Query("UPDATE Investment i SET i.usageCount = i.usageCount + :countDelta, " +
+           "i.totalSavings = i.totalSavings + :savingsDelta WHERE i.id = :id")
+    int addUsage(@Param("id") Long id,
+                 @Param("countDelta") long countDelta,
+                 @Param("savingsDelta") BigDecimal savingsDelta);
+
+    // 카운터를 investment_usage 기준으로 일괄 재계산 (정합성 복구용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Investment i SET " +
+           "i.usageCount = (SELECT COUNT(u) FROM InvestmentUsage u WHERE u.investmentId = i.id), " +
+           "i.totalSavings = (SELECT COALESCE(SUM(u.originalPrice - u.actualPrice), 0) " +
+           "FROM InvestmentUsage u WHERE u.investmentId = i.id)")
+    int recalculateUsageCounters();
+
+    // 사용 기록이 있는데 카운터가 초기값(0)인 투자 항목 (카운터 컬럼 추가 직후 기동 시 백필 여부 판단용)
+    @Query("SELECT i.id FROM Investment i WHERE i.usageCount = 0 " +
+           "AND EXISTS (SELECT 1 FROM InvestmentUsage u WHERE u.investmentId = i.id)")
+    List<Long> findUncountedIds(Limit limit);
 }
@@ -1,13 +1,25 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
 import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+import com.tracker.subscriptionvaluetracker.common.KeysetCursor;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService.Change;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -15,11 +27,17 @@ public class InvestmentService {
 
     private final InvestmentRepository investmentRepository;
     private final InvestmentUsageRepository usageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLogService changeLogService;
 
     public InvestmentService(InvestmentRepository investmentRepository,
-                             InvestmentUsageRepository usageRepository) {
+                             InvestmentUsageRepository usageRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             ChangeLogService changeLogService) {
         this.investmentRepository = investmentRepository;
         this.usageRepository = usageRepository;
+        this.eventPublisher = eventPublisher;
+        this.changeLogService = changeLogService;
     }
 
     public List<Investment> getActiveInvestments(String userUuid) {
@@ -44,7 +62,10 @@ public class InvestmentService {
         if (form.getNote() != null) {
             investment.setNote(form.getNote());
         }
-        return investmentRepository.save(investment);
+        Investment saved = investmentRepository.save(investment);
+        changeLogService.record(userUuid, Change.investment(saved.getId(), false));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
+        return saved;
     }
 
     @Transactional
@@ -60,7 +81,10 @@ public class InvestmentService {
         investment.setComparisonBaseline(form.getComparisonBaseline());
         investment.setNote(form.getNote());
 
-        return investmentRepository.save(investment);
+        Investment saved = investmentRepository.save(investment);
+        changeLogService.record(userUuid, Change.investment(saved.getId(), false));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
+        return saved;
     }
 
     @Transactional
@@ -69,6 +93,8 @@ public class InvestmentService {
                 .orElseThrow(() -> new IllegalArgumentException("투자 항목을 찾을 수 없습니다."));
         investment.setIsActive(false);
         investmentRepository.save(investment);
+        changeLogService.record(userUuid, Change.investment(id, true));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
     }
 
     @Transactional
@@ -89,7 +115,36 @@ public class InvestmentService {
         if (form.getNote() != null) {
             usage.setNote(form.getNote());
         }
-        return usageRepository.save(usage);
+        InvestmentUsage saved = usageRepository.save(usage);
+        investmentRepository.addUsage(investmentId, 1, saved.getSavedAmount());
+        changeLogService.record(userUuid, Change.investmentUsage(saved.getId(), false));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
+        return saved;
+    }
+
+    /**
+     * 사용 기록 일괄 저장 (가져오기용, JDBC 배치 INSERT 후 투자 항목별로 카운터를 한 번씩 갱신)
+     */
+    @Transactional
+    public List<InvestmentUsage> addUsages(String userUuid, List<InvestmentUsage> usages) {
+        if (usages.isEmpty()) {
+            return usages;
+        }
+        Set<Long> ownedIds = new HashSet<>(investmentRepository.findIdsByUserUuid(userUuid));
+        if (!usages.stream().map(InvestmentUsage::getInvestmentId).allMatch(ownedIds::contains)) {
+            throw new IllegalArgumentException("투자 항목을 찾을 수 없습니다.");
+        }
+
+        List<InvestmentUsage> saved = usageRepository.saveAll(usages);
+        saved.stream()
+                .collect(Collectors.groupingBy(InvestmentUsage::getInvestmentId))
+                .forEach((investmentId, list) -> investmentRepository.addUsage(investmentId, list.size(),
+                        list.stream().map(InvestmentUsage::getSavedAmount).reduce(BigDecimal.ZERO, BigDecimal::add)));
+        changeLogService.recordAll(userUuid, saved.stream()
+                .map(usage -> Change.investmentUsage(usage.getId(), false))
+                .toList());
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
+        return saved;
     }
 
     @Transactional
@@ -101,10 +156,26 @@ public class InvestmentService {
                 .orElseThrow(() -> new IllegalArgumentException("권한이 없습니다."));
 
         usageRepository.delete(usage);
+        investmentRepository.addUsage(usage.getInvestmentId(), -1, usage.getSavedAmount().negate());
+        // 삭제된 사용 기록으로는 투자 항목을 알 수 없으므로 통계가 바뀐 투자 항목도 함께 기록
+        changeLogService.recordAll(userUuid, List.of(
+                Change.investmentUsage(usage.getId(), true),
+                Change.investment(usage.getInvestmentId(), false)));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
     }
 
-    public List<InvestmentUsage> getUsages(Long investmentId) {
-        return usageRepository.findByInvestmentIdOrderByUsedAtDesc(investmentId);
+    /**
+     * 사용 기록을 최신순(usedAt, id 역순)으로 limit건씩 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public CursorPage<InvestmentUsage> getUsagePage(Long investmentId, String cursor, Integer limit) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<InvestmentUsage> fetched = after == null
+                ? usageRepository.findPageByInvestmentId(investmentId, Limit.of(pageSize + 1))
+                : usageRepository.findPageByInvestmentIdAfter(investmentId, after.usedAt(), after.id(),
+                        Limit.of(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, InvestmentUsage::getUsedAt, InvestmentUsage::getId);
     }
 
     public int getUsageCount(Long investmentId) {
@@ -123,7 +194,10 @@ public class InvestmentService {
      * 순이익 계산: 총 절약액 - 구매가
      */
     public BigDecimal calculateNetProfit(Investment investment) {
-        BigDecimal totalSavings = calculateTotalSavings(investment.getId());
+        return calculateNetProfit(investment, calculateTotalSavings(investment.getId()));
+    }
+
+    private BigDecimal calculateNetProfit(Investment investment, BigDecimal totalSavings) {
         return totalSavings.subtract(investment.getPurchasePrice());
     }
 
@@ -138,7 +212,10 @@ public class InvestmentService {
      * 손익분기점까지 남은 금액 (도달했으면 0)
      */
     public BigDecimal getBreakEvenRemaining(Investment investment) {
-        BigDecimal netProfit = calculateNetProfit(investment);
+        return getBreakEvenRemaining(calculateNetProfit(investment));
+    }
+
+    private BigDecimal getBreakEvenRemaining(BigDecimal netProfit) {
         if (netProfit.compareTo(BigDecimal.ZERO) >= 0) {
             return BigDecimal.ZERO;
         }
@@ -149,7 +226,10 @@ public class InvestmentService {
      * 손익분기점 진행률 (0-100%)
      */
     public int getBreakEvenProgress(Investment investment) {
-        BigDecimal totalSavings = calculateTotalSavings(investment.getId());
+        return getBreakEvenProgress(investment, calculateTotalSavings(investment.getId()));
+    }
+
+    private int getBreakEvenProgress(Investment investment, BigDecimal totalSavings) {
         BigDecimal purchasePrice = investment.getPurchasePrice();
 
         if (purchasePrice.compareTo(BigDecimal.ZERO) == 0) {
@@ -170,7 +250,13 @@ public class InvestmentService {
         if (usageCount == 0) {
             return BigDecimal.ZERO;
         }
-        BigDecimal totalSavings = calculateTotalSavings(investmentId);
+        return getAvgSavingsPerUse(calculateTotalSavings(investmentId), usageCount);
+    }
+
+    private BigDecimal getAvgSavingsPerUse(BigDecimal totalSavings, int usageCount) {
+        if (usageCount == 0) {
+            return BigDecimal.ZERO;
+        }
         return totalSavings.divide(BigDecimal.valueOf(usageCount), 0, RoundingMode.HALF_UP);
     }
 
@@ -179,14 +265,44 @@ public class InvestmentService {
     }
 
     public InvestmentViewDto toViewDto(Investment investment) {
-        int usageCount = getUsageCount(investment.getId());
-        BigDecimal totalSavings = calculateTotalSavings(investment.getId());
-        BigDecimal netProfit = calculateNetProfit(investment);
-        boolean breakEvenReached = isBreakEvenReached(investment);
-        BigDecimal breakEvenRemaining = getBreakEvenRemaining(investment);
-        int breakEvenProgress = getBreakEvenProgress(investment);
-        BigDecimal avgSavingsPerUse = getAvgSavingsPerUse(investment.getId());
-        List<InvestmentUsage> recentUsages = usageRepository.findTop5ByInvestmentIdOrderByUsedAtDesc(investment.getId());
+        return toViewDtos(List.of(investment)).get(0);
+    }
+
+    /**
+     * 여러 투자 항목의 통계를 최근 사용 기록 쿼리 1회로 계산
+     * 사용 횟수/총 절약액은 투자 항목의 누적 카운터를 사용하고, 손익분기점 지표는 메모리에서 계산
+     */
+    public List<InvestmentViewDto> toViewDtos(List<Investment> investments) {
+        if (investments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> investmentIds = investments.stream()
+                .map(Investment::getId)
+                .toList();
+
+        Map<Long, List<InvestmentUsage>> recentUsagesByInvestment = usageRepository.findRecent5ByInvestmentIds(investmentIds)
+                .stream()
+                .collect(Collectors.groupingBy(InvestmentUsage::getInvestmentId));
+
+        return investments.stream()
+                .map(investment -> toViewDto(
+                        investment,
+                        recentUsagesByInvestment.getOrDefault(investment.getId(), List.of())))
+                .toList();
+    }
+
+    private InvestmentViewDto toViewDto(Investment investment, List<InvestmentUsage> recentUsages) {
+        int usageCount = (int) investment.getUsageCount();
+        BigDecimal totalSavings = investment.getTotalSavings();
+        // 최근 사용 기록은 사용일 내림차순이므로 첫 건이 마지막 사용일
+        LocalDate lastUsedAt = recentUsages.isEmpty() ? null : recentUsages.get(0).getUsedAt();
+
+        BigDecimal netProfit = calculateNetProfit(investment, totalSavings);
+        boolean breakEvenReached = netProfit.compareTo(BigDecimal.ZERO) >= 0;
+        BigDecimal breakEvenRemaining = getBreakEvenRemaining(netProfit);
+        int breakEvenProgress = getBreakEvenProgress(investment, totalSavings);
+        BigDecimal avgSavingsPerUse = getAvgSavingsPerUse(totalSavings, usageCount);
         String emoji = EmojiMapper.toInvestmentEmoji(investment.getEmojiCode());
 
         return new InvestmentViewDto(
@@ -206,27 +322,39 @@ public class InvestmentService {
                 breakEvenRemaining,
                 breakEvenProgress,
                 avgSavingsPerUse,
+                lastUsedAt,
                 recentUsages
         );
     }
 
     public List<InvestmentViewDto> getInvestmentsWithStats(String userUuid) {
-        return getActiveInvestments(userUuid).stream()
-                .map(this::toViewDto)
+        return toViewDtos(getActiveInvestments(userUuid));
+    }
+
+    // 요약 보기: 손익 계산과 최근 사용 기록 조회 없이 프로젝션 한 번으로 조회
+    public List<InvestmentSummaryDto> getInvestmentSummaries(String userUuid) {
+        return investmentRepository.findSummariesByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid).stream()
+                .map(InvestmentSummaryDto::from)
                 .toList();
     }
 
+    public InvestmentSummaryDto getInvestmentSummary(Long id, String userUuid) {
+        return investmentRepository.findSummaryByIdAndUserUuid(id, userUuid)
+                .map(InvestmentSummaryDto::from)
+                .orElseThrow(() -> new IllegalArgumentException("투자 항목을 찾을 수 없습니다."));
+    }
+
     public InvestmentViewDto getInvestmentWithStats(Long id, String userUuid) {
         Investment investment = investmentRepository.findByIdAndUserUuid(id, userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("투자 항목을 찾을 수 없습니다."));
         return toViewDto(investment);
     }
 
-    public List<InvestmentUsage> getUsageLogs(Long investmentId, String userUuid) {
+    public CursorPage<InvestmentUsage> getUsageLogs(Long investmentId, String userUuid, String cursor, Integer limit) {
         // 권한 확인
         investmentRepository.findByIdAndUserUuid(investmentId, userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("투자 항목을 찾을 수 없습니다."));
-        return getUsages(investmentId);
+        return getUsagePage(investmentId, cursor, limit);
     }
 
     @Transactional
@@ -243,5 +371,11 @@ public class InvestmentService {
         }
 
         usageRepository.delete(usage);
+        investmentRepository.addUsage(usage.getInvestmentId(), -1, usage.getSavedAmount().negate());
+        // 삭제된 사용 기록으로는 투자 항목을 알 수 없으므로 통계가 바뀐 투자 항목도 함께 기록
+        changeLogService.recordAll(userUuid, List.of(
+                Change.investmentUsage(usage.getId(), true),
+                Change.investment(usage.getInvestmentId(), false)));
+        eventPublisher.publishEvent(UserDataChangedEvent.investment(userUuid));
     }
 }
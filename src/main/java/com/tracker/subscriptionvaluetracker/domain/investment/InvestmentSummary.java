@@ -0,0 +1,15 @@
+package com.tracker.subscriptionvaluetracker.domain.investment;
+
+/**
+ * 투자 항목 요약(id, 이름, 이모지 코드, 카테고리)만 조회하기 위한 프로젝션 (엔티티 전체를 읽지 않음)
+ */
+public interface InvestmentSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getEmojiCode();
+
+    String getCategory();
+}
@@ -0,0 +1,14 @@
+package com.tracker.subscriptionvaluetracker.domain.investment;
+
+import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+
+/**
+ * 요약 보기(view=summary) 응답 (위젯처럼 손익 계산이 필요 없는 화면용)
+ */
+public record InvestmentSummaryDto(Long id, String name, String emojiCode, String emoji, String category) {
+
+    static InvestmentSummaryDto from(InvestmentSummary summary) {
+        return new InvestmentSummaryDto(summary.getId(), summary.getName(), summary.getEmojiCode(),
+                EmojiMapper.toInvestmentEmoji(summary.getEmojiCode()), summary.getCategory());
+    }
+}
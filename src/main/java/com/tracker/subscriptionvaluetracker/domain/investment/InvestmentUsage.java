@@ -7,13 +7,17 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "investment_usage", indexes = {
-    @Index(name = "idx_investment_usage_investment", columnList = "investmentId"),
+    // 투자 항목별 조회와 (usedAt, id) 역순 키셋 페이지네이션을 함께 처리
+    // 가격 컬럼까지 포함해 기간별 절약액 합계는 테이블을 읽지 않고 인덱스만으로 계산
+    @Index(name = "idx_investment_usage_investment_date", columnList = "investmentId, usedAt, id, originalPrice, actualPrice"),
     @Index(name = "idx_investment_usage_date", columnList = "usedAt")
 })
 public class InvestmentUsage {
 
+    // 가져오기 INSERT를 JDBC 배치로 묶기 위해 usage_log와 같은 풀링 시퀀스 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investment_usage_seq")
+    @SequenceGenerator(name = "investment_usage_seq", sequenceName = "investment_usage_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,27 +1,73 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface InvestmentUsageRepository extends JpaRepository<InvestmentUsage, Long> {
 
-    List<InvestmentUsage> findByInvestmentIdOrderByUsedAtDesc(Long investmentId);
+    // 키셋 페이지네이션 첫 페이지 (idx_investment_usage_investment_date 인덱스를 역순으로 읽음)
+    @Query("SELECT u FROM InvestmentUsage u WHERE u.investmentId = :investmentId ORDER BY u.usedAt DESC, u.id DESC")
+    List<InvestmentUsage> findPageByInvestmentId(@Param("investmentId") Long investmentId, Limit limit);
+
+    // 키셋 페이지네이션 다음 페이지: 커서 (usedAt, id)보다 뒤인 행부터
+    @Query("SELECT u FROM InvestmentUsage u WHERE u.investmentId = :investmentId " +
+           "AND (u.usedAt < :usedAt OR (u.usedAt = :usedAt AND u.id < :id)) ORDER BY u.usedAt DESC, u.id DESC")
+    List<InvestmentUsage> findPageByInvestmentIdAfter(@Param("investmentId") Long investmentId,
+                                                      @Param("usedAt") LocalDate usedAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
 
     long countByInvestmentId(Long investmentId);
 
+    // 사용자 전체 투자 사용 기록 스트리밍 (내보내기용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM InvestmentUsage u WHERE u.investmentId IN " +
+           "(SELECT i.id FROM Investment i WHERE i.userUuid = :userUuid) ORDER BY u.investmentId, u.usedAt, u.id")
+    Stream<InvestmentUsage> streamByUserUuid(@Param("userUuid") String userUuid);
+
     @Query("SELECT COALESCE(SUM(u.originalPrice - u.actualPrice), 0) FROM InvestmentUsage u WHERE u.investmentId = :investmentId")
     BigDecimal calculateTotalSavings(@Param("investmentId") Long investmentId);
 
     List<InvestmentUsage> findTop5ByInvestmentIdOrderByUsedAtDesc(Long investmentId);
 
+    // 투자 항목별 사용 횟수 / 총 절약액 / 마지막 사용일 전체 집계 (카운터 정합성 검사용)
+    @Query("SELECT u.investmentId AS investmentId, COUNT(u) AS usageCount, " +
+           "SUM(u.originalPrice - u.actualPrice) AS totalSavings, MAX(u.usedAt) AS lastUsedAt " +
+           "FROM InvestmentUsage u GROUP BY u.investmentId")
+    List<InvestmentUsageStats> findAllUsageStats();
+
+    // 투자 항목별 최근 5건을 윈도우 함수로 한 번에 조회
+    @Query(value = "SELECT r.id, r.investment_id, r.used_at, r.item_name, r.original_price, r.actual_price, " +
+                   "r.source, r.note, r.created_at FROM (" +
+                   "SELECT iu.*, ROW_NUMBER() OVER (PARTITION BY iu.investment_id ORDER BY iu.used_at DESC, iu.id DESC) AS rn " +
+                   "FROM investment_usage iu WHERE iu.investment_id IN (:investmentIds)) r " +
+                   "WHERE r.rn <= 5 ORDER BY r.investment_id, r.used_at DESC, r.id DESC",
+           nativeQuery = true)
+    List<InvestmentUsage> findRecent5ByInvestmentIds(@Param("investmentIds") List<Long> investmentIds);
+
     @Query("SELECT COALESCE(SUM(u.originalPrice - u.actualPrice), 0) FROM InvestmentUsage u " +
            "WHERE u.investmentId = :investmentId AND u.usedAt BETWEEN :startDate AND :endDate")
     BigDecimal calculateMonthlySavings(@Param("investmentId") Long investmentId,
                                        @Param("startDate") LocalDate startDate,
                                        @Param("endDate") LocalDate endDate);
+
+    // 여러 투자 항목의 기간 내 날짜별 절약액 합계 (투자 항목 수 x 월 수만큼 쿼리하지 않도록 한 번에 집계)
+    @Query("SELECT u.usedAt AS usedAt, SUM(u.originalPrice - u.actualPrice) AS savings FROM InvestmentUsage u " +
+           "WHERE u.investmentId IN :investmentIds AND u.usedAt BETWEEN :startDate AND :endDate GROUP BY u.usedAt")
+    List<InvestmentDailySavings> sumSavingsByDate(@Param("investmentIds") List<Long> investmentIds,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
 }
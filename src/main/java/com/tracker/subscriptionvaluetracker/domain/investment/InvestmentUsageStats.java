@@ -0,0 +1,18 @@
+package com.tracker.subscriptionvaluetracker.domain.investment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 투자 항목별 사용 횟수, 총 절약액, 마지막 사용일 집계 프로젝션
+ */
+public interface InvestmentUsageStats {
+
+    Long getInvestmentId();
+
+    Long getUsageCount();
+
+    BigDecimal getTotalSavings();
+
+    LocalDate getLastUsedAt();
+}
@@ -24,13 +24,14 @@ public class InvestmentViewDto {
     private BigDecimal breakEvenRemaining;
     private int breakEvenProgress;
     private BigDecimal avgSavingsPerUse;
+    private LocalDate lastUsedAt;
     private List<InvestmentUsage> recentUsages;
 
     public InvestmentViewDto(Long id, String name, String emojiCode, String emoji, String category,
                              BigDecimal purchasePrice, LocalDate purchaseDate, BigDecimal comparisonBaseline,
                              String note, int usageCount, BigDecimal totalSavings, BigDecimal netProfit,
                              boolean breakEvenReached, BigDecimal breakEvenRemaining, int breakEvenProgress,
-                             BigDecimal avgSavingsPerUse, List<InvestmentUsage> recentUsages) {
+                             BigDecimal avgSavingsPerUse, LocalDate lastUsedAt, List<InvestmentUsage> recentUsages) {
         this.id = id;
         this.name = name;
         this.emojiCode = emojiCode;
@@ -47,6 +48,7 @@ public class InvestmentViewDto {
         this.breakEvenRemaining = breakEvenRemaining;
         this.breakEvenProgress = breakEvenProgress;
         this.avgSavingsPerUse = avgSavingsPerUse;
+        this.lastUsedAt = lastUsedAt;
         this.recentUsages = recentUsages;
     }
 
@@ -115,6 +117,10 @@ public class InvestmentViewDto {
         return avgSavingsPerUse;
     }
 
+    public LocalDate getLastUsedAt() {
+        return lastUsedAt;
+    }
+
     public List<InvestmentUsage> getRecentUsages() {
         return recentUsages;
     }
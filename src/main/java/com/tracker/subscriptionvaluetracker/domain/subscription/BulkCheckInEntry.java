@@ -0,0 +1,9 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.time.LocalDate;
+
+/**
+ * 일괄 출석 요청 항목
+ */
+public record BulkCheckInEntry(Long subscriptionId, LocalDate date, String note) {
+}
@@ -0,0 +1,25 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.time.LocalDate;
+
+/**
+ * 일괄 출석 항목별 처리 결과 (요청 순서와 동일)
+ */
+public record BulkCheckInResult(Long subscriptionId, LocalDate date, Status status, Long usageLogId) {
+
+    public enum Status {
+        CREATED,    // 출석 기록 생성
+        DUPLICATE,  // 이미 출석한 날짜 (또는 같은 요청 내 중복)
+        NOT_FOUND,  // 구독이 없거나 사용자의 구독이 아님
+        INVALID,    // 구독 ID 또는 날짜 누락
+        ARCHIVED    // 보관 기간이 지나 usage_log_archive로 옮겨진 월의 날짜 (변경 불가)
+    }
+
+    static BulkCheckInResult of(BulkCheckInEntry entry, Status status) {
+        return new BulkCheckInResult(entry.subscriptionId(), entry.date(), status, null);
+    }
+
+    static BulkCheckInResult created(UsageLog usageLog) {
+        return new BulkCheckInResult(usageLog.getSubscriptionId(), usageLog.getUsedAt(), Status.CREATED, usageLog.getId());
+    }
+}
@@ -44,6 +44,14 @@ public class CalendarDayDto {
         return usages != null && !usages.isEmpty();
     }
 
+    // 오늘 여부만 바꾼 복사본 (캐시된 그리드에 오늘 표시를 덧씌울 때 사용)
+    public CalendarDayDto withToday(boolean today) {
+        if (this.isToday == today) {
+            return this;
+        }
+        return new CalendarDayDto(date, dayOfMonth, isCurrentMonth, today, usages);
+    }
+
     // 각 출석 기록 항목
     public static class UsageEntry {
         private final Long subscriptionId;
@@ -0,0 +1,132 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.LruTtlCache;
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * (사용자, 연월) 단위 캘린더 그리드 캐시
+ * - 출석/취소는 해당 월 그리드만, 구독 변경은 사용자의 모든 그리드를 무효화
+ * - 오늘 표시(isToday)는 조회 시 덧씌우므로 캐시된 그리드를 그대로 재사용
+ * - 조회한 달의 이전/다음 달을 비동기로 미리 계산 (설정으로 끌 수 있음)
+ */
+@Service
+public class CalendarGridService {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarGridService.class);
+
+    private final CalendarService calendarService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final TaskExecutor taskExecutor;
+    private final boolean prefetchEnabled;
+    private final LruTtlCache<GridKey, MonthGrid> cache;
+
+    public CalendarGridService(CalendarService calendarService,
+                               CheckInWriteBehindService checkInWriteBehindService,
+                               @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                               @Value("${tracker.calendar-cache.max-size:3000}") int maxSize,
+                               @Value("${tracker.calendar-cache.ttl:30m}") Duration ttl,
+                               @Value("${tracker.calendar-cache.prefetch:true}") boolean prefetchEnabled) {
+        this.calendarService = calendarService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.taskExecutor = taskExecutor;
+        this.prefetchEnabled = prefetchEnabled;
+        this.cache = new LruTtlCache<>(maxSize, ttl);
+    }
+
+    public List<CalendarDayDto> getCalendarDays(String userUuid, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate today = LocalDate.now();
+
+        // 출석 버퍼에 남은 변경을 먼저 반영해 방금 누른 출석이 그리드에 보이도록
+        checkInWriteBehindService.flushUser(userUuid);
+        List<CalendarDayDto> days = loadGrid(userUuid, yearMonth, today);
+
+        if (prefetchEnabled) {
+            prefetch(userUuid, yearMonth.minusMonths(1), today);
+            prefetch(userUuid, yearMonth.plusMonths(1), today);
+        }
+
+        // 오늘 표시만 덧씌움
+        return days.stream()
+                .map(day -> day.withToday(day.getDate().equals(today)))
+                .toList();
+    }
+
+    // 데이터 버전(ETag)이 올라가기 전에 먼저 무효화
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        if (!event.isSubscriptionData()) {
+            return;
+        }
+        String userUuid = event.getUserUuid();
+        if (event.getAffectedDate() != null) {
+            YearMonth affectedMonth = YearMonth.from(event.getAffectedDate());
+            cache.invalidate(new GridKey(userUuid, affectedMonth));
+        } else {
+            cache.invalidateIf(key -> key.userUuid().equals(userUuid));
+        }
+    }
+
+    public LruTtlCache.Stats getStats() {
+        return cache.stats();
+    }
+
+    private List<CalendarDayDto> loadGrid(String userUuid, YearMonth yearMonth, LocalDate today) {
+        GridKey key = new GridKey(userUuid, yearMonth);
+        MonthGrid grid = cache.getOrLoad(key, k -> buildGrid(k, today));
+        if (!today.equals(grid.builtOn())) {
+            // 현재 구독 기준(종료일)이 날짜에 따라 달라지므로 날짜가 바뀌면 다시 계산
+            cache.invalidate(key);
+            grid = cache.getOrLoad(key, k -> buildGrid(k, today));
+        }
+        return grid.days();
+    }
+
+    private void prefetch(String userUuid, YearMonth yearMonth, LocalDate today) {
+        GridKey key = new GridKey(userUuid, yearMonth);
+        if (cache.containsKey(key)) {
+            return;
+        }
+        // 작업 스레드에도 사용자를 바인딩 (샤드 선택, 방금 쓴 사용자면 복제본 대신 primary에서 계산해 캐시)
+        taskExecutor.execute(() -> UserContext.runAs(userUuid, () -> {
+            try {
+                cache.getOrLoad(key, k -> buildGrid(k, today));
+            } catch (RuntimeException e) {
+                log.warn("캘린더 그리드 미리 계산 실패: {} {}", userUuid, yearMonth, e);
+            }
+        }));
+    }
+
+    private MonthGrid buildGrid(GridKey key, LocalDate today) {
+        List<CalendarDayDto> days = calendarService.getCalendarDays(
+                key.userUuid(), key.yearMonth().getYear(), key.yearMonth().getMonthValue());
+        return new MonthGrid(today, List.copyOf(days));
+    }
+
+    private record GridKey(String userUuid, YearMonth yearMonth) {
+
+        private GridKey {
+            Objects.requireNonNull(userUuid);
+            Objects.requireNonNull(yearMonth);
+        }
+    }
+
+    private record MonthGrid(LocalDate builtOn, List<CalendarDayDto> days) {
+    }
+}
@@ -57,18 +57,30 @@ public class CalendarService {
         List<UsageLog> usageLogs = usageLogRepository.findBySubscriptionIdsAndDateRange(
                 subscriptionIds, firstDayOfMonth, lastDayOfMonth);
 
-        // 구독별 해당 월 사용 횟수 계산 (월별 기준)
-        Map<Long, Long> monthlyUsageCountBySubscription = new HashMap<>();
-        for (Long subId : subscriptionIds) {
-            long monthlyCount = usageLogRepository.countBySubscriptionIdAndUsedAtBetween(
-                    subId, firstDayOfMonth, lastDayOfMonth);
-            monthlyUsageCountBySubscription.put(subId, monthlyCount);
-        }
-
         // 구독 ID -> 구독 정보 맵
         Map<Long, Subscription> subscriptionMap = subscriptions.stream()
                 .collect(Collectors.toMap(Subscription::getId, s -> s));
 
+        // 이미 조회한 출석 기록에서 구독별 월 사용 횟수 계산 (추가 쿼리 없음)
+        Map<Long, Long> monthlyUsageCountBySubscription = usageLogs.stream()
+                .collect(Collectors.groupingBy(UsageLog::getSubscriptionId, Collectors.counting()));
+
+        // 구독별 표시 항목(회당 비용, 레벨, 이모지)은 월 단위로 동일하므로 한 번만 계산
+        Map<Long, CalendarDayDto.UsageEntry> entryBySubscription = new HashMap<>();
+        monthlyUsageCountBySubscription.forEach((subId, monthlyUsageCount) -> {
+            Subscription sub = subscriptionMap.get(subId);
+            if (sub != null) {
+                BigDecimal dailyCost = calculateMonthlyCostPerUse(sub, monthlyUsageCount);
+                entryBySubscription.put(subId, new CalendarDayDto.UsageEntry(
+                        sub.getId(),
+                        sub.getName(),
+                        EmojiMapper.toEmoji(sub.getEmojiCode()),
+                        dailyCost,
+                        getMonthlyCostLevel(dailyCost, sub.getMonthlyAmount())
+                ));
+            }
+        });
+
         // 날짜별 출석 기록 그룹화
         Map<LocalDate, List<UsageLog>> usagesByDate = usageLogs.stream()
                 .collect(Collectors.groupingBy(UsageLog::getUsedAt));
@@ -87,20 +99,9 @@ public class CalendarService {
                 List<UsageLog> dayUsages = usagesByDate.getOrDefault(current, Collections.emptyList());
 
                 for (UsageLog usage : dayUsages) {
-                    Subscription sub = subscriptionMap.get(usage.getSubscriptionId());
-                    if (sub != null) {
-                        long monthlyUsageCount = monthlyUsageCountBySubscription.getOrDefault(sub.getId(), 1L);
-                        BigDecimal dailyCost = calculateMonthlyCostPerUse(sub, monthlyUsageCount);
-                        String costLevel = getMonthlyCostLevel(dailyCost, sub.getMonthlyAmount());
-                        String emoji = EmojiMapper.toEmoji(sub.getEmojiCode());
-
-                        usageEntries.add(new CalendarDayDto.UsageEntry(
-                                sub.getId(),
-                                sub.getName(),
-                                emoji,
-                                dailyCost,
-                                costLevel
-                        ));
+                    CalendarDayDto.UsageEntry entry = entryBySubscription.get(usage.getSubscriptionId());
+                    if (entry != null) {
+                        usageEntries.add(entry);
                     }
                 }
             }
@@ -172,21 +173,10 @@ public class CalendarService {
         }
     }
 
-    public List<SubscriptionViewDto> getSubscriptionsForLegend(String userUuid) {
-        return subscriptionRepository.findCurrentSubscriptions(userUuid, LocalDate.now())
-                .stream()
-                .map(sub -> new SubscriptionViewDto(
-                        sub.getId(),
-                        sub.getName(),
-                        sub.getEmojiCode(),
-                        EmojiMapper.toEmoji(sub.getEmojiCode()),
-                        sub.getPeriodType(),
-                        sub.getTotalAmount(),
-                        sub.getMonthlyAmount(),
-                        sub.getStartDate(),
-                        sub.getEndDate(),
-                        0, BigDecimal.ZERO, "normal", false
-                ))
+    // 범례에는 id, 이름, 이모지만 필요하므로 요약 프로젝션으로 조회
+    public List<SubscriptionSummaryDto> getSubscriptionsForLegend(String userUuid) {
+        return subscriptionRepository.findCurrentSummaries(userUuid, LocalDate.now()).stream()
+                .map(SubscriptionSummaryDto::from)
                 .toList();
     }
 
@@ -234,8 +224,8 @@ public class CalendarService {
         // 목표 총 사용 횟수
         int targetTotalUsage = monthlyTarget * totalMonths;
 
-        // 현재 총 사용 횟수
-        int currentTotalUsage = (int) usageLogRepository.countBySubscriptionId(subscription.getId());
+        // 현재 총 사용 횟수 (구독에 유지되는 누적 카운터)
+        int currentTotalUsage = (int) subscription.getTotalUsageCount();
 
         // 사용 진행률 (%)
         int usageProgress = targetTotalUsage > 0 ? (int) (currentTotalUsage * 100 / targetTotalUsage) : 0;
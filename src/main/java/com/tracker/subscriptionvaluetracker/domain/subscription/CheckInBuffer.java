@@ -0,0 +1,411 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 출석 토글 write-behind 버퍼 (tracker.check-in-buffer.enabled)
+ * - (구독, 날짜)별 최종 출석 상태만 보관하고, 짧은 시간 안에 서로 상쇄된 토글은 DB에 쓰지 않음
+ * - 마지막 토글 후 coalesce-window가 지난 항목만 배치로 반영 (CheckInWriteBehindService)
+ * - wal-path를 지정하면 토글마다 WAL에 기록(선택적으로 fsync)한 뒤 응답해, 비정상 종료 후 기동 시 재적용
+ *   (반영 완료는 완료 표시 줄만 추가, 버퍼가 비거나 WAL이 WAL_COMPACT_LINES줄을 넘을 때만 남은 항목으로 다시 씀)
+ * - 반영에 실패한 항목은 재시도 간격을 늘려 가며 다시 반영하고, MAX_FLUSH_ATTEMPTS번 실패하면
+ *   버퍼에서 빼 실패 목록(dead letter)으로 옮기고 로그를 남김
+ */
+@Component
+public class CheckInBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInBuffer.class);
+
+    static final int WAL_COMPACT_LINES = 10_000;
+    static final int MAX_FLUSH_ATTEMPTS = 10;
+    static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final boolean enabled;
+    private final Duration coalesceWindow;
+    private final Path walPath;
+    private final boolean walFsync;
+    private final Clock clock;
+
+    // 아직 DB에 반영하지 않은 상태
+    private final Map<Key, Pending> pending = new LinkedHashMap<>();
+    // DB에 반영 중인 상태 (반영 중 새 토글이 들어오면 이 상태를 기준으로 뒤집음)
+    private final Map<Key, Pending> inFlight = new HashMap<>();
+    // 반영 실패 횟수와 다음 재시도 시각 (drainReady만 재시도 시각을 지킴)
+    private final Map<Key, Integer> failures = new HashMap<>();
+    private final Map<Key, Long> retryAt = new HashMap<>();
+    // 재시도를 포기한 항목
+    private final Map<Key, Pending> deadLetters = new LinkedHashMap<>();
+
+    private FileChannel wal;
+    private int walLines;
+
+    @Autowired
+    public CheckInBuffer(@Value("${tracker.check-in-buffer.enabled:false}") boolean enabled,
+                         @Value("${tracker.check-in-buffer.coalesce-window:1500ms}") Duration coalesceWindow,
+                         @Value("${tracker.check-in-buffer.wal-path:}") String walPath,
+                         @Value("${tracker.check-in-buffer.wal-fsync:true}") boolean walFsync) {
+        this(enabled, coalesceWindow, walPath.isBlank() ? null : Path.of(walPath), walFsync, Clock.systemDefaultZone());
+    }
+
+    CheckInBuffer(boolean enabled, Duration coalesceWindow, Path walPath, boolean walFsync, Clock clock) {
+        this.enabled = enabled;
+        this.coalesceWindow = coalesceWindow;
+        this.walPath = walPath;
+        this.walFsync = walFsync;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public synchronized void openWal() {
+        if (!enabled || walPath == null) {
+            return;
+        }
+        try {
+            if (Files.exists(walPath)) {
+                replay(Files.readAllLines(walPath, StandardCharsets.UTF_8));
+                if (!pending.isEmpty()) {
+                    log.info("출석 버퍼 WAL 복구: {}건", pending.size());
+                }
+            }
+            rewriteWal();
+        } catch (IOException e) {
+            throw new UncheckedIOException("출석 버퍼 WAL을 열 수 없습니다: " + walPath, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void closeWal() throws IOException {
+        if (wal != null) {
+            wal.close();
+            wal = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 출석 상태를 뒤집고 새 상태를 반환
+     * @param persistedState 버퍼에 항목이 없을 때만 호출되는 DB 출석 여부 조회
+     */
+    public boolean toggle(String userUuid, Long subscriptionId, LocalDate date, BooleanSupplier persistedState) {
+        Key key = new Key(subscriptionId, date);
+        Boolean persisted = null;
+        while (true) {
+            if (persisted == null && !isBuffered(key)) {
+                // DB 조회는 락 밖에서 (다른 사용자 토글을 막지 않도록)
+                persisted = persistedState.getAsBoolean();
+            }
+
+            synchronized (this) {
+                Pending current = pending.get(key);
+                Pending flushing = inFlight.get(key);
+                boolean currentState;
+                Boolean baseState;
+                if (current != null) {
+                    currentState = current.checkedIn();
+                    baseState = current.persistedState();
+                } else if (flushing != null) {
+                    // 반영 중인 상태가 곧 DB 상태가 됨
+                    currentState = flushing.checkedIn();
+                    baseState = flushing.checkedIn();
+                } else if (persisted != null) {
+                    currentState = persisted;
+                    baseState = persisted;
+                } else {
+                    // 조회 직후 반영이 끝나 버퍼에서 빠졌으면 DB 상태를 다시 조회
+                    continue;
+                }
+
+                boolean next = !currentState;
+                // 사용자가 다시 토글했으면 재시도 대기 없이 다음 주기에 반영
+                retryAt.remove(key);
+                if (baseState != null && baseState == next) {
+                    // DB 상태로 되돌아온 토글은 상쇄
+                    pending.remove(key);
+                    appendWal("R\t" + subscriptionId + "\t" + date);
+                } else {
+                    pending.put(key, new Pending(subscriptionId, date, userUuid, baseState, next, clock.millis()));
+                    appendWal("P\t" + subscriptionId + "\t" + date + "\t" + next + "\t" + userUuid);
+                }
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 마지막 토글 후 coalesce-window가 지난 항목을 반영 대상으로 꺼냄
+     */
+    public List<Pending> drainReady() {
+        long now = clock.millis();
+        long cutoff = now - coalesceWindow.toMillis();
+        return drain(entry -> entry.lastToggledAt() <= cutoff
+                && retryAt.getOrDefault(entry.key(), Long.MIN_VALUE) <= now);
+    }
+
+    // 읽기 전에 해당 사용자 변경을 즉시 반영할 때 사용 (read-your-writes)
+    public List<Pending> drainUser(String userUuid) {
+        return drain(entry -> entry.userUuid().equals(userUuid));
+    }
+
+    public List<Pending> drainAll() {
+        return drain(entry -> true);
+    }
+
+    /**
+     * 반영 완료: 반영 중 목록에서 제거하고 WAL에 완료 표시 추가
+     */
+    public synchronized void complete(List<Pending> applied) {
+        StringBuilder lines = new StringBuilder();
+        for (Pending entry : applied) {
+            inFlight.remove(entry.key(), entry);
+            failures.remove(entry.key());
+            retryAt.remove(entry.key());
+            lines.append("C\t").append(entry.subscriptionId()).append('\t').append(entry.date())
+                    .append('\t').append(entry.checkedIn()).append('\n');
+        }
+        if (walPath == null) {
+            return;
+        }
+        if (wal == null || (pending.isEmpty() && inFlight.isEmpty()) || walLines + applied.size() > WAL_COMPACT_LINES) {
+            rewriteWalQuietly();
+        } else if (!applied.isEmpty()) {
+            appendWalQuietly(lines.toString());
+        }
+    }
+
+    /**
+     * 반영 실패: 다시 대기열로 (실패할 때마다 재시도 간격을 두 배로, 최대 MAX_RETRY_DELAY)
+     * - 반영 중 새 토글이 들어와 있으면 그 항목은 실패한 상태가 DB에 반영됐다고 보고 뒤집은 것이므로
+     *   기준 DB 상태를 실패한 항목의 기준으로 되돌림 (되돌린 기준과 같아지면 상쇄)
+     * - MAX_FLUSH_ATTEMPTS번째 실패면 실패한 상태는 버리고 실패 목록으로 옮김
+     */
+    public synchronized void requeue(List<Pending> failed) {
+        for (Pending entry : failed) {
+            Key key = entry.key();
+            inFlight.remove(key, entry);
+            int attempts = failures.merge(key, 1, Integer::sum);
+            boolean givingUp = attempts >= MAX_FLUSH_ATTEMPTS;
+            Pending newer = pending.get(key);
+            if (newer == null) {
+                if (givingUp) {
+                    appendWal("D\t" + entry.subscriptionId() + "\t" + entry.date());
+                } else {
+                    pending.put(key, entry);
+                }
+            } else if (entry.persistedState() != null && entry.persistedState() == newer.checkedIn()) {
+                pending.remove(key);
+                appendWal("R\t" + entry.subscriptionId() + "\t" + entry.date());
+            } else {
+                pending.put(key, new Pending(newer.subscriptionId(), newer.date(), newer.userUuid(),
+                        entry.persistedState(), newer.checkedIn(), newer.lastToggledAt()));
+            }
+
+            if (givingUp) {
+                deadLetters.put(key, entry);
+                log.error("출석 버퍼 반영 {}회 실패, 재시도 중단: 사용자 {}, 구독 {}, {}, 출석 {}", attempts,
+                        entry.userUuid(), entry.subscriptionId(), entry.date(), entry.checkedIn());
+            }
+            if (givingUp || !pending.containsKey(key)) {
+                failures.remove(key);
+                retryAt.remove(key);
+            } else {
+                retryAt.put(key, clock.millis() + retryDelay(attempts));
+            }
+        }
+    }
+
+    /**
+     * 재시도를 포기한 항목 (운영자 확인용, 재기동하면 비워짐)
+     */
+    public synchronized List<Pending> getDeadLetters() {
+        return List.copyOf(deadLetters.values());
+    }
+
+    public synchronized boolean hasPending(String userUuid) {
+        return pending.values().stream().anyMatch(entry -> entry.userUuid().equals(userUuid));
+    }
+
+    /**
+     * 아직 반영하지 않은 해당 월 출석 증감 (DB 상태를 모르는 WAL 복구 항목은 제외)
+     * - 반영 중 항목도 complete/requeue 전까지 포함 (같은 키의 대기 항목은 반영 중 상태를 기준으로 하므로 합하면 순증감)
+     */
+    public synchronized int pendingMonthlyDelta(Long subscriptionId, YearMonth yearMonth) {
+        if (pending.isEmpty() && inFlight.isEmpty()) {
+            return 0;
+        }
+        int delta = 0;
+        for (Map<Key, Pending> entries : List.of(inFlight, pending)) {
+            for (Pending entry : entries.values()) {
+                if (entry.subscriptionId().equals(subscriptionId)
+                        && YearMonth.from(entry.date()).equals(yearMonth)
+                        && entry.persistedState() != null
+                        && entry.persistedState() != entry.checkedIn()) {
+                    delta += entry.checkedIn() ? 1 : -1;
+                }
+            }
+        }
+        return delta;
+    }
+
+    public synchronized Optional<Boolean> pendingState(Long subscriptionId, LocalDate date) {
+        Key key = new Key(subscriptionId, date);
+        Pending entry = pending.containsKey(key) ? pending.get(key) : inFlight.get(key);
+        return entry != null ? Optional.of(entry.checkedIn()) : Optional.empty();
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    private synchronized boolean isBuffered(Key key) {
+        return pending.containsKey(key) || inFlight.containsKey(key);
+    }
+
+    private synchronized List<Pending> drain(Predicate<Pending> condition) {
+        List<Pending> drained = new ArrayList<>();
+        Iterator<Pending> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Pending entry = iterator.next();
+            if (condition.test(entry)) {
+                iterator.remove();
+                inFlight.put(entry.key(), entry);
+                drained.add(entry);
+            }
+        }
+        return drained;
+    }
+
+    private void replay(List<String> lines) {
+        for (String line : lines) {
+            String[] parts = line.split("\t", 5);
+            try {
+                Key key = new Key(Long.valueOf(parts[1]), LocalDate.parse(parts[2]));
+                if ("P".equals(parts[0])) {
+                    // 기록 당시 DB 상태는 알 수 없으므로 null (상쇄 없이 최종 상태를 그대로 반영)
+                    pending.put(key, new Pending(key.subscriptionId(), key.date(), parts[4], null,
+                            Boolean.parseBoolean(parts[3]), clock.millis()));
+                } else if ("C".equals(parts[0])) {
+                    // 반영 완료된 상태와 같을 때만 제거 (반영 중 들어온 다른 상태는 남김)
+                    Pending entry = pending.get(key);
+                    if (entry != null && entry.checkedIn() == Boolean.parseBoolean(parts[3])) {
+                        pending.remove(key);
+                    }
+                } else {
+                    // R(상쇄), D(재시도 포기)
+                    pending.remove(key);
+                }
+            } catch (RuntimeException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄
+                log.warn("출석 버퍼 WAL 손상 줄 무시: {}", line);
+            }
+        }
+    }
+
+    private static long retryDelay(int attempts) {
+        return Math.min(1000L << Math.min(attempts, 20), MAX_RETRY_DELAY.toMillis());
+    }
+
+    private void appendWal(String line) {
+        if (wal == null) {
+            return;
+        }
+        try {
+            writeWal(line + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("출석 버퍼 WAL 기록 실패", e);
+        }
+    }
+
+    // 완료 표시는 빠져도 재기동 시 멱등하게 재적용될 뿐이므로 실패해도 계속
+    private void appendWalQuietly(String lines) {
+        try {
+            writeWal(lines);
+        } catch (IOException e) {
+            log.warn("출석 버퍼 WAL 완료 표시 실패", e);
+        }
+    }
+
+    private void writeWal(String lines) throws IOException {
+        wal.write(ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8)));
+        if (walFsync) {
+            wal.force(false);
+        }
+        walLines += (int) lines.chars().filter(c -> c == '\n').count();
+    }
+
+    // 반영 대기/반영 중 항목만 남긴 새 WAL로 원자적으로 교체
+    private void rewriteWal() throws IOException {
+        if (walPath == null) {
+            return;
+        }
+        if (wal != null) {
+            wal.close();
+            wal = null;
+        }
+        Path temp = walPath.resolveSibling(walPath.getFileName() + ".tmp");
+        List<String> lines = new ArrayList<>();
+        for (Map<Key, Pending> entries : List.of(inFlight, pending)) {
+            entries.values().forEach(entry -> lines.add("P\t" + entry.subscriptionId() + "\t" + entry.date()
+                    + "\t" + entry.checkedIn() + "\t" + entry.userUuid()));
+        }
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, walPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        wal = FileChannel.open(walPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        walLines = lines.size();
+    }
+
+    private void rewriteWalQuietly() {
+        try {
+            rewriteWal();
+        } catch (IOException e) {
+            // 기존 WAL이 남아 있으면 재기동 시 멱등하게 재적용되므로 다음 반영 때 다시 시도
+            log.warn("출석 버퍼 WAL 정리 실패", e);
+        }
+    }
+
+    record Key(Long subscriptionId, LocalDate date) {
+    }
+
+    /**
+     * @param persistedState 버퍼에 처음 들어올 때의 DB 출석 여부 (WAL 복구 항목은 null)
+     * @param checkedIn 반영할 최종 출석 여부
+     */
+    public record Pending(Long subscriptionId, LocalDate date, String userUuid,
+                          Boolean persistedState, boolean checkedIn, long lastToggledAt) {
+
+        Key key() {
+            return new Key(subscriptionId, date);
+        }
+    }
+}
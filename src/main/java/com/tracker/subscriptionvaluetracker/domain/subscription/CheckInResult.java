@@ -0,0 +1,34 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 출석 토글 결과
+ * - subscription: 이번 달 기준으로 갱신된 카드 상태
+ * - dateMonth*: 토글 날짜가 속한 달 기준 값 (캘린더 셀의 출석 칩 표시용)
+ */
+public record CheckInResult(
+        boolean checkedIn,
+        LocalDate date,
+        SubscriptionViewDto subscription,
+        int dateMonthUsageCount,
+        BigDecimal dateMonthDailyCost,
+        String dateMonthCostLevel
+) {
+
+    public static final String APPLIED_EVENT = "check-in-applied";
+
+    /**
+     * HTMX HX-Trigger 헤더 값: 같은 구독의 다른 출석 칩 금액 갱신, 이 탭의 SSE 알림 중복 조회 방지에 사용
+     * (값이 모두 숫자/날짜/고정 문자열이라 별도 이스케이프 없이 구성)
+     */
+    public String toTriggerHeader() {
+        return "{\"" + APPLIED_EVENT + "\":{"
+                + "\"subscriptionId\":" + subscription.getId()
+                + ",\"date\":\"" + date + "\""
+                + ",\"checkedIn\":" + checkedIn
+                + ",\"dailyCost\":" + dateMonthDailyCost.toPlainString()
+                + ",\"costLevel\":\"" + dateMonthCostLevel + "\"}}";
+    }
+}
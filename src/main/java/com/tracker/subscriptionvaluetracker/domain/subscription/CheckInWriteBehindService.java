@@ -0,0 +1,145 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.shard.ShardRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 출석 토글 진입점
+ * - 버퍼 비활성: 기존처럼 토글마다 DB 트랜잭션
+ * - 버퍼 활성: CheckInBuffer에 상태만 기록하고 주기적으로 배치 반영
+ */
+@Service
+public class CheckInWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInWriteBehindService.class);
+
+    // 반영 트랜잭션 하나에 담을 최대 항목 수
+    static final int FLUSH_BATCH_SIZE = 100;
+
+    private final SubscriptionService subscriptionService;
+    private final CheckInBuffer checkInBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouting shardRouting;
+
+    public CheckInWriteBehindService(SubscriptionService subscriptionService,
+                                     CheckInBuffer checkInBuffer,
+                                     ApplicationEventPublisher eventPublisher,
+                                     ShardRouting shardRouting) {
+        this.subscriptionService = subscriptionService;
+        this.checkInBuffer = checkInBuffer;
+        this.eventPublisher = eventPublisher;
+        this.shardRouting = shardRouting;
+    }
+
+    public boolean toggleCheckIn(Long subscriptionId, String userUuid, LocalDate date) {
+        if (!checkInBuffer.isEnabled()) {
+            return subscriptionService.toggleCheckIn(subscriptionId, userUuid, date);
+        }
+
+        subscriptionService.getSubscription(subscriptionId, userUuid)
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+        subscriptionService.checkNotArchived(date);
+        // 버퍼는 트랜잭션 밖에서 바뀌므로 커밋 직전 검사(rejectWhileMoving)보다 먼저 확인
+        shardRouting.checkNotMoving(userUuid);
+
+        boolean checkedIn = checkInBuffer.toggle(userUuid, subscriptionId, date,
+                () -> subscriptionService.isCheckedIn(subscriptionId, date));
+        // 버퍼 상태를 덧씌운 값으로 다시 계산되도록 캐시 무효화
+        eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, subscriptionId, date));
+        return checkedIn;
+    }
+
+    /**
+     * 출석 토글 후 갱신된 카드 상태까지 반환
+     * - 버퍼 비활성: 토글 전 조회 한 번 + 쓰기, 토글 뒤 재조회 없음
+     * - 버퍼 활성: DB 쓰기가 없으므로 버퍼 상태를 덧씌운 값으로 구성
+     */
+    public CheckInResult toggleCheckInWithState(Long subscriptionId, String userUuid, LocalDate date) {
+        if (!checkInBuffer.isEnabled()) {
+            return subscriptionService.toggleCheckInWithState(subscriptionId, userUuid, date);
+        }
+
+        Subscription subscription = subscriptionService.getSubscription(subscriptionId, userUuid)
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+        subscriptionService.checkNotArchived(date);
+        shardRouting.checkNotMoving(userUuid);
+
+        boolean checkedIn = checkInBuffer.toggle(userUuid, subscriptionId, date,
+                () -> subscriptionService.isCheckedIn(subscriptionId, date));
+        eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, subscriptionId, date));
+        return subscriptionService.getCheckInResult(subscription, date, checkedIn);
+    }
+
+    @Scheduled(fixedDelayString = "${tracker.check-in-buffer.flush-interval:1000}")
+    public void flush() {
+        if (checkInBuffer.isEnabled()) {
+            apply(checkInBuffer.drainReady());
+        }
+    }
+
+    /**
+     * 해당 사용자의 대기 중인 출석 변경을 즉시 반영 (DB를 직접 읽는 화면 조회 전 호출)
+     */
+    public void flushUser(String userUuid) {
+        if (checkInBuffer.isEnabled() && checkInBuffer.hasPending(userUuid)) {
+            apply(checkInBuffer.drainUser(userUuid));
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        if (checkInBuffer.isEnabled()) {
+            apply(checkInBuffer.drainAll());
+        }
+    }
+
+    // 사용자마다 해당 사용자의 샤드에서 반영 (한 트랜잭션은 한 샤드만 사용)
+    private void apply(List<CheckInBuffer.Pending> changes) {
+        Map<String, List<CheckInBuffer.Pending>> byUser = changes.stream()
+                .collect(Collectors.groupingBy(CheckInBuffer.Pending::userUuid, LinkedHashMap::new, Collectors.toList()));
+        byUser.forEach((userUuid, userChanges) -> UserContext.runAs(userUuid, () -> applyBatches(userChanges)));
+    }
+
+    private void applyBatches(List<CheckInBuffer.Pending> changes) {
+        for (int from = 0; from < changes.size(); from += FLUSH_BATCH_SIZE) {
+            List<CheckInBuffer.Pending> batch = changes.subList(from, Math.min(from + FLUSH_BATCH_SIZE, changes.size()));
+            try {
+                subscriptionService.applyCheckInStates(batch);
+                checkInBuffer.complete(batch);
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    log.warn("출석 버퍼 반영 실패, 나중에 재시도", e);
+                    checkInBuffer.requeue(batch);
+                    continue;
+                }
+                // 실패한 항목 하나 때문에 나머지가 같이 밀리지 않도록 항목별 트랜잭션으로 다시 반영
+                log.warn("출석 버퍼 일괄 반영 실패, 항목별로 재시도: {}건", batch.size(), e);
+                batch.forEach(this::applyOne);
+            }
+        }
+    }
+
+    private void applyOne(CheckInBuffer.Pending change) {
+        try {
+            subscriptionService.applyCheckInStates(List.of(change));
+            checkInBuffer.complete(List.of(change));
+        } catch (RuntimeException e) {
+            log.warn("출석 버퍼 반영 실패, 나중에 재시도: 구독 {}, {} ({})", change.subscriptionId(), change.date(), e.toString());
+            checkInBuffer.requeue(List.of(change));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 대시보드 스냅샷 (구독 목록, 진행률, 요약 통계)
+ * 생성 날짜(snapshotDate)가 지나면 오늘 출석 여부/현재 구독 기준이 바뀌므로 재생성 대상
+ */
+public class DashboardSnapshot {
+
+    private final LocalDate snapshotDate;
+    private final List<SubscriptionViewDto> subscriptions;
+    private final List<SubscriptionProgressDto> progressList;
+    private final BigDecimal totalMonthlyFee;
+    private final int totalUsageCount;
+    private final BigDecimal avgDailyCost;
+    private final long activeSubscriptionCount;
+
+    public DashboardSnapshot(LocalDate snapshotDate,
+                             List<SubscriptionViewDto> subscriptions,
+                             List<SubscriptionProgressDto> progressList,
+                             BigDecimal totalMonthlyFee,
+                             int totalUsageCount,
+                             BigDecimal avgDailyCost,
+                             long activeSubscriptionCount) {
+        this.snapshotDate = snapshotDate;
+        this.subscriptions = List.copyOf(subscriptions);
+        this.progressList = List.copyOf(progressList);
+        this.totalMonthlyFee = totalMonthlyFee;
+        this.totalUsageCount = totalUsageCount;
+        this.avgDailyCost = avgDailyCost;
+        this.activeSubscriptionCount = activeSubscriptionCount;
+    }
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public List<SubscriptionViewDto> getSubscriptions() {
+        return subscriptions;
+    }
+
+    public List<SubscriptionProgressDto> getProgressList() {
+        return progressList;
+    }
+
+    public BigDecimal getTotalMonthlyFee() {
+        return totalMonthlyFee;
+    }
+
+    public int getTotalUsageCount() {
+        return totalUsageCount;
+    }
+
+    public BigDecimal getAvgDailyCost() {
+        return avgDailyCost;
+    }
+
+    public long getActiveSubscriptionCount() {
+        return activeSubscriptionCount;
+    }
+
+    public boolean containsSubscription(Long subscriptionId) {
+        return subscriptions.stream().anyMatch(sub -> sub.getId().equals(subscriptionId));
+    }
+
+    /**
+     * 구독 카드 하나만 바꾼 복사본 (출석 토글 결과를 DB 재조회 없이 요약 통계에 반영)
+     * - 스냅샷에 없는 구독(종료된 구독 등)은 요약 대상이 아니므로 그대로 반환
+     */
+    public DashboardSnapshot withSubscription(SubscriptionViewDto updated) {
+        if (!containsSubscription(updated.getId())) {
+            return this;
+        }
+        List<SubscriptionViewDto> replaced = subscriptions.stream()
+                .map(sub -> sub.getId().equals(updated.getId()) ? updated : sub)
+                .toList();
+        int updatedUsageCount = replaced.stream()
+                .mapToInt(SubscriptionViewDto::getUsageCount)
+                .sum();
+        BigDecimal updatedAvgDailyCost = BigDecimal.ZERO;
+        if (updatedUsageCount > 0) {
+            updatedAvgDailyCost = totalMonthlyFee.divide(BigDecimal.valueOf(updatedUsageCount), 0, RoundingMode.HALF_UP);
+        }
+        return new DashboardSnapshot(snapshotDate, replaced, progressList, totalMonthlyFee,
+                updatedUsageCount, updatedAvgDailyCost, activeSubscriptionCount);
+    }
+}
@@ -0,0 +1,115 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.LruTtlCache;
+import com.tracker.subscriptionvaluetracker.common.ParallelReads;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 대시보드 스냅샷 캐시
+ * - 구독/투자 쓰기 커밋 후 해당 사용자 스냅샷만 무효화
+ * - 날짜가 바뀌면 (오늘 출석 여부, 현재 구독 기준 변경) 스냅샷을 다시 계산
+ * - 만들 때의 동기화 버전(sync_version)과 현재 버전이 다르면 다시 계산 (다른 인스턴스에서 커밋된 쓰기 반영)
+ */
+@Service
+public class DashboardSnapshotService {
+
+    private final SubscriptionService subscriptionService;
+    private final CalendarService calendarService;
+    private final ParallelReads parallelReads;
+    private final SyncVersionRepository syncVersionRepository;
+    private final LruTtlCache<String, VersionedSnapshot> cache;
+
+    public DashboardSnapshotService(SubscriptionService subscriptionService,
+                                    CalendarService calendarService,
+                                    ParallelReads parallelReads,
+                                    SyncVersionRepository syncVersionRepository,
+                                    @Value("${tracker.snapshot-cache.max-size:1000}") int maxSize,
+                                    @Value("${tracker.snapshot-cache.ttl:10m}") Duration ttl) {
+        this.subscriptionService = subscriptionService;
+        this.calendarService = calendarService;
+        this.parallelReads = parallelReads;
+        this.syncVersionRepository = syncVersionRepository;
+        this.cache = new LruTtlCache<>(maxSize, ttl);
+    }
+
+    public DashboardSnapshot getSnapshot(String userUuid) {
+        LocalDate today = LocalDate.now();
+        // 계산 전에 읽은 버전을 기록 (계산 중 커밋된 쓰기는 다음 조회에서 버전이 달라 다시 계산)
+        long dataVersion = syncVersionRepository.findVersion(userUuid).orElse(0L);
+        VersionedSnapshot cached = cache.getOrLoad(userUuid, key -> load(key, today, dataVersion));
+        if (!today.equals(cached.snapshot().getSnapshotDate()) || cached.dataVersion() != dataVersion) {
+            // 자정을 넘겼거나 다른 인스턴스에서 데이터가 바뀐 스냅샷은 폐기 후 재계산
+            cache.invalidate(userUuid);
+            cached = cache.getOrLoad(userUuid, key -> load(key, today, dataVersion));
+        }
+        return cached.snapshot();
+    }
+
+    // 데이터 버전(ETag)이 올라가기 전에 먼저 무효화
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        cache.invalidate(event.getUserUuid());
+    }
+
+    public LruTtlCache.Stats getStats() {
+        return cache.stats();
+    }
+
+    private VersionedSnapshot load(String userUuid, LocalDate today, long dataVersion) {
+        return new VersionedSnapshot(dataVersion, buildSnapshot(userUuid, today));
+    }
+
+    private DashboardSnapshot buildSnapshot(String userUuid, LocalDate today) {
+        // 구독 통계와 본전 진행률은 서로 독립적인 조회이므로 동시에 실행
+        List<SubscriptionViewDto> subscriptions;
+        List<SubscriptionProgressDto> progressList;
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Task<List<SubscriptionViewDto>> subscriptionsTask =
+                    scope.fork(() -> subscriptionService.getSubscriptionsWithStats(userUuid));
+            ParallelReads.Task<List<SubscriptionProgressDto>> progressTask =
+                    scope.fork(() -> calendarService.getSubscriptionProgress(userUuid));
+            scope.join();
+            subscriptions = subscriptionsTask.get();
+            progressList = progressTask.get();
+        }
+
+        // 요약 통계 계산
+        BigDecimal totalMonthlyFee = subscriptions.stream()
+                .map(SubscriptionViewDto::getMonthlyAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        int totalUsageCount = subscriptions.stream()
+                .mapToInt(SubscriptionViewDto::getUsageCount)
+                .sum();
+
+        BigDecimal avgDailyCost = BigDecimal.ZERO;
+        if (totalUsageCount > 0) {
+            avgDailyCost = totalMonthlyFee.divide(BigDecimal.valueOf(totalUsageCount), 0, RoundingMode.HALF_UP);
+        }
+
+        return new DashboardSnapshot(
+                today,
+                subscriptions,
+                progressList,
+                totalMonthlyFee,
+                totalUsageCount,
+                avgDailyCost,
+                subscriptions.size()
+        );
+    }
+
+    private record VersionedSnapshot(long dataVersion, DashboardSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.time.YearMonth;
+
+/**
+ * 구독별 월간 사용 횟수 집계 프로젝션 (subscriptionId, 연-월, 횟수)
+ */
+public interface MonthlyUsageCount {
+
+    Long getSubscriptionId();
+
+    Integer getUsageYear();
+
+    Integer getUsageMonth();
+
+    Long getUsageCount();
+
+    default YearMonth getYearMonth() {
+        return YearMonth.of(getUsageYear(), getUsageMonth());
+    }
+}
@@ -1,14 +1,18 @@
 package com.tracker.subscriptionvaluetracker.domain.subscription;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "subscription", indexes = {
-    @Index(name = "idx_subscription_user", columnList = "userUuid")
+    // 사용자별 활성 구독 목록 (userUuid, isActive 동등 조건 + createdAt 역순 정렬을 인덱스 순서로 처리)
+    // endDate는 정렬 뒤에 두어 "endDate IS NULL OR endDate >= ?" 조건을 정렬을 깨지 않고 인덱스 안에서 거름
+    @Index(name = "idx_subscription_user_active", columnList = "userUuid, isActive, createdAt, endDate")
 })
+@DynamicUpdate
 public class Subscription {
 
     @Id
@@ -44,6 +48,13 @@ public class Subscription {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // 누적 사용 횟수 / 마지막 사용일 (출석 쓰기와 같은 트랜잭션에서 원자적 UPDATE로만 갱신)
+    // @DynamicUpdate로 일반 수정 시 이 컬럼들을 덮어쓰지 않음
+    @Column(nullable = false)
+    private long totalUsageCount = 0;
+
+    private LocalDate lastUsedAt;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -121,6 +132,14 @@ public class Subscription {
         return isActive;
     }
 
+    public long getTotalUsageCount() {
+        return totalUsageCount;
+    }
+
+    public LocalDate getLastUsedAt() {
+        return lastUsedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,19 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+/**
+ * 출석 토글 전에 한 번에 읽는 값 (소유권 확인 + 토글 후 카드 상태 계산용)
+ * - 토글 결과를 이 값에 ±1 하여 응답하므로 토글 뒤 재조회가 없음
+ */
+public interface SubscriptionCheckInContext {
+
+    Subscription getSubscription();
+
+    // 이번 달 롤업 사용 횟수 (롤업 행이 없으면 null)
+    Long getCurrentMonthCount();
+
+    // 토글 날짜가 속한 달의 롤업 사용 횟수 (롤업 행이 없으면 null)
+    Long getDateMonthCount();
+
+    // 오늘 날짜 출석 기록 수 (0 또는 1)
+    Long getTodayCount();
+}
@@ -9,8 +9,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -21,9 +19,15 @@ import java.util.Map;
 public class SubscriptionController {
 
     private final SubscriptionService subscriptionService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
-    public SubscriptionController(SubscriptionService subscriptionService) {
+    public SubscriptionController(SubscriptionService subscriptionService,
+                                  CheckInWriteBehindService checkInWriteBehindService,
+                                  DashboardSnapshotService dashboardSnapshotService) {
         this.subscriptionService = subscriptionService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.dashboardSnapshotService = dashboardSnapshotService;
     }
 
     @GetMapping
@@ -153,38 +157,27 @@ public class SubscriptionController {
 
         LocalDate checkInDate = (date != null) ? LocalDate.parse(date) : LocalDate.now();
 
-        boolean checkedIn = subscriptionService.toggleCheckIn(id, userUuid, checkInDate);
-
         // HTMX 요청인지 확인
         boolean isHtmxRequest = request.getHeader("HX-Request") != null;
 
         if (isHtmxRequest) {
-            // 업데이트된 구독 정보 조회
-            SubscriptionViewDto updatedSub = subscriptionService.getSubscriptionWithStats(id, userUuid);
-            model.addAttribute("sub", updatedSub);
-
-            // 요약 통계도 함께 업데이트 (oob-swap용)
-            List<SubscriptionViewDto> subscriptions = subscriptionService.getSubscriptionsWithStats(userUuid);
-            BigDecimal totalMonthlyFee = subscriptions.stream()
-                    .map(SubscriptionViewDto::getMonthlyAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            int totalUsageCount = subscriptions.stream()
-                    .mapToInt(SubscriptionViewDto::getUsageCount)
-                    .sum();
-            BigDecimal avgDailyCost = BigDecimal.ZERO;
-            if (totalUsageCount > 0) {
-                avgDailyCost = totalMonthlyFee.divide(BigDecimal.valueOf(totalUsageCount), 0, RoundingMode.HALF_UP);
-            }
-            long activeSubscriptionCount = subscriptions.size();
-
-            model.addAttribute("totalMonthlyFee", totalMonthlyFee);
-            model.addAttribute("totalUsageCount", totalUsageCount);
-            model.addAttribute("avgDailyCost", avgDailyCost);
-            model.addAttribute("activeSubscriptionCount", activeSubscriptionCount);
+            // 토글 전 스냅샷(대개 캐시 적중)에 토글 결과 카드만 바꿔 요약 통계 계산 (토글 뒤 재조회 없음)
+            DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot(userUuid);
+            CheckInResult result = checkInWriteBehindService.toggleCheckInWithState(id, userUuid, checkInDate);
+            DashboardSnapshot updated = snapshot.withSubscription(result.subscription());
+            response.setHeader("HX-Trigger", result.toTriggerHeader());
+
+            model.addAttribute("sub", result.subscription());
+            model.addAttribute("totalMonthlyFee", updated.getTotalMonthlyFee());
+            model.addAttribute("totalUsageCount", updated.getTotalUsageCount());
+            model.addAttribute("avgDailyCost", updated.getAvgDailyCost());
+            model.addAttribute("activeSubscriptionCount", updated.getActiveSubscriptionCount());
 
             return "fragments/check-in-response";
         }
 
+        boolean checkedIn = checkInWriteBehindService.toggleCheckIn(id, userUuid, checkInDate);
+
         if (checkedIn) {
             redirectAttributes.addFlashAttribute("message", "출석 완료!");
         } else {
@@ -1,12 +1,19 @@
 package com.tracker.subscriptionvaluetracker.domain.subscription;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
 
@@ -16,6 +23,24 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
 
     Optional<Subscription> findByIdAndUserUuid(Long id, String userUuid);
 
+    List<Subscription> findByIdInAndUserUuid(Collection<Long> ids, String userUuid);
+
+    // 삭제(비활성)된 구독까지 포함한 사용자 구독 ID 전체 (가져오기 소유권 확인용)
+    @Query("SELECT s.id FROM Subscription s WHERE s.userUuid = :userUuid")
+    List<Long> findIdsByUserUuid(@Param("userUuid") String userUuid);
+
+    // 전체 구독 ID를 afterId 다음부터 순서대로 (배치 작업의 키셋 페이지 순회)
+    @Query("SELECT s.id FROM Subscription s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 삭제(비활성)된 구독까지 포함한 사용자 전체 구독 스트리밍 (내보내기용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Subscription s WHERE s.userUuid = :userUuid ORDER BY s.id")
+    Stream<Subscription> streamByUserUuid(@Param("userUuid") String userUuid);
+
     long countByUserUuidAndIsActiveTrue(String userUuid);
 
     boolean existsByUserUuidAndNameAndIsActiveTrue(String userUuid, String name);
@@ -27,8 +52,66 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
            "AND (s.endDate IS NULL OR s.endDate >= :today) ORDER BY s.createdAt DESC")
     List<Subscription> findCurrentSubscriptions(@Param("userUuid") String userUuid, @Param("today") LocalDate today);
 
+    // findCurrentSubscriptions와 같은 조건으로 요약 컬럼만 조회
+    @Query("SELECT s.id AS id, s.name AS name, s.emojiCode AS emojiCode FROM Subscription s " +
+           "WHERE s.userUuid = :userUuid AND s.isActive = true " +
+           "AND (s.endDate IS NULL OR s.endDate >= :today) ORDER BY s.createdAt DESC")
+    List<SubscriptionSummary> findCurrentSummaries(@Param("userUuid") String userUuid, @Param("today") LocalDate today);
+
+    Optional<SubscriptionSummary> findSummaryByIdAndUserUuid(Long id, String userUuid);
+
+    // 출석 토글 전 조회 한 번으로 소유권 확인과 이번 달/토글 날짜 달의 사용 횟수, 오늘 출석 여부를 함께 가져옴
+    @Query("SELECT s AS subscription, " +
+           "(SELECT r.usageCount FROM UsageMonthlyRollup r WHERE r.subscriptionId = s.id AND r.usageMonth = :currentMonth) AS currentMonthCount, " +
+           "(SELECT r.usageCount FROM UsageMonthlyRollup r WHERE r.subscriptionId = s.id AND r.usageMonth = :dateMonth) AS dateMonthCount, " +
+           "(SELECT COUNT(u) FROM UsageLog u WHERE u.subscriptionId = s.id AND u.usedAt = :today) AS todayCount " +
+           "FROM Subscription s WHERE s.id = :id AND s.userUuid = :userUuid")
+    Optional<SubscriptionCheckInContext> findCheckInContext(@Param("id") Long id,
+                                                            @Param("userUuid") String userUuid,
+                                                            @Param("currentMonth") String currentMonth,
+                                                            @Param("dateMonth") String dateMonth,
+                                                            @Param("today") LocalDate today);
+
     // 현재 활성 상태이고, 종료일이 없거나 아직 지나지 않은 구독 수 카운트
     @Query("SELECT COUNT(s) FROM Subscription s WHERE s.userUuid = :userUuid AND s.isActive = true " +
            "AND (s.endDate IS NULL OR s.endDate >= :today)")
     long countCurrentSubscriptions(@Param("userUuid") String userUuid, @Param("today") LocalDate today);
+
+    // 출석 추가 시 누적 횟수 증가 및 마지막 사용일 갱신 (단일 UPDATE)
+    @Modifying
+    @Query("UPDATE Subscription s SET s.totalUsageCount = s.totalUsageCount + 1, " +
+           "s.lastUsedAt = CASE WHEN s.lastUsedAt IS NULL OR s.lastUsedAt < :usedAt THEN :usedAt ELSE s.lastUsedAt END " +
+           "WHERE s.id = :id")
+    int incrementUsage(@Param("id") Long id, @Param("usedAt") LocalDate usedAt);
+
+    // 일괄 출석 시 구독별로 한 번에 누적 횟수 증가 및 마지막 사용일 갱신
+    @Modifying
+    @Query("UPDATE Subscription s SET s.totalUsageCount = s.totalUsageCount + :count, " +
+           "s.lastUsedAt = CASE WHEN s.lastUsedAt IS NULL OR s.lastUsedAt < :lastUsedAt THEN :lastUsedAt ELSE s.lastUsedAt END " +
+           "WHERE s.id = :id")
+    int addUsage(@Param("id") Long id, @Param("count") long count, @Param("lastUsedAt") LocalDate lastUsedAt);
+
+    // 출석 취소 시 누적 횟수 감소 및 남은 기록(보관 포함) 기준으로 마지막 사용일 재계산
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Subscription s SET s.totalUsageCount = CASE WHEN s.totalUsageCount > 0 " +
+           "THEN s.totalUsageCount - 1 ELSE 0 END, " +
+           "s.lastUsedAt = COALESCE((SELECT MAX(u.usedAt) FROM UsageLog u WHERE u.subscriptionId = s.id), " +
+           "(SELECT MAX(a.lastUsedAt) FROM UsageLogArchive a WHERE a.subscriptionId = s.id)) " +
+           "WHERE s.id = :id")
+    int decrementUsage(@Param("id") Long id);
+
+    // 누적 카운터를 usage_log + 보관된 출석 기준으로 일괄 재계산 (정합성 복구용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Subscription s SET " +
+           "s.totalUsageCount = (SELECT COUNT(u) FROM UsageLog u WHERE u.subscriptionId = s.id) " +
+           "+ (SELECT COALESCE(SUM(a.usageCount), 0) FROM UsageLogArchive a WHERE a.subscriptionId = s.id), " +
+           "s.lastUsedAt = COALESCE((SELECT MAX(u.usedAt) FROM UsageLog u WHERE u.subscriptionId = s.id), " +
+           "(SELECT MAX(a.lastUsedAt) FROM UsageLogArchive a WHERE a.subscriptionId = s.id))")
+    int recalculateUsageCounters();
+
+    // 기록이 있는데 카운터가 초기값(0, NULL)인 구독 (카운터 컬럼 추가 직후 기동 시 백필 여부 판단용)
+    @Query("SELECT s.id FROM Subscription s WHERE s.totalUsageCount = 0 AND s.lastUsedAt IS NULL " +
+           "AND (EXISTS (SELECT 1 FROM UsageLog u WHERE u.subscriptionId = s.id) " +
+           "OR EXISTS (SELECT 1 FROM UsageLogArchive a WHERE a.subscriptionId = s.id))")
+    List<Long> findUncountedIds(Limit limit);
 }
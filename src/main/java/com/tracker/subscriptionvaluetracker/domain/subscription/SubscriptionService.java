@@ -1,6 +1,15 @@
 package com.tracker.subscriptionvaluetracker.domain.subscription;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
 import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+import com.tracker.subscriptionvaluetracker.common.KeysetCursor;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService.Change;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,20 +17,46 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class SubscriptionService {
 
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionService.class);
+
+    public static final int MAX_BULK_CHECK_IN = 400;
+
     private final SubscriptionRepository subscriptionRepository;
     private final UsageLogRepository usageLogRepository;
+    private final UsageRollupService usageRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CheckInBuffer checkInBuffer;
+    private final ChangeLogService changeLogService;
+    private final UsageArchivePolicy usageArchivePolicy;
 
     public SubscriptionService(SubscriptionRepository subscriptionRepository,
-                                UsageLogRepository usageLogRepository) {
+                                UsageLogRepository usageLogRepository,
+                                UsageRollupService usageRollupService,
+                                ApplicationEventPublisher eventPublisher,
+                                CheckInBuffer checkInBuffer,
+                                ChangeLogService changeLogService,
+                                UsageArchivePolicy usageArchivePolicy) {
         this.subscriptionRepository = subscriptionRepository;
         this.usageLogRepository = usageLogRepository;
+        this.usageRollupService = usageRollupService;
+        this.eventPublisher = eventPublisher;
+        this.checkInBuffer = checkInBuffer;
+        this.changeLogService = changeLogService;
+        this.usageArchivePolicy = usageArchivePolicy;
     }
 
     public List<Subscription> getActiveSubscriptions(String userUuid) {
@@ -67,7 +102,10 @@ public class SubscriptionService {
         if (form.getMonthlyTargetUsage() != null && form.getMonthlyTargetUsage() > 0) {
             subscription.setMonthlyTargetUsage(form.getMonthlyTargetUsage());
         }
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        changeLogService.record(userUuid, Change.subscription(saved.getId(), false));
+        eventPublisher.publishEvent(UserDataChangedEvent.subscription(userUuid));
+        return saved;
     }
 
     @Transactional
@@ -91,7 +129,10 @@ public class SubscriptionService {
                         ? form.getMonthlyTargetUsage() : null
         );
 
-        return subscriptionRepository.save(subscription);
+        Subscription saved = subscriptionRepository.save(subscription);
+        changeLogService.record(userUuid, Change.subscription(saved.getId(), false));
+        eventPublisher.publishEvent(UserDataChangedEvent.subscription(userUuid));
+        return saved;
     }
 
     @Transactional
@@ -100,6 +141,8 @@ public class SubscriptionService {
                 .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
         subscription.setIsActive(false);
         subscriptionRepository.save(subscription);
+        changeLogService.record(userUuid, Change.subscription(id, true));
+        eventPublisher.publishEvent(UserDataChangedEvent.subscription(userUuid));
     }
 
     @Transactional
@@ -111,32 +154,262 @@ public class SubscriptionService {
     public UsageLog checkInOnDate(Long subscriptionId, String userUuid, LocalDate date) {
         subscriptionRepository.findByIdAndUserUuid(subscriptionId, userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+        usageArchivePolicy.checkWritable(date);
 
-        // 이미 해당 날짜에 출석했는지 확인
-        if (usageLogRepository.existsBySubscriptionIdAndUsedAt(subscriptionId, date)) {
+        // 조회 없이 조건부 INSERT (이미 출석했거나 동시 요청이 먼저 기록했으면 0)
+        if (!insertCheckIn(userUuid, subscriptionId, date)) {
             throw new IllegalStateException("해당 날짜에 이미 출석했습니다.");
         }
 
-        UsageLog usageLog = new UsageLog(subscriptionId, date);
-        return usageLogRepository.save(usageLog);
+        eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, subscriptionId, date));
+        return usageLogRepository.findBySubscriptionIdAndUsedAt(subscriptionId, date).orElseThrow();
+    }
+
+    /**
+     * 여러 (구독, 날짜) 출석을 한 번에 처리
+     * - 소유권 확인 1회, 기존 출석 중복 확인 1회 (날짜 범위 조회)
+     * - 조회 이후 다른 요청이 같은 날짜를 먼저 기록해도 배치 전체가 실패하지 않도록 항목마다 조건부 INSERT
+     *   (생성되지 않은 항목은 DUPLICATE, 생성된 출석의 ID는 한 번 더 범위 조회로 채움)
+     * - 누적 카운터는 구독당 1회, 롤업은 구독·월당 1회 갱신
+     * @return 요청 순서와 같은 항목별 결과
+     */
+    @Transactional
+    public List<BulkCheckInResult> bulkCheckIn(String userUuid, List<BulkCheckInEntry> entries) {
+        if (entries.size() > MAX_BULK_CHECK_IN) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_CHECK_IN + "건까지 출석할 수 있습니다.");
+        }
+
+        List<BulkCheckInEntry> validEntries = entries.stream()
+                .filter(entry -> entry.subscriptionId() != null && entry.date() != null)
+                .toList();
+        if (validEntries.isEmpty()) {
+            return entries.stream()
+                    .map(entry -> BulkCheckInResult.of(entry, BulkCheckInResult.Status.INVALID))
+                    .toList();
+        }
+
+        // 구독 소유권은 요청에 포함된 구독 전체를 한 번에 확인
+        Set<Long> requestedIds = validEntries.stream()
+                .map(BulkCheckInEntry::subscriptionId)
+                .collect(Collectors.toSet());
+        Set<Long> ownedIds = subscriptionRepository.findByIdInAndUserUuid(requestedIds, userUuid).stream()
+                .map(Subscription::getId)
+                .collect(Collectors.toSet());
+
+        // 기존 출석 기록은 요청 날짜 범위로 한 번만 조회
+        Set<String> checkedIn = new HashSet<>();
+        if (!ownedIds.isEmpty()) {
+            LocalDate minDate = validEntries.stream().map(BulkCheckInEntry::date).min(LocalDate::compareTo).orElseThrow();
+            LocalDate maxDate = validEntries.stream().map(BulkCheckInEntry::date).max(LocalDate::compareTo).orElseThrow();
+            usageLogRepository.findBySubscriptionIdsAndDateRange(List.copyOf(ownedIds), minDate, maxDate)
+                    .forEach(log -> checkedIn.add(checkInKey(log.getSubscriptionId(), log.getUsedAt())));
+        }
+
+        List<BulkCheckInResult> results = new ArrayList<>(entries.size());
+        Map<Integer, BulkCheckInEntry> newEntriesByIndex = new TreeMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BulkCheckInEntry entry = entries.get(i);
+            if (entry.subscriptionId() == null || entry.date() == null) {
+                results.add(BulkCheckInResult.of(entry, BulkCheckInResult.Status.INVALID));
+            } else if (usageArchivePolicy.isArchived(entry.date())) {
+                results.add(BulkCheckInResult.of(entry, BulkCheckInResult.Status.ARCHIVED));
+            } else if (!ownedIds.contains(entry.subscriptionId())) {
+                results.add(BulkCheckInResult.of(entry, BulkCheckInResult.Status.NOT_FOUND));
+            } else if (!checkedIn.add(checkInKey(entry.subscriptionId(), entry.date()))) {
+                results.add(BulkCheckInResult.of(entry, BulkCheckInResult.Status.DUPLICATE));
+            } else {
+                newEntriesByIndex.put(i, entry);
+                results.add(null);
+            }
+        }
+
+        if (newEntriesByIndex.isEmpty()) {
+            return results;
+        }
+
+        Map<Integer, BulkCheckInEntry> createdByIndex = new TreeMap<>();
+        newEntriesByIndex.forEach((index, entry) -> {
+            if (usageLogRepository.insertIfAbsent(entry.subscriptionId(), entry.date(), entry.note()) > 0) {
+                createdByIndex.put(index, entry);
+            } else {
+                // 조회 이후 동시 요청이 먼저 기록
+                results.set(index, BulkCheckInResult.of(entry, BulkCheckInResult.Status.DUPLICATE));
+            }
+        });
+        if (createdByIndex.isEmpty()) {
+            return results;
+        }
+
+        Map<String, UsageLog> createdLogs = new HashMap<>();
+        LocalDate createdMin = createdByIndex.values().stream().map(BulkCheckInEntry::date).min(LocalDate::compareTo).orElseThrow();
+        LocalDate createdMax = createdByIndex.values().stream().map(BulkCheckInEntry::date).max(LocalDate::compareTo).orElseThrow();
+        List<Long> createdIds = createdByIndex.values().stream().map(BulkCheckInEntry::subscriptionId).distinct().toList();
+        usageLogRepository.findBySubscriptionIdsAndDateRange(createdIds, createdMin, createdMax)
+                .forEach(log -> createdLogs.put(checkInKey(log.getSubscriptionId(), log.getUsedAt()), log));
+        List<UsageLog> saved = new ArrayList<>(createdByIndex.size());
+        createdByIndex.forEach((index, entry) -> {
+            UsageLog created = createdLogs.get(checkInKey(entry.subscriptionId(), entry.date()));
+            saved.add(created);
+            results.set(index, BulkCheckInResult.created(created));
+        });
+
+        applyBulkCounters(saved);
+        changeLogService.recordAll(userUuid, saved.stream()
+                .map(log -> Change.usageLog(log.getSubscriptionId(), log.getUsedAt(), false))
+                .toList());
+        saved.stream()
+                .map(log -> YearMonth.from(log.getUsedAt()))
+                .distinct()
+                .forEach(month -> eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, month.atDay(1))));
+        return results;
+    }
+
+    private void applyBulkCounters(List<UsageLog> saved) {
+        Map<Long, List<UsageLog>> logsBySubscription = saved.stream()
+                .collect(Collectors.groupingBy(UsageLog::getSubscriptionId));
+
+        logsBySubscription.forEach((subscriptionId, logs) -> {
+            LocalDate lastUsedAt = logs.stream().map(UsageLog::getUsedAt).max(LocalDate::compareTo).orElseThrow();
+            subscriptionRepository.addUsage(subscriptionId, logs.size(), lastUsedAt);
+
+            Map<YearMonth, Long> countByMonth = new HashMap<>();
+            logs.forEach(log -> countByMonth.merge(YearMonth.from(log.getUsedAt()), 1L, Long::sum));
+            countByMonth.forEach((month, count) -> usageRollupService.add(subscriptionId, month, count));
+        });
+    }
+
+    private static String checkInKey(Long subscriptionId, LocalDate date) {
+        return subscriptionId + ":" + date;
     }
 
+    /**
+     * 출석 토글: 삭제를 먼저 시도하고 지운 행이 없으면 조건부 INSERT
+     * - 읽고 나서 쓰는 왕복 없이 unique 제약으로 동시 요청에도 하루 1건만 유지
+     */
     @Transactional
     public boolean toggleCheckIn(Long subscriptionId, String userUuid, LocalDate date) {
         subscriptionRepository.findByIdAndUserUuid(subscriptionId, userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+        return applyToggle(userUuid, subscriptionId, date);
+    }
+
+    /**
+     * 출석 토글 후 카드 상태를 재조회 없이 계산해 반환
+     * - 토글 전 조회 한 번(소유권 + 사용 횟수 + 오늘 출석 여부)에 토글 결과를 ±1 하여 구성
+     */
+    @Transactional
+    public CheckInResult toggleCheckInWithState(Long subscriptionId, String userUuid, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+        YearMonth dateMonth = YearMonth.from(date);
+        SubscriptionCheckInContext context = subscriptionRepository.findCheckInContext(subscriptionId, userUuid,
+                        currentMonth.toString(), dateMonth.toString(), today)
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
 
-        Optional<UsageLog> existingLog = usageLogRepository.findBySubscriptionIdAndUsedAt(subscriptionId, date);
+        boolean checkedIn = applyToggle(userUuid, subscriptionId, date);
+        int delta = checkedIn ? 1 : -1;
+
+        int dateMonthCount = Math.max(0, toInt(context.getDateMonthCount()) + delta);
+        int currentMonthCount = dateMonth.equals(currentMonth)
+                ? dateMonthCount
+                : toInt(context.getCurrentMonthCount());
+        boolean checkedInToday = date.equals(today)
+                ? checkedIn
+                : toInt(context.getTodayCount()) > 0;
+        Subscription subscription = context.getSubscription();
+        return toCheckInResult(subscription, date, checkedIn,
+                toViewDto(subscription, currentMonthCount, checkedInToday), dateMonthCount);
+    }
 
-        if (existingLog.isPresent()) {
+    /**
+     * 이미 반영된 출석 상태로 토글 결과 구성 (write-behind 버퍼 모드에서 사용, 버퍼 상태를 덧씌워 조회)
+     */
+    public CheckInResult getCheckInResult(Subscription subscription, LocalDate date, boolean checkedIn) {
+        YearMonth dateMonth = YearMonth.from(date);
+        int dateMonthCount = usageRollupService.getMonthlyCount(subscription.getId(), dateMonth)
+                + checkInBuffer.pendingMonthlyDelta(subscription.getId(), dateMonth);
+        return toCheckInResult(subscription, date, checkedIn, toViewDto(subscription), dateMonthCount);
+    }
+
+    private CheckInResult toCheckInResult(Subscription subscription, LocalDate date, boolean checkedIn,
+                                          SubscriptionViewDto card, int dateMonthCount) {
+        BigDecimal dateMonthDailyCost = calculateMonthlyDailyCost(subscription, dateMonthCount);
+        return new CheckInResult(checkedIn, date, card, dateMonthCount, dateMonthDailyCost,
+                getMonthlyDailyCostLevel(dateMonthDailyCost, subscription.getMonthlyAmount()));
+    }
+
+    private static int toInt(Long count) {
+        return count != null ? count.intValue() : 0;
+    }
+
+    private boolean applyToggle(String userUuid, Long subscriptionId, LocalDate date) {
+        usageArchivePolicy.checkWritable(date);
+        if (deleteCheckIn(userUuid, subscriptionId, date)) {
             // 이미 출석했으면 취소
-            usageLogRepository.delete(existingLog.get());
+            eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, subscriptionId, date));
             return false; // 출석 취소됨
-        } else {
+        }
+
+        if (insertCheckIn(userUuid, subscriptionId, date)) {
             // 출석 안했으면 출석
-            usageLogRepository.save(new UsageLog(subscriptionId, date));
-            return true; // 출석 완료
+            eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, subscriptionId, date));
         }
+        // INSERT가 0건이면 동시 요청이 먼저 출석을 기록한 것이므로 출석 상태로 응답
+        return true; // 출석 완료
+    }
+
+    /**
+     * write-behind 버퍼의 최종 출석 상태를 반영 (이미 같은 상태면 변경 없음, 재적용해도 안전)
+     * - 버퍼(또는 WAL)에 있는 동안 보관된 달의 변경은 버림 (usage_log에 쓰면 보관 비트와 중복 집계)
+     */
+    @Transactional
+    public void applyCheckInStates(List<CheckInBuffer.Pending> changes) {
+        for (CheckInBuffer.Pending change : changes) {
+            if (usageArchivePolicy.isArchived(change.date())) {
+                log.warn("보관된 날짜의 출석 버퍼 변경 폐기: 구독 {}, {}, 출석 {}",
+                        change.subscriptionId(), change.date(), change.checkedIn());
+                continue;
+            }
+            boolean changed = change.checkedIn()
+                    ? insertCheckIn(change.userUuid(), change.subscriptionId(), change.date())
+                    : deleteCheckIn(change.userUuid(), change.subscriptionId(), change.date());
+            if (changed) {
+                eventPublisher.publishEvent(UserDataChangedEvent.usage(change.userUuid(), change.subscriptionId(), change.date()));
+            }
+        }
+    }
+
+    /**
+     * 보관된 달의 출석은 변경 불가 (write-behind 버퍼 모드에서 버퍼에 넣기 전에 확인)
+     */
+    public void checkNotArchived(LocalDate date) {
+        usageArchivePolicy.checkWritable(date);
+    }
+
+    public boolean isCheckedIn(Long subscriptionId, LocalDate date) {
+        return usageLogRepository.existsBySubscriptionIdAndUsedAt(subscriptionId, date);
+    }
+
+    // 조건부 INSERT 후 생성됐으면 누적 카운터/롤업 증가, 변경 기록
+    private boolean insertCheckIn(String userUuid, Long subscriptionId, LocalDate date) {
+        if (usageLogRepository.insertIfAbsent(subscriptionId, date, null) == 0) {
+            return false;
+        }
+        subscriptionRepository.incrementUsage(subscriptionId, date);
+        usageRollupService.increment(subscriptionId, date);
+        changeLogService.record(userUuid, Change.usageLog(subscriptionId, date, false));
+        return true;
+    }
+
+    // 삭제 건수가 있으면 누적 카운터/롤업 감소, 삭제 기록(tombstone)
+    private boolean deleteCheckIn(String userUuid, Long subscriptionId, LocalDate date) {
+        if (usageLogRepository.deleteBySubscriptionIdAndUsedAt(subscriptionId, date) == 0) {
+            return false;
+        }
+        subscriptionRepository.decrementUsage(subscriptionId);
+        usageRollupService.decrement(subscriptionId, date);
+        changeLogService.record(userUuid, Change.usageLog(subscriptionId, date, true));
+        return true;
     }
 
     @Transactional
@@ -148,14 +421,16 @@ public class SubscriptionService {
         subscriptionRepository.findByIdAndUserUuid(usageLog.getSubscriptionId(), userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("권한이 없습니다."));
 
-        usageLogRepository.delete(usageLog);
+        // 동시 취소로 이미 지워졌으면 카운터를 다시 줄이지 않음
+        if (!deleteCheckIn(userUuid, usageLog.getSubscriptionId(), usageLog.getUsedAt())) {
+            return;
+        }
+        eventPublisher.publishEvent(UserDataChangedEvent.usage(userUuid, usageLog.getSubscriptionId(), usageLog.getUsedAt()));
     }
 
     public int getMonthlyUsageCount(Long subscriptionId) {
-        YearMonth currentMonth = YearMonth.now();
-        LocalDate startOfMonth = currentMonth.atDay(1);
-        LocalDate endOfMonth = currentMonth.atEndOfMonth();
-        return (int) usageLogRepository.countBySubscriptionIdAndUsedAtBetween(subscriptionId, startOfMonth, endOfMonth);
+        // 월간 롤업에서 조회 (출석 이력 길이와 무관)
+        return usageRollupService.getMonthlyCount(subscriptionId, YearMonth.now());
     }
 
     /**
@@ -169,7 +444,10 @@ public class SubscriptionService {
      * 월별 회당 비용 계산: 월 환산 금액 / 이번 달 사용 횟수
      */
     public BigDecimal calculateMonthlyDailyCost(Subscription subscription) {
-        int monthlyUsageCount = getMonthlyUsageCount(subscription.getId());
+        return calculateMonthlyDailyCost(subscription, getMonthlyUsageCount(subscription.getId()));
+    }
+
+    private BigDecimal calculateMonthlyDailyCost(Subscription subscription, int monthlyUsageCount) {
         if (monthlyUsageCount == 0) {
             return subscription.getMonthlyAmount();
         }
@@ -211,9 +489,20 @@ public class SubscriptionService {
     public SubscriptionViewDto toViewDto(Subscription subscription) {
         // 이번 달 사용 횟수 기준으로 계산
         int monthlyUsageCount = getMonthlyUsageCount(subscription.getId());
-        BigDecimal dailyCost = calculateMonthlyDailyCost(subscription);
-        String dailyCostLevel = getMonthlyDailyCostLevel(dailyCost, subscription.getMonthlyAmount());
         boolean checkedInToday = isCheckedInToday(subscription.getId());
+        return toViewDto(subscription, monthlyUsageCount, checkedInToday);
+    }
+
+    private SubscriptionViewDto toViewDto(Subscription subscription, int persistedMonthlyCount, boolean persistedCheckedInToday) {
+        // write-behind 버퍼에 남은 출석 변경을 덧씌움 (read-your-writes)
+        LocalDate today = LocalDate.now();
+        int monthlyUsageCount = persistedMonthlyCount
+                + checkInBuffer.pendingMonthlyDelta(subscription.getId(), YearMonth.from(today));
+        boolean checkedInToday = checkInBuffer.pendingState(subscription.getId(), today)
+                .orElse(persistedCheckedInToday);
+
+        BigDecimal dailyCost = calculateMonthlyDailyCost(subscription, monthlyUsageCount);
+        String dailyCostLevel = getMonthlyDailyCostLevel(dailyCost, subscription.getMonthlyAmount());
         String emoji = EmojiMapper.toEmoji(subscription.getEmojiCode());
 
         return new SubscriptionViewDto(
@@ -233,19 +522,73 @@ public class SubscriptionService {
         );
     }
 
+    /**
+     * 여러 구독의 통계를 구독 수와 무관하게 쿼리 2회로 계산
+     * - 이번 달 사용 횟수는 출석 응답/통계와 같은 월간 롤업에서, 오늘 출석 여부는 usage_log에서 조회
+     */
+    public List<SubscriptionViewDto> toViewDtos(List<Subscription> subscriptions) {
+        if (subscriptions.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+        List<Long> subscriptionIds = subscriptions.stream()
+                .map(Subscription::getId)
+                .toList();
+
+        Map<Long, Map<YearMonth, Long>> monthlyCounts =
+                usageRollupService.getMonthlyCounts(subscriptionIds, currentMonth, currentMonth);
+        Set<Long> checkedInToday = new HashSet<>(
+                usageLogRepository.findSubscriptionIdsCheckedInOn(subscriptionIds, today));
+
+        return subscriptions.stream()
+                .map(sub -> {
+                    long monthlyUsageCount = monthlyCounts.getOrDefault(sub.getId(), Map.of())
+                            .getOrDefault(currentMonth, 0L);
+                    return toViewDto(sub, (int) monthlyUsageCount, checkedInToday.contains(sub.getId()));
+                })
+                .toList();
+    }
+
     public List<SubscriptionViewDto> getSubscriptionsWithStats(String userUuid) {
-        return getActiveSubscriptions(userUuid).stream()
-                .map(this::toViewDto)
+        return toViewDtos(getActiveSubscriptions(userUuid));
+    }
+
+    // 요약 보기: 통계 계산 없이 프로젝션 한 번으로 조회
+    public List<SubscriptionSummaryDto> getSubscriptionSummaries(String userUuid) {
+        return subscriptionRepository.findCurrentSummaries(userUuid, LocalDate.now()).stream()
+                .map(SubscriptionSummaryDto::from)
                 .toList();
     }
 
+    public SubscriptionSummaryDto getSubscriptionSummary(Long id, String userUuid) {
+        return subscriptionRepository.findSummaryByIdAndUserUuid(id, userUuid)
+                .map(SubscriptionSummaryDto::from)
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+    }
+
     public SubscriptionViewDto getSubscriptionWithStats(Long id, String userUuid) {
         Subscription subscription = subscriptionRepository.findByIdAndUserUuid(id, userUuid)
                 .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
         return toViewDto(subscription);
     }
 
-    public List<UsageLog> getRecentUsageLogs(Long subscriptionId) {
-        return usageLogRepository.findTop10BySubscriptionIdOrderByUsedAtDesc(subscriptionId);
+    /**
+     * 출석 기록을 최신순(usedAt, id 역순)으로 limit건씩 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public CursorPage<UsageLog> getUsageLogPage(Long subscriptionId, String userUuid, String cursor, Integer limit) {
+        subscriptionRepository.findByIdAndUserUuid(subscriptionId, userUuid)
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<UsageLog> fetched = after == null
+                ? usageLogRepository.findPageBySubscriptionId(subscriptionId, Limit.of(pageSize + 1))
+                : usageLogRepository.findPageBySubscriptionIdAfter(subscriptionId, after.usedAt(), after.id(),
+                        Limit.of(pageSize + 1));
+        // 보관에서 복원한 출석은 id가 없으므로 0 (같은 날짜의 최근 기록은 구독당 하루 1건이라 없음)
+        return CursorPage.of(fetched, pageSize, UsageLog::getUsedAt, log -> log.getId() != null ? log.getId() : 0L);
     }
 }
@@ -0,0 +1,13 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+/**
+ * 구독 요약(id, 이름, 이모지 코드)만 조회하기 위한 프로젝션 (엔티티 전체를 읽지 않음)
+ */
+public interface SubscriptionSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getEmojiCode();
+}
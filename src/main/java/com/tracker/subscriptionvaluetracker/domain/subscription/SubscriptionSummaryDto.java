@@ -0,0 +1,14 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+
+/**
+ * 요약 보기(view=summary) 응답 (범례, 위젯처럼 통계가 필요 없는 화면용)
+ */
+public record SubscriptionSummaryDto(Long id, String name, String emojiCode, String emoji) {
+
+    static SubscriptionSummaryDto from(SubscriptionSummary summary) {
+        return new SubscriptionSummaryDto(summary.getId(), summary.getName(), summary.getEmojiCode(),
+                EmojiMapper.toEmoji(summary.getEmojiCode()));
+    }
+}
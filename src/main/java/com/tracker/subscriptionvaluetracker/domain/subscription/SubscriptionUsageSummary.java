@@ -0,0 +1,15 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.time.LocalDate;
+
+/**
+ * 구독별 누적 사용 횟수와 마지막 사용일 프로젝션
+ */
+public interface SubscriptionUsageSummary {
+
+    Long getSubscriptionId();
+
+    Long getUsageCount();
+
+    LocalDate getLastUsedAt();
+}
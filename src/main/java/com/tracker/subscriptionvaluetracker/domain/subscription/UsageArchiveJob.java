@@ -0,0 +1,72 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.maintenance.TablePartitionManager;
+import com.tracker.subscriptionvaluetracker.shard.ShardRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 출석 기록 보관 작업 (샤딩 시 샤드마다 실행)
+ * - tracker.usage-archive.enabled면 보존 기간이 지난 달을 한 달씩 usage_log_archive로 옮기고 빈 파티션 제거
+ * - MySQL 파티션 테이블은 보관 여부와 관계없이 다음 달 파티션을 미리 생성
+ * - 샤드 이동 중인 사용자의 기록은 건너뛰고 다음 실행 때 보관 (이동 중 복사하는 원본 행이 바뀌지 않도록)
+ */
+@Component
+public class UsageArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UsageArchiveJob.class);
+
+    private final UsageArchiveService usageArchiveService;
+    private final UsageArchivePolicy usageArchivePolicy;
+    private final TablePartitionManager tablePartitionManager;
+    private final ShardRouting shardRouting;
+    private final SubscriptionRepository subscriptionRepository;
+
+    public UsageArchiveJob(UsageArchiveService usageArchiveService,
+                           UsageArchivePolicy usageArchivePolicy,
+                           TablePartitionManager tablePartitionManager,
+                           ShardRouting shardRouting,
+                           SubscriptionRepository subscriptionRepository) {
+        this.usageArchiveService = usageArchiveService;
+        this.usageArchivePolicy = usageArchivePolicy;
+        this.tablePartitionManager = tablePartitionManager;
+        this.shardRouting = shardRouting;
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    @Scheduled(cron = "${tracker.usage-archive.cron:0 0 5 * * *}")
+    public void run() {
+        shardRouting.forEachShard(shard -> {
+            if (usageArchivePolicy.isEnabled()) {
+                archive(shard);
+            }
+            YearMonth currentMonth = YearMonth.now();
+            tablePartitionManager.addFuturePartitions("usage_log", currentMonth);
+            tablePartitionManager.addFuturePartitions("investment_usage", currentMonth);
+        });
+    }
+
+    private void archive(int shard) {
+        long rows = 0;
+        for (YearMonth month : usageArchiveService.findArchivableMonths()) {
+            // 달마다 다시 확인 (이동 표시 후 복사 전 대기 시간보다 한 달 보관이 짧음)
+            rows += usageArchiveService.archiveMonth(month, findMovingSubscriptionIds());
+        }
+        if (rows > 0) {
+            log.info("출석 기록 보관 완료: 샤드 {}, {}건", shard, rows);
+        }
+        tablePartitionManager.dropEmptyPartitionsBefore("usage_log", usageArchivePolicy.getFirstRetainedMonth());
+    }
+
+    private Set<Long> findMovingSubscriptionIds() {
+        Set<Long> ids = new HashSet<>();
+        shardRouting.findMovingUsers().forEach(userUuid -> ids.addAll(subscriptionRepository.findIdsByUserUuid(userUuid)));
+        return ids;
+    }
+}
@@ -0,0 +1,63 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 출석 기록 보관 기준 (tracker.usage-archive.*)
+ * - 이번 달 포함 retention-months개월은 usage_log에 두고, 그 이전 달은 usage_log_archive로 보관
+ * - 보관 대상 기간의 출석은 변경 불가 (보관 작업과 같은 기준으로 판단)
+ */
+@Component
+public class UsageArchivePolicy {
+
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final Clock clock;
+
+    public UsageArchivePolicy(@Value("${tracker.usage-archive.enabled:false}") boolean enabled,
+                              @Value("${tracker.usage-archive.retention-months:24}") int retentionMonths) {
+        this(enabled, retentionMonths, Clock.systemDefaultZone());
+    }
+
+    public UsageArchivePolicy(boolean enabled, int retentionMonths, Clock clock) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("출석 기록 보존 기간은 1개월 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * usage_log에 남겨 두는 가장 이른 달 (이보다 이전 달이 보관 대상)
+     */
+    public YearMonth getFirstRetainedMonth() {
+        return YearMonth.now(clock).minusMonths(retentionMonths - 1);
+    }
+
+    public boolean isArchived(LocalDate date) {
+        return enabled && mayBeArchived(date);
+    }
+
+    /**
+     * 보관 테이블에 기록이 있을 수 있는 날짜 (보관을 잠시 꺼도 이미 보관된 달을 찾도록 enabled와 무관)
+     */
+    public boolean mayBeArchived(LocalDate date) {
+        return YearMonth.from(date).isBefore(getFirstRetainedMonth());
+    }
+
+    public void checkWritable(LocalDate date) {
+        if (isArchived(date)) {
+            throw new IllegalArgumentException("보관된 기간(" + getFirstRetainedMonth() + " 이전)의 출석은 변경할 수 없습니다.");
+        }
+    }
+}
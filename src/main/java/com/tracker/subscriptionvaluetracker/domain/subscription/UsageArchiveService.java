@@ -0,0 +1,92 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 보존 기간이 지난 달의 출석 기록을 usage_log_archive로 옮김
+ * - 한 달씩 한 트랜잭션: 그 달의 기록을 구독별 비트로 모아 저장(이미 보관된 달이면 합침) → usage_log에서 삭제
+ * - 롤업과 누적 카운터는 그대로 (보관 전후 조회 결과가 같음)
+ */
+@Service
+public class UsageArchiveService {
+
+    private final UsageLogRepository usageLogRepository;
+    private final UsageLogArchiveRepository usageLogArchiveRepository;
+    private final UsageArchivePolicy usageArchivePolicy;
+
+    public UsageArchiveService(UsageLogRepository usageLogRepository,
+                               UsageLogArchiveRepository usageLogArchiveRepository,
+                               UsageArchivePolicy usageArchivePolicy) {
+        this.usageLogRepository = usageLogRepository;
+        this.usageLogArchiveRepository = usageLogArchiveRepository;
+        this.usageArchivePolicy = usageArchivePolicy;
+    }
+
+    /**
+     * 보관할 달 목록 (가장 오래된 기록의 달부터 보존 기간 직전 달까지)
+     */
+    public List<YearMonth> findArchivableMonths() {
+        YearMonth firstRetained = usageArchivePolicy.getFirstRetainedMonth();
+        LocalDate oldest = usageLogRepository.findOldestUsedAtBefore(firstRetained.atDay(1));
+        List<YearMonth> months = new ArrayList<>();
+        if (oldest == null) {
+            return months;
+        }
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(firstRetained); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * 한 달치 기록을 보관
+     * @param excludedSubscriptionIds 이번에 건너뛸 구독 (샤드 이동 중인 사용자, 다음 실행 때 보관)
+     * @return usage_log에서 옮긴 행 수
+     */
+    @Transactional
+    public int archiveMonth(YearMonth month, Set<Long> excludedSubscriptionIds) {
+        if (!month.isBefore(usageArchivePolicy.getFirstRetainedMonth())) {
+            throw new IllegalArgumentException("보존 기간 안의 달은 보관할 수 없습니다: " + month);
+        }
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+
+        Map<Long, UsageLogArchive> archives = new HashMap<>();
+        usageLogArchiveRepository.findByUsageMonth(month.toString())
+                .forEach(archive -> archives.put(archive.getSubscriptionId(), archive));
+        int rows = 0;
+        try (Stream<UsageLog> logs = usageLogRepository.streamByUsedAtBetween(start, end)) {
+            Iterator<UsageLog> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                UsageLog log = iterator.next();
+                if (excludedSubscriptionIds.contains(log.getSubscriptionId())) {
+                    continue;
+                }
+                archives.computeIfAbsent(log.getSubscriptionId(), id -> new UsageLogArchive(id, month))
+                        .add(log.getUsedAt(), log.getNote());
+                rows++;
+            }
+        }
+        if (rows == 0) {
+            return 0;
+        }
+        usageLogArchiveRepository.saveAll(archives.values());
+        if (excludedSubscriptionIds.isEmpty()) {
+            usageLogRepository.deleteByUsedAtBetween(start, end);
+        } else {
+            usageLogRepository.deleteByUsedAtBetweenExcluding(start, end, excludedSubscriptionIds);
+        }
+        return rows;
+    }
+}
@@ -5,14 +5,20 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "usage_log", indexes = {
-    @Index(name = "idx_usage_subscription_date", columnList = "subscriptionId, usedAt"),
+@Table(name = "usage_log", uniqueConstraints = {
+    // 구독당 하루 1회 출석 (구독별 기간 조회 인덱스 역할도 겸함)
+    @UniqueConstraint(name = "uk_usage_subscription_date", columnNames = {"subscriptionId", "usedAt"})
+}, indexes = {
     @Index(name = "idx_usage_used_at", columnList = "usedAt")
 })
 public class UsageLog {
 
+    // IDENTITY는 INSERT마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로 풀링 시퀀스 사용
+    // (시퀀스가 없는 MySQL에서는 usage_log_seq 테이블로 대체되며, 50개 단위로 ID를 미리 할당)
+    // 보관(usage_log_archive)에서 복원한 출석은 id가 null
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usage_log_seq")
+    @SequenceGenerator(name = "usage_log_seq", sequenceName = "usage_log_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,180 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 보관된 달의 출석 (구독·월당 1행, 날짜별 출석 여부를 비트로 저장)
+ * - UsageArchiveService가 보존 기간이 지난 달의 usage_log 행을 옮겨 담음
+ * - 메모가 있는 날만 notes에 "일\t메모" 줄로 남김 (ID, 생성 시각은 보관하지 않음)
+ */
+@Entity
+@Table(name = "usage_log_archive", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_usage_archive_subscription_month", columnNames = {"subscriptionId", "usageMonth"})
+}, indexes = {
+    @Index(name = "idx_usage_archive_month", columnList = "usageMonth")
+})
+public class UsageLogArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long subscriptionId;
+
+    // 연-월 (YYYY-MM), 롤업과 같은 형식
+    @Column(nullable = false, length = 7)
+    private String usageMonth;
+
+    // n일 출석이면 (n - 1)번째 비트가 1
+    @Column(nullable = false)
+    private int dayBits;
+
+    // 비트 수와 마지막 출석일을 함께 저장해 카운터 재계산/정합성 검사를 쿼리로 처리
+    @Column(nullable = false)
+    private int usageCount;
+
+    @Column(nullable = false)
+    private LocalDate lastUsedAt;
+
+    // 메모(최대 255자) 31일치가 이스케이프되면 VARCHAR 한도를 넘을 수 있어 LOB
+    @Lob
+    private String notes;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected UsageLogArchive() {
+    }
+
+    public UsageLogArchive(Long subscriptionId, YearMonth yearMonth) {
+        this.subscriptionId = subscriptionId;
+        this.usageMonth = yearMonth.toString();
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 출석 하루를 추가 (같은 달이 아니면 예외)
+     */
+    public void add(LocalDate usedAt, String note) {
+        if (!YearMonth.from(usedAt).equals(getYearMonth())) {
+            throw new IllegalArgumentException("보관 월과 다른 날짜입니다: " + usedAt);
+        }
+        dayBits |= 1 << (usedAt.getDayOfMonth() - 1);
+        usageCount = Integer.bitCount(dayBits);
+        if (lastUsedAt == null || usedAt.isAfter(lastUsedAt)) {
+            lastUsedAt = usedAt;
+        }
+        if (note != null) {
+            Map<Integer, String> byDay = parseNotes();
+            byDay.put(usedAt.getDayOfMonth(), note);
+            notes = formatNotes(byDay);
+        }
+    }
+
+    public boolean isCheckedIn(LocalDate date) {
+        return YearMonth.from(date).equals(getYearMonth())
+                && (dayBits & (1 << (date.getDayOfMonth() - 1))) != 0;
+    }
+
+    /**
+     * 출석 기록으로 복원 (날짜 오름차순, ID/생성 시각 없음)
+     */
+    public List<UsageLog> toUsageLogs() {
+        YearMonth yearMonth = getYearMonth();
+        Map<Integer, String> byDay = parseNotes();
+        List<UsageLog> logs = new ArrayList<>(usageCount);
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            if ((dayBits & (1 << (day - 1))) != 0) {
+                logs.add(new UsageLog(subscriptionId, yearMonth.atDay(day), byDay.get(day)));
+            }
+        }
+        return logs;
+    }
+
+    private Map<Integer, String> parseNotes() {
+        Map<Integer, String> byDay = new TreeMap<>();
+        if (notes == null) {
+            return byDay;
+        }
+        for (String line : notes.split("\n")) {
+            int separator = line.indexOf('\t');
+            byDay.put(Integer.parseInt(line.substring(0, separator)), unescape(line.substring(separator + 1)));
+        }
+        return byDay;
+    }
+
+    private static String formatNotes(Map<Integer, String> byDay) {
+        List<String> lines = new ArrayList<>();
+        byDay.forEach((day, note) -> lines.add(day + "\t" + escape(note)));
+        return String.join("\n", lines);
+    }
+
+    // 메모 안의 줄바꿈/탭이 구분자와 섞이지 않도록 이스케이프
+    private static String escape(String note) {
+        return note.replace("\\", "\\\\").replace("\n", "\\n").replace("\t", "\\t");
+    }
+
+    private static String unescape(String escaped) {
+        StringBuilder note = new StringBuilder(escaped.length());
+        for (int i = 0; i < escaped.length(); i++) {
+            char c = escaped.charAt(i);
+            if (c == '\\' && i + 1 < escaped.length()) {
+                char next = escaped.charAt(++i);
+                note.append(next == 'n' ? '\n' : next == 't' ? '\t' : next);
+            } else {
+                note.append(c);
+            }
+        }
+        return note.toString();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    public String getUsageMonth() {
+        return usageMonth;
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.parse(usageMonth);
+    }
+
+    public int getDayBits() {
+        return dayBits;
+    }
+
+    public int getUsageCount() {
+        return usageCount;
+    }
+
+    public LocalDate getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
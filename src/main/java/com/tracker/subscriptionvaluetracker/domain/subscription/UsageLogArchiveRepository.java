@@ -0,0 +1,10 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface UsageLogArchiveRepository extends JpaRepository<UsageLogArchive, Long> {
+
+    // 보관 작업: 같은 달을 다시 보관할 때 기존 행에 합침
+    List<UsageLogArchive> findByUsageMonth(String usageMonth);
+}
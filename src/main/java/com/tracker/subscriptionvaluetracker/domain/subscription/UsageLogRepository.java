@@ -1,13 +1,19 @@
 package com.tracker.subscriptionvaluetracker.domain.subscription;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UsageLogRepository extends JpaRepository<UsageLog, Long> {
+public interface UsageLogRepository extends JpaRepository<UsageLog, Long>, UsageLogRepositoryCustom {
 
     List<UsageLog> findBySubscriptionIdOrderByUsedAtDesc(Long subscriptionId);
 
@@ -15,17 +21,43 @@ public interface UsageLogRepository extends JpaRepository<UsageLog, Long> {
 
     Optional<UsageLog> findBySubscriptionIdAndUsedAt(Long subscriptionId, LocalDate usedAt);
 
-    long countBySubscriptionIdAndUsedAtBetween(Long subscriptionId, LocalDate startDate, LocalDate endDate);
-
-    @Query("SELECT u FROM UsageLog u WHERE u.subscriptionId IN :subscriptionIds AND u.usedAt BETWEEN :startDate AND :endDate ORDER BY u.usedAt")
-    List<UsageLog> findBySubscriptionIdsAndDateRange(
-            @Param("subscriptionIds") List<Long> subscriptionIds,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
+    // 삭제된 행 수 반환 (같은 출석을 동시에 지우면 한 요청만 1을 받음)
+    @Modifying
+    @Query("DELETE FROM UsageLog u WHERE u.subscriptionId = :subscriptionId AND u.usedAt = :usedAt")
+    int deleteBySubscriptionIdAndUsedAt(@Param("subscriptionId") Long subscriptionId,
+                                        @Param("usedAt") LocalDate usedAt);
 
-    boolean existsBySubscriptionIdAndUsedAt(Long subscriptionId, LocalDate usedAt);
-
-    long countBySubscriptionId(Long subscriptionId);
+    long countBySubscriptionIdAndUsedAtBetween(Long subscriptionId, LocalDate startDate, LocalDate endDate);
 
-    List<UsageLog> findTop10BySubscriptionIdOrderByUsedAtDesc(Long subscriptionId);
+    // 여러 구독 중 해당 날짜에 출석한 구독 ID (구독 목록의 오늘 출석 여부, 월간 횟수는 롤업에서 조회)
+    @Query("SELECT u.subscriptionId FROM UsageLog u WHERE u.subscriptionId IN :subscriptionIds AND u.usedAt = :usedAt")
+    List<Long> findSubscriptionIdsCheckedInOn(@Param("subscriptionIds") List<Long> subscriptionIds,
+                                              @Param("usedAt") LocalDate usedAt);
+
+    // before 이전의 가장 오래된 출석일 (보관 대상 월 탐색, idx_usage_used_at 범위 조회), 없으면 null
+    @Query("SELECT MIN(u.usedAt) FROM UsageLog u WHERE u.usedAt < :before")
+    LocalDate findOldestUsedAtBefore(@Param("before") LocalDate before);
+
+    // 한 달치 출석 기록 스트리밍 (보관 작업용, 호출 측 트랜잭션 안에서 소비)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM UsageLog u WHERE u.usedAt BETWEEN :startDate AND :endDate")
+    Stream<UsageLog> streamByUsedAtBetween(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    // 보관이 끝난 달의 기록 삭제 (MySQL은 해당 월 파티션만 읽음)
+    @Modifying
+    @Query("DELETE FROM UsageLog u WHERE u.usedAt BETWEEN :startDate AND :endDate")
+    int deleteByUsedAtBetween(@Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate);
+
+    // 건너뛴 구독(샤드 이동 중인 사용자)을 남기고 삭제
+    @Modifying
+    @Query("DELETE FROM UsageLog u WHERE u.usedAt BETWEEN :startDate AND :endDate " +
+           "AND u.subscriptionId NOT IN :excludedIds")
+    int deleteByUsedAtBetweenExcluding(@Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate,
+                                       @Param("excludedIds") Collection<Long> excludedIds);
 }
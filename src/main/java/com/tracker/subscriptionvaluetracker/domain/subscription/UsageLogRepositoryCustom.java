@@ -0,0 +1,41 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.data.domain.Limit;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * usage_log 직접 구현 쿼리
+ * - 기간/누적 조회는 보관된 달(usage_log_archive)까지 합쳐 반환 (보관 여부와 관계없이 같은 결과)
+ * - 보관된 달에서 복원한 출석은 ID와 생성 시각이 없음
+ */
+public interface UsageLogRepositoryCustom {
+
+    /**
+     * (구독, 날짜) 출석이 없을 때만 INSERT (unique 제약 기반, 동시 요청에도 1건만 생성)
+     * @return 생성된 행 수 (이미 있으면 0)
+     */
+    int insertIfAbsent(Long subscriptionId, LocalDate usedAt, String note);
+
+    List<UsageLog> findBySubscriptionIdsAndDateRange(List<Long> subscriptionIds, LocalDate startDate, LocalDate endDate);
+
+    boolean existsBySubscriptionIdAndUsedAt(Long subscriptionId, LocalDate usedAt);
+
+    long countBySubscriptionId(Long subscriptionId);
+
+    // 구독들의 월별 사용 횟수 (롤업 재구축 대상 월 탐색용, 구독 페이지 단위로 호출)
+    List<MonthlyUsageCount> countMonthlyUsage(List<Long> subscriptionIds);
+
+    // 구독별 누적 사용 횟수 / 마지막 사용일 전체 집계 (카운터 정합성 검사용)
+    List<SubscriptionUsageSummary> summarizeUsageBySubscription();
+
+    // 키셋 페이지네이션 첫 페이지 (최신순, 보관된 달은 최근 기록 뒤에 이어짐)
+    List<UsageLog> findPageBySubscriptionId(Long subscriptionId, Limit limit);
+
+    // 키셋 페이지네이션 다음 페이지: 커서 (usedAt, id)보다 뒤인 행부터
+    List<UsageLog> findPageBySubscriptionIdAfter(Long subscriptionId, LocalDate usedAt, Long id, Limit limit);
+
+    // 사용자 전체 출석 기록 스트리밍 (내보내기용, 호출 측 트랜잭션 안에서 소비, 보관된 달은 마지막에 이어짐)
+    Stream<UsageLog> streamByUserUuid(String userUuid);
+}
@@ -0,0 +1,303 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * usage_log 직접 구현 쿼리
+ * - insertIfAbsent: HQL INSERT ... ON CONFLICT DO NOTHING
+ *   (MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE로 변환, ID는 엔티티와 같은 시퀀스(usage_log_seq)에서 발급)
+ *   MySQL은 URL에 useAffectedRows=true가 있어야 중복일 때 0을 반환 (없으면 찾은 행 수 1을 반환해 중복 출석이 새 출석으로 처리됨)
+ * - 조회: 최근 기록(usage_log)을 먼저 읽고 보관된 달(usage_log_archive, 구독·월당 1행)을 합침
+ */
+public class UsageLogRepositoryImpl implements UsageLogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UsageArchivePolicy usageArchivePolicy;
+
+    public UsageLogRepositoryImpl(UsageArchivePolicy usageArchivePolicy) {
+        this.usageArchivePolicy = usageArchivePolicy;
+    }
+
+    @Override
+    public int insertIfAbsent(Long subscriptionId, LocalDate usedAt, String note) {
+        return entityManager.createQuery(
+                        "INSERT INTO UsageLog (subscriptionId, usedAt, note, createdAt) " +
+                        "VALUES (:subscriptionId, :usedAt, :note, :createdAt) " +
+                        "ON CONFLICT (subscriptionId, usedAt) DO NOTHING")
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("usedAt", usedAt)
+                .setParameter("note", note)
+                .setParameter("createdAt", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UsageLog> findBySubscriptionIdsAndDateRange(List<Long> subscriptionIds,
+                                                            LocalDate startDate, LocalDate endDate) {
+        List<UsageLog> logs = new ArrayList<>(entityManager.createQuery(
+                        "SELECT u FROM UsageLog u WHERE u.subscriptionId IN :subscriptionIds " +
+                        "AND u.usedAt BETWEEN :startDate AND :endDate ORDER BY u.usedAt", UsageLog.class)
+                .setParameter("subscriptionIds", subscriptionIds)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList());
+        if (!usageArchivePolicy.mayBeArchived(startDate)) {
+            return logs;
+        }
+
+        List<UsageLogArchive> archives = entityManager.createQuery(
+                        "SELECT a FROM UsageLogArchive a WHERE a.subscriptionId IN :subscriptionIds " +
+                        "AND a.usageMonth BETWEEN :startMonth AND :endMonth", UsageLogArchive.class)
+                .setParameter("subscriptionIds", subscriptionIds)
+                .setParameter("startMonth", YearMonth.from(startDate).toString())
+                .setParameter("endMonth", YearMonth.from(endDate).toString())
+                .getResultList();
+        if (archives.isEmpty()) {
+            return logs;
+        }
+
+        // 보관 중에 같은 날이 다시 기록된 경우를 대비해 (구독, 날짜) 중복 제외
+        Set<String> seen = new HashSet<>();
+        logs.forEach(log -> seen.add(log.getSubscriptionId() + ":" + log.getUsedAt()));
+        archives.stream()
+                .flatMap(archive -> archive.toUsageLogs().stream())
+                .filter(log -> !log.getUsedAt().isBefore(startDate) && !log.getUsedAt().isAfter(endDate))
+                .filter(log -> seen.add(log.getSubscriptionId() + ":" + log.getUsedAt()))
+                .forEach(logs::add);
+        logs.sort(Comparator.comparing(UsageLog::getUsedAt));
+        return logs;
+    }
+
+    @Override
+    public boolean existsBySubscriptionIdAndUsedAt(Long subscriptionId, LocalDate usedAt) {
+        boolean hot = !entityManager.createQuery(
+                        "SELECT u.id FROM UsageLog u WHERE u.subscriptionId = :subscriptionId AND u.usedAt = :usedAt",
+                        Long.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("usedAt", usedAt)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+        if (hot || !usageArchivePolicy.mayBeArchived(usedAt)) {
+            // 보존 기간 안의 날짜는 보관 테이블을 보지 않음 (일반 출석 경로)
+            return hot;
+        }
+        int day = usedAt.getDayOfMonth();
+        return entityManager.createQuery(
+                        "SELECT a.dayBits FROM UsageLogArchive a " +
+                        "WHERE a.subscriptionId = :subscriptionId AND a.usageMonth = :usageMonth", Integer.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("usageMonth", YearMonth.from(usedAt).toString())
+                .getResultList()
+                .stream()
+                .anyMatch(dayBits -> (dayBits & (1 << (day - 1))) != 0);
+    }
+
+    @Override
+    public long countBySubscriptionId(Long subscriptionId) {
+        Long hot = entityManager.createQuery(
+                        "SELECT COUNT(u) FROM UsageLog u WHERE u.subscriptionId = :subscriptionId", Long.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .getSingleResult();
+        Long archived = entityManager.createQuery(
+                        "SELECT COALESCE(SUM(a.usageCount), 0L) FROM UsageLogArchive a " +
+                        "WHERE a.subscriptionId = :subscriptionId", Long.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .getSingleResult();
+        return hot + archived;
+    }
+
+    @Override
+    public List<MonthlyUsageCount> countMonthlyUsage(List<Long> subscriptionIds) {
+        if (subscriptionIds.isEmpty()) {
+            return List.of();
+        }
+        Map<MonthKey, Long> counts = new LinkedHashMap<>();
+        entityManager.createQuery(
+                        "SELECT u.subscriptionId, YEAR(u.usedAt), MONTH(u.usedAt), COUNT(u) FROM UsageLog u " +
+                        "WHERE u.subscriptionId IN :subscriptionIds " +
+                        "GROUP BY u.subscriptionId, YEAR(u.usedAt), MONTH(u.usedAt)", Object[].class)
+                .setParameter("subscriptionIds", subscriptionIds)
+                .getResultList()
+                .forEach(row -> counts.merge(
+                        new MonthKey((Long) row[0], YearMonth.of(((Number) row[1]).intValue(), ((Number) row[2]).intValue())),
+                        ((Number) row[3]).longValue(), Long::sum));
+        entityManager.createQuery(
+                        "SELECT a.subscriptionId, a.usageMonth, a.usageCount FROM UsageLogArchive a " +
+                        "WHERE a.subscriptionId IN :subscriptionIds", Object[].class)
+                .setParameter("subscriptionIds", subscriptionIds)
+                .getResultList()
+                .forEach(row -> counts.merge(
+                        new MonthKey((Long) row[0], YearMonth.parse((String) row[1])),
+                        ((Number) row[2]).longValue(), Long::sum));
+
+        List<MonthlyUsageCount> result = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> result.add(new MonthlyCount(key.subscriptionId(), key.yearMonth(), count)));
+        return result;
+    }
+
+    @Override
+    public List<SubscriptionUsageSummary> summarizeUsageBySubscription() {
+        Map<Long, UsageSummary> summaries = new LinkedHashMap<>();
+        Stream.concat(
+                        entityManager.createQuery(
+                                        "SELECT u.subscriptionId, COUNT(u), MAX(u.usedAt) FROM UsageLog u " +
+                                        "GROUP BY u.subscriptionId", Object[].class)
+                                .getResultList().stream(),
+                        entityManager.createQuery(
+                                        "SELECT a.subscriptionId, SUM(a.usageCount), MAX(a.lastUsedAt) " +
+                                        "FROM UsageLogArchive a GROUP BY a.subscriptionId", Object[].class)
+                                .getResultList().stream())
+                .map(row -> new UsageSummary((Long) row[0], ((Number) row[1]).longValue(), (LocalDate) row[2]))
+                .forEach(summary -> summaries.merge(summary.subscriptionId(), summary, UsageSummary::plus));
+        return List.copyOf(summaries.values());
+    }
+
+    @Override
+    public List<UsageLog> findPageBySubscriptionId(Long subscriptionId, Limit limit) {
+        List<UsageLog> hot = entityManager.createQuery(
+                        "SELECT u FROM UsageLog u WHERE u.subscriptionId = :subscriptionId " +
+                        "ORDER BY u.usedAt DESC, u.id DESC", UsageLog.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .setMaxResults(maxResults(limit))
+                .getResultList();
+        return fillFromArchive(subscriptionId, hot, null, limit);
+    }
+
+    @Override
+    public List<UsageLog> findPageBySubscriptionIdAfter(Long subscriptionId, LocalDate usedAt, Long id, Limit limit) {
+        List<UsageLog> hot = entityManager.createQuery(
+                        "SELECT u FROM UsageLog u WHERE u.subscriptionId = :subscriptionId " +
+                        "AND (u.usedAt < :usedAt OR (u.usedAt = :usedAt AND u.id < :id)) " +
+                        "ORDER BY u.usedAt DESC, u.id DESC", UsageLog.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("usedAt", usedAt)
+                .setParameter("id", id)
+                .setMaxResults(maxResults(limit))
+                .getResultList();
+        return fillFromArchive(subscriptionId, hot, usedAt, limit);
+    }
+
+    @Override
+    public Stream<UsageLog> streamByUserUuid(String userUuid) {
+        Stream<UsageLog> hot = entityManager.createQuery(
+                        "SELECT u FROM UsageLog u WHERE u.subscriptionId IN " +
+                        "(SELECT s.id FROM Subscription s WHERE s.userUuid = :userUuid) " +
+                        "ORDER BY u.subscriptionId, u.usedAt", UsageLog.class)
+                .setParameter("userUuid", userUuid)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 500)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+        // 보관된 달은 최근 기록을 다 읽은 뒤에 조회 (커서를 동시에 두 개 열지 않음)
+        Stream<UsageLog> archived = Stream.of(userUuid)
+                .flatMap(uuid -> entityManager.createQuery(
+                                "SELECT a FROM UsageLogArchive a WHERE a.subscriptionId IN " +
+                                "(SELECT s.id FROM Subscription s WHERE s.userUuid = :userUuid) " +
+                                "ORDER BY a.subscriptionId, a.usageMonth", UsageLogArchive.class)
+                        .setParameter("userUuid", uuid)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultList()
+                        .stream())
+                .flatMap(archive -> archive.toUsageLogs().stream());
+        return Stream.concat(hot, archived);
+    }
+
+    /**
+     * 최근 기록이 페이지를 다 채우지 못하면 보관된 달에서 이어서 채움
+     * (보관된 출석은 모든 최근 기록보다 이전 날짜이고 구독당 하루 1건이므로 날짜만으로 이어짐)
+     */
+    private List<UsageLog> fillFromArchive(Long subscriptionId, List<UsageLog> hot, LocalDate cursorDate, Limit limit) {
+        int max = maxResults(limit);
+        if (hot.size() >= max) {
+            return hot;
+        }
+        LocalDate before = !hot.isEmpty() ? hot.get(hot.size() - 1).getUsedAt() : cursorDate;
+        TypedQuery<UsageLogArchive> query = entityManager.createQuery(
+                        "SELECT a FROM UsageLogArchive a WHERE a.subscriptionId = :subscriptionId " +
+                        "AND a.usageMonth <= :untilMonth ORDER BY a.usageMonth DESC", UsageLogArchive.class)
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("untilMonth", YearMonth.from(before != null ? before : LocalDate.now()).toString());
+
+        List<UsageLog> page = new ArrayList<>(hot);
+        try (Stream<UsageLogArchive> archives = query.getResultStream()) {
+            archives.flatMap(archive -> archive.toUsageLogs().reversed().stream())
+                    .filter(log -> before == null || log.getUsedAt().isBefore(before))
+                    .limit(max - hot.size())
+                    .forEach(page::add);
+        }
+        return page;
+    }
+
+    private int maxResults(Limit limit) {
+        return limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+    }
+
+    private record MonthKey(Long subscriptionId, YearMonth yearMonth) {
+    }
+
+    private record MonthlyCount(Long subscriptionId, YearMonth yearMonth, long usageCount) implements MonthlyUsageCount {
+
+        @Override
+        public Long getSubscriptionId() {
+            return subscriptionId;
+        }
+
+        @Override
+        public Integer getUsageYear() {
+            return yearMonth.getYear();
+        }
+
+        @Override
+        public Integer getUsageMonth() {
+            return yearMonth.getMonthValue();
+        }
+
+        @Override
+        public Long getUsageCount() {
+            return usageCount;
+        }
+    }
+
+    private record UsageSummary(Long subscriptionId, long usageCount, LocalDate lastUsedAt)
+            implements SubscriptionUsageSummary {
+
+        UsageSummary plus(UsageSummary other) {
+            LocalDate last = lastUsedAt == null || (other.lastUsedAt != null && other.lastUsedAt.isAfter(lastUsedAt))
+                    ? other.lastUsedAt : lastUsedAt;
+            return new UsageSummary(subscriptionId, usageCount + other.usageCount, last);
+        }
+
+        @Override
+        public Long getSubscriptionId() {
+            return subscriptionId;
+        }
+
+        @Override
+        public Long getUsageCount() {
+            return usageCount;
+        }
+
+        @Override
+        public LocalDate getLastUsedAt() {
+            return lastUsedAt;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 구독별 월간 사용 횟수 롤업 (usage_log를 매번 세지 않기 위한 집계 테이블)
+ * 출석/취소 시 같은 트랜잭션에서 증감되며, UsageRollupRebuildJob으로 재구축 가능
+ */
+@Entity
+@Table(name = "usage_monthly_rollup", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rollup_subscription_month", columnNames = {"subscriptionId", "usageMonth"})
+})
+public class UsageMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long subscriptionId;
+
+    // 연-월 (YYYY-MM), 문자열 비교로 기간 조회 가능
+    @Column(nullable = false, length = 7)
+    private String usageMonth;
+
+    @Column(nullable = false)
+    private long usageCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected UsageMonthlyRollup() {
+    }
+
+    public UsageMonthlyRollup(Long subscriptionId, YearMonth yearMonth, long usageCount) {
+        this.subscriptionId = subscriptionId;
+        this.usageMonth = yearMonth.toString();
+        this.usageCount = usageCount;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    public String getUsageMonth() {
+        return usageMonth;
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.parse(usageMonth);
+    }
+
+    public long getUsageCount() {
+        return usageCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UsageMonthlyRollupRepository extends JpaRepository<UsageMonthlyRollup, Long>,
+        UsageMonthlyRollupRepositoryCustom {
+
+    Optional<UsageMonthlyRollup> findBySubscriptionIdAndUsageMonth(Long subscriptionId, String usageMonth);
+
+    // 구독들의 롤업 행 (재구축 대상 월 탐색용, 구독 페이지 단위로 호출)
+    List<UsageMonthlyRollup> findBySubscriptionIdIn(List<Long> subscriptionIds);
+
+    // usageMonth는 YYYY-MM 형식이므로 문자열 BETWEEN으로 기간 조회
+    List<UsageMonthlyRollup> findBySubscriptionIdInAndUsageMonthBetween(
+            List<Long> subscriptionIds, String startMonth, String endMonth);
+
+    // 기존 롤업 행의 횟수를 증감 (음수로 내려가지 않도록 보정), 갱신된 행 수 반환
+    @Modifying
+    @Query("UPDATE UsageMonthlyRollup r SET r.usageCount = CASE WHEN r.usageCount + :delta < 0 THEN 0 " +
+           "ELSE r.usageCount + :delta END, r.updatedAt = :now " +
+           "WHERE r.subscriptionId = :subscriptionId AND r.usageMonth = :usageMonth")
+    int addUsageCount(@Param("subscriptionId") Long subscriptionId,
+                      @Param("usageMonth") String usageMonth,
+                      @Param("delta") long delta,
+                      @Param("now") LocalDateTime now);
+
+    // 해당 월 횟수를 출석 기록(보관 포함)으로 다시 계산
+    // (읽고 쓰는 한 문장이라 재계산 중 들어온 출석 증감이 덮어써지지 않음)
+    @Modifying
+    @Query("UPDATE UsageMonthlyRollup r SET r.usageCount = " +
+           "(SELECT COUNT(u) FROM UsageLog u WHERE u.subscriptionId = :subscriptionId " +
+           "AND u.usedAt BETWEEN :startDate AND :endDate) " +
+           "+ (SELECT COALESCE(SUM(a.usageCount), 0) FROM UsageLogArchive a " +
+           "WHERE a.subscriptionId = :subscriptionId AND a.usageMonth = :usageMonth), " +
+           "r.updatedAt = :now " +
+           "WHERE r.subscriptionId = :subscriptionId AND r.usageMonth = :usageMonth")
+    int recountUsage(@Param("subscriptionId") Long subscriptionId,
+                     @Param("usageMonth") String usageMonth,
+                     @Param("startDate") LocalDate startDate,
+                     @Param("endDate") LocalDate endDate,
+                     @Param("now") LocalDateTime now);
+}
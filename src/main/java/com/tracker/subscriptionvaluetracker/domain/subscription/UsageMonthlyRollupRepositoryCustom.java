@@ -0,0 +1,11 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import java.time.LocalDateTime;
+
+public interface UsageMonthlyRollupRepositoryCustom {
+
+    /**
+     * 해당 월 롤업 행이 없으면 횟수 0으로 생성 (동시 첫 출석에도 1행만 생성)
+     */
+    void insertIfAbsent(Long subscriptionId, String usageMonth, LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+
+public class UsageMonthlyRollupRepositoryImpl implements UsageMonthlyRollupRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertIfAbsent(Long subscriptionId, String usageMonth, LocalDateTime now) {
+        entityManager.createQuery(
+                        "INSERT INTO UsageMonthlyRollup (subscriptionId, usageMonth, usageCount, updatedAt) " +
+                        "VALUES (:subscriptionId, :usageMonth, 0, :now) " +
+                        "ON CONFLICT (subscriptionId, usageMonth) DO NOTHING")
+                .setParameter("subscriptionId", subscriptionId)
+                .setParameter("usageMonth", usageMonth)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
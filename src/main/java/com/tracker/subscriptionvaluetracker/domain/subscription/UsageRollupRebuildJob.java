@@ -0,0 +1,90 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.shard.ShardRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 월간 사용 횟수 롤업 재구축 작업
+ * - 기동 시 롤업이 비어 있고 출석 기록이 있으면 백필
+ * - 주기적으로 usage_log 기준으로 재구축해 증감 누락을 복구
+ * - 샤딩 시 샤드마다 따로 실행, 샤드 이동 중인 사용자의 구독은 건너뜀 (이동 중 복사하는 원본 행이 바뀌지 않도록)
+ */
+@Component
+public class UsageRollupRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UsageRollupRebuildJob.class);
+
+    // 한 번에 재구축 대상 월을 찾을 구독 수, 페이지마다 이동 중인 사용자 목록도 다시 확인
+    // (이동 표시 후 복사 전 대기 시간 안에 확인되도록)
+    private static final int PAGE_SIZE = 100;
+
+    private final UsageRollupService usageRollupService;
+    private final UsageLogRepository usageLogRepository;
+    private final ShardRouting shardRouting;
+    private final SubscriptionRepository subscriptionRepository;
+
+    public UsageRollupRebuildJob(UsageRollupService usageRollupService,
+                                 UsageLogRepository usageLogRepository,
+                                 ShardRouting shardRouting,
+                                 SubscriptionRepository subscriptionRepository) {
+        this.usageRollupService = usageRollupService;
+        this.usageLogRepository = usageLogRepository;
+        this.shardRouting = shardRouting;
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        shardRouting.forEachShard(shard -> {
+            if (usageRollupService.isEmpty() && usageLogRepository.count() > 0) {
+                int rows = rebuildShard();
+                log.info("월간 사용 롤업 백필 완료: 샤드 {}, {}건", shard, rows);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${tracker.rollup.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        shardRouting.forEachShard(shard -> {
+            int rows = rebuildShard();
+            log.info("월간 사용 롤업 재구축 완료: 샤드 {}, {}건", shard, rows);
+        });
+    }
+
+    // 구독마다 별도 트랜잭션으로 재계산 (긴 트랜잭션 없이 출석과 동시에 실행 가능)
+    private int rebuildShard() {
+        int rows = 0;
+        Long afterId = 0L;
+        List<Long> page;
+        while (!(page = subscriptionRepository.findIdsAfter(afterId, Limit.of(PAGE_SIZE))).isEmpty()) {
+            afterId = page.get(page.size() - 1);
+            Set<Long> moving = findMovingSubscriptionIds();
+            for (Map.Entry<Long, Set<YearMonth>> entry : usageRollupService.findMonthsToRebuild(page).entrySet()) {
+                if (moving.contains(entry.getKey())) {
+                    continue;
+                }
+                usageRollupService.recount(entry.getKey(), entry.getValue());
+                rows += entry.getValue().size();
+            }
+        }
+        return rows;
+    }
+
+    private Set<Long> findMovingSubscriptionIds() {
+        Set<Long> ids = new HashSet<>();
+        shardRouting.findMovingUsers().forEach(userUuid -> ids.addAll(subscriptionRepository.findIdsByUserUuid(userUuid)));
+        return ids;
+    }
+}
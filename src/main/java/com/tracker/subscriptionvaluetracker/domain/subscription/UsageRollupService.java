@@ -0,0 +1,118 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 월간 사용 횟수 롤업 관리
+ * - 출석/취소와 같은 트랜잭션에서 해당 월 횟수를 증감
+ * - 통계/진행률 조회는 usage_log 대신 롤업을 읽어 이력 길이와 무관한 비용으로 동작
+ */
+@Service
+@Transactional(readOnly = true)
+public class UsageRollupService {
+
+    private final UsageMonthlyRollupRepository rollupRepository;
+    private final UsageLogRepository usageLogRepository;
+
+    public UsageRollupService(UsageMonthlyRollupRepository rollupRepository,
+                              UsageLogRepository usageLogRepository) {
+        this.rollupRepository = rollupRepository;
+        this.usageLogRepository = usageLogRepository;
+    }
+
+    @Transactional
+    public void increment(Long subscriptionId, LocalDate usedAt) {
+        add(subscriptionId, YearMonth.from(usedAt), 1);
+    }
+
+    /**
+     * 해당 월 횟수를 count만큼 증가 (일괄 출석은 구독·월당 1회 호출)
+     */
+    @Transactional
+    public void add(Long subscriptionId, YearMonth yearMonth, long count) {
+        String usageMonth = yearMonth.toString();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = rollupRepository.addUsageCount(subscriptionId, usageMonth, count, now);
+        if (updated == 0) {
+            // 해당 월 첫 출석이면 빈 롤업 행을 만든 뒤 증가 (동시 첫 출석에도 행이 중복되지 않음)
+            rollupRepository.insertIfAbsent(subscriptionId, usageMonth, now);
+            rollupRepository.addUsageCount(subscriptionId, usageMonth, count, now);
+        }
+    }
+
+    @Transactional
+    public void decrement(Long subscriptionId, LocalDate usedAt) {
+        rollupRepository.addUsageCount(subscriptionId, YearMonth.from(usedAt).toString(), -1, LocalDateTime.now());
+    }
+
+    public int getMonthlyCount(Long subscriptionId, YearMonth yearMonth) {
+        return rollupRepository.findBySubscriptionIdAndUsageMonth(subscriptionId, yearMonth.toString())
+                .map(rollup -> (int) rollup.getUsageCount())
+                .orElse(0);
+    }
+
+    /**
+     * 구독 ID -> (연월 -> 사용 횟수). 구독 수·개월 수와 관계없이 쿼리 1회
+     */
+    public Map<Long, Map<YearMonth, Long>> getMonthlyCounts(List<Long> subscriptionIds,
+                                                            YearMonth startMonth, YearMonth endMonth) {
+        if (subscriptionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Map<YearMonth, Long>> result = new HashMap<>();
+        for (UsageMonthlyRollup rollup : rollupRepository.findBySubscriptionIdInAndUsageMonthBetween(
+                subscriptionIds, startMonth.toString(), endMonth.toString())) {
+            result.computeIfAbsent(rollup.getSubscriptionId(), id -> new HashMap<>())
+                    .put(rollup.getYearMonth(), rollup.getUsageCount());
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 구독들의 재구축할 월 목록 (출석 기록이 있는 월 + 이미 롤업 행이 있는 월)
+     * - 값은 recount가 다시 계산하므로 여기서는 대상만 찾음
+     * - 전체 테이블을 한 번에 읽지 않도록 구독 페이지 단위로 호출
+     */
+    public Map<Long, Set<YearMonth>> findMonthsToRebuild(List<Long> subscriptionIds) {
+        if (subscriptionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Set<YearMonth>> months = new TreeMap<>();
+        usageLogRepository.countMonthlyUsage(subscriptionIds).forEach(row ->
+                months.computeIfAbsent(row.getSubscriptionId(), id -> new TreeSet<>()).add(row.getYearMonth()));
+        rollupRepository.findBySubscriptionIdIn(subscriptionIds).forEach(rollup ->
+                months.computeIfAbsent(rollup.getSubscriptionId(), id -> new TreeSet<>()).add(rollup.getYearMonth()));
+        return months;
+    }
+
+    /**
+     * 한 구독의 월별 롤업을 출석 기록 기준으로 다시 계산 (백필 / 불일치 복구용)
+     * - 전체 삭제 후 재삽입 대신 월마다 행을 보장하고 UPDATE 한 문장으로 갱신해, 재구축 중 출석도 유실되지 않음
+     */
+    @Transactional
+    public void recount(Long subscriptionId, Set<YearMonth> months) {
+        LocalDateTime now = LocalDateTime.now();
+        for (YearMonth month : months) {
+            String usageMonth = month.toString();
+            rollupRepository.insertIfAbsent(subscriptionId, usageMonth, now);
+            rollupRepository.recountUsage(subscriptionId, usageMonth, month.atDay(1), month.atEndOfMonth(), now);
+        }
+    }
+
+    public boolean isEmpty() {
+        return rollupRepository.count() == 0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화용 변경 기록 (생성/수정/삭제마다 1행, 쓰기와 같은 트랜잭션에서 기록)
+ * - version은 사용자별 단조 증가 값 (SyncVersion)
+ * - 출석 기록은 물리 삭제되어 ID가 남지 않으므로 (구독 ID, 날짜)로 식별
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+    // 사용자별 since 이후 변경 조회
+    @Index(name = "idx_change_log_user_version", columnList = "userUuid, version")
+})
+public class ChangeLog {
+
+    // 일괄 출석/가져오기의 변경 기록도 JDBC 배치로 묶기 위해 풀링 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "change_log_seq")
+    @SequenceGenerator(name = "change_log_seq", sequenceName = "change_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String userUuid;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    // USAGE_LOG는 구독 ID
+    @Column(nullable = false)
+    private Long entityId;
+
+    // USAGE_LOG의 출석 날짜 (그 외에는 null)
+    private LocalDate usedAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    protected ChangeLog() {
+    }
+
+    public ChangeLog(String userUuid, long version, EntityType entityType, Long entityId,
+                     LocalDate usedAt, boolean deleted) {
+        this.userUuid = userUuid;
+        this.version = version;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.usedAt = usedAt;
+        this.deleted = deleted;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.changedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserUuid() {
+        return userUuid;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public LocalDate getUsedAt() {
+        return usedAt;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public enum EntityType {
+        SUBSCRIPTION,
+        USAGE_LOG,
+        INVESTMENT,
+        INVESTMENT_USAGE
+    }
+}
@@ -0,0 +1,11 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    List<ChangeLog> findByUserUuidAndVersionGreaterThanOrderByVersionAsc(String userUuid, long version, Limit limit);
+}
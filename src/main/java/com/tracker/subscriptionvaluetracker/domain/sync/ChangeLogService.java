@@ -0,0 +1,80 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰기 트랜잭션 안에서 변경 기록을 남김 (트랜잭션 밖 호출은 예외)
+ * - 변경 건수만큼 사용자 버전을 한 번에 올리고 각 변경에 연속된 버전을 부여
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class ChangeLogService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final SyncVersionRepository syncVersionRepository;
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository,
+                            SyncVersionRepository syncVersionRepository) {
+        this.changeLogRepository = changeLogRepository;
+        this.syncVersionRepository = syncVersionRepository;
+    }
+
+    public void record(String userUuid, Change change) {
+        recordAll(userUuid, List.of(change));
+    }
+
+    public void recordAll(String userUuid, List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long last = nextVersion(userUuid, changes.size());
+        long version = last - changes.size();
+        List<ChangeLog> logs = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            logs.add(new ChangeLog(userUuid, ++version, change.entityType(), change.entityId(),
+                    change.usedAt(), change.deleted()));
+        }
+        changeLogRepository.saveAll(logs);
+    }
+
+    // 증가 후 버전 반환 (사용자 첫 쓰기면 행을 만든 뒤 증가)
+    private long nextVersion(String userUuid, long count) {
+        LocalDateTime now = LocalDateTime.now();
+        if (syncVersionRepository.increment(userUuid, count, now) == 0) {
+            syncVersionRepository.insertIfAbsent(userUuid, now);
+            syncVersionRepository.increment(userUuid, count, now);
+        }
+        return syncVersionRepository.findVersion(userUuid).orElseThrow();
+    }
+
+    /**
+     * 기록할 변경 1건
+     * @param entityId USAGE_LOG는 구독 ID
+     * @param usedAt USAGE_LOG의 출석 날짜
+     */
+    public record Change(ChangeLog.EntityType entityType, Long entityId, LocalDate usedAt, boolean deleted) {
+
+        public static Change subscription(Long id, boolean deleted) {
+            return new Change(ChangeLog.EntityType.SUBSCRIPTION, id, null, deleted);
+        }
+
+        public static Change usageLog(Long subscriptionId, LocalDate usedAt, boolean deleted) {
+            return new Change(ChangeLog.EntityType.USAGE_LOG, subscriptionId, usedAt, deleted);
+        }
+
+        public static Change investment(Long id, boolean deleted) {
+            return new Change(ChangeLog.EntityType.INVESTMENT, id, null, deleted);
+        }
+
+        public static Change investmentUsage(Long id, boolean deleted) {
+            return new Change(ChangeLog.EntityType.INVESTMENT_USAGE, id, null, deleted);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentViewDto;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionViewDto;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLog;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 동기화 응답
+ * @param version 다음 요청의 since로 보낼 버전
+ * @param full true면 전체 목록 (클라이언트는 로컬 구독/투자 목록을 교체)
+ * @param hasMore 변경이 많아 잘렸으면 true (version으로 바로 다시 요청)
+ */
+public record SyncResult(long version,
+                         boolean full,
+                         boolean hasMore,
+                         List<SubscriptionViewDto> subscriptions,
+                         List<InvestmentViewDto> investments,
+                         List<UsageLog> usageLogs,
+                         List<InvestmentUsage> investmentUsages,
+                         List<Tombstone> tombstones) {
+
+    /**
+     * 삭제된 항목 (구독/투자는 soft delete, 출석/투자 사용 기록은 물리 삭제)
+     * @param id USAGE_LOG는 null (subscriptionId와 usedAt으로 식별)
+     */
+    public record Tombstone(ChangeLog.EntityType type, Long id, Long subscriptionId, LocalDate usedAt) {
+
+        static Tombstone of(ChangeLog.EntityType type, Long id) {
+            return new Tombstone(type, id, null, null);
+        }
+
+        static Tombstone usageLog(Long subscriptionId, LocalDate usedAt) {
+            return new Tombstone(ChangeLog.EntityType.USAGE_LOG, null, subscriptionId, usedAt);
+        }
+    }
+}
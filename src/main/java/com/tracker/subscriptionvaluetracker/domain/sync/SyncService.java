@@ -0,0 +1,204 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentService;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLog;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오프라인 클라이언트용 델타 동기화
+ * - since 이후 변경 기록을 항목별 최종 상태로 합쳐, 현재 엔티티 또는 tombstone으로 반환
+ * - 출석/투자 사용 기록이 바뀌면 통계가 달라지므로 해당 구독/투자 항목도 함께 반환
+ * - since가 없거나 서버 버전보다 크면(데이터 초기화 등) 전체 구독/투자 목록을 반환
+ *   (출석/투자 사용 기록 전체 이력은 페이지 조회나 내보내기로 받음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    // 한 응답에 담을 최대 변경 기록 수
+    static final int MAX_CHANGES = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final SyncVersionRepository syncVersionRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final UsageLogRepository usageLogRepository;
+    private final InvestmentRepository investmentRepository;
+    private final InvestmentUsageRepository investmentUsageRepository;
+    private final SubscriptionService subscriptionService;
+    private final InvestmentService investmentService;
+
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       SyncVersionRepository syncVersionRepository,
+                       SubscriptionRepository subscriptionRepository,
+                       UsageLogRepository usageLogRepository,
+                       InvestmentRepository investmentRepository,
+                       InvestmentUsageRepository investmentUsageRepository,
+                       SubscriptionService subscriptionService,
+                       InvestmentService investmentService) {
+        this.changeLogRepository = changeLogRepository;
+        this.syncVersionRepository = syncVersionRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.usageLogRepository = usageLogRepository;
+        this.investmentRepository = investmentRepository;
+        this.investmentUsageRepository = investmentUsageRepository;
+        this.subscriptionService = subscriptionService;
+        this.investmentService = investmentService;
+    }
+
+    public SyncResult sync(String userUuid, Long since) {
+        if (since != null && since < 0) {
+            throw new IllegalArgumentException("since는 0 이상이어야 합니다.");
+        }
+        long currentVersion = syncVersionRepository.findVersion(userUuid).orElse(0L);
+        if (since == null || since > currentVersion) {
+            return fullSync(userUuid, currentVersion);
+        }
+
+        List<ChangeLog> changes = changeLogRepository.findByUserUuidAndVersionGreaterThanOrderByVersionAsc(
+                userUuid, since, Limit.of(MAX_CHANGES + 1));
+        boolean hasMore = changes.size() > MAX_CHANGES;
+        if (hasMore) {
+            changes = changes.subList(0, MAX_CHANGES);
+        }
+        long version = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return delta(userUuid, changes, version, hasMore);
+    }
+
+    // 데이터를 읽기 전 버전을 돌려주므로, 그 사이 쓰기는 다음 델타에 다시 포함됨
+    private SyncResult fullSync(String userUuid, long version) {
+        return new SyncResult(version, true, false,
+                subscriptionService.getSubscriptionsWithStats(userUuid),
+                investmentService.getInvestmentsWithStats(userUuid),
+                List.of(), List.of(), List.of());
+    }
+
+    private SyncResult delta(String userUuid, List<ChangeLog> changes, long version, boolean hasMore) {
+        // 같은 항목의 여러 변경은 마지막 것만 사용 (오름차순이므로 나중 값이 덮어씀)
+        Map<String, ChangeLog> latest = new LinkedHashMap<>();
+        changes.forEach(change -> latest.put(key(change), change));
+
+        Set<Long> subscriptionIds = new LinkedHashSet<>();
+        Set<Long> investmentIds = new LinkedHashSet<>();
+        List<ChangeLog> usageLogUpserts = new ArrayList<>();
+        List<Long> investmentUsageUpserts = new ArrayList<>();
+        List<SyncResult.Tombstone> tombstones = new ArrayList<>();
+
+        for (ChangeLog change : latest.values()) {
+            switch (change.getEntityType()) {
+                case SUBSCRIPTION -> subscriptionIds.add(change.getEntityId());
+                case INVESTMENT -> investmentIds.add(change.getEntityId());
+                case USAGE_LOG -> {
+                    subscriptionIds.add(change.getEntityId());
+                    if (change.isDeleted()) {
+                        tombstones.add(SyncResult.Tombstone.usageLog(change.getEntityId(), change.getUsedAt()));
+                    } else {
+                        usageLogUpserts.add(change);
+                    }
+                }
+                case INVESTMENT_USAGE -> {
+                    if (change.isDeleted()) {
+                        tombstones.add(SyncResult.Tombstone.of(change.getEntityType(), change.getEntityId()));
+                    } else {
+                        investmentUsageUpserts.add(change.getEntityId());
+                    }
+                }
+            }
+        }
+
+        List<UsageLog> usageLogs = loadUsageLogs(usageLogUpserts, tombstones);
+        List<InvestmentUsage> investmentUsages = investmentUsageRepository.findAllById(investmentUsageUpserts);
+        Set<Long> foundUsageIds = new LinkedHashSet<>();
+        investmentUsages.forEach(usage -> {
+            foundUsageIds.add(usage.getId());
+            investmentIds.add(usage.getInvestmentId());
+        });
+        // 기록 후 삭제가 아직 반영되지 않은 사용 기록은 삭제로 전달
+        investmentUsageUpserts.stream()
+                .filter(id -> !foundUsageIds.contains(id))
+                .forEach(id -> tombstones.add(SyncResult.Tombstone.of(ChangeLog.EntityType.INVESTMENT_USAGE, id)));
+
+        List<Subscription> activeSubscriptions = new ArrayList<>();
+        Set<Long> foundSubscriptionIds = new LinkedHashSet<>();
+        if (!subscriptionIds.isEmpty()) {
+            for (Subscription subscription : subscriptionRepository.findByIdInAndUserUuid(subscriptionIds, userUuid)) {
+                foundSubscriptionIds.add(subscription.getId());
+                if (Boolean.TRUE.equals(subscription.getIsActive())) {
+                    activeSubscriptions.add(subscription);
+                } else {
+                    tombstones.add(SyncResult.Tombstone.of(ChangeLog.EntityType.SUBSCRIPTION, subscription.getId()));
+                }
+            }
+        }
+        subscriptionIds.stream()
+                .filter(id -> !foundSubscriptionIds.contains(id))
+                .forEach(id -> tombstones.add(SyncResult.Tombstone.of(ChangeLog.EntityType.SUBSCRIPTION, id)));
+
+        List<Investment> activeInvestments = new ArrayList<>();
+        Set<Long> foundInvestmentIds = new LinkedHashSet<>();
+        if (!investmentIds.isEmpty()) {
+            for (Investment investment : investmentRepository.findByIdInAndUserUuid(investmentIds, userUuid)) {
+                foundInvestmentIds.add(investment.getId());
+                if (Boolean.TRUE.equals(investment.getIsActive())) {
+                    activeInvestments.add(investment);
+                } else {
+                    tombstones.add(SyncResult.Tombstone.of(ChangeLog.EntityType.INVESTMENT, investment.getId()));
+                }
+            }
+        }
+        investmentIds.stream()
+                .filter(id -> !foundInvestmentIds.contains(id))
+                .forEach(id -> tombstones.add(SyncResult.Tombstone.of(ChangeLog.EntityType.INVESTMENT, id)));
+
+        return new SyncResult(version, false, hasMore,
+                subscriptionService.toViewDtos(activeSubscriptions),
+                investmentService.toViewDtos(activeInvestments),
+                usageLogs, investmentUsages, tombstones);
+    }
+
+    // (구독, 날짜) 출석 기록을 구독 목록 + 날짜 범위 한 번으로 조회, 이미 지워진 기록은 tombstone으로
+    private List<UsageLog> loadUsageLogs(List<ChangeLog> upserts, List<SyncResult.Tombstone> tombstones) {
+        if (upserts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> subscriptionIds = upserts.stream().map(ChangeLog::getEntityId).distinct().toList();
+        LocalDate minDate = upserts.stream().map(ChangeLog::getUsedAt).min(LocalDate::compareTo).orElseThrow();
+        LocalDate maxDate = upserts.stream().map(ChangeLog::getUsedAt).max(LocalDate::compareTo).orElseThrow();
+        Map<String, UsageLog> found = new HashMap<>();
+        usageLogRepository.findBySubscriptionIdsAndDateRange(subscriptionIds, minDate, maxDate)
+                .forEach(log -> found.put(log.getSubscriptionId() + ":" + log.getUsedAt(), log));
+
+        List<UsageLog> usageLogs = new ArrayList<>();
+        for (ChangeLog upsert : upserts) {
+            UsageLog log = found.get(upsert.getEntityId() + ":" + upsert.getUsedAt());
+            if (log != null) {
+                usageLogs.add(log);
+            } else {
+                tombstones.add(SyncResult.Tombstone.usageLog(upsert.getEntityId(), upsert.getUsedAt()));
+            }
+        }
+        return usageLogs;
+    }
+
+    private static String key(ChangeLog change) {
+        return change.getEntityType() + ":" + change.getEntityId() + ":" + change.getUsedAt();
+    }
+}
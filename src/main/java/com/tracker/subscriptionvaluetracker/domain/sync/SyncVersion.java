@@ -0,0 +1,40 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 변경 버전 카운터
+ * - 쓰기 트랜잭션이 이 행을 UPDATE로 증가시키므로 같은 사용자의 쓰기는 커밋 순서대로 버전을 받음
+ *   (전역 시퀀스와 달리 작은 버전이 나중에 커밋되어 동기화에서 누락되는 일이 없음)
+ */
+@Entity
+@Table(name = "sync_version")
+public class SyncVersion {
+
+    @Id
+    @Column(length = 36)
+    private String userUuid;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected SyncVersion() {
+    }
+
+    // Getters
+    public String getUserUuid() {
+        return userUuid;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
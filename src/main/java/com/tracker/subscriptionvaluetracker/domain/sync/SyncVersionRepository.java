@@ -0,0 +1,20 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SyncVersionRepository extends JpaRepository<SyncVersion, String>, SyncVersionRepositoryCustom {
+
+    // 버전을 count만큼 증가 (행 잠금은 트랜잭션 종료까지 유지), 갱신된 행 수 반환
+    @Modifying
+    @Query("UPDATE SyncVersion v SET v.version = v.version + :count, v.updatedAt = :now WHERE v.userUuid = :userUuid")
+    int increment(@Param("userUuid") String userUuid, @Param("count") long count, @Param("now") LocalDateTime now);
+
+    @Query("SELECT v.version FROM SyncVersion v WHERE v.userUuid = :userUuid")
+    Optional<Long> findVersion(@Param("userUuid") String userUuid);
+}
@@ -0,0 +1,11 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import java.time.LocalDateTime;
+
+public interface SyncVersionRepositoryCustom {
+
+    /**
+     * 사용자 버전 행이 없으면 0으로 생성 (동시 첫 쓰기에도 1행만 생성)
+     */
+    void insertIfAbsent(String userUuid, LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+
+public class SyncVersionRepositoryImpl implements SyncVersionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertIfAbsent(String userUuid, LocalDateTime now) {
+        entityManager.createQuery(
+                        "INSERT INTO SyncVersion (userUuid, version, updatedAt) " +
+                        "VALUES (:userUuid, 0, :now) " +
+                        "ON CONFLICT (userUuid) DO NOTHING")
+                .setParameter("userUuid", userUuid)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
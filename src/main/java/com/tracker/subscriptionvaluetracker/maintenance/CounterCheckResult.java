@@ -0,0 +1,29 @@
+package com.tracker.subscriptionvaluetracker.maintenance;
+
+import java.util.List;
+
+/**
+ * 누적 카운터 정합성 검사 결과 (원본 기록과 값이 다른 항목 ID 목록)
+ */
+public class CounterCheckResult {
+
+    private final List<Long> mismatchedSubscriptionIds;
+    private final List<Long> mismatchedInvestmentIds;
+
+    public CounterCheckResult(List<Long> mismatchedSubscriptionIds, List<Long> mismatchedInvestmentIds) {
+        this.mismatchedSubscriptionIds = mismatchedSubscriptionIds;
+        this.mismatchedInvestmentIds = mismatchedInvestmentIds;
+    }
+
+    public List<Long> getMismatchedSubscriptionIds() {
+        return mismatchedSubscriptionIds;
+    }
+
+    public List<Long> getMismatchedInvestmentIds() {
+        return mismatchedInvestmentIds;
+    }
+
+    public boolean isConsistent() {
+        return mismatchedSubscriptionIds.isEmpty() && mismatchedInvestmentIds.isEmpty();
+    }
+}
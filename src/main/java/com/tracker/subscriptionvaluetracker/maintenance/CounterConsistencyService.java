@@ -0,0 +1,97 @@
+package com.tracker.subscriptionvaluetracker.maintenance;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageStats;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionUsageSummary;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구독/투자 항목의 누적 카운터와 원본 기록(usage_log, investment_usage) 정합성 검사 및 복구
+ */
+@Service
+@Transactional(readOnly = true)
+public class CounterConsistencyService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final UsageLogRepository usageLogRepository;
+    private final InvestmentRepository investmentRepository;
+    private final InvestmentUsageRepository investmentUsageRepository;
+
+    public CounterConsistencyService(SubscriptionRepository subscriptionRepository,
+                                     UsageLogRepository usageLogRepository,
+                                     InvestmentRepository investmentRepository,
+                                     InvestmentUsageRepository investmentUsageRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.usageLogRepository = usageLogRepository;
+        this.investmentRepository = investmentRepository;
+        this.investmentUsageRepository = investmentUsageRepository;
+    }
+
+    public CounterCheckResult check() {
+        Map<Long, SubscriptionUsageSummary> usageBySubscription = usageLogRepository.summarizeUsageBySubscription()
+                .stream()
+                .collect(Collectors.toMap(SubscriptionUsageSummary::getSubscriptionId, Function.identity()));
+        List<Long> mismatchedSubscriptionIds = subscriptionRepository.findAll()
+                .stream()
+                .filter(sub -> !matches(sub, usageBySubscription.get(sub.getId())))
+                .map(Subscription::getId)
+                .toList();
+
+        Map<Long, InvestmentUsageStats> statsByInvestment = investmentUsageRepository.findAllUsageStats()
+                .stream()
+                .collect(Collectors.toMap(InvestmentUsageStats::getInvestmentId, Function.identity()));
+        List<Long> mismatchedInvestmentIds = investmentRepository.findAll()
+                .stream()
+                .filter(inv -> !matches(inv, statsByInvestment.get(inv.getId())))
+                .map(Investment::getId)
+                .toList();
+
+        return new CounterCheckResult(mismatchedSubscriptionIds, mismatchedInvestmentIds);
+    }
+
+    /**
+     * 기록이 있는데 카운터가 초기값인 항목이 있는지 (카운터 컬럼을 추가한 뒤 첫 기동이면 true)
+     */
+    public boolean needsBackfill() {
+        return !subscriptionRepository.findUncountedIds(Limit.of(1)).isEmpty()
+                || !investmentRepository.findUncountedIds(Limit.of(1)).isEmpty();
+    }
+
+    /**
+     * 원본 기록 기준으로 모든 카운터를 재계산한 뒤 다시 검사
+     */
+    @Transactional
+    public CounterCheckResult repair() {
+        subscriptionRepository.recalculateUsageCounters();
+        investmentRepository.recalculateUsageCounters();
+        return check();
+    }
+
+    private boolean matches(Subscription subscription, SubscriptionUsageSummary summary) {
+        long expectedCount = summary != null ? summary.getUsageCount() : 0;
+        return subscription.getTotalUsageCount() == expectedCount
+                && Objects.equals(subscription.getLastUsedAt(), summary != null ? summary.getLastUsedAt() : null);
+    }
+
+    private boolean matches(Investment investment, InvestmentUsageStats stats) {
+        long expectedCount = stats != null ? stats.getUsageCount() : 0;
+        BigDecimal expectedSavings = stats != null && stats.getTotalSavings() != null
+                ? stats.getTotalSavings() : BigDecimal.ZERO;
+        return investment.getUsageCount() == expectedCount
+                && investment.getTotalSavings().compareTo(expectedSavings) == 0;
+    }
+}
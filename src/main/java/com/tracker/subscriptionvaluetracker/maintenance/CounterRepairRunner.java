@@ -0,0 +1,60 @@
+package com.tracker.subscriptionvaluetracker.maintenance;
+
+import com.tracker.subscriptionvaluetracker.shard.ShardRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 누적 카운터 정합성 검사/복구 명령
+ * - --check-counters : 불일치 항목만 로그로 출력
+ * - --repair-counters : 원본 기록 기준으로 재계산 후 결과 출력
+ * - 샤딩 시 샤드마다 따로 실행
+ * - 기동 시 카운터가 초기값인 채 기록만 있는 샤드는 자동으로 재계산 (카운터 컬럼 추가 후 첫 기동 백필)
+ */
+@Component
+public class CounterRepairRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CounterRepairRunner.class);
+
+    private final CounterConsistencyService counterConsistencyService;
+    private final ShardRouting shardRouting;
+
+    public CounterRepairRunner(CounterConsistencyService counterConsistencyService,
+                               ShardRouting shardRouting) {
+        this.counterConsistencyService = counterConsistencyService;
+        this.shardRouting = shardRouting;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("repair-counters")) {
+            shardRouting.forEachShard(shard -> report("복구 후", shard, counterConsistencyService.repair()));
+        } else if (args.containsOption("check-counters")) {
+            shardRouting.forEachShard(shard -> report("검사", shard, counterConsistencyService.check()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfUncounted() {
+        shardRouting.forEachShard(shard -> {
+            if (counterConsistencyService.needsBackfill()) {
+                report("백필 후", shard, counterConsistencyService.repair());
+            }
+        });
+    }
+
+    private void report(String phase, int shard, CounterCheckResult result) {
+        if (result.isConsistent()) {
+            log.info("누적 카운터 {} 결과 (샤드 {}): 불일치 없음", phase, shard);
+            return;
+        }
+        log.warn("누적 카운터 {} 결과 (샤드 {}): 구독 {}건 {}, 투자 {}건 {}", phase, shard,
+                result.getMismatchedSubscriptionIds().size(), result.getMismatchedSubscriptionIds(),
+                result.getMismatchedInvestmentIds().size(), result.getMismatchedInvestmentIds());
+    }
+}
@@ -0,0 +1,112 @@
+package com.tracker.subscriptionvaluetracker.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * MySQL 월 단위 RANGE 파티션 관리 (usage_log, investment_usage)
+ * - 파티션 이름은 pYYYYMM, 마지막은 pmax (VALUES LESS THAN MAXVALUE), DDL은 DEVELOPMENT.md 참고
+ * - 앞으로 future-partitions개월 파티션을 pmax에서 미리 분리하고, 보관이 끝나 비어 있는 지난 파티션을 제거
+ * - 파티션이 없는 DB(H2, 파티션 적용 전 MySQL)에서는 아무것도 하지 않음
+ */
+@Component
+public class TablePartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TablePartitionManager.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int futurePartitions;
+
+    public TablePartitionManager(DataSource dataSource,
+                                 @Value("${tracker.usage-archive.future-partitions:3}") int futurePartitions) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.futurePartitions = futurePartitions;
+    }
+
+    /**
+     * 이번 달부터 future-partitions개월 뒤까지의 파티션이 없으면 생성
+     * @return 생성한 파티션 수
+     */
+    public int addFuturePartitions(String table, YearMonth currentMonth) {
+        List<YearMonth> existing = findMonthPartitions(table);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        YearMonth last = existing.get(existing.size() - 1);
+        int added = 0;
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(currentMonth.plusMonths(futurePartitions));
+             month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION pmax INTO ("
+                    + "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+            added++;
+        }
+        if (added > 0) {
+            log.info("{} 파티션 {}개 추가 (~{})", table, added, currentMonth.plusMonths(futurePartitions));
+        }
+        return added;
+    }
+
+    /**
+     * before 이전 달의 파티션 중 비어 있는 것을 제거 (보관 작업이 행을 옮긴 뒤 인덱스/데이터 공간 반환)
+     * @return 제거한 파티션 수
+     */
+    public int dropEmptyPartitionsBefore(String table, YearMonth before) {
+        int dropped = 0;
+        for (YearMonth month : findMonthPartitions(table)) {
+            if (!month.isBefore(before)) {
+                break;
+            }
+            String partition = month.format(PARTITION_NAME);
+            boolean empty = jdbcTemplate.queryForList(
+                    "SELECT 1 FROM " + table + " PARTITION (" + partition + ") LIMIT 1", Integer.class).isEmpty();
+            if (empty) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.info("{} 지난 파티션 {}개 제거 ({} 이전)", table, dropped, before);
+        }
+        return dropped;
+    }
+
+    // 월 파티션(pYYYYMM)을 오름차순으로 (pmax 제외)
+    private List<YearMonth> findMonthPartitions(String table) {
+        if (!isMySql()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                        String.class, table)
+                .stream()
+                .filter(name -> name.matches("p\\d{6}"))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .sorted()
+                .toList();
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            try {
+                return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+            } catch (SQLException e) {
+                throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+            }
+        }));
+    }
+}
@@ -0,0 +1,250 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInWriteBehindService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드 운영 도구
+ * - 샤드별/전체 데이터 건수 집계
+ * - 사용자 단위 온라인 이동: 쓰기를 막고(moving) → 대상 샤드에 ID 그대로 복사 → 건수 검증 → 배치 확정 → 원본 삭제
+ * - 샤드 추가 전 기존 사용자 고정(pin)과 고정 사용자의 기본 샤드 재배치(rebalance)
+ */
+@Service
+public class ShardAdminService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardAdminService.class);
+
+    private static final String SUBSCRIPTION_IDS = "SELECT id FROM subscription WHERE user_uuid = ?";
+    private static final String INVESTMENT_IDS = "SELECT id FROM investment WHERE user_uuid = ?";
+
+    // 사용자 데이터 테이블 (복사 순서, 삭제는 역순)
+    private static final List<UserTable> USER_TABLES = List.of(
+            new UserTable("subscription", "user_uuid = ?"),
+            new UserTable("usage_log", "subscription_id IN (" + SUBSCRIPTION_IDS + ")"),
+            new UserTable("usage_monthly_rollup", "subscription_id IN (" + SUBSCRIPTION_IDS + ")"),
+            new UserTable("usage_log_archive", "subscription_id IN (" + SUBSCRIPTION_IDS + ")"),
+            new UserTable("investment", "user_uuid = ?"),
+            new UserTable("investment_usage", "investment_id IN (" + INVESTMENT_IDS + ")"),
+            new UserTable("sync_version", "user_uuid = ?"),
+            new UserTable("change_log", "user_uuid = ?"));
+
+    private final ShardRouting shardRouting;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final Duration settleTime;
+
+    public ShardAdminService(ShardRouting shardRouting,
+                             CheckInWriteBehindService checkInWriteBehindService,
+                             @Value("${tracker.sharding.move-settle-time:35s}") Duration settleTime) {
+        this.shardRouting = shardRouting;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * 샤드별 건수와 전체 합계
+     */
+    public ShardStatsSummary getStats() {
+        List<DataSource> shards = shardRouting.getShardDataSources();
+        List<ShardStats> perShard = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            perShard.add(new ShardStats(shard,
+                    count(jdbcTemplate, "SELECT COUNT(*) FROM (SELECT user_uuid FROM subscription "
+                            + "UNION SELECT user_uuid FROM investment) AS users"),
+                    count(jdbcTemplate, "SELECT COUNT(*) FROM subscription"),
+                    count(jdbcTemplate, "SELECT COUNT(*) FROM usage_log"),
+                    count(jdbcTemplate, "SELECT COUNT(*) FROM investment"),
+                    count(jdbcTemplate, "SELECT COUNT(*) FROM investment_usage")));
+        }
+        ShardStats total = new ShardStats(-1,
+                perShard.stream().mapToLong(ShardStats::users).sum(),
+                perShard.stream().mapToLong(ShardStats::subscriptions).sum(),
+                perShard.stream().mapToLong(ShardStats::usageLogs).sum(),
+                perShard.stream().mapToLong(ShardStats::investments).sum(),
+                perShard.stream().mapToLong(ShardStats::investmentUsages).sum());
+        long pinnedUsers = shardRouting.isEnabled() ? shardRouting.getDirectory().countOverrides() : 0;
+        return new ShardStatsSummary(perShard, total, pinnedUsers);
+    }
+
+    /**
+     * 사용자를 대상 샤드로 이동
+     * - 이동 중 쓰기는 커밋 직전에 거부되고, 출석 버퍼는 다음 주기에 재시도되어 새 샤드에 반영됨
+     * - settleTime: 다른 인스턴스의 배치 캐시가 바뀐 상태를 반영할 때까지 대기 (캐시 TTL보다 길게)
+     */
+    public ShardMoveResult moveUser(String userUuid, int targetShard) {
+        ShardDirectory directory = shardRouting.getDirectory();
+        if (targetShard < 0 || targetShard >= directory.getShardCount()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + targetShard);
+        }
+        ShardDirectory.Placement placement = directory.lookup(userUuid);
+        if (placement.moving()) {
+            throw new IllegalStateException("이미 이동 중인 사용자입니다.");
+        }
+        int sourceShard = placement.shard();
+        if (sourceShard == targetShard) {
+            return new ShardMoveResult(userUuid, sourceShard, targetShard, Map.of());
+        }
+
+        checkInWriteBehindService.flushUser(userUuid);
+        directory.markMoving(userUuid, sourceShard);
+        try {
+            settle();
+            DataSource source = shardRouting.getShardDataSources().get(sourceShard);
+            DataSource target = shardRouting.getShardDataSources().get(targetShard);
+            Map<String, Integer> copied = copy(userUuid, source, target);
+            verify(userUuid, target, copied);
+            directory.assign(userUuid, targetShard);
+        } catch (RuntimeException e) {
+            directory.assign(userUuid, sourceShard);
+            throw new IllegalStateException("사용자 샤드 이동에 실패했습니다.", e);
+        }
+
+        // 이전 배치를 캐시한 인스턴스는 원본을 읽으므로 캐시가 만료된 뒤 삭제
+        settle();
+        Map<String, Integer> deleted = delete(userUuid, shardRouting.getShardDataSources().get(sourceShard));
+        log.info("사용자 샤드 이동 완료: {} {} → {}, {}", userUuid, sourceShard, targetShard, deleted);
+        return new ShardMoveResult(userUuid, sourceShard, targetShard, deleted);
+    }
+
+    /**
+     * 샤드 추가 전 실행: 샤드 수가 newShardCount가 되면 기본 배치가 바뀌는 사용자를 현재 샤드에 고정
+     */
+    public int pinUsers(int newShardCount) {
+        ShardDirectory directory = shardRouting.getDirectory();
+        List<DataSource> shards = shardRouting.getShardDataSources();
+        int pinned = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (String userUuid : findUsers(new JdbcTemplate(shards.get(shard)))) {
+                if (ShardDirectory.hashShard(userUuid, newShardCount) != shard) {
+                    directory.pin(userUuid, shard);
+                    pinned++;
+                }
+            }
+        }
+        log.info("샤드 {}개 기준 사용자 고정 완료: {}명", newShardCount, pinned);
+        return pinned;
+    }
+
+    /**
+     * 기본 배치와 다른 샤드에 고정된 사용자를 기본 샤드로 이동 (실패한 사용자는 건너뛰고 고정 유지)
+     */
+    public List<ShardMoveResult> rebalance() {
+        ShardDirectory directory = shardRouting.getDirectory();
+        List<ShardMoveResult> results = new ArrayList<>();
+        for (String userUuid : directory.findPinnedUsers()) {
+            try {
+                results.add(moveUser(userUuid, directory.hashShard(userUuid)));
+            } catch (IllegalStateException e) {
+                log.warn("사용자 재배치 실패, 현재 샤드에 고정 유지: {}", userUuid, e);
+            }
+        }
+        return results;
+    }
+
+    private Map<String, Integer> copy(String userUuid, DataSource source, DataSource target) {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        Map<String, Integer> copied = new LinkedHashMap<>();
+        new TransactionTemplate(new DataSourceTransactionManager(target)).executeWithoutResult(status -> {
+            // 이전에 실패한 이동이 남긴 복사본 정리
+            deleteRows(userUuid, targetJdbc);
+            for (UserTable table : USER_TABLES) {
+                List<Map<String, Object>> rows = sourceJdbc.queryForList(table.select(), table.args(userUuid));
+                insertRows(targetJdbc, table.name(), rows);
+                copied.put(table.name(), rows.size());
+            }
+        });
+        return copied;
+    }
+
+    private void insertRows(JdbcTemplate jdbcTemplate, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        jdbcTemplate.batchUpdate(sql, rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList());
+    }
+
+    private void verify(String userUuid, DataSource target, Map<String, Integer> copied) {
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        for (UserTable table : USER_TABLES) {
+            long count = count(targetJdbc, table.count(), table.args(userUuid));
+            if (count != copied.get(table.name())) {
+                throw new IllegalStateException("복사 건수가 일치하지 않습니다: " + table.name());
+            }
+        }
+    }
+
+    private Map<String, Integer> delete(String userUuid, DataSource source) {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        return new TransactionTemplate(new DataSourceTransactionManager(source))
+                .execute(status -> deleteRows(userUuid, sourceJdbc));
+    }
+
+    private Map<String, Integer> deleteRows(String userUuid, JdbcTemplate jdbcTemplate) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        for (UserTable table : USER_TABLES.reversed()) {
+            deleted.put(table.name(), jdbcTemplate.update(table.delete(), table.args(userUuid)));
+        }
+        return deleted;
+    }
+
+    private List<String> findUsers(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForList("SELECT user_uuid FROM subscription UNION SELECT user_uuid FROM investment "
+                + "UNION SELECT user_uuid FROM sync_version", String.class);
+    }
+
+    private long count(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, args);
+        return count != null ? count : 0;
+    }
+
+    private void settle() {
+        if (settleTime.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(settleTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private record UserTable(String name, String condition) {
+
+        String select() {
+            return "SELECT * FROM " + name + " WHERE " + condition;
+        }
+
+        String count() {
+            return "SELECT COUNT(*) FROM " + name + " WHERE " + condition;
+        }
+
+        String delete() {
+            return "DELETE FROM " + name + " WHERE " + condition;
+        }
+
+        Object[] args(String userUuid) {
+            return new Object[]{userUuid};
+        }
+    }
+}
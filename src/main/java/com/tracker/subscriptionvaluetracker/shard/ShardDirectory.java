@@ -0,0 +1,155 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.tracker.subscriptionvaluetracker.common.LruTtlCache;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 사용자 → 샤드 배치
+ * - 기본은 userUuid 해시(CRC32) % 샤드 수
+ * - 이동/고정된 사용자만 기본 샤드(0번)의 user_shard 테이블에 예외로 기록
+ * - 조회 결과는 인스턴스별로 짧게 캐시 (다른 인스턴스의 변경은 cacheTtl 안에 반영되므로 이동 도구가 그만큼 기다림)
+ */
+public class ShardDirectory {
+
+    private final JdbcTemplate directory;
+    private final int shardCount;
+    private final Duration cacheTtl;
+    private final LruTtlCache<String, Placement> cache;
+
+    public ShardDirectory(DataSource defaultShard, int shardCount, Duration cacheTtl, int cacheSize) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다.");
+        }
+        this.directory = new JdbcTemplate(defaultShard);
+        this.shardCount = shardCount;
+        this.cacheTtl = cacheTtl;
+        this.cache = new LruTtlCache<>(cacheSize, cacheTtl);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public int shardOf(String userUuid) {
+        return placementOf(userUuid).shard();
+    }
+
+    public boolean isMoving(String userUuid) {
+        return placementOf(userUuid).moving();
+    }
+
+    public int hashShard(String userUuid) {
+        return hashShard(userUuid, shardCount);
+    }
+
+    /**
+     * 샤드 수가 shardCount일 때의 기본 배치 (샤드 추가 전 고정 대상 계산용)
+     */
+    public static int hashShard(String userUuid, int shardCount) {
+        CRC32 crc = new CRC32();
+        crc.update(userUuid.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    /**
+     * 캐시를 거치지 않고 현재 배치를 조회 (이동 도구용)
+     */
+    public Placement lookup(String userUuid) {
+        List<Placement> overrides = directory.query(
+                "SELECT shard, moving FROM user_shard WHERE user_uuid = ?",
+                (rs, rowNum) -> new Placement(rs.getInt("shard"), rs.getBoolean("moving")),
+                userUuid);
+        return overrides.isEmpty() ? new Placement(hashShard(userUuid), false) : overrides.get(0);
+    }
+
+    /**
+     * 이동 시작: 현재 샤드에 고정하고 쓰기를 막음
+     */
+    public void markMoving(String userUuid, int shard) {
+        save(userUuid, shard, true);
+    }
+
+    /**
+     * 배치 확정: 기본 배치와 같으면 예외 기록을 지우고, 다르면 고정
+     */
+    public void assign(String userUuid, int shard) {
+        if (shard == hashShard(userUuid)) {
+            directory.update("DELETE FROM user_shard WHERE user_uuid = ?", userUuid);
+            cache.invalidate(userUuid);
+        } else {
+            save(userUuid, shard, false);
+        }
+    }
+
+    /**
+     * 기본 배치와 관계없이 현재 샤드에 고정 (샤드 추가 전 기존 사용자 고정용)
+     */
+    public void pin(String userUuid, int shard) {
+        save(userUuid, shard, false);
+    }
+
+    /**
+     * 기본 배치와 다른 샤드에 고정된 사용자 (재배치 대상)
+     */
+    public List<String> findPinnedUsers() {
+        return directory.query("SELECT user_uuid, shard FROM user_shard WHERE moving = FALSE ORDER BY user_uuid",
+                        (rs, rowNum) -> new PinnedUser(rs.getString("user_uuid"), rs.getInt("shard")))
+                .stream()
+                .filter(pinned -> pinned.shard() != hashShard(pinned.userUuid()))
+                .map(PinnedUser::userUuid)
+                .toList();
+    }
+
+    public long countOverrides() {
+        Long count = directory.queryForObject("SELECT COUNT(*) FROM user_shard", Long.class);
+        return count != null ? count : 0;
+    }
+
+    public List<String> findMovingUsers() {
+        return directory.queryForList("SELECT user_uuid FROM user_shard WHERE moving = TRUE ORDER BY user_uuid", String.class);
+    }
+
+    /**
+     * 개발용 스키마 생성 (운영은 DEVELOPMENT.md의 DDL 사용)
+     */
+    public void createTableIfAbsent() {
+        directory.execute("CREATE TABLE IF NOT EXISTS user_shard (user_uuid VARCHAR(36) NOT NULL PRIMARY KEY, "
+                + "shard INT NOT NULL, moving BOOLEAN NOT NULL, updated_at TIMESTAMP NOT NULL)");
+    }
+
+    private Placement placementOf(String userUuid) {
+        return cache.getOrLoad(userUuid, this::lookup);
+    }
+
+    private void save(String userUuid, int shard, boolean moving) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("존재하지 않는 샤드입니다: " + shard);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = directory.update("UPDATE user_shard SET shard = ?, moving = ?, updated_at = ? WHERE user_uuid = ?",
+                shard, moving, now, userUuid);
+        if (updated == 0) {
+            directory.update("INSERT INTO user_shard (user_uuid, shard, moving, updated_at) VALUES (?, ?, ?, ?)",
+                    userUuid, shard, moving, now);
+        }
+        cache.invalidate(userUuid);
+    }
+
+    public record Placement(int shard, boolean moving) {
+    }
+
+    private record PinnedUser(String userUuid, int shard) {
+    }
+}
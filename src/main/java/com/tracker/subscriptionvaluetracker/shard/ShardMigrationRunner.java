@@ -0,0 +1,50 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 샤드 이동/재배치 명령
+ * - --move-user=<uuid> --to-shard=<n> : 사용자 한 명을 n번 샤드로 이동
+ * - --pin-shards=<n> : 샤드를 n개로 늘리기 전, 기본 배치가 바뀌는 사용자를 현재 샤드에 고정
+ * - --rebalance-shards : 샤드 추가 후, 고정된 사용자를 기본 샤드로 하나씩 이동
+ */
+@Component
+public class ShardMigrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardMigrationRunner.class);
+
+    private final ShardAdminService shardAdminService;
+
+    public ShardMigrationRunner(ShardAdminService shardAdminService) {
+        this.shardAdminService = shardAdminService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("move-user")) {
+            ShardMoveResult result = shardAdminService.moveUser(single(args, "move-user"),
+                    Integer.parseInt(single(args, "to-shard")));
+            log.info("사용자 샤드 이동 결과: {} {} → {}, {}", result.userUuid(), result.sourceShard(),
+                    result.targetShard(), result.movedRows());
+        } else if (args.containsOption("pin-shards")) {
+            shardAdminService.pinUsers(Integer.parseInt(single(args, "pin-shards")));
+        } else if (args.containsOption("rebalance-shards")) {
+            List<ShardMoveResult> results = shardAdminService.rebalance();
+            log.info("샤드 재배치 완료: {}명 이동", results.size());
+        }
+    }
+
+    private String single(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null || values.size() != 1) {
+            throw new IllegalArgumentException("--" + name + " 값이 하나 필요합니다.");
+        }
+        return values.get(0);
+    }
+}
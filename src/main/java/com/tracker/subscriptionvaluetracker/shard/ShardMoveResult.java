@@ -0,0 +1,9 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import java.util.Map;
+
+/**
+ * 사용자 샤드 이동 결과 (테이블별 이동 건수, 이미 대상 샤드에 있으면 비어 있음)
+ */
+public record ShardMoveResult(String userUuid, int sourceShard, int targetShard, Map<String, Integer> movedRows) {
+}
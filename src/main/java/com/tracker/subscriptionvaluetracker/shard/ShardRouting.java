@@ -0,0 +1,96 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 샤딩 사용 여부와 관계없이 쓸 수 있는 샤드 작업 진입점
+ * - 샤딩이 꺼져 있으면 단일 DB를 0번 샤드 하나로 취급
+ * - 이동 중인 사용자의 쓰기는 커밋 직전에 거부 (복사 중인 데이터가 원본에서 바뀌지 않도록)
+ *   (출석 버퍼처럼 트랜잭션 밖에서 먼저 바뀌는 쓰기와 이벤트 없는 배치 작업은 각자 확인)
+ */
+@Component
+public class ShardRouting {
+
+    private final DataSource dataSource;
+    private final ShardedDataSource sharded;
+
+    public ShardRouting(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.sharded = dataSource instanceof ShardedDataSource shardedDataSource ? shardedDataSource : null;
+    }
+
+    public boolean isEnabled() {
+        return sharded != null;
+    }
+
+    public int getShardCount() {
+        return sharded != null ? sharded.getShardCount() : 1;
+    }
+
+    public int shardOf(String userUuid) {
+        return sharded != null ? sharded.getDirectory().shardOf(userUuid) : 0;
+    }
+
+    /**
+     * 샤드마다 해당 샤드를 지정한 채로 실행 (전체 배치 작업용)
+     */
+    public void forEachShard(IntConsumer work) {
+        if (sharded == null) {
+            work.accept(0);
+            return;
+        }
+        for (int shard = 0; shard < sharded.getShardCount(); shard++) {
+            int current = shard;
+            ShardedDataSource.runOnShard(current, () -> work.accept(current));
+        }
+    }
+
+    /**
+     * 샤드별 실제 DataSource (라우팅 없이 직접 조회/복사할 때)
+     */
+    public List<DataSource> getShardDataSources() {
+        if (sharded == null) {
+            return List.of(dataSource);
+        }
+        return IntStream.range(0, sharded.getShardCount()).mapToObj(sharded::getShard).toList();
+    }
+
+    public ShardDirectory getDirectory() {
+        if (sharded == null) {
+            throw new IllegalStateException("샤딩이 활성화되어 있지 않습니다.");
+        }
+        return sharded.getDirectory();
+    }
+
+    /**
+     * 이동 중인 사용자면 예외 (트랜잭션 밖에서 상태를 먼저 바꾸는 쓰기는 바꾸기 전에 직접 호출)
+     */
+    public void checkNotMoving(String userUuid) {
+        if (sharded != null && sharded.getDirectory().isMoving(userUuid)) {
+            throw new IllegalStateException("데이터를 다른 저장소로 옮기는 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    /**
+     * 이동 중인 사용자 목록 (이벤트 없이 사용자 데이터를 고치는 배치 작업은 이 사용자들을 건너뜀)
+     */
+    public List<String> findMovingUsers() {
+        return sharded != null ? sharded.getDirectory().findMovingUsers() : List.of();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void rejectWhileMoving(UserDataChangedEvent event) {
+        checkNotMoving(event.getUserUuid());
+    }
+}
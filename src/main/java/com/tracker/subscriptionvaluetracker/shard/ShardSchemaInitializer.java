@@ -0,0 +1,86 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 개발용(ddl-auto create/create-drop) 샤드 스키마 준비
+ * - Hibernate는 0번 샤드에만 스키마를 만들므로 나머지 샤드에도 같은 스키마를 생성
+ * - 샤드마다 ID 시작값을 shard × 10^15로 띄워 샤드 간 ID가 겹치지 않게 함 (사용자 이동 시 ID 그대로 복사)
+ * - 0번 샤드에 배치 예외 테이블(user_shard) 생성
+ * - 운영(validate)은 DEVELOPMENT.md의 DDL로 미리 준비
+ */
+@Component
+public class ShardSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    static final long ID_RANGE_PER_SHARD = 1_000_000_000_000_000L;
+
+    private static final List<String> IDENTITY_TABLES = List.of("subscription", "investment", "usage_monthly_rollup",
+            "usage_log_archive");
+    private static final List<String> SEQUENCES = List.of("usage_log_seq", "investment_usage_seq", "change_log_seq");
+
+    private final ShardRouting shardRouting;
+    private final EntityManagerFactory entityManagerFactory;
+    private final String ddlAuto;
+
+    public ShardSchemaInitializer(ShardRouting shardRouting,
+                                  EntityManagerFactory entityManagerFactory,
+                                  @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        this.shardRouting = shardRouting;
+        this.entityManagerFactory = entityManagerFactory;
+        this.ddlAuto = ddlAuto;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!shardRouting.isEnabled() || !(ddlAuto.equals("create") || ddlAuto.equals("create-drop"))) {
+            return;
+        }
+        List<DataSource> shards = shardRouting.getShardDataSources();
+        for (int shard = 1; shard < shards.size(); shard++) {
+            ShardedDataSource.runOnShard(shard, () -> {
+                entityManagerFactory.getSchemaManager().drop(true);
+                entityManagerFactory.getSchemaManager().create(true);
+            });
+            assignIdRange(new JdbcTemplate(shards.get(shard)), shard * ID_RANGE_PER_SHARD);
+        }
+        shardRouting.getDirectory().createTableIfAbsent();
+        log.info("샤드 스키마 준비 완료: {}개 샤드", shards.size());
+    }
+
+    private void assignIdRange(JdbcTemplate jdbcTemplate, long base) {
+        boolean h2 = isH2(jdbcTemplate);
+        for (String table : IDENTITY_TABLES) {
+            jdbcTemplate.execute(h2
+                    ? "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (base + 1)
+                    : "ALTER TABLE " + table + " AUTO_INCREMENT = " + (base + 1));
+        }
+        // 시퀀스는 allocationSize(50)만큼 당겨 쓰므로 첫 값이 범위 시작 + 50
+        for (String sequence : SEQUENCES) {
+            jdbcTemplate.execute(h2
+                    ? "ALTER SEQUENCE " + sequence + " RESTART WITH " + (base + 50)
+                    : "UPDATE " + sequence + " SET next_val = " + (base + 50));
+        }
+    }
+
+    private boolean isH2(JdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    metaData -> metaData.getDatabaseProductName());
+            return product != null && product.toUpperCase().contains("H2");
+        } catch (Exception e) {
+            throw new IllegalStateException("샤드 DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+/**
+ * 샤드 하나의 데이터 건수 (shard = -1이면 전체 합계)
+ */
+public record ShardStats(int shard, long users, long subscriptions, long usageLogs,
+                         long investments, long investmentUsages) {
+}
@@ -0,0 +1,24 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤드별 데이터 건수와 전체 합계 (/actuator/shards)
+ */
+@Component
+@Endpoint(id = "shards")
+public class ShardStatsEndpoint {
+
+    private final ShardAdminService shardAdminService;
+
+    public ShardStatsEndpoint(ShardAdminService shardAdminService) {
+        this.shardAdminService = shardAdminService;
+    }
+
+    @ReadOperation
+    public ShardStatsSummary stats() {
+        return shardAdminService.getStats();
+    }
+}
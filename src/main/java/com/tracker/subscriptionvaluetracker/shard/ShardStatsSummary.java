@@ -0,0 +1,9 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import java.util.List;
+
+/**
+ * 샤드별 건수와 전체 합계, 기본 배치와 다르게 고정/이동 중인 사용자 수
+ */
+public record ShardStatsSummary(List<ShardStats> shards, ShardStats total, long pinnedUsers) {
+}
@@ -0,0 +1,95 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 샤드로 커넥션을 보내는 DataSource
+ * - 커넥션을 가져오는 시점(트랜잭션 시작)에 현재 스레드의 사용자(UserContext)로 샤드를 고름
+ * - 사용자가 없는 작업(기동, 전체 배치)은 0번 샤드, 샤드별 작업은 runOnShard로 샤드를 직접 지정
+ * - 닫으면 모든 샤드 풀을 함께 닫음
+ */
+public class ShardedDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Integer> EXPLICIT_SHARD = new ThreadLocal<>();
+
+    private final List<DataSource> shards;
+    private final ShardDirectory directory;
+
+    public ShardedDataSource(List<DataSource> shards, ShardDirectory directory) {
+        if (shards.size() != directory.getShardCount()) {
+            throw new IllegalArgumentException("샤드 수와 배치 정보의 샤드 수가 다릅니다.");
+        }
+        this.shards = List.copyOf(shards);
+        this.directory = directory;
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.shards.size(); i++) {
+            targets.put(i, this.shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(this.shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    public ShardDirectory getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 샤드를 직접 지정해 실행 (끝나면 이전 지정 복원, 사용자 기준 라우팅보다 우선)
+     */
+    public static <T> T callOnShard(int shard, Supplier<T> work) {
+        Integer previous = EXPLICIT_SHARD.get();
+        EXPLICIT_SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                EXPLICIT_SHARD.set(previous);
+            } else {
+                EXPLICIT_SHARD.remove();
+            }
+        }
+    }
+
+    public static void runOnShard(int shard, Runnable work) {
+        callOnShard(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer explicit = EXPLICIT_SHARD.get();
+        if (explicit != null) {
+            return explicit;
+        }
+        String userUuid = UserContext.currentUser();
+        return userUuid != null ? directory.shardOf(userUuid) : 0;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
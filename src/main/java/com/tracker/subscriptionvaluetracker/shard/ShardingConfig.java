@@ -0,0 +1,70 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 (tracker.sharding.enabled, 기본 꺼짐)
+ * - 자동 구성된 DataSource(spring.datasource.*)가 0번 샤드, tracker.sharding.urls 순서대로 1번부터
+ * - 샤드 풀의 계정/드라이버는 spring.datasource 설정을 그대로 사용
+ * - 읽기 복제본 라우팅과는 함께 쓸 수 없음 (샤드별 복제본은 아직 지원하지 않음)
+ */
+@Configuration
+public class ShardingConfig {
+
+    @Bean
+    static BeanPostProcessor shardingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource defaultShard)
+                        || !environment.getProperty("tracker.sharding.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                if (environment.getProperty("tracker.read-replicas.enabled", Boolean.class, false)) {
+                    throw new IllegalStateException("샤딩과 읽기 복제본 라우팅은 함께 사용할 수 없습니다.");
+                }
+                List<DataSource> shards = new ArrayList<>();
+                shards.add(defaultShard);
+                shards.addAll(createShards(environment));
+                ShardDirectory directory = new ShardDirectory(defaultShard, shards.size(),
+                        environment.getProperty("tracker.sharding.directory-cache-ttl", Duration.class, Duration.ofSeconds(30)),
+                        environment.getProperty("tracker.sharding.directory-cache-size", Integer.class, 10000));
+                return new ShardedDataSource(shards, directory);
+            }
+        };
+    }
+
+    private static List<DataSource> createShards(Environment environment) {
+        List<String> urls = Arrays.stream(environment.getProperty("tracker.sharding.urls", String[].class, new String[0]))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("shard-" + (i + 1));
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(environment.getProperty("spring.datasource.username"));
+            config.setPassword(environment.getProperty("spring.datasource.password"));
+            config.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+            config.setMaximumPoolSize(environment.getProperty("tracker.sharding.max-pool-size", Integer.class, 10));
+            if (urls.get(i).startsWith("jdbc:mysql:")) {
+                // 조건부 INSERT의 중복 판정이 영향받은 행 수에 의존 (0번 샤드 URL과 같은 설정)
+                config.addDataSourceProperty("useAffectedRows", "true");
+            }
+            shards.add(new HikariDataSource(config));
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,9 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 한 컬럼 (CSV 헤더 / NDJSON 키와 값 추출 함수)
+ */
+record ExportColumn<T>(String name, Function<T, Object> value) {
+}
@@ -0,0 +1,152 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLog;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 데이터 스트리밍 내보내기
+ * - 리포지토리 Stream을 한 행씩 읽어 바로 출력 (fetch size 단위로 DB에서 가져옴)
+ * - 일정 행마다 영속성 컨텍스트를 비우고 출력을 flush해 이력 크기와 무관하게 메모리 사용량 일정
+ */
+@Service
+public class ExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private static final List<ExportColumn<Subscription>> SUBSCRIPTION_COLUMNS = List.of(
+            new ExportColumn<>("id", Subscription::getId),
+            new ExportColumn<>("name", Subscription::getName),
+            new ExportColumn<>("emojiCode", Subscription::getEmojiCode),
+            new ExportColumn<>("periodType", Subscription::getPeriodType),
+            new ExportColumn<>("totalAmount", Subscription::getTotalAmount),
+            new ExportColumn<>("monthlyAmount", Subscription::getMonthlyAmount),
+            new ExportColumn<>("startDate", Subscription::getStartDate),
+            new ExportColumn<>("endDate", Subscription::getEndDate),
+            new ExportColumn<>("monthlyTargetUsage", Subscription::getMonthlyTargetUsage),
+            new ExportColumn<>("isActive", Subscription::getIsActive),
+            new ExportColumn<>("totalUsageCount", Subscription::getTotalUsageCount),
+            new ExportColumn<>("lastUsedAt", Subscription::getLastUsedAt),
+            new ExportColumn<>("createdAt", Subscription::getCreatedAt)
+    );
+
+    private static final List<ExportColumn<UsageLog>> USAGE_LOG_COLUMNS = List.of(
+            new ExportColumn<>("id", UsageLog::getId),
+            new ExportColumn<>("subscriptionId", UsageLog::getSubscriptionId),
+            new ExportColumn<>("usedAt", UsageLog::getUsedAt),
+            new ExportColumn<>("note", UsageLog::getNote),
+            new ExportColumn<>("createdAt", UsageLog::getCreatedAt)
+    );
+
+    private static final List<ExportColumn<Investment>> INVESTMENT_COLUMNS = List.of(
+            new ExportColumn<>("id", Investment::getId),
+            new ExportColumn<>("name", Investment::getName),
+            new ExportColumn<>("emojiCode", Investment::getEmojiCode),
+            new ExportColumn<>("category", Investment::getCategory),
+            new ExportColumn<>("purchasePrice", Investment::getPurchasePrice),
+            new ExportColumn<>("purchaseDate", Investment::getPurchaseDate),
+            new ExportColumn<>("comparisonBaseline", Investment::getComparisonBaseline),
+            new ExportColumn<>("note", Investment::getNote),
+            new ExportColumn<>("isActive", Investment::getIsActive),
+            new ExportColumn<>("usageCount", Investment::getUsageCount),
+            new ExportColumn<>("totalSavings", Investment::getTotalSavings),
+            new ExportColumn<>("createdAt", Investment::getCreatedAt)
+    );
+
+    private static final List<ExportColumn<InvestmentUsage>> INVESTMENT_USAGE_COLUMNS = List.of(
+            new ExportColumn<>("id", InvestmentUsage::getId),
+            new ExportColumn<>("investmentId", InvestmentUsage::getInvestmentId),
+            new ExportColumn<>("usedAt", InvestmentUsage::getUsedAt),
+            new ExportColumn<>("itemName", InvestmentUsage::getItemName),
+            new ExportColumn<>("originalPrice", InvestmentUsage::getOriginalPrice),
+            new ExportColumn<>("actualPrice", InvestmentUsage::getActualPrice),
+            new ExportColumn<>("source", InvestmentUsage::getSource),
+            new ExportColumn<>("note", InvestmentUsage::getNote),
+            new ExportColumn<>("createdAt", InvestmentUsage::getCreatedAt)
+    );
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final UsageLogRepository usageLogRepository;
+    private final InvestmentRepository investmentRepository;
+    private final InvestmentUsageRepository investmentUsageRepository;
+    private final EntityManager entityManager;
+
+    public ExportService(SubscriptionRepository subscriptionRepository,
+                         UsageLogRepository usageLogRepository,
+                         InvestmentRepository investmentRepository,
+                         InvestmentUsageRepository investmentUsageRepository,
+                         EntityManager entityManager) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.usageLogRepository = usageLogRepository;
+        this.investmentRepository = investmentRepository;
+        this.investmentUsageRepository = investmentUsageRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 사용자 데이터를 지정 형식으로 출력 스트림에 기록하고 기록한 행 수를 반환
+     * (Stream은 트랜잭션이 열려 있는 동안만 읽을 수 있어 이 메서드 안에서 모두 소비)
+     */
+    @Transactional(readOnly = true)
+    public long export(String userUuid, TransferDataset dataset, TransferFormat format, OutputStream outputStream)
+            throws IOException {
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        return switch (dataset) {
+            case SUBSCRIPTIONS -> writeAll(subscriptionRepository.streamByUserUuid(userUuid),
+                    SUBSCRIPTION_COLUMNS, format, out);
+            case USAGE_LOGS -> writeAll(usageLogRepository.streamByUserUuid(userUuid),
+                    USAGE_LOG_COLUMNS, format, out);
+            case INVESTMENTS -> writeAll(investmentRepository.streamByUserUuid(userUuid),
+                    INVESTMENT_COLUMNS, format, out);
+            case INVESTMENT_USAGES -> writeAll(investmentUsageRepository.streamByUserUuid(userUuid),
+                    INVESTMENT_USAGE_COLUMNS, format, out);
+        };
+    }
+
+    private <T> long writeAll(Stream<T> rows, List<ExportColumn<T>> columns, TransferFormat format,
+                              BufferedWriter out) throws IOException {
+        ExportWriter writer = new ExportWriter(out, format, columns.stream().map(ExportColumn::name).toList());
+        // 헤더를 먼저 내보내 결과를 다 읽기 전에 응답이 시작되도록 함
+        writer.writeHeader();
+        writer.flush();
+
+        long count = 0;
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                List<Object> values = new ArrayList<>(columns.size());
+                for (ExportColumn<T> column : columns) {
+                    values.add(column.value().apply(row));
+                }
+                writer.writeRow(values);
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    // 이미 출력한 엔티티를 영속성 컨텍스트에서 분리
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+}
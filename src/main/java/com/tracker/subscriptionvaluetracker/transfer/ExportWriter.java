@@ -0,0 +1,114 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 한 행씩 CSV 또는 NDJSON으로 기록 (행 단위로 바로 출력, 결과 전체를 메모리에 두지 않음)
+ */
+class ExportWriter {
+
+    // 엑셀에서 UTF-8 CSV의 한글이 깨지지 않도록 붙이는 BOM
+    static final char BOM = '\uFEFF';
+
+    private final Writer out;
+    private final TransferFormat format;
+    private final List<String> columnNames;
+
+    ExportWriter(Writer out, TransferFormat format, List<String> columnNames) {
+        this.out = out;
+        this.format = format;
+        this.columnNames = columnNames;
+    }
+
+    void writeHeader() throws IOException {
+        if (format != TransferFormat.CSV) {
+            return;
+        }
+        out.write(BOM);
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(csvValue(columnNames.get(i)));
+        }
+        out.write('\n');
+    }
+
+    void writeRow(List<Object> values) throws IOException {
+        if (format == TransferFormat.CSV) {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(csvValue(values.get(i)));
+            }
+        } else {
+            out.write('{');
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(jsonString(columnNames.get(i)));
+                out.write(':');
+                out.write(jsonValue(values.get(i)));
+            }
+            out.write('}');
+        }
+        out.write('\n');
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    static String jsonValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return jsonString(value.toString());
+    }
+
+    static String jsonString(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
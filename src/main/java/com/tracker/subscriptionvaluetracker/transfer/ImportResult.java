@@ -0,0 +1,75 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져오기 결과
+ * - lastCommittedRow: 저장이 끝난 마지막 행 번호 (중단 시 resumeAfterRow로 넘겨 이어서 가져오기)
+ * - errors: 행별 오류 (최대 MAX_REPORTED_ERRORS건, 전체 건수는 failed)
+ */
+public class ImportResult {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long imported;
+    private long skipped;
+    private long failed;
+    private long lastCommittedRow;
+    private boolean completed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    ImportResult(long resumeAfterRow) {
+        this.lastCommittedRow = resumeAfterRow;
+    }
+
+    void addImported(long count) {
+        imported += count;
+    }
+
+    void addSkipped(long count) {
+        skipped += count;
+    }
+
+    void reject(long rowNumber, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(rowNumber, message));
+        }
+    }
+
+    void commitThrough(long rowNumber) {
+        lastCommittedRow = Math.max(lastCommittedRow, rowNumber);
+    }
+
+    void complete() {
+        completed = true;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getLastCommittedRow() {
+        return lastCommittedRow;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public record RowError(long rowNumber, String message) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import java.util.Map;
+
+/**
+ * 가져오기 파일의 한 행 (rowNumber는 헤더를 제외한 1부터, 파싱 실패 시 error에 사유)
+ */
+record ImportRow(long rowNumber, Map<String, String> values, String error) {
+
+    static ImportRow of(long rowNumber, Map<String, String> values) {
+        return new ImportRow(rowNumber, values, null);
+    }
+
+    static ImportRow failed(long rowNumber, String error) {
+        return new ImportRow(rowNumber, Map.of(), error);
+    }
+
+    String get(String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
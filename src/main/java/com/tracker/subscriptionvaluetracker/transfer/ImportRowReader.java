@@ -0,0 +1,321 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 또는 NDJSON을 한 행씩 읽음 (파일 전체를 메모리에 올리지 않음)
+ * - CSV: 첫 행은 헤더, 큰따옴표 안의 쉼표/줄바꿈 허용 (RFC 4180), 앞의 UTF-8 BOM 무시
+ * - NDJSON: 한 줄에 문자열/숫자/불리언/null 값만 가진 평평한 JSON 객체 하나, 빈 줄은 건너뜀
+ */
+class ImportRowReader {
+
+    private static final int MAX_VALUE_LENGTH = 10_000;
+
+    private final Reader in;
+    private final TransferFormat format;
+    private List<String> header;
+    private long rowNumber;
+    private String recordError;
+    private int peeked = -2;
+
+    ImportRowReader(Reader in, TransferFormat format) {
+        this.in = in;
+        this.format = format;
+    }
+
+    /**
+     * 다음 행을 반환하고, 더 읽을 행이 없으면 null
+     */
+    ImportRow next() throws IOException {
+        if (format == TransferFormat.CSV) {
+            return nextCsv();
+        }
+        return nextNdjson();
+    }
+
+    private ImportRow nextCsv() throws IOException {
+        if (header == null) {
+            skipBom();
+            List<String> names = readCsvRecord();
+            if (names == null) {
+                return null;
+            }
+            if (recordError != null) {
+                throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다: " + recordError);
+            }
+            header = names.stream().map(String::trim).toList();
+        }
+
+        List<String> fields = readCsvRecord();
+        while (fields != null && recordError == null && fields.size() == 1 && fields.get(0).isEmpty()) {
+            fields = readCsvRecord(); // 빈 줄
+        }
+        if (fields == null) {
+            return null;
+        }
+        rowNumber++;
+        if (recordError != null) {
+            return ImportRow.failed(rowNumber, recordError);
+        }
+        if (fields.size() > header.size()) {
+            return ImportRow.failed(rowNumber, "컬럼 수가 헤더보다 많습니다.");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i));
+        }
+        return ImportRow.of(rowNumber, values);
+    }
+
+    // 레코드 하나를 읽어 필드 목록으로 반환, 입력 끝이면 null (형식 오류는 recordError에 기록)
+    private List<String> readCsvRecord() throws IOException {
+        recordError = null;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    recordError = "닫히지 않은 따옴표가 있습니다.";
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    append(field, (char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, (char) c);
+            }
+            c = read();
+        }
+    }
+
+    private ImportRow nextNdjson() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (recordError == null && line.isBlank());
+
+        rowNumber++;
+        if (recordError != null) {
+            return ImportRow.failed(rowNumber, recordError);
+        }
+        try {
+            return ImportRow.of(rowNumber, new FlatJsonParser(line).parseObject());
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(rowNumber, e.getMessage());
+        }
+    }
+
+    private String readLine() throws IOException {
+        recordError = null;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                append(line, (char) c);
+            }
+            c = read();
+        }
+        return line.toString();
+    }
+
+    private void skipBom() throws IOException {
+        if (peek() == ExportWriter.BOM) {
+            read();
+        }
+    }
+
+    // 너무 긴 값은 나머지를 버리고 행 오류로 처리 (다음 행은 정상적으로 이어서 읽음)
+    private void append(StringBuilder sb, char c) {
+        if (sb.length() >= MAX_VALUE_LENGTH) {
+            recordError = "값이 너무 깁니다. (최대 " + MAX_VALUE_LENGTH + "자)";
+            return;
+        }
+        sb.append(c);
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = in.read();
+        }
+        return peeked;
+    }
+
+    /**
+     * 값이 모두 스칼라인 JSON 객체 한 줄 파서 (값은 문자열로 보관)
+     */
+    private static final class FlatJsonParser {
+
+        private final String text;
+        private int pos;
+
+        FlatJsonParser(String text) {
+            this.text = text;
+        }
+
+        Map<String, String> parseObject() {
+            Map<String, String> values = new HashMap<>();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peekChar() == '}') {
+                pos++;
+                return finish(values);
+            }
+            while (true) {
+                skipWhitespace();
+                String key = parseString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                values.put(key, parseValue());
+                skipWhitespace();
+                char c = nextChar();
+                if (c == '}') {
+                    return finish(values);
+                }
+                if (c != ',') {
+                    throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다. (" + pos + "번째 문자)");
+                }
+            }
+        }
+
+        private Map<String, String> finish(Map<String, String> values) {
+            skipWhitespace();
+            if (pos < text.length()) {
+                throw new IllegalArgumentException("한 줄에는 JSON 객체 하나만 올 수 있습니다.");
+            }
+            return values;
+        }
+
+        private String parseValue() {
+            char c = peekChar();
+            if (c == '"') {
+                return parseString();
+            }
+            if (c == '{' || c == '[') {
+                throw new IllegalArgumentException("중첩된 객체나 배열은 지원하지 않습니다.");
+            }
+            int start = pos;
+            while (pos < text.length() && ",} \t".indexOf(text.charAt(pos)) < 0) {
+                pos++;
+            }
+            String literal = text.substring(start, pos);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+                return literal;
+            }
+            throw new IllegalArgumentException("JSON 값이 올바르지 않습니다: " + literal);
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                char c = nextChar();
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char escaped = nextChar();
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append(escaped);
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) {
+                            throw new IllegalArgumentException("JSON 문자열이 올바르지 않습니다.");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("JSON 문자열이 올바르지 않습니다.");
+                        }
+                        pos += 4;
+                    }
+                    default -> throw new IllegalArgumentException("JSON 문자열이 올바르지 않습니다.");
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            if (nextChar() != expected) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다. (" + pos + "번째 문자)");
+            }
+        }
+
+        private char nextChar() {
+            if (pos >= text.length()) {
+                throw new IllegalArgumentException("JSON이 중간에 끝났습니다.");
+            }
+            return text.charAt(pos++);
+        }
+
+        private char peekChar() {
+            if (pos >= text.length()) {
+                throw new IllegalArgumentException("JSON이 중간에 끝났습니다.");
+            }
+            return text.charAt(pos);
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentService;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.subscription.BulkCheckInEntry;
+import com.tracker.subscriptionvaluetracker.domain.subscription.BulkCheckInResult;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInWriteBehindService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 출석 기록 / 투자 사용 기록 스트리밍 가져오기
+ * - 요청 본문을 한 행씩 파싱하고, 소유권은 미리 읽어 둔 사용자 ID 집합으로 확인
+ * - CHUNK_SIZE 행마다 트랜잭션 하나로 저장 (청크 단위로만 메모리에 보관)
+ *   출석은 일괄 출석과 같은 조건부 INSERT라 동시 출석과 겹쳐도 청크가 실패하지 않고 건너뜀, 투자 사용 기록은 JDBC 배치
+ * - 청크 저장이 실패하면 중단하고 lastCommittedRow를 돌려줘 그 다음 행부터 다시 가져올 수 있음
+ */
+@Service
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    static final int CHUNK_SIZE = SubscriptionService.MAX_BULK_CHECK_IN;
+
+    private final SubscriptionService subscriptionService;
+    private final SubscriptionRepository subscriptionRepository;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final InvestmentService investmentService;
+    private final InvestmentRepository investmentRepository;
+
+    public ImportService(SubscriptionService subscriptionService,
+                         SubscriptionRepository subscriptionRepository,
+                         CheckInWriteBehindService checkInWriteBehindService,
+                         InvestmentService investmentService,
+                         InvestmentRepository investmentRepository) {
+        this.subscriptionService = subscriptionService;
+        this.subscriptionRepository = subscriptionRepository;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.investmentService = investmentService;
+        this.investmentRepository = investmentRepository;
+    }
+
+    /**
+     * @param resumeAfterRow 이 행 번호까지는 건너뜀 (이전 결과의 lastCommittedRow, 처음이면 0)
+     */
+    public ImportResult importData(String userUuid, TransferDataset dataset, TransferFormat format,
+                                   InputStream body, long resumeAfterRow) throws IOException {
+        ImportRowReader reader = new ImportRowReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format);
+        return switch (dataset) {
+            case USAGE_LOGS -> importUsageLogs(userUuid, reader, resumeAfterRow);
+            case INVESTMENT_USAGES -> importInvestmentUsages(userUuid, reader, resumeAfterRow);
+            default -> throw new IllegalArgumentException("가져오기를 지원하지 않는 데이터입니다: " + dataset.getPath());
+        };
+    }
+
+    private ImportResult importUsageLogs(String userUuid, ImportRowReader reader, long resumeAfterRow)
+            throws IOException {
+        // 버퍼에 남은 출석 토글과 같은 날짜가 겹치지 않도록 먼저 반영
+        checkInWriteBehindService.flushUser(userUuid);
+        Set<Long> ownedIds = new HashSet<>(subscriptionRepository.findIdsByUserUuid(userUuid));
+
+        return run(reader, resumeAfterRow, row -> toCheckInEntry(row, ownedIds), (rows, result) -> {
+            List<BulkCheckInResult> saved = subscriptionService.bulkCheckIn(userUuid,
+                    rows.stream().map(ParsedRow::value).toList());
+            for (int i = 0; i < saved.size(); i++) {
+                switch (saved.get(i).status()) {
+                    case CREATED -> result.addImported(1);
+                    case DUPLICATE -> result.addSkipped(1);
+                    case NOT_FOUND -> result.reject(rows.get(i).rowNumber(), "구독을 찾을 수 없습니다.");
+                    case INVALID -> result.reject(rows.get(i).rowNumber(), "구독 ID 또는 날짜가 없습니다.");
+                    case ARCHIVED -> result.reject(rows.get(i).rowNumber(),
+                            "보관된 기간의 출석은 가져올 수 없습니다: " + saved.get(i).date());
+                }
+            }
+        });
+    }
+
+    private ImportResult importInvestmentUsages(String userUuid, ImportRowReader reader, long resumeAfterRow)
+            throws IOException {
+        Set<Long> ownedIds = new HashSet<>(investmentRepository.findIdsByUserUuid(userUuid));
+
+        return run(reader, resumeAfterRow, row -> toInvestmentUsage(row, ownedIds), (rows, result) -> {
+            investmentService.addUsages(userUuid, rows.stream().map(ParsedRow::value).toList());
+            result.addImported(rows.size());
+        });
+    }
+
+    private <T> ImportResult run(ImportRowReader reader, long resumeAfterRow,
+                                 Function<ImportRow, T> parser, ChunkWriter<T> writer) throws IOException {
+        ImportResult result = new ImportResult(resumeAfterRow);
+        List<ParsedRow<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        long lastRowNumber = resumeAfterRow;
+
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            if (row.rowNumber() <= resumeAfterRow) {
+                continue;
+            }
+            lastRowNumber = row.rowNumber();
+            if (row.error() != null) {
+                result.reject(row.rowNumber(), row.error());
+                continue;
+            }
+            try {
+                chunk.add(new ParsedRow<>(row.rowNumber(), parser.apply(row)));
+            } catch (IllegalArgumentException e) {
+                result.reject(row.rowNumber(), e.getMessage());
+                continue;
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                if (!flush(chunk, writer, result)) {
+                    return result;
+                }
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty() && !flush(chunk, writer, result)) {
+            return result;
+        }
+        result.commitThrough(lastRowNumber);
+        result.complete();
+        return result;
+    }
+
+    // 청크 하나를 저장하고 성공 여부를 반환 (실패하면 청크 전체가 롤백됨)
+    private <T> boolean flush(List<ParsedRow<T>> chunk, ChunkWriter<T> writer, ImportResult result) {
+        long firstRow = chunk.get(0).rowNumber();
+        long lastRow = chunk.get(chunk.size() - 1).rowNumber();
+        try {
+            writer.write(chunk, result);
+        } catch (RuntimeException e) {
+            log.warn("가져오기 청크 저장 실패: {}~{}행", firstRow, lastRow, e);
+            result.reject(firstRow, firstRow + "~" + lastRow + "행 저장에 실패했습니다. "
+                    + result.getLastCommittedRow() + "행 다음부터 다시 시도해 주세요.");
+            return false;
+        }
+        result.commitThrough(lastRow);
+        return true;
+    }
+
+    private BulkCheckInEntry toCheckInEntry(ImportRow row, Set<Long> ownedIds) {
+        Long subscriptionId = requireId(row, "subscriptionId");
+        if (!ownedIds.contains(subscriptionId)) {
+            throw new IllegalArgumentException("구독을 찾을 수 없습니다: " + subscriptionId);
+        }
+        return new BulkCheckInEntry(subscriptionId, requireDate(row), optionalText(row, "note", 255));
+    }
+
+    private InvestmentUsage toInvestmentUsage(ImportRow row, Set<Long> ownedIds) {
+        Long investmentId = requireId(row, "investmentId");
+        if (!ownedIds.contains(investmentId)) {
+            throw new IllegalArgumentException("투자 항목을 찾을 수 없습니다: " + investmentId);
+        }
+        String itemName = optionalText(row, "itemName", 200);
+        if (itemName == null) {
+            throw new IllegalArgumentException("itemName은 필수입니다.");
+        }
+        InvestmentUsage usage = new InvestmentUsage(investmentId, requireDate(row), itemName,
+                requireAmount(row, "originalPrice"), requireAmount(row, "actualPrice"));
+        usage.setSource(optionalText(row, "source", 50));
+        usage.setNote(optionalText(row, "note", 255));
+        return usage;
+    }
+
+    private Long requireId(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + "은(는) 필수입니다.");
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private LocalDate requireDate(ImportRow row) {
+        String value = row.get("usedAt");
+        if (value == null) {
+            throw new IllegalArgumentException("usedAt은 필수입니다.");
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("usedAt 날짜 형식이 올바르지 않습니다. (yyyy-MM-dd): " + value);
+        }
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("미래 날짜는 가져올 수 없습니다: " + value);
+        }
+        return date;
+    }
+
+    private BigDecimal requireAmount(ImportRow row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + "은(는) 필수입니다.");
+        }
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+        }
+        // investment_usage 금액 컬럼은 precision 10, scale 0
+        if (amount.signum() < 0 || amount.stripTrailingZeros().scale() > 0 || amount.precision() - amount.scale() > 10) {
+            throw new IllegalArgumentException(column + "은(는) 0 이상의 정수 금액이어야 합니다: " + value);
+        }
+        return amount;
+    }
+
+    private String optionalText(ImportRow row, String column, int maxLength) {
+        String value = row.get(column);
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(column + "은(는) " + maxLength + "자 이하여야 합니다.");
+        }
+        return value;
+    }
+
+    private record ParsedRow<T>(long rowNumber, T value) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<ParsedRow<T>> rows, ImportResult result);
+    }
+}
@@ -0,0 +1,33 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+public enum TransferDataset {
+
+    SUBSCRIPTIONS("subscriptions"),
+    USAGE_LOGS("usage-logs"),
+    INVESTMENTS("investments"),
+    INVESTMENT_USAGES("investment-usages");
+
+    private final String path;
+
+    TransferDataset(String path) {
+        this.path = path;
+    }
+
+    // 구독/투자 항목 자체는 화면에서 등록하고, 이력(출석/사용 기록)만 파일로 가져옴
+    public boolean isImportable() {
+        return this == USAGE_LOGS || this == INVESTMENT_USAGES;
+    }
+
+    public static TransferDataset fromPath(String path) {
+        for (TransferDataset dataset : values()) {
+            if (dataset.path.equals(path)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 데이터입니다: " + path);
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -1,32 +1,41 @@
 package com.tracker.subscriptionvaluetracker.web;
 
+import com.tracker.subscriptionvaluetracker.common.ParallelReads;
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
 import com.tracker.subscriptionvaluetracker.domain.subscription.CalendarDayDto;
-import com.tracker.subscriptionvaluetracker.domain.subscription.CalendarService;
-import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionProgressDto;
-import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
-import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionViewDto;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CalendarGridService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInResult;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInWriteBehindService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.DashboardSnapshot;
+import com.tracker.subscriptionvaluetracker.domain.subscription.DashboardSnapshotService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
 @Controller
 public class CalendarController {
 
-    private final CalendarService calendarService;
-    private final SubscriptionService subscriptionService;
-
-    public CalendarController(CalendarService calendarService, SubscriptionService subscriptionService) {
-        this.calendarService = calendarService;
-        this.subscriptionService = subscriptionService;
+    private final CalendarGridService calendarGridService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final ParallelReads parallelReads;
+
+    public CalendarController(CalendarGridService calendarGridService,
+                              DashboardSnapshotService dashboardSnapshotService,
+                              CheckInWriteBehindService checkInWriteBehindService,
+                              ParallelReads parallelReads) {
+        this.calendarGridService = calendarGridService;
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.parallelReads = parallelReads;
     }
 
     @GetMapping("/calendar")
@@ -55,42 +64,32 @@ public class CalendarController {
 
         YearMonth targetYearMonth = YearMonth.of(targetYear, targetMonth);
 
-        // 캘린더 데이터 조회
-        List<CalendarDayDto> calendarDays = calendarService.getCalendarDays(userUuid, targetYear, targetMonth);
-
-        // 구독 목록 (통계 포함)
-        List<SubscriptionViewDto> subscriptions = subscriptionService.getSubscriptionsWithStats(userUuid);
-
-        // 요약 통계 계산
-        BigDecimal totalMonthlyFee = subscriptions.stream()
-                .map(SubscriptionViewDto::getMonthlyAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        int totalUsageCount = subscriptions.stream()
-                .mapToInt(SubscriptionViewDto::getUsageCount)
-                .sum();
-
-        BigDecimal avgDailyCost = BigDecimal.ZERO;
-        if (totalUsageCount > 0) {
-            avgDailyCost = totalMonthlyFee.divide(BigDecimal.valueOf(totalUsageCount), 0, RoundingMode.HALF_UP);
+        // 캘린더 데이터(사용자·연월 단위 캐시)와 구독 목록·진행률·요약 통계(사용자별 스냅샷)를 동시에 조회
+        int gridYear = targetYear;
+        int gridMonth = targetMonth;
+        List<CalendarDayDto> calendarDays;
+        DashboardSnapshot snapshot;
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Task<List<CalendarDayDto>> daysTask =
+                    scope.fork(() -> calendarGridService.getCalendarDays(userUuid, gridYear, gridMonth));
+            ParallelReads.Task<DashboardSnapshot> snapshotTask =
+                    scope.fork(() -> dashboardSnapshotService.getSnapshot(userUuid));
+            scope.join();
+            calendarDays = daysTask.get();
+            snapshot = snapshotTask.get();
         }
 
-        long activeSubscriptionCount = subscriptions.size();
-
-        // 구독별 진행률 계산
-        List<SubscriptionProgressDto> progressList = calendarService.getSubscriptionProgress(userUuid);
-
         // 이전/다음 월 계산
         YearMonth prevMonth = targetYearMonth.minusMonths(1);
         YearMonth nextMonth = targetYearMonth.plusMonths(1);
 
         model.addAttribute("calendarDays", calendarDays);
-        model.addAttribute("subscriptions", subscriptions);
-        model.addAttribute("progressList", progressList);
-        model.addAttribute("totalMonthlyFee", totalMonthlyFee);
-        model.addAttribute("totalUsageCount", totalUsageCount);
-        model.addAttribute("avgDailyCost", avgDailyCost);
-        model.addAttribute("activeSubscriptionCount", activeSubscriptionCount);
+        model.addAttribute("subscriptions", snapshot.getSubscriptions());
+        model.addAttribute("progressList", snapshot.getProgressList());
+        model.addAttribute("totalMonthlyFee", snapshot.getTotalMonthlyFee());
+        model.addAttribute("totalUsageCount", snapshot.getTotalUsageCount());
+        model.addAttribute("avgDailyCost", snapshot.getAvgDailyCost());
+        model.addAttribute("activeSubscriptionCount", snapshot.getActiveSubscriptionCount());
         model.addAttribute("year", targetYear);
         model.addAttribute("month", targetMonth);
         model.addAttribute("yearMonth", targetYearMonth);
@@ -114,15 +113,25 @@ public class CalendarController {
 
         String userUuid = UserIdentifier.getUserUuid(request, response);
 
-        List<CalendarDayDto> calendarDays = calendarService.getCalendarDays(userUuid, year, month);
-        List<SubscriptionViewDto> subscriptions = calendarService.getSubscriptionsForLegend(userUuid);
+        // 범례용 구독 목록은 스냅샷에서 조회 (이전/다음 이동 시 DB 조회 없음), 캐시 실패 시 그리드와 동시에 계산
+        List<CalendarDayDto> calendarDays;
+        DashboardSnapshot snapshot;
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Task<List<CalendarDayDto>> daysTask =
+                    scope.fork(() -> calendarGridService.getCalendarDays(userUuid, year, month));
+            ParallelReads.Task<DashboardSnapshot> snapshotTask =
+                    scope.fork(() -> dashboardSnapshotService.getSnapshot(userUuid));
+            scope.join();
+            calendarDays = daysTask.get();
+            snapshot = snapshotTask.get();
+        }
 
         YearMonth targetYearMonth = YearMonth.of(year, month);
         YearMonth prevMonth = targetYearMonth.minusMonths(1);
         YearMonth nextMonth = targetYearMonth.plusMonths(1);
 
         model.addAttribute("calendarDays", calendarDays);
-        model.addAttribute("subscriptions", subscriptions);
+        model.addAttribute("subscriptions", snapshot.getSubscriptions());
         model.addAttribute("year", year);
         model.addAttribute("month", month);
         model.addAttribute("yearMonth", targetYearMonth);
@@ -134,4 +143,42 @@ public class CalendarController {
 
         return "fragments/calendar-grid :: calendarGrid";
     }
+
+    /**
+     * 캘린더 날짜 셀 출석 토글 (HTMX)
+     * - 해당 셀의 출석 칩, 구독 카드, 요약 통계만 OOB로 교체
+     * - 같은 구독의 다른 날짜 칩 금액은 HX-Trigger 이벤트 값으로 클라이언트에서 갱신
+     * - 토글 전 스냅샷(대개 캐시 적중)과 토글 결과만 사용하므로 쓰기 외 추가 조회 없음
+     */
+    @PostMapping("/calendar/check-in")
+    public String checkIn(
+            @RequestParam Long subscriptionId,
+            @RequestParam String date,
+            Model model,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        LocalDate checkInDate = LocalDate.parse(date);
+
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot(userUuid);
+        CheckInResult result = checkInWriteBehindService.toggleCheckInWithState(subscriptionId, userUuid, checkInDate);
+        DashboardSnapshot updated = snapshot.withSubscription(result.subscription());
+        response.setHeader("HX-Trigger", result.toTriggerHeader());
+
+        model.addAttribute("result", result);
+        model.addAttribute("usage", new CalendarDayDto.UsageEntry(
+                subscriptionId,
+                result.subscription().getName(),
+                result.subscription().getEmoji(),
+                result.dateMonthDailyCost(),
+                result.dateMonthCostLevel()));
+        model.addAttribute("cardVisible", snapshot.containsSubscription(subscriptionId));
+        model.addAttribute("totalMonthlyFee", updated.getTotalMonthlyFee());
+        model.addAttribute("totalUsageCount", updated.getTotalUsageCount());
+        model.addAttribute("avgDailyCost", updated.getAvgDailyCost());
+        model.addAttribute("activeSubscriptionCount", updated.getActiveSubscriptionCount());
+
+        return "fragments/calendar-check-in :: response";
+    }
 }
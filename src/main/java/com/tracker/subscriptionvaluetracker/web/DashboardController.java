@@ -1,55 +1,62 @@
 package com.tracker.subscriptionvaluetracker.web;
 
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
-import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.DashboardSnapshot;
+import com.tracker.subscriptionvaluetracker.domain.subscription.DashboardSnapshotService;
 import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionViewDto;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.List;
+import org.springframework.web.bind.annotation.PathVariable;
 
 @Controller
 public class DashboardController {
 
-    private final SubscriptionService subscriptionService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
-    public DashboardController(SubscriptionService subscriptionService) {
-        this.subscriptionService = subscriptionService;
+    public DashboardController(DashboardSnapshotService dashboardSnapshotService) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
     }
 
     @GetMapping("/")
     public String dashboard(Model model, HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
 
-        List<SubscriptionViewDto> subscriptions = subscriptionService.getSubscriptionsWithStats(userUuid);
-
-        // 요약 통계 계산
-        BigDecimal totalMonthlyFee = subscriptions.stream()
-                .map(SubscriptionViewDto::getMonthlyAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 사용자별 스냅샷 (구독 목록 + 요약 통계), 쓰기가 없으면 캐시에서 재사용
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot(userUuid);
 
-        int totalUsageCount = subscriptions.stream()
-                .mapToInt(SubscriptionViewDto::getUsageCount)
-                .sum();
+        model.addAttribute("subscriptions", snapshot.getSubscriptions());
+        addSummary(model, snapshot);
 
-        BigDecimal avgDailyCost = BigDecimal.ZERO;
-        if (totalUsageCount > 0) {
-            avgDailyCost = totalMonthlyFee.divide(BigDecimal.valueOf(totalUsageCount), 0, RoundingMode.HALF_UP);
-        }
-
-        long activeSubscriptionCount = subscriptions.size();
+        return "index";
+    }
 
-        model.addAttribute("subscriptions", subscriptions);
-        model.addAttribute("totalMonthlyFee", totalMonthlyFee);
-        model.addAttribute("totalUsageCount", totalUsageCount);
-        model.addAttribute("avgDailyCost", avgDailyCost);
-        model.addAttribute("activeSubscriptionCount", activeSubscriptionCount);
+    /**
+     * 구독 카드 하나와 요약 통계(OOB) (다른 탭/기기의 출석 알림을 받은 대시보드가 해당 카드만 갱신)
+     */
+    @GetMapping("/dashboard/subscriptions/{id}")
+    public String subscriptionCard(@PathVariable Long id,
+                                   Model model,
+                                   HttpServletRequest request,
+                                   HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        DashboardSnapshot snapshot = dashboardSnapshotService.getSnapshot(userUuid);
+        SubscriptionViewDto sub = snapshot.getSubscriptions().stream()
+                .filter(subscription -> subscription.getId().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("구독을 찾을 수 없습니다."));
+
+        model.addAttribute("sub", sub);
+        addSummary(model, snapshot);
+        return "fragments/check-in-response";
+    }
 
-        return "index";
+    private void addSummary(Model model, DashboardSnapshot snapshot) {
+        model.addAttribute("totalMonthlyFee", snapshot.getTotalMonthlyFee());
+        model.addAttribute("totalUsageCount", snapshot.getTotalUsageCount());
+        model.addAttribute("avgDailyCost", snapshot.getAvgDailyCost());
+        model.addAttribute("activeSubscriptionCount", snapshot.getActiveSubscriptionCount());
     }
 }
@@ -0,0 +1,35 @@
+package com.tracker.subscriptionvaluetracker.web;
+
+import com.tracker.subscriptionvaluetracker.common.LiveUpdateService;
+import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    public LiveUpdateController(LiveUpdateService liveUpdateService) {
+        this.liveUpdateService = liveUpdateService;
+    }
+
+    /**
+     * 사용자 데이터 변경 알림 스트림 (check-in, subscription, investment 이벤트)
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(HttpServletRequest request, HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        try {
+            return ResponseEntity.ok(liveUpdateService.subscribe(userUuid));
+        } catch (IllegalStateException e) {
+            // 연결 한도 초과: 클라이언트(EventSource)는 재연결 간격 후 다시 시도
+            return ResponseEntity.status(503).build();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.tracker.subscriptionvaluetracker.web;
 
+import com.tracker.subscriptionvaluetracker.common.ConditionalGet;
+import com.tracker.subscriptionvaluetracker.common.ParallelReads;
+import com.tracker.subscriptionvaluetracker.common.UserDataVersionService;
 import com.tracker.subscriptionvaluetracker.common.UserIdentifier;
+import com.tracker.subscriptionvaluetracker.domain.subscription.CheckInWriteBehindService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
@@ -9,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Controller
@@ -16,25 +21,65 @@ import java.util.Map;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final UserDataVersionService userDataVersionService;
+    private final CheckInWriteBehindService checkInWriteBehindService;
+    private final ParallelReads parallelReads;
 
-    public StatisticsController(StatisticsService statisticsService) {
+    public StatisticsController(StatisticsService statisticsService,
+                                UserDataVersionService userDataVersionService,
+                                CheckInWriteBehindService checkInWriteBehindService,
+                                ParallelReads parallelReads) {
         this.statisticsService = statisticsService;
+        this.userDataVersionService = userDataVersionService;
+        this.checkInWriteBehindService = checkInWriteBehindService;
+        this.parallelReads = parallelReads;
     }
 
     @GetMapping
     public String statsPage(Model model, HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        checkInWriteBehindService.flushUser(userUuid);
 
-        Map<String, Object> summary = statisticsService.getSummaryStats(userUuid);
+        // 구독/투자 요약은 서로 독립적인 조회이므로 동시에 실행
+        Map<String, Object> summary = new HashMap<>();
+        try (ParallelReads.Scope scope = parallelReads.open()) {
+            ParallelReads.Task<Map<String, Object>> subscriptionTask =
+                    scope.fork(() -> statisticsService.getSubscriptionSummaryStats(userUuid));
+            ParallelReads.Task<Map<String, Object>> investmentTask =
+                    scope.fork(() -> statisticsService.getInvestmentSummaryStats(userUuid));
+            scope.join();
+            summary.putAll(subscriptionTask.get());
+            summary.putAll(investmentTask.get());
+        }
         model.addAttribute("summary", summary);
 
         return "stats";
     }
 
+    /**
+     * 통계 페이지의 요약과 모든 차트를 한 번에 응답 (차트별 요청마다 사용자 확인/트랜잭션/구독 조회를 반복하지 않음)
+     */
+    @GetMapping("/api/bundle")
+    @ResponseBody
+    public StatsBundle getBundle(HttpServletRequest request, HttpServletResponse response) {
+        String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (ConditionalGet.isNotModified(request, response,
+                userDataVersionService.getETag(userUuid, "stats-bundle"))) {
+            return null;
+        }
+        checkInWriteBehindService.flushUser(userUuid);
+        return statisticsService.getBundle(userUuid);
+    }
+
     @GetMapping("/api/monthly-usage")
     @ResponseBody
     public Map<String, Object> getMonthlyUsage(HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (ConditionalGet.isNotModified(request, response,
+                userDataVersionService.getETag(userUuid, "stats-monthly-usage"))) {
+            return null;
+        }
+        checkInWriteBehindService.flushUser(userUuid);
         return statisticsService.getMonthlyUsageStats(userUuid);
     }
 
@@ -42,6 +87,11 @@ public class StatisticsController {
     @ResponseBody
     public Map<String, Object> getMonthlyUsageBySubscription(HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (ConditionalGet.isNotModified(request, response,
+                userDataVersionService.getETag(userUuid, "stats-monthly-usage-by-subscription"))) {
+            return null;
+        }
+        checkInWriteBehindService.flushUser(userUuid);
         return statisticsService.getMonthlyUsageBySubscription(userUuid);
     }
 
@@ -49,6 +99,11 @@ public class StatisticsController {
     @ResponseBody
     public Map<String, Object> getCostComparison(HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (ConditionalGet.isNotModified(request, response,
+                userDataVersionService.getETag(userUuid, "stats-cost-comparison"))) {
+            return null;
+        }
+        checkInWriteBehindService.flushUser(userUuid);
         return statisticsService.getSubscriptionCostComparison(userUuid);
     }
 
@@ -56,6 +111,11 @@ public class StatisticsController {
     @ResponseBody
     public Map<String, Object> getInvestmentSavings(HttpServletRequest request, HttpServletResponse response) {
         String userUuid = UserIdentifier.getUserUuid(request, response);
+        if (ConditionalGet.isNotModified(request, response,
+                userDataVersionService.getETag(userUuid, "stats-investment-savings"))) {
+            return null;
+        }
+        checkInWriteBehindService.flushUser(userUuid);
         return statisticsService.getInvestmentSavingsStats(userUuid);
     }
 }
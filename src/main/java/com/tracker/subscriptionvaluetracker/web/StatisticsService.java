@@ -1,10 +1,11 @@
 package com.tracker.subscriptionvaluetracker.web;
 
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentDailySavings;
 import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
 import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
 import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
 import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
-import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageRollupService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,16 +19,16 @@ import java.util.*;
 public class StatisticsService {
 
     private final SubscriptionRepository subscriptionRepository;
-    private final UsageLogRepository usageLogRepository;
+    private final UsageRollupService usageRollupService;
     private final InvestmentRepository investmentRepository;
     private final InvestmentUsageRepository investmentUsageRepository;
 
     public StatisticsService(SubscriptionRepository subscriptionRepository,
-                             UsageLogRepository usageLogRepository,
+                             UsageRollupService usageRollupService,
                              InvestmentRepository investmentRepository,
                              InvestmentUsageRepository investmentUsageRepository) {
         this.subscriptionRepository = subscriptionRepository;
-        this.usageLogRepository = usageLogRepository;
+        this.usageRollupService = usageRollupService;
         this.investmentRepository = investmentRepository;
         this.investmentUsageRepository = investmentUsageRepository;
     }
@@ -36,29 +37,25 @@ public class StatisticsService {
      * 최근 6개월 월별 사용 횟수 (전체 합계)
      */
     public Map<String, Object> getMonthlyUsageStats(String userUuid) {
-        List<String> labels = new ArrayList<>();
-        List<Long> data = new ArrayList<>();
+        List<YearMonth> months = recentMonths();
 
-        YearMonth currentMonth = YearMonth.now();
+        List<Long> subscriptionIds = subscriptionRepository
+                .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid)
+                .stream()
+                .map(Subscription::getId)
+                .toList();
 
-        // 최근 6개월
-        for (int i = 5; i >= 0; i--) {
-            YearMonth month = currentMonth.minusMonths(i);
-            LocalDate startOfMonth = month.atDay(1);
-            LocalDate endOfMonth = month.atEndOfMonth();
+        Map<Long, Map<YearMonth, Long>> usageCounts = loadMonthlyUsageCounts(subscriptionIds, months);
 
+        List<String> labels = new ArrayList<>();
+        List<Long> data = new ArrayList<>();
+        for (YearMonth month : months) {
             labels.add(month.getMonthValue() + "월");
 
             // 해당 월의 총 사용 횟수
-            List<Long> subscriptionIds = subscriptionRepository
-                    .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid)
-                    .stream()
-                    .map(Subscription::getId)
-                    .toList();
-
             long totalUsage = 0;
-            for (Long subId : subscriptionIds) {
-                totalUsage += usageLogRepository.countBySubscriptionIdAndUsedAtBetween(subId, startOfMonth, endOfMonth);
+            for (Map<YearMonth, Long> countsByMonth : usageCounts.values()) {
+                totalUsage += countsByMonth.getOrDefault(month, 0L);
             }
             data.add(totalUsage);
         }
@@ -73,14 +70,11 @@ public class StatisticsService {
      * 최근 6개월 구독별 월별 사용 횟수
      */
     public Map<String, Object> getMonthlyUsageBySubscription(String userUuid) {
-        List<String> labels = new ArrayList<>();
-        List<Map<String, Object>> datasets = new ArrayList<>();
-
-        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> months = recentMonths();
 
         // 월 라벨 생성 (최근 6개월)
-        for (int i = 5; i >= 0; i--) {
-            YearMonth month = currentMonth.minusMonths(i);
+        List<String> labels = new ArrayList<>();
+        for (YearMonth month : months) {
             labels.add(month.getMonthValue() + "월");
         }
 
@@ -88,18 +82,16 @@ public class StatisticsService {
         List<Subscription> subscriptions = subscriptionRepository
                 .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid);
 
+        Map<Long, Map<YearMonth, Long>> usageCounts = loadMonthlyUsageCounts(
+                subscriptions.stream().map(Subscription::getId).toList(), months);
+
         // 각 구독별 데이터셋 생성
+        List<Map<String, Object>> datasets = new ArrayList<>();
         for (Subscription sub : subscriptions) {
+            Map<YearMonth, Long> countsByMonth = usageCounts.getOrDefault(sub.getId(), Collections.emptyMap());
             List<Long> monthlyData = new ArrayList<>();
-
-            for (int i = 5; i >= 0; i--) {
-                YearMonth month = currentMonth.minusMonths(i);
-                LocalDate startOfMonth = month.atDay(1);
-                LocalDate endOfMonth = month.atEndOfMonth();
-
-                long count = usageLogRepository.countBySubscriptionIdAndUsedAtBetween(
-                        sub.getId(), startOfMonth, endOfMonth);
-                monthlyData.add(count);
+            for (YearMonth month : months) {
+                monthlyData.add(countsByMonth.getOrDefault(month, 0L));
             }
 
             Map<String, Object> dataset = new HashMap<>();
@@ -114,6 +106,25 @@ public class StatisticsService {
         return result;
     }
 
+    /**
+     * 최근 6개월 (오래된 달부터)
+     */
+    private List<YearMonth> recentMonths() {
+        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 5; i >= 0; i--) {
+            months.add(currentMonth.minusMonths(i));
+        }
+        return months;
+    }
+
+    /**
+     * 구독 ID -> (연월 -> 사용 횟수) 피벗. 월간 롤업에서 조회하므로 출석 이력 길이와 무관
+     */
+    private Map<Long, Map<YearMonth, Long>> loadMonthlyUsageCounts(List<Long> subscriptionIds, List<YearMonth> months) {
+        return usageRollupService.getMonthlyCounts(subscriptionIds, months.get(0), months.get(months.size() - 1));
+    }
+
     /**
      * 구독별 월 비용 비교 (현재 구독중인 것만)
      */
@@ -140,10 +151,7 @@ public class StatisticsService {
      * 최근 6개월 투자 절약액 추이
      */
     public Map<String, Object> getInvestmentSavingsStats(String userUuid) {
-        List<String> labels = new ArrayList<>();
-        List<BigDecimal> data = new ArrayList<>();
-
-        YearMonth currentMonth = YearMonth.now();
+        List<YearMonth> months = recentMonths();
 
         List<Long> investmentIds = investmentRepository
                 .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid)
@@ -151,39 +159,103 @@ public class StatisticsService {
                 .map(inv -> inv.getId())
                 .toList();
 
-        // 최근 6개월
-        for (int i = 5; i >= 0; i--) {
-            YearMonth month = currentMonth.minusMonths(i);
-            LocalDate startOfMonth = month.atDay(1);
-            LocalDate endOfMonth = month.atEndOfMonth();
+        Map<String, Object> result = new HashMap<>();
+        result.put("labels", months.stream().map(month -> month.getMonthValue() + "월").toList());
+        result.put("data", sumMonthlySavings(investmentIds, months));
+        return result;
+    }
 
-            labels.add(month.getMonthValue() + "월");
+    /**
+     * 통계 페이지 묶음: 구독 목록, 월간 롤업, 투자 목록, 절약액 집계를 한 번씩만 읽고 요약과 모든 차트를 계산
+     */
+    public StatsBundle getBundle(String userUuid) {
+        LocalDate today = LocalDate.now();
+        List<YearMonth> months = recentMonths();
+        List<String> labels = months.stream()
+                .map(month -> month.getMonthValue() + "월")
+                .toList();
 
-            BigDecimal totalSavings = BigDecimal.ZERO;
-            for (Long invId : investmentIds) {
-                BigDecimal savings = investmentUsageRepository.calculateMonthlySavings(invId, startOfMonth, endOfMonth);
-                if (savings != null) {
-                    totalSavings = totalSavings.add(savings);
+        // 활성 구독 한 번 조회 (현재 구독 = 종료일이 없거나 아직 지나지 않은 활성 구독)
+        List<Subscription> subscriptions = subscriptionRepository
+                .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid);
+        List<Subscription> currentSubscriptions = subscriptions.stream()
+                .filter(sub -> sub.getEndDate() == null || !sub.getEndDate().isBefore(today))
+                .toList();
+        Map<Long, Map<YearMonth, Long>> usageCounts = loadMonthlyUsageCounts(
+                subscriptions.stream().map(Subscription::getId).toList(), months);
+
+        // 월별 전체 합계와 구독별 데이터셋을 같은 피벗에서 계산
+        List<Long> monthlyTotals = new ArrayList<>(Collections.nCopies(months.size(), 0L));
+        List<StatsBundle.Dataset> datasets = new ArrayList<>();
+        for (Subscription sub : subscriptions) {
+            Map<YearMonth, Long> countsByMonth = usageCounts.getOrDefault(sub.getId(), Collections.emptyMap());
+            List<Long> monthlyData = new ArrayList<>();
+            for (int i = 0; i < months.size(); i++) {
+                long count = countsByMonth.getOrDefault(months.get(i), 0L);
+                monthlyData.add(count);
+                monthlyTotals.set(i, monthlyTotals.get(i) + count);
+            }
+            datasets.add(new StatsBundle.Dataset(sub.getName(), monthlyData));
+        }
+
+        BigDecimal totalMonthlyFee = currentSubscriptions.stream()
+                .map(Subscription::getMonthlyAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        StatsBundle.Series<BigDecimal> costComparison = new StatsBundle.Series<>(
+                currentSubscriptions.stream().map(Subscription::getName).toList(),
+                currentSubscriptions.stream().map(Subscription::getMonthlyAmount).toList());
+
+        List<Long> investmentIds = investmentRepository
+                .findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(userUuid)
+                .stream()
+                .map(inv -> inv.getId())
+                .toList();
+
+        StatsBundle.Summary summary = new StatsBundle.Summary(
+                currentSubscriptions.size(), totalMonthlyFee, investmentIds.size());
+        return new StatsBundle(
+                summary,
+                new StatsBundle.Series<>(labels, monthlyTotals),
+                new StatsBundle.MultiSeries(labels, datasets),
+                costComparison,
+                new StatsBundle.Series<>(labels, sumMonthlySavings(investmentIds, months))
+        );
+    }
+
+    // 날짜별 절약액 합계를 한 번에 조회해서 월별로 합산
+    private List<BigDecimal> sumMonthlySavings(List<Long> investmentIds, List<YearMonth> months) {
+        Map<YearMonth, BigDecimal> savingsByMonth = new HashMap<>();
+        if (!investmentIds.isEmpty()) {
+            LocalDate startDate = months.get(0).atDay(1);
+            LocalDate endDate = months.get(months.size() - 1).atEndOfMonth();
+            for (InvestmentDailySavings daily : investmentUsageRepository.sumSavingsByDate(investmentIds, startDate, endDate)) {
+                if (daily.getSavings() != null) {
+                    savingsByMonth.merge(YearMonth.from(daily.getUsedAt()), daily.getSavings(), BigDecimal::add);
                 }
             }
-            data.add(totalSavings);
         }
+        return months.stream()
+                .map(month -> savingsByMonth.getOrDefault(month, BigDecimal.ZERO))
+                .toList();
+    }
 
+    /**
+     * 총 통계 요약
+     */
+    public Map<String, Object> getSummaryStats(String userUuid) {
         Map<String, Object> result = new HashMap<>();
-        result.put("labels", labels);
-        result.put("data", data);
+        result.putAll(getSubscriptionSummaryStats(userUuid));
+        result.putAll(getInvestmentSummaryStats(userUuid));
         return result;
     }
 
     /**
-     * 총 통계 요약
+     * 구독 통계 요약 (종료일이 지나지 않은 현재 구독만 포함)
      */
-    public Map<String, Object> getSummaryStats(String userUuid) {
+    public Map<String, Object> getSubscriptionSummaryStats(String userUuid) {
         Map<String, Object> result = new HashMap<>();
 
         LocalDate today = LocalDate.now();
-
-        // 구독 통계 (종료일이 지나지 않은 현재 구독만 포함)
         long subscriptionCount = subscriptionRepository.countCurrentSubscriptions(userUuid, today);
         BigDecimal totalMonthlyFee = subscriptionRepository
                 .findCurrentSubscriptions(userUuid, today)
@@ -191,13 +263,17 @@ public class StatisticsService {
                 .map(Subscription::getMonthlyAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 투자 통계
-        long investmentCount = investmentRepository.countByUserUuidAndIsActiveTrue(userUuid);
-
         result.put("subscriptionCount", subscriptionCount);
         result.put("totalMonthlyFee", totalMonthlyFee);
-        result.put("investmentCount", investmentCount);
+        return result;
+    }
 
+    /**
+     * 투자 통계 요약
+     */
+    public Map<String, Object> getInvestmentSummaryStats(String userUuid) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("investmentCount", investmentRepository.countByUserUuidAndIsActiveTrue(userUuid));
         return result;
     }
 }
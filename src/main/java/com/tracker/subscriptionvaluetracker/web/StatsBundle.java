@@ -0,0 +1,30 @@
+package com.tracker.subscriptionvaluetracker.web;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 통계 페이지 묶음 응답 (요약 + 모든 차트를 한 번의 데이터 로드로 계산)
+ */
+public record StatsBundle(
+        Summary summary,
+        Series<Long> monthlyUsage,
+        MultiSeries monthlyUsageBySubscription,
+        Series<BigDecimal> costComparison,
+        Series<BigDecimal> investmentSavings
+) {
+
+    public record Summary(long subscriptionCount, BigDecimal totalMonthlyFee, long investmentCount) {
+    }
+
+    // 라벨 하나에 값 하나인 차트 데이터
+    public record Series<T>(List<String> labels, List<T> data) {
+    }
+
+    // 라벨(월)별로 여러 데이터셋(구독)이 있는 차트 데이터
+    public record MultiSeries(List<String> labels, List<Dataset> datasets) {
+    }
+
+    public record Dataset(String label, List<Long> data) {
+    }
+}
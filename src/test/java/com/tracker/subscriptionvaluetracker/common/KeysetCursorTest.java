@@ -0,0 +1,49 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KeysetCursor 테스트")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 다시 디코딩하면 같은 정렬 키가 나온다")
+    void encodeDecode_RoundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2025, 1, 15), 1234L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)로 처리한다")
+    void decode_Blank_ReturnsNull() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다")
+    void decode_Invalid_ThrowsException() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ 100으로 보정하고 없으면 20을 사용한다")
+    void clampLimit() {
+        assertThat(KeysetCursor.clampLimit(null)).isEqualTo(20);
+        assertThat(KeysetCursor.clampLimit(0)).isEqualTo(1);
+        assertThat(KeysetCursor.clampLimit(500)).isEqualTo(100);
+        assertThat(KeysetCursor.clampLimit(50)).isEqualTo(50);
+    }
+}
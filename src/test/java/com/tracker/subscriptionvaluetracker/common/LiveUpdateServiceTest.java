@@ -0,0 +1,88 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LiveUpdateService 테스트")
+class LiveUpdateServiceTest {
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+
+    @Nested
+    @DisplayName("연결 관리")
+    class Subscribe {
+
+        @Test
+        @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결을 닫는다")
+        void subscribe_EvictsOldestOverPerUserLimit() {
+            // given
+            LiveUpdateService service = new LiveUpdateService(Duration.ofMinutes(1), 2, 100);
+
+            // when
+            service.subscribe(TEST_USER_UUID);
+            service.subscribe(TEST_USER_UUID);
+            service.subscribe(TEST_USER_UUID);
+            service.subscribe("other-user");
+
+            // then
+            assertThat(service.getConnectionCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("전체 연결 한도를 넘으면 예외가 발생한다")
+        void subscribe_OverGlobalLimit() {
+            // given
+            LiveUpdateService service = new LiveUpdateService(Duration.ofMinutes(1), 5, 1);
+            service.subscribe(TEST_USER_UUID);
+
+            // when & then
+            assertThatThrownBy(() -> service.subscribe("other-user"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("실시간 알림 연결 수가 한도를 넘었습니다.");
+        }
+
+        @Test
+        @DisplayName("연결이 없는 사용자의 변경은 무시한다")
+        void onUserDataChanged_NoConnection() {
+            // given
+            LiveUpdateService service = new LiveUpdateService(Duration.ofMinutes(1), 5, 100);
+
+            // when & then
+            assertThatCode(() -> service.onUserDataChanged(UserDataChangedEvent.subscription(TEST_USER_UUID)))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("알림 내용")
+    class Payload {
+
+        @Test
+        @DisplayName("단건 출석/취소는 구독 ID와 날짜를 담은 check-in 알림이 된다")
+        void from_CheckIn() {
+            // given
+            LocalDate date = LocalDate.of(2025, 1, 15);
+
+            // when
+            LiveUpdate update = LiveUpdate.from(UserDataChangedEvent.usage(TEST_USER_UUID, 1L, date));
+
+            // then
+            assertThat(update).isEqualTo(new LiveUpdate(LiveUpdate.CHECK_IN, 1L, date));
+        }
+
+        @Test
+        @DisplayName("구독/투자 변경은 종류만 담는다")
+        void from_SubscriptionAndInvestment() {
+            assertThat(LiveUpdate.from(UserDataChangedEvent.subscription(TEST_USER_UUID)))
+                    .isEqualTo(new LiveUpdate(LiveUpdate.SUBSCRIPTION, null, null));
+            assertThat(LiveUpdate.from(UserDataChangedEvent.investment(TEST_USER_UUID)))
+                    .isEqualTo(new LiveUpdate(LiveUpdate.INVESTMENT, null, null));
+        }
+    }
+}
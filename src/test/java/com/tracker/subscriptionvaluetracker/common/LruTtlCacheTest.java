@@ -0,0 +1,172 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LruTtlCache 테스트")
+class LruTtlCacheTest {
+
+    @Nested
+    @DisplayName("적중/실패")
+    class HitMiss {
+
+        @Test
+        @DisplayName("처음 조회는 로딩하고 이후 조회는 캐시에서 반환한다")
+        void getOrLoad_CachesLoadedValue() {
+            // given
+            LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(5));
+            int[] loadCount = {0};
+
+            // when
+            cache.getOrLoad("a", key -> "value-" + (++loadCount[0]));
+            String result = cache.getOrLoad("a", key -> "value-" + (++loadCount[0]));
+
+            // then
+            assertThat(result).isEqualTo("value-1");
+            assertThat(loadCount[0]).isEqualTo(1);
+            assertThat(cache.stats().getHits()).isEqualTo(1);
+            assertThat(cache.stats().getMisses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 항목은 만료되어 다시 로딩한다")
+        void get_ExpiresAfterTtl() {
+            // given
+            MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+            LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(5), clock);
+            cache.put("a", "value");
+
+            // when
+            clock.advance(Duration.ofMinutes(5));
+
+            // then
+            assertThat(cache.get("a")).isNull();
+            assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("제거/무효화")
+    class Eviction {
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+        void put_EvictsLeastRecentlyUsed() {
+            // given
+            LruTtlCache<String, String> cache = new LruTtlCache<>(2, Duration.ofMinutes(5));
+            cache.put("a", "A");
+            cache.put("b", "B");
+            cache.get("a");
+
+            // when
+            cache.put("c", "C");
+
+            // then
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.get("a")).isEqualTo("A");
+            assertThat(cache.get("c")).isEqualTo("C");
+            assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("로딩 중 무효화되면 로딩 결과를 저장하지 않는다")
+        void getOrLoad_SkipsStoreWhenInvalidatedDuringLoad() {
+            // given
+            LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(5));
+
+            // when
+            String result = cache.getOrLoad("a", key -> {
+                cache.invalidate("a");
+                return "stale";
+            });
+
+            // then
+            assertThat(result).isEqualTo("stale");
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 키의 무효화는 진행 중인 로딩 결과 저장을 막지 않는다")
+        void getOrLoad_OtherKeyInvalidatedDuringLoad_Stores() {
+            // given
+            LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(5));
+            cache.put("a", "A");
+
+            // when
+            String result = cache.getOrLoad("b", key -> {
+                cache.invalidate("a");
+                return "B";
+            });
+
+            // then
+            assertThat(result).isEqualTo("B");
+            assertThat(cache.get("a")).isNull();
+            assertThat(cache.get("b")).isEqualTo("B");
+        }
+
+        @Test
+        @DisplayName("조건 무효화는 조건에 맞는 키의 로딩 결과만 저장하지 않는다")
+        void getOrLoad_InvalidateIfDuringLoad_SkipsMatchingKeysOnly() {
+            // given
+            LruTtlCache<String, String> cache = new LruTtlCache<>(10, Duration.ofMinutes(5));
+
+            // when
+            cache.getOrLoad("user1:a", outer -> {
+                cache.getOrLoad("user2:a", inner -> {
+                    cache.invalidateIf(key -> key.startsWith("user1:"));
+                    return "user2";
+                });
+                return "user1";
+            });
+
+            // then
+            assertThat(cache.containsKey("user1:a")).isFalse();
+            assertThat(cache.containsKey("user2:a")).isTrue();
+        }
+
+        @Test
+        @DisplayName("최대 크기가 0 이하이면 예외가 발생한다")
+        void constructor_InvalidMaxSize() {
+            assertThatThrownBy(() -> new LruTtlCache<String, String>(0, Duration.ofMinutes(5)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ParallelReads 테스트")
+class ParallelReadsTest {
+
+    @Nested
+    @DisplayName("동시 실행")
+    class Concurrency {
+
+        @Test
+        @DisplayName("fork한 작업은 서로를 기다리지 않고 동시에 실행된다")
+        void fork_RunsConcurrently() {
+            // given
+            ParallelReads parallelReads = new ParallelReads(true, 2, Duration.ofSeconds(5));
+            CountDownLatch bothStarted = new CountDownLatch(2);
+
+            // when
+            boolean first;
+            boolean second;
+            try (ParallelReads.Scope scope = parallelReads.open()) {
+                ParallelReads.Task<Boolean> firstTask = scope.fork(() -> {
+                    bothStarted.countDown();
+                    return bothStarted.await(2, TimeUnit.SECONDS);
+                });
+                ParallelReads.Task<Boolean> secondTask = scope.fork(() -> {
+                    bothStarted.countDown();
+                    return bothStarted.await(2, TimeUnit.SECONDS);
+                });
+                scope.join();
+                first = firstTask.get();
+                second = secondTask.get();
+            }
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+        }
+
+        @Test
+        @DisplayName("동시 조회 한도를 넘는 작업은 앞선 작업이 끝날 때까지 기다린다")
+        void fork_RespectsMaxConcurrent() {
+            // given
+            ParallelReads parallelReads = new ParallelReads(true, 1, Duration.ofSeconds(5));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+
+            // when
+            try (ParallelReads.Scope scope = parallelReads.open()) {
+                for (int i = 0; i < 3; i++) {
+                    scope.fork(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(20);
+                        running.decrementAndGet();
+                        return null;
+                    });
+                }
+                scope.join();
+            }
+
+            // then
+            assertThat(maxRunning.get()).isEqualTo(1);
+            assertThat(parallelReads.getAvailablePermits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비활성이면 호출 스레드에서 순서대로 실행한다")
+        void fork_Disabled_RunsInline() {
+            // given
+            ParallelReads parallelReads = new ParallelReads(false, 2, Duration.ofSeconds(5));
+            Thread caller = Thread.currentThread();
+
+            // when
+            Thread executed;
+            try (ParallelReads.Scope scope = parallelReads.open()) {
+                ParallelReads.Task<Thread> task = scope.fork(Thread::currentThread);
+                scope.join();
+                executed = task.get();
+            }
+
+            // then
+            assertThat(executed).isSameAs(caller);
+        }
+    }
+
+    @Nested
+    @DisplayName("실패/시간 초과")
+    class Failure {
+
+        @Test
+        @DisplayName("한 작업이 실패하면 예외를 그대로 전파하고 나머지 작업을 취소한다")
+        void join_Failure_CancelsSiblings() throws Exception {
+            // given
+            ParallelReads parallelReads = new ParallelReads(true, 2, Duration.ofSeconds(5));
+            CountDownLatch slowStarted = new CountDownLatch(1);
+            CountDownLatch slowInterrupted = new CountDownLatch(1);
+            AtomicBoolean interrupted = new AtomicBoolean();
+
+            // when & then
+            try (ParallelReads.Scope scope = parallelReads.open()) {
+                scope.fork(() -> {
+                    slowStarted.countDown();
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                        slowInterrupted.countDown();
+                    }
+                    return null;
+                });
+                scope.fork(() -> {
+                    slowStarted.await();
+                    throw new IllegalArgumentException("구독을 찾을 수 없습니다.");
+                });
+
+                assertThatThrownBy(scope::join)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("구독을 찾을 수 없습니다.");
+            }
+            assertThat(slowInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(interrupted).isTrue();
+        }
+
+        @Test
+        @DisplayName("제한 시간을 넘긴 작업은 취소하고 예외가 발생한다")
+        void get_Timeout() {
+            // given
+            ParallelReads parallelReads = new ParallelReads(true, 2, Duration.ofMillis(100));
+
+            // when & then
+            try (ParallelReads.Scope scope = parallelReads.open()) {
+                ParallelReads.Task<String> task = scope.fork(() -> {
+                    Thread.sleep(5000);
+                    return "늦은 결과";
+                });
+
+                assertThatThrownBy(task::get)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("조회 시간이 초과되었습니다.");
+            }
+        }
+    }
+}
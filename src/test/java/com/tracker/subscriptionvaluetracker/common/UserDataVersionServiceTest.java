@@ -0,0 +1,123 @@
+package com.tracker.subscriptionvaluetracker.common;
+
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("UserDataVersionService 테스트")
+class UserDataVersionServiceTest {
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+
+    private final SyncVersionRepository syncVersionRepository = mock(SyncVersionRepository.class);
+
+    @Nested
+    @DisplayName("사용자별 버전")
+    class Version {
+
+        @Test
+        @DisplayName("변경 이벤트를 받은 사용자의 ETag만 바뀐다")
+        void onUserDataChanged_ChangesOnlyThatUser() {
+            // given
+            UserDataVersionService service = new UserDataVersionService(syncVersionRepository, 100);
+            String before = service.getETag(TEST_USER_UUID, "subscriptions");
+            String otherBefore = service.getETag("other-user", "subscriptions");
+
+            // when
+            service.onUserDataChanged(UserDataChangedEvent.usage(TEST_USER_UUID, LocalDate.now()));
+
+            // then
+            assertThat(service.getETag(TEST_USER_UUID, "subscriptions")).isNotEqualTo(before);
+            assertThat(service.getETag("other-user", "subscriptions")).isEqualTo(otherBefore);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스에서 커밋된 쓰기로 저장된 동기화 버전이 바뀌면 ETag가 바뀐다")
+        void persistedVersionChanged_ChangesETag() {
+            // given
+            UserDataVersionService service = new UserDataVersionService(syncVersionRepository, 100);
+            given(syncVersionRepository.findVersion(TEST_USER_UUID)).willReturn(Optional.of(7L));
+            String before = service.getETag(TEST_USER_UUID, "subscriptions");
+
+            // when
+            given(syncVersionRepository.findVersion(TEST_USER_UUID)).willReturn(Optional.of(8L));
+
+            // then
+            assertThat(service.getETag(TEST_USER_UUID, "subscriptions")).isNotEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("기억 한도를 넘어 밀려난 사용자도 예전 버전으로 돌아가지 않는다")
+        void evictedUser_NeverReturnsToOldVersion() {
+            // given
+            UserDataVersionService service = new UserDataVersionService(syncVersionRepository, 1);
+            long initial = service.getVersion(TEST_USER_UUID);
+            service.bump(TEST_USER_UUID);
+            long changed = service.getVersion(TEST_USER_UUID);
+
+            // when
+            service.bump("other-user");
+
+            // then
+            assertThat(service.getVersion(TEST_USER_UUID))
+                    .isNotEqualTo(initial)
+                    .isGreaterThanOrEqualTo(changed);
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 GET")
+    class NotModified {
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 304로 응답한다")
+        void isNotModified_MatchingETag() {
+            // given
+            UserDataVersionService service = new UserDataVersionService(syncVersionRepository, 100);
+            String eTag = service.getETag(TEST_USER_UUID, "subscriptions");
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/subscriptions");
+            request.addHeader("If-None-Match", eTag);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = ConditionalGet.isNotModified(request, response, eTag);
+
+            // then
+            assertThat(notModified).isTrue();
+            assertThat(response.getStatus()).isEqualTo(304);
+            assertThat(response.getHeader("ETag")).isEqualTo(eTag);
+        }
+
+        @Test
+        @DisplayName("데이터가 바뀐 뒤의 요청은 새 ETag와 함께 본문을 계산한다")
+        void isNotModified_StaleETag() {
+            // given
+            UserDataVersionService service = new UserDataVersionService(syncVersionRepository, 100);
+            String oldETag = service.getETag(TEST_USER_UUID, "subscriptions");
+            service.bump(TEST_USER_UUID);
+            String newETag = service.getETag(TEST_USER_UUID, "subscriptions");
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/subscriptions");
+            request.addHeader("If-None-Match", oldETag);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = ConditionalGet.isNotModified(request, response, newETag);
+
+            // then
+            assertThat(notModified).isFalse();
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("ETag")).isEqualTo(newETag);
+            assertThat(response.getHeader("Cache-Control")).contains("no-cache");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.tracker.subscriptionvaluetracker.config;
+
+import com.tracker.subscriptionvaluetracker.common.ReadYourWrites;
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource 테스트 (H2 primary + 복제본)")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String USER_UUID = "test-user-routing";
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-15T00:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 테이블에 서로 다른 값을 넣어 어느 DB에서 읽었는지 구분
+        DataSource primary = h2("routing-primary", "primary");
+        DataSource replica = h2("routing-replica", "replica");
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), 100, clock);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), readYourWrites);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 종류별 라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 복제본에서 조회한다")
+        void readOnly_UsesReplica() {
+            // when
+            String source = readMarker(true);
+
+            // then
+            assertThat(source).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션은 primary를 사용한다")
+        void readWrite_UsesPrimary() {
+            // when
+            String source = readMarker(false);
+
+            // then
+            assertThat(source).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes 창")
+    class ReadYourWritesWindow {
+
+        @Test
+        @DisplayName("방금 쓴 사용자의 읽기 전용 트랜잭션은 창 동안 primary, 창이 지나면 복제본에서 조회한다")
+        void recentWriter_UsesPrimaryUntilWindowPasses() {
+            // given
+            readYourWrites.recordWrite(USER_UUID);
+
+            // when
+            String withinWindow = readMarkerAs(USER_UUID);
+            now.set(now.get().plusSeconds(6));
+            String afterWindow = readMarkerAs(USER_UUID);
+
+            // then
+            assertThat(withinWindow).isEqualTo("primary");
+            assertThat(afterWindow).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 쓰기는 영향을 주지 않는다")
+        void otherWriter_UsesReplica() {
+            // given
+            readYourWrites.recordWrite("other-user");
+
+            // when
+            String source = readMarkerAs(USER_UUID);
+
+            // then
+            assertThat(source).isEqualTo("replica");
+        }
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT source FROM routing_marker", String.class));
+    }
+
+    private String readMarkerAs(String userUuid) {
+        AtomicReference<String> source = new AtomicReference<>();
+        UserContext.runAs(userUuid, () -> source.set(readMarker(true)));
+        return source.get();
+    }
+
+    private DataSource h2(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS routing_marker (source VARCHAR(20))");
+        setup.update("DELETE FROM routing_marker");
+        setup.update("INSERT INTO routing_marker (source) VALUES (?)", marker);
+        return dataSource;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tracker.subscriptionvaluetracker.domain;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 스레드에서 Hibernate가 실행한 SQL을 모아 둠 (실행 계획 검사용)
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,403 @@
+package com.tracker.subscriptionvaluetracker.domain;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogArchiveRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepositoryCustom;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageMonthlyRollupRepository;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogRepository;
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncVersionRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 리포지토리 쿼리를 실행해 Hibernate가 만든 SQL을 EXPLAIN하고 전체 테이블 스캔이 없는지 검사
+ * - 새 쿼리 메서드를 추가하면 queries()에도 추가해야 통과 (인덱스 회귀 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.tracker.subscriptionvaluetracker.domain.CapturingStatementInspector")
+@Transactional
+@DisplayName("리포지토리 쿼리 실행 계획 테스트")
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            SubscriptionRepository.class,
+            UsageLogRepository.class,
+            UsageLogRepositoryCustom.class,
+            UsageLogArchiveRepository.class,
+            UsageMonthlyRollupRepository.class,
+            InvestmentRepository.class,
+            InvestmentUsageRepository.class,
+            ChangeLogRepository.class,
+            SyncVersionRepository.class);
+
+    // 전체 기록을 읽는 것이 목적인 쿼리 (카운터 정합성 검사/재계산, 롤업 재구축)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "SubscriptionRepository.recalculateUsageCounters",
+            "SubscriptionRepository.findUncountedIds",
+            "InvestmentRepository.recalculateUsageCounters",
+            "InvestmentRepository.findUncountedIds",
+            "InvestmentUsageRepository.findAllUsageStats",
+            "UsageLogRepositoryCustom.summarizeUsageBySubscription");
+
+    // H2 실행 계획에서 조건 없이 테이블/인덱스 전체를 읽는 항목 (예: /* PUBLIC.SUBSCRIPTION.tableScan */, /* PUBLIC.IDX_X */)
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*(?:[\\w\"]+\\.)+[\\w\"]+\\s*\\*/");
+
+    private static final String USER_UUID = "test-user-plan";
+    private static final Long ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UsageLogRepository usageLogRepository;
+
+    @Autowired
+    private UsageLogArchiveRepository usageLogArchiveRepository;
+
+    @Autowired
+    private UsageMonthlyRollupRepository usageMonthlyRollupRepository;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private InvestmentUsageRepository investmentUsageRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private SyncVersionRepository syncVersionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("모든 리포지토리 쿼리 메서드가 실행 계획 검사 대상에 포함되어 있다")
+    void allRepositoryQueriesAreChecked() {
+        // given
+        Set<String> declared = new HashSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> !method.isSynthetic() && !method.isDefault())
+                    .map(Method::getName)
+                    .forEach(name -> declared.add(repository.getSimpleName() + "." + name));
+        }
+
+        // when
+        Set<String> checked = new HashSet<>(queries().keySet());
+        checked.addAll(FULL_SCAN_ALLOWED);
+
+        // then
+        assertThat(checked).containsExactlyInAnyOrderElementsOf(declared);
+    }
+
+    @Test
+    @DisplayName("H2에서 전체 테이블 스캔하는 쿼리가 없다")
+    void noFullScans_H2() {
+        // when
+        Map<String, List<String>> plans = entityManager.unwrap(Session.class)
+                .doReturningWork(this::explainAll);
+
+        // then
+        assertThat(fullScans(plans)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MySQL 모드에서 전체 테이블 스캔하는 쿼리가 없다")
+    void noFullScans_MySqlMode() throws SQLException {
+        // given: 같은 스키마(테이블/인덱스)를 MySQL 호환 모드 DB에 복제
+        try (Connection mysqlMode = DriverManager.getConnection(
+                "jdbc:h2:mem:tracker-plan-mysql;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")) {
+            List<String> ddl = entityManager.unwrap(Session.class).doReturningWork(this::exportSchema);
+            try (Statement statement = mysqlMode.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                for (String sql : ddl) {
+                    statement.execute(sql);
+                }
+            }
+
+            // when
+            Map<String, List<String>> plans = explainAll(mysqlMode);
+
+            // then
+            assertThat(fullScans(plans)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("현재 구독 목록과 기간별 절약액 합계는 복합 인덱스를 사용한다")
+    void usesCompositeIndexes() {
+        // when
+        Map<String, List<String>> plans = entityManager.unwrap(Session.class)
+                .doReturningWork(this::explainAll);
+
+        // then
+        assertThat(String.join("\n", plans.get("SubscriptionRepository.findCurrentSubscriptions")).toUpperCase(Locale.ROOT))
+                .contains("IDX_SUBSCRIPTION_USER_ACTIVE");
+        assertThat(String.join("\n", plans.get("InvestmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc")).toUpperCase(Locale.ROOT))
+                .contains("IDX_INVESTMENT_USER_ACTIVE");
+        assertThat(String.join("\n", plans.get("InvestmentUsageRepository.calculateMonthlySavings")).toUpperCase(Locale.ROOT))
+                .contains("IDX_INVESTMENT_USAGE_INVESTMENT_DATE");
+    }
+
+    /**
+     * 쿼리 메서드별로 실행된 SQL을 모아 주어진 연결에서 EXPLAIN
+     */
+    private Map<String, List<String>> explainAll(Connection connection) throws SQLException {
+        Map<String, List<String>> plans = new LinkedHashMap<>();
+        for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+            CapturingStatementInspector.start();
+            try {
+                query.getValue().run();
+            } finally {
+                List<String> captured = CapturingStatementInspector.stop();
+                List<String> queryPlans = new ArrayList<>();
+                for (String sql : captured) {
+                    if (isExplainable(sql)) {
+                        queryPlans.add(explain(connection, sql));
+                    }
+                }
+                plans.put(query.getKey(), queryPlans);
+            }
+        }
+        return plans;
+    }
+
+    private boolean isExplainable(String sql) {
+        String normalized = sql.trim().toLowerCase(Locale.ROOT);
+        return (normalized.startsWith("select") || normalized.startsWith("update") || normalized.startsWith("delete"))
+                && !normalized.contains("next value for");
+    }
+
+    private String explain(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // 계획만 보므로 바인딩 값은 의미 없음
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private List<String> exportSchema(Connection connection) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (resultSet.next()) {
+                String sql = resultSet.getString(1);
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    ddl.add(sql);
+                }
+            }
+        }
+        return ddl;
+    }
+
+    private List<String> fullScans(Map<String, List<String>> plans) {
+        List<String> fullScans = new ArrayList<>();
+        plans.forEach((name, queryPlans) -> queryPlans.stream()
+                .filter(plan -> FULL_SCAN.matcher(plan).find())
+                .forEach(plan -> fullScans.add(name + ":\n" + plan)));
+        return fullScans;
+    }
+
+    /**
+     * 검사 대상 쿼리 메서드 (FULL_SCAN_ALLOWED 제외 전부)
+     */
+    private Map<String, Runnable> queries() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        queries.put("SubscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc",
+                () -> subscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID));
+        queries.put("SubscriptionRepository.findByUserUuidOrderByCreatedAtDesc",
+                () -> subscriptionRepository.findByUserUuidOrderByCreatedAtDesc(USER_UUID));
+        queries.put("SubscriptionRepository.findByIdAndUserUuid",
+                () -> subscriptionRepository.findByIdAndUserUuid(ID, USER_UUID));
+        queries.put("SubscriptionRepository.findByIdInAndUserUuid",
+                () -> subscriptionRepository.findByIdInAndUserUuid(List.of(ID, 2L), USER_UUID));
+        queries.put("SubscriptionRepository.findIdsByUserUuid",
+                () -> subscriptionRepository.findIdsByUserUuid(USER_UUID));
+        queries.put("SubscriptionRepository.findIdsAfter",
+                () -> subscriptionRepository.findIdsAfter(ID, Limit.of(100)));
+        queries.put("SubscriptionRepository.streamByUserUuid", () -> {
+            try (Stream<?> stream = subscriptionRepository.streamByUserUuid(USER_UUID)) {
+                stream.count();
+            }
+        });
+        queries.put("SubscriptionRepository.countByUserUuidAndIsActiveTrue",
+                () -> subscriptionRepository.countByUserUuidAndIsActiveTrue(USER_UUID));
+        queries.put("SubscriptionRepository.existsByUserUuidAndNameAndIsActiveTrue",
+                () -> subscriptionRepository.existsByUserUuidAndNameAndIsActiveTrue(USER_UUID, "헬스장"));
+        queries.put("SubscriptionRepository.existsByUserUuidAndNameAndIdNotAndIsActiveTrue",
+                () -> subscriptionRepository.existsByUserUuidAndNameAndIdNotAndIsActiveTrue(USER_UUID, "헬스장", ID));
+        queries.put("SubscriptionRepository.findCurrentSubscriptions",
+                () -> subscriptionRepository.findCurrentSubscriptions(USER_UUID, TODAY));
+        queries.put("SubscriptionRepository.findCurrentSummaries",
+                () -> subscriptionRepository.findCurrentSummaries(USER_UUID, TODAY));
+        queries.put("SubscriptionRepository.findSummaryByIdAndUserUuid",
+                () -> subscriptionRepository.findSummaryByIdAndUserUuid(ID, USER_UUID));
+        queries.put("SubscriptionRepository.findCheckInContext",
+                () -> subscriptionRepository.findCheckInContext(ID, USER_UUID, "2026-01", "2026-01", TODAY));
+        queries.put("SubscriptionRepository.countCurrentSubscriptions",
+                () -> subscriptionRepository.countCurrentSubscriptions(USER_UUID, TODAY));
+        queries.put("SubscriptionRepository.incrementUsage",
+                () -> subscriptionRepository.incrementUsage(ID, TODAY));
+        queries.put("SubscriptionRepository.addUsage",
+                () -> subscriptionRepository.addUsage(ID, 2L, TODAY));
+        queries.put("SubscriptionRepository.decrementUsage",
+                () -> subscriptionRepository.decrementUsage(ID));
+
+        queries.put("UsageLogRepository.findBySubscriptionIdOrderByUsedAtDesc",
+                () -> usageLogRepository.findBySubscriptionIdOrderByUsedAtDesc(ID));
+        queries.put("UsageLogRepository.findBySubscriptionIdAndUsedAtBetween",
+                () -> usageLogRepository.findBySubscriptionIdAndUsedAtBetween(ID, TODAY.minusMonths(1), TODAY));
+        queries.put("UsageLogRepository.findBySubscriptionIdAndUsedAt",
+                () -> usageLogRepository.findBySubscriptionIdAndUsedAt(ID, TODAY));
+        queries.put("UsageLogRepository.deleteBySubscriptionIdAndUsedAt",
+                () -> usageLogRepository.deleteBySubscriptionIdAndUsedAt(ID, TODAY));
+        queries.put("UsageLogRepository.countBySubscriptionIdAndUsedAtBetween",
+                () -> usageLogRepository.countBySubscriptionIdAndUsedAtBetween(ID, TODAY.minusMonths(1), TODAY));
+        queries.put("UsageLogRepositoryCustom.findBySubscriptionIdsAndDateRange",
+                () -> usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(ID, 2L), TODAY.minusMonths(1), TODAY));
+        queries.put("UsageLogRepository.findSubscriptionIdsCheckedInOn",
+                () -> usageLogRepository.findSubscriptionIdsCheckedInOn(List.of(ID, 2L), TODAY));
+        queries.put("UsageLogRepositoryCustom.existsBySubscriptionIdAndUsedAt",
+                () -> usageLogRepository.existsBySubscriptionIdAndUsedAt(ID, TODAY));
+        queries.put("UsageLogRepositoryCustom.countBySubscriptionId",
+                () -> usageLogRepository.countBySubscriptionId(ID));
+        queries.put("UsageLogRepositoryCustom.findPageBySubscriptionId",
+                () -> usageLogRepository.findPageBySubscriptionId(ID, Limit.of(20)));
+        queries.put("UsageLogRepositoryCustom.findPageBySubscriptionIdAfter",
+                () -> usageLogRepository.findPageBySubscriptionIdAfter(ID, TODAY, 100L, Limit.of(20)));
+        queries.put("UsageLogRepositoryCustom.streamByUserUuid", () -> {
+            try (Stream<?> stream = usageLogRepository.streamByUserUuid(USER_UUID)) {
+                stream.count();
+            }
+        });
+        queries.put("UsageLogRepositoryCustom.countMonthlyUsage",
+                () -> usageLogRepository.countMonthlyUsage(List.of(ID, 2L)));
+        queries.put("UsageLogRepositoryCustom.insertIfAbsent",
+                () -> usageLogRepository.insertIfAbsent(ID, TODAY, null));
+        queries.put("UsageLogRepository.findOldestUsedAtBefore",
+                () -> usageLogRepository.findOldestUsedAtBefore(TODAY.withDayOfMonth(1)));
+        queries.put("UsageLogRepository.streamByUsedAtBetween", () -> {
+            try (Stream<?> stream = usageLogRepository.streamByUsedAtBetween(TODAY.withDayOfMonth(1), TODAY)) {
+                stream.count();
+            }
+        });
+        queries.put("UsageLogRepository.deleteByUsedAtBetween",
+                () -> usageLogRepository.deleteByUsedAtBetween(TODAY.withDayOfMonth(1), TODAY));
+        queries.put("UsageLogRepository.deleteByUsedAtBetweenExcluding",
+                () -> usageLogRepository.deleteByUsedAtBetweenExcluding(TODAY.withDayOfMonth(1), TODAY, List.of(ID)));
+
+        queries.put("UsageLogArchiveRepository.findByUsageMonth",
+                () -> usageLogArchiveRepository.findByUsageMonth("2024-01"));
+
+        queries.put("UsageMonthlyRollupRepository.findBySubscriptionIdAndUsageMonth",
+                () -> usageMonthlyRollupRepository.findBySubscriptionIdAndUsageMonth(ID, "2026-01"));
+        queries.put("UsageMonthlyRollupRepository.findBySubscriptionIdIn",
+                () -> usageMonthlyRollupRepository.findBySubscriptionIdIn(List.of(ID, 2L)));
+        queries.put("UsageMonthlyRollupRepository.findBySubscriptionIdInAndUsageMonthBetween",
+                () -> usageMonthlyRollupRepository.findBySubscriptionIdInAndUsageMonthBetween(List.of(ID, 2L), "2025-08", "2026-01"));
+        queries.put("UsageMonthlyRollupRepository.addUsageCount",
+                () -> usageMonthlyRollupRepository.addUsageCount(ID, "2026-01", 1L, LocalDateTime.now()));
+        queries.put("UsageMonthlyRollupRepository.recountUsage",
+                () -> usageMonthlyRollupRepository.recountUsage(ID, "2026-01",
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), LocalDateTime.now()));
+
+        queries.put("InvestmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc",
+                () -> investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID));
+        queries.put("InvestmentRepository.findByIdAndUserUuid",
+                () -> investmentRepository.findByIdAndUserUuid(ID, USER_UUID));
+        queries.put("InvestmentRepository.findByIdInAndUserUuid",
+                () -> investmentRepository.findByIdInAndUserUuid(List.of(ID, 2L), USER_UUID));
+        queries.put("InvestmentRepository.findSummariesByUserUuidAndIsActiveTrueOrderByCreatedAtDesc",
+                () -> investmentRepository.findSummariesByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID));
+        queries.put("InvestmentRepository.findSummaryByIdAndUserUuid",
+                () -> investmentRepository.findSummaryByIdAndUserUuid(ID, USER_UUID));
+        queries.put("InvestmentRepository.findIdsByUserUuid",
+                () -> investmentRepository.findIdsByUserUuid(USER_UUID));
+        queries.put("InvestmentRepository.streamByUserUuid", () -> {
+            try (Stream<?> stream = investmentRepository.streamByUserUuid(USER_UUID)) {
+                stream.count();
+            }
+        });
+        queries.put("InvestmentRepository.countByUserUuidAndIsActiveTrue",
+                () -> investmentRepository.countByUserUuidAndIsActiveTrue(USER_UUID));
+        queries.put("InvestmentRepository.addUsage",
+                () -> investmentRepository.addUsage(ID, 1L, new BigDecimal("5000")));
+
+        queries.put("InvestmentUsageRepository.findPageByInvestmentId",
+                () -> investmentUsageRepository.findPageByInvestmentId(ID, Limit.of(20)));
+        queries.put("InvestmentUsageRepository.findPageByInvestmentIdAfter",
+                () -> investmentUsageRepository.findPageByInvestmentIdAfter(ID, TODAY, 100L, Limit.of(20)));
+        queries.put("InvestmentUsageRepository.countByInvestmentId",
+                () -> investmentUsageRepository.countByInvestmentId(ID));
+        queries.put("InvestmentUsageRepository.streamByUserUuid", () -> {
+            try (Stream<?> stream = investmentUsageRepository.streamByUserUuid(USER_UUID)) {
+                stream.count();
+            }
+        });
+        queries.put("InvestmentUsageRepository.calculateTotalSavings",
+                () -> investmentUsageRepository.calculateTotalSavings(ID));
+        queries.put("InvestmentUsageRepository.findTop5ByInvestmentIdOrderByUsedAtDesc",
+                () -> investmentUsageRepository.findTop5ByInvestmentIdOrderByUsedAtDesc(ID));
+        queries.put("InvestmentUsageRepository.findRecent5ByInvestmentIds",
+                () -> investmentUsageRepository.findRecent5ByInvestmentIds(List.of(ID, 2L)));
+        queries.put("InvestmentUsageRepository.calculateMonthlySavings",
+                () -> investmentUsageRepository.calculateMonthlySavings(ID, TODAY.withDayOfMonth(1), TODAY));
+        queries.put("InvestmentUsageRepository.sumSavingsByDate",
+                () -> investmentUsageRepository.sumSavingsByDate(List.of(ID, 2L), TODAY.minusMonths(6), TODAY));
+
+        queries.put("ChangeLogRepository.findByUserUuidAndVersionGreaterThanOrderByVersionAsc",
+                () -> changeLogRepository.findByUserUuidAndVersionGreaterThanOrderByVersionAsc(USER_UUID, 0L, Limit.of(1000)));
+
+        queries.put("SyncVersionRepository.increment",
+                () -> syncVersionRepository.increment(USER_UUID, 1L, LocalDateTime.now()));
+        queries.put("SyncVersionRepository.findVersion",
+                () -> syncVersionRepository.findVersion(USER_UUID));
+
+        return queries;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -133,7 +134,8 @@ class InvestmentControllerTest {
             given(investmentService.getInvestment(1L, TEST_USER_UUID))
                     .willReturn(Optional.of(investment));
             given(investmentService.toViewDto(investment)).willReturn(dto);
-            given(investmentService.getUsages(1L)).willReturn(Collections.emptyList());
+            given(investmentService.getUsagePage(1L, null, null))
+                    .willReturn(new CursorPage<>(Collections.emptyList(), null));
 
             // when
             String result = controller.detail(1L, model, request, response);
@@ -141,10 +143,26 @@ class InvestmentControllerTest {
             // then
             assertThat(result).isEqualTo("investment/detail");
             verify(model).addAttribute(eq("investment"), any());
-            verify(model).addAttribute(eq("usages"), any());
+            verify(model).addAttribute(eq("usagePage"), any());
             verify(model).addAttribute(eq("usageForm"), any(InvestmentUsageForm.class));
         }
 
+        @Test
+        @DisplayName("사용 기록 다음 페이지 프래그먼트를 반환한다")
+        void usagePage_ReturnsFragment() {
+            // given
+            CursorPage<InvestmentUsage> page = new CursorPage<>(Collections.emptyList(), null);
+            given(investmentService.getUsageLogs(1L, TEST_USER_UUID, "cursor", null)).willReturn(page);
+
+            // when
+            String result = controller.usagePage(1L, "cursor", model, request, response);
+
+            // then
+            assertThat(result).isEqualTo("fragments/investment-usages :: page");
+            verify(model).addAttribute("investmentId", 1L);
+            verify(model).addAttribute("usagePage", page);
+        }
+
         @Test
         @DisplayName("존재하지 않는 투자 상세 조회 시 예외가 발생한다")
         void detail_ThrowsExceptionWhenNotFound() {
@@ -296,7 +314,7 @@ class InvestmentControllerTest {
                 new BigDecimal("189000"), LocalDate.now(), new BigDecimal("15000"),
                 null, 10, new BigDecimal("150000"), new BigDecimal("-39000"),
                 false, new BigDecimal("39000"), 79, new BigDecimal("15000"),
-                Collections.emptyList()
+                LocalDate.now(), Collections.emptyList()
         );
     }
 }
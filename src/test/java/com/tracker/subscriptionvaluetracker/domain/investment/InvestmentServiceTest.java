@@ -1,5 +1,10 @@
 package com.tracker.subscriptionvaluetracker.domain.investment;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
+import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+import com.tracker.subscriptionvaluetracker.common.KeysetCursor;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -15,6 +22,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +36,12 @@ class InvestmentServiceTest {
     @Mock
     private InvestmentUsageRepository usageRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
     @InjectMocks
     private InvestmentService investmentService;
 
@@ -165,6 +179,139 @@ class InvestmentServiceTest {
             // then
             assertThat(result.getItemName()).isEqualTo("클린 코드");
             assertThat(result.getSavedAmount()).isEqualTo(new BigDecimal("33000"));
+            verify(investmentRepository).addUsage(1L, 1, new BigDecimal("33000"));
+            verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("사용 기록을 일괄 저장하고 투자 항목별로 카운터를 한 번씩 갱신한다")
+        void addUsages_UpdatesCountersPerInvestment() {
+            // given
+            given(investmentRepository.findIdsByUserUuid(TEST_USER_UUID)).willReturn(List.of(1L, 2L));
+            given(usageRepository.saveAll(anyList())).willAnswer(i -> i.getArgument(0));
+            List<InvestmentUsage> usages = List.of(
+                    new InvestmentUsage(1L, LocalDate.now(), "클린 코드", new BigDecimal("33000"), BigDecimal.ZERO),
+                    new InvestmentUsage(1L, LocalDate.now(), "리팩터링", new BigDecimal("35000"), new BigDecimal("5000")),
+                    new InvestmentUsage(2L, LocalDate.now(), "수영", new BigDecimal("15000"), BigDecimal.ZERO)
+            );
+
+            // when
+            investmentService.addUsages(TEST_USER_UUID, usages);
+
+            // then
+            verify(usageRepository).saveAll(usages);
+            verify(investmentRepository).addUsage(1L, 2, new BigDecimal("63000"));
+            verify(investmentRepository).addUsage(2L, 1, new BigDecimal("15000"));
+            verify(eventPublisher, times(1)).publishEvent(any(UserDataChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 투자 항목이 섞여 있으면 저장하지 않는다")
+        void addUsages_NotOwned_ThrowsException() {
+            // given
+            given(investmentRepository.findIdsByUserUuid(TEST_USER_UUID)).willReturn(List.of(1L));
+            List<InvestmentUsage> usages = List.of(
+                    new InvestmentUsage(99L, LocalDate.now(), "클린 코드", new BigDecimal("33000"), BigDecimal.ZERO)
+            );
+
+            // when & then
+            assertThatThrownBy(() -> investmentService.addUsages(TEST_USER_UUID, usages))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("투자 항목을 찾을 수 없습니다.");
+            verify(usageRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("투자 요약 조회")
+    class Summary {
+
+        @Test
+        @DisplayName("요약 목록은 프로젝션만 조회하고 손익 계산용 사용 기록을 읽지 않는다")
+        void getInvestmentSummaries_SkipsStats() {
+            // given
+            InvestmentSummary summary = mock(InvestmentSummary.class);
+            given(summary.getId()).willReturn(1L);
+            given(summary.getName()).willReturn("러닝화");
+            given(summary.getEmojiCode()).willReturn("shoe");
+            given(summary.getCategory()).willReturn("운동");
+            given(investmentRepository.findSummariesByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(TEST_USER_UUID))
+                    .willReturn(List.of(summary));
+
+            // when
+            List<InvestmentSummaryDto> result = investmentService.getInvestmentSummaries(TEST_USER_UUID);
+
+            // then
+            assertThat(result).containsExactly(
+                    new InvestmentSummaryDto(1L, "러닝화", "shoe", EmojiMapper.toInvestmentEmoji("shoe"), "운동"));
+            verifyNoInteractions(usageRepository);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 투자 요약을 조회하면 예외가 발생한다")
+        void getInvestmentSummary_NotFound() {
+            // given
+            given(investmentRepository.findSummaryByIdAndUserUuid(999L, TEST_USER_UUID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> investmentService.getInvestmentSummary(999L, TEST_USER_UUID))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("투자 항목을 찾을 수 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("사용 기록 페이지 조회")
+    class UsagePage {
+
+        @Test
+        @DisplayName("limit보다 한 건 더 조회해 다음 페이지가 있으면 마지막 항목의 커서를 반환한다")
+        void firstPage_ReturnsNextCursor() {
+            // given
+            List<InvestmentUsage> fetched = List.of(
+                    createUsage(3L, LocalDate.of(2025, 1, 20)),
+                    createUsage(2L, LocalDate.of(2025, 1, 15)),
+                    createUsage(1L, LocalDate.of(2025, 1, 10))
+            );
+            given(usageRepository.findPageByInvestmentId(1L, Limit.of(3))).willReturn(fetched);
+
+            // when
+            CursorPage<InvestmentUsage> page = investmentService.getUsagePage(1L, null, 2);
+
+            // then
+            assertThat(page.items()).hasSize(2);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(page.nextCursor()))
+                    .isEqualTo(new KeysetCursor(LocalDate.of(2025, 1, 15), 2L));
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서 다음 행부터 조회하고 마지막 페이지는 커서가 없다")
+        void nextPage_QueriesAfterCursor() {
+            // given
+            String cursor = new KeysetCursor(LocalDate.of(2025, 1, 15), 2L).encode();
+            given(usageRepository.findPageByInvestmentIdAfter(1L, LocalDate.of(2025, 1, 15), 2L, Limit.of(3)))
+                    .willReturn(List.of(createUsage(1L, LocalDate.of(2025, 1, 10))));
+
+            // when
+            CursorPage<InvestmentUsage> page = investmentService.getUsagePage(1L, cursor, 2);
+
+            // then
+            assertThat(page.items()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+            verify(usageRepository, never()).findPageByInvestmentId(any(), any());
+        }
+
+        private InvestmentUsage createUsage(Long id, LocalDate usedAt) {
+            InvestmentUsage usage = new InvestmentUsage(1L, usedAt, "클린 코드", new BigDecimal("33000"), BigDecimal.ZERO);
+            try {
+                var idField = InvestmentUsage.class.getDeclaredField("id");
+                idField.setAccessible(true);
+                idField.set(usage, id);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return usage;
         }
     }
 
@@ -351,7 +498,81 @@ class InvestmentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("투자 목록 통계 일괄 계산")
+    class InvestmentsWithStats {
+
+        @Test
+        @DisplayName("누적 카운터로 투자별 손익분기 지표를 계산한다")
+        void getInvestmentsWithStats_UsesCounters() {
+            // given
+            Investment kindle = createTestInvestment("크레마 카르타", "200000");
+            Investment ipad = createTestInvestment("아이패드", "100000");
+            setInvestmentId(kindle, 1L);
+            setInvestmentId(ipad, 2L);
+            setUsageCounters(kindle, 4L, new BigDecimal("50000"));
+            LocalDate lastUsedAt = LocalDate.now().minusDays(1);
+            InvestmentUsage usage = new InvestmentUsage(1L, lastUsedAt, "클린 코드",
+                    new BigDecimal("33000"), BigDecimal.ZERO);
+
+            given(investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(TEST_USER_UUID))
+                    .willReturn(List.of(kindle, ipad));
+            given(usageRepository.findRecent5ByInvestmentIds(List.of(1L, 2L)))
+                    .willReturn(List.of(usage));
+
+            // when
+            List<InvestmentViewDto> result = investmentService.getInvestmentsWithStats(TEST_USER_UUID);
+
+            // then
+            assertThat(result).hasSize(2);
+            InvestmentViewDto first = result.get(0);
+            assertThat(first.getUsageCount()).isEqualTo(4);
+            assertThat(first.getTotalSavings()).isEqualByComparingTo("50000");
+            assertThat(first.getNetProfit()).isEqualByComparingTo("-150000");
+            assertThat(first.getBreakEvenProgress()).isEqualTo(25);
+            assertThat(first.getAvgSavingsPerUse()).isEqualByComparingTo("12500");
+            assertThat(first.getLastUsedAt()).isEqualTo(lastUsedAt);
+            assertThat(first.getRecentUsages()).containsExactly(usage);
+
+            InvestmentViewDto second = result.get(1);
+            assertThat(second.getUsageCount()).isZero();
+            assertThat(second.getTotalSavings()).isEqualByComparingTo("0");
+            assertThat(second.getLastUsedAt()).isNull();
+            assertThat(second.getRecentUsages()).isEmpty();
+            verify(usageRepository, never()).calculateTotalSavings(any());
+            verify(usageRepository, never()).countByInvestmentId(any());
+        }
+
+        @Test
+        @DisplayName("투자 항목이 없으면 사용 기록 쿼리를 실행하지 않는다")
+        void getInvestmentsWithStats_Empty() {
+            // given
+            given(investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(TEST_USER_UUID))
+                    .willReturn(List.of());
+
+            // when
+            List<InvestmentViewDto> result = investmentService.getInvestmentsWithStats(TEST_USER_UUID);
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(usageRepository);
+        }
+    }
+
     // Helper methods
+    private void setUsageCounters(Investment investment, long usageCount, BigDecimal totalSavings) {
+        try {
+            java.lang.reflect.Field countField = Investment.class.getDeclaredField("usageCount");
+            countField.setAccessible(true);
+            countField.set(investment, usageCount);
+            java.lang.reflect.Field savingsField = Investment.class.getDeclaredField("totalSavings");
+            savingsField.setAccessible(true);
+            savingsField.set(investment, totalSavings);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private Investment createTestInvestment(String name, String purchasePrice) {
         return new Investment(
                 TEST_USER_UUID, name, "ereader", "E_READER",
@@ -0,0 +1,140 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarGridService 테스트")
+class CalendarGridServiceTest {
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private CheckInWriteBehindService checkInWriteBehindService;
+
+    private CalendarGridService calendarGridService;
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+
+    @BeforeEach
+    void setUp() {
+        calendarGridService = new CalendarGridService(
+                calendarService, checkInWriteBehindService, new SyncTaskExecutor(), 100, Duration.ofMinutes(30), false);
+    }
+
+    @Test
+    @DisplayName("같은 사용자·연월의 재조회는 캐시에서 반환한다")
+    void getCalendarDays_CachesPerUserAndMonth() {
+        // given
+        given(calendarService.getCalendarDays(TEST_USER_UUID, 2025, 1))
+                .willReturn(List.of(createDay(LocalDate.of(2025, 1, 1), false)));
+
+        // when
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        List<CalendarDayDto> result = calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+
+        // then
+        assertThat(result).hasSize(1);
+        verify(calendarService, times(1)).getCalendarDays(TEST_USER_UUID, 2025, 1);
+        assertThat(calendarGridService.getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오늘 표시는 조회 시점 기준으로 덧씌운다")
+    void getCalendarDays_AppliesTodayOverlay() {
+        // given
+        LocalDate today = LocalDate.now();
+        YearMonth thisMonth = YearMonth.from(today);
+        given(calendarService.getCalendarDays(TEST_USER_UUID, thisMonth.getYear(), thisMonth.getMonthValue()))
+                .willReturn(List.of(createDay(today, false), createDay(today.minusDays(1), true)));
+
+        // when
+        List<CalendarDayDto> result = calendarGridService.getCalendarDays(
+                TEST_USER_UUID, thisMonth.getYear(), thisMonth.getMonthValue());
+
+        // then
+        assertThat(result.get(0).isToday()).isTrue();
+        assertThat(result.get(1).isToday()).isFalse();
+    }
+
+    @Test
+    @DisplayName("출석 변경 이벤트는 해당 월 그리드만 무효화한다")
+    void onUserDataChanged_InvalidatesAffectedMonthOnly() {
+        // given
+        given(calendarService.getCalendarDays(eq(TEST_USER_UUID), eq(2025), anyInt()))
+                .willReturn(Collections.emptyList());
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 2);
+
+        // when
+        calendarGridService.onUserDataChanged(
+                UserDataChangedEvent.usage(TEST_USER_UUID, LocalDate.of(2025, 1, 15)));
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 2);
+
+        // then
+        verify(calendarService, times(2)).getCalendarDays(TEST_USER_UUID, 2025, 1);
+        verify(calendarService, times(1)).getCalendarDays(TEST_USER_UUID, 2025, 2);
+    }
+
+    @Test
+    @DisplayName("구독 변경 이벤트는 사용자의 모든 월을, 투자 변경 이벤트는 아무것도 무효화하지 않는다")
+    void onUserDataChanged_BySource() {
+        // given
+        given(calendarService.getCalendarDays(eq(TEST_USER_UUID), eq(2025), anyInt()))
+                .willReturn(Collections.emptyList());
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 2);
+
+        // when
+        calendarGridService.onUserDataChanged(UserDataChangedEvent.investment(TEST_USER_UUID));
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.onUserDataChanged(UserDataChangedEvent.subscription(TEST_USER_UUID));
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 2);
+
+        // then
+        verify(calendarService, times(2)).getCalendarDays(TEST_USER_UUID, 2025, 1);
+        verify(calendarService, times(2)).getCalendarDays(TEST_USER_UUID, 2025, 2);
+    }
+
+    @Test
+    @DisplayName("미리 계산이 켜져 있으면 이전/다음 달 그리드를 함께 적재한다")
+    void getCalendarDays_PrefetchesAdjacentMonths() {
+        // given
+        calendarGridService = new CalendarGridService(
+                calendarService, checkInWriteBehindService, new SyncTaskExecutor(), 100, Duration.ofMinutes(30), true);
+        given(calendarService.getCalendarDays(eq(TEST_USER_UUID), anyInt(), anyInt()))
+                .willReturn(Collections.emptyList());
+
+        // when
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1);
+        calendarGridService.getCalendarDays(TEST_USER_UUID, 2024, 12);
+
+        // then
+        verify(calendarService, times(1)).getCalendarDays(TEST_USER_UUID, 2024, 12);
+        verify(calendarService, times(1)).getCalendarDays(TEST_USER_UUID, 2025, 2);
+    }
+
+    private CalendarDayDto createDay(LocalDate date, boolean isToday) {
+        return new CalendarDayDto(date, date.getDayOfMonth(), true, isToday, Collections.emptyList());
+    }
+}
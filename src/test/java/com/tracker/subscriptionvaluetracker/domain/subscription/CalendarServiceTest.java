@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CalendarService 테스트")
@@ -116,6 +118,42 @@ class CalendarServiceTest {
             assertThat(day15.hasUsages()).isTrue();
         }
 
+        @Test
+        @DisplayName("조회한 출석 기록으로 월 사용 횟수와 회당 비용을 계산하고 구독별 카운트 쿼리를 실행하지 않는다")
+        void getCalendarDays_DerivesMonthlyCountFromLoadedLogs() {
+            // given
+            int year = 2025;
+            int month = 1;
+
+            Subscription subscription = createTestSubscription(1L, "헬스장", "30000");
+            List<UsageLog> usageLogs = List.of(
+                    new UsageLog(1L, LocalDate.of(2025, 1, 3)),
+                    new UsageLog(1L, LocalDate.of(2025, 1, 10)),
+                    new UsageLog(1L, LocalDate.of(2025, 1, 15))
+            );
+
+            given(subscriptionRepository.findCurrentSubscriptions(eq(TEST_USER_UUID), any(LocalDate.class)))
+                    .willReturn(List.of(subscription));
+            given(usageLogRepository.findBySubscriptionIdsAndDateRange(
+                    eq(List.of(1L)), any(LocalDate.class), any(LocalDate.class)))
+                    .willReturn(usageLogs);
+
+            // when
+            List<CalendarDayDto> result = calendarService.getCalendarDays(TEST_USER_UUID, year, month);
+
+            // then
+            CalendarDayDto day10 = result.stream()
+                    .filter(d -> d.getDayOfMonth() == 10 && d.isCurrentMonth())
+                    .findFirst()
+                    .orElseThrow();
+
+            // 월 30000원 / 3회 = 10000원
+            assertThat(day10.getUsages()).hasSize(1);
+            assertThat(day10.getUsages().get(0).getDailyCost()).isEqualTo(new BigDecimal("10000"));
+            assertThat(day10.getUsages().get(0).getCostLevel()).isEqualTo("warning");
+            verify(usageLogRepository, never()).countBySubscriptionIdAndUsedAtBetween(any(), any(), any());
+        }
+
         @Test
         @DisplayName("구독이 없으면 빈 캘린더가 생성된다")
         void getCalendarDays_NoSubscriptions() {
@@ -141,20 +179,64 @@ class CalendarServiceTest {
     class GetSubscriptionsForLegend {
 
         @Test
-        @DisplayName("범례용 구독 목록을 조회한다")
+        @DisplayName("범례용 구독 목록을 요약 프로젝션으로 조회한다")
         void getSubscriptionsForLegend_Success() {
             // given
-            Subscription sub1 = createTestSubscription(1L, "넷플릭스", "17000");
-            Subscription sub2 = createTestSubscription(2L, "헬스장", "30000");
+            given(subscriptionRepository.findCurrentSummaries(eq(TEST_USER_UUID), any(LocalDate.class)))
+                    .willReturn(List.of(createSummary(1L, "넷플릭스", "tv"), createSummary(2L, "헬스장", "gym")));
+
+            // when
+            List<SubscriptionSummaryDto> result = calendarService.getSubscriptionsForLegend(TEST_USER_UUID);
+
+            // then
+            assertThat(result).extracting(SubscriptionSummaryDto::name).containsExactly("넷플릭스", "헬스장");
+            assertThat(result.get(0).emoji()).isEqualTo(EmojiMapper.toEmoji("tv"));
+            verify(subscriptionRepository, never()).findCurrentSubscriptions(any(), any());
+        }
+
+        private SubscriptionSummary createSummary(Long id, String name, String emojiCode) {
+            return new SubscriptionSummary() {
+                @Override
+                public Long getId() {
+                    return id;
+                }
+
+                @Override
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public String getEmojiCode() {
+                    return emojiCode;
+                }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 진행률 조회")
+    class GetSubscriptionProgress {
+
+        @Test
+        @DisplayName("누적 사용 횟수를 구독의 누적 카운터에서 읽는다")
+        void getSubscriptionProgress_UsesTotalUsageCounter() {
+            // given
+            Subscription gym = createTestSubscription(1L, "헬스장", "30000");
+            Subscription netflix = createTestSubscription(2L, "넷플릭스", "17000");
+            setTotalUsageCount(gym, 7L);
 
             given(subscriptionRepository.findCurrentSubscriptions(eq(TEST_USER_UUID), any(LocalDate.class)))
-                    .willReturn(List.of(sub1, sub2));
+                    .willReturn(List.of(gym, netflix));
 
             // when
-            List<SubscriptionViewDto> result = calendarService.getSubscriptionsForLegend(TEST_USER_UUID);
+            List<SubscriptionProgressDto> result = calendarService.getSubscriptionProgress(TEST_USER_UUID);
 
             // then
             assertThat(result).hasSize(2);
+            assertThat(result.get(0).getCurrentTotalUsage()).isEqualTo(7);
+            assertThat(result.get(1).getCurrentTotalUsage()).isZero();
+            verify(usageLogRepository, never()).countBySubscriptionId(any());
         }
     }
 
@@ -168,6 +250,16 @@ class CalendarServiceTest {
         return subscription;
     }
 
+    private void setTotalUsageCount(Subscription subscription, long totalUsageCount) {
+        try {
+            java.lang.reflect.Field field = Subscription.class.getDeclaredField("totalUsageCount");
+            field.setAccessible(true);
+            field.set(subscription, totalUsageCount);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void setSubscriptionId(Subscription subscription, Long id) {
         try {
             java.lang.reflect.Field idField = Subscription.class.getDeclaredField("id");
@@ -0,0 +1,278 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CheckInBuffer 테스트")
+class CheckInBufferTest {
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+    private final LocalDate targetDate = LocalDate.of(2025, 1, 15);
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-15T10:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Nested
+    @DisplayName("토글 상쇄")
+    class Coalescing {
+
+        @Test
+        @DisplayName("짝수 번 토글해 DB 상태로 돌아오면 반영할 항목이 없다")
+        void toggleTwice_CancelsOut() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+
+            // when
+            boolean first = buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            boolean second = buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> {
+                throw new AssertionError("버퍼에 있으면 DB를 다시 조회하지 않는다");
+            });
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(buffer.drainReady()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("홀수 번 토글하면 최종 상태 하나만 반영 대상이 된다")
+        void toggleThreeTimes_KeepsNetChange() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            }
+            List<CheckInBuffer.Pending> drained = buffer.drainReady();
+
+            // then
+            assertThat(drained).hasSize(1);
+            assertThat(drained.get(0).checkedIn()).isTrue();
+        }
+
+        @Test
+        @DisplayName("상쇄 대기 시간이 지나지 않은 항목은 반영하지 않는다")
+        void drainReady_WaitsForWindow() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ofSeconds(2), null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // when & then
+            assertThat(buffer.drainReady()).isEmpty();
+            assertThat(buffer.drainUser(TEST_USER_UUID)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("반영 중인 항목을 다시 토글하면 반영 중 상태를 기준으로 뒤집는다")
+        void toggleWhileInFlight_UsesInFlightState() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            List<CheckInBuffer.Pending> inFlight = buffer.drainReady();
+
+            // when
+            boolean result = buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.complete(inFlight);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(buffer.drainReady()).singleElement()
+                    .extracting(CheckInBuffer.Pending::checkedIn).isEqualTo(false);
+        }
+
+        @Test
+        @DisplayName("반영이 실패하면 반영 중 들어온 토글의 기준을 실패 전 DB 상태로 되돌린다")
+        void requeueAfterToggleWhileInFlight_KeepsNextToggle() {
+            // given: 출석 반영 중 취소 토글, 반영 실패
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            List<CheckInBuffer.Pending> inFlight = buffer.drainReady();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.requeue(inFlight);
+
+            // when: DB는 여전히 미출석이므로 다시 출석
+            boolean result = buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(buffer.drainReady()).singleElement().satisfies(entry -> {
+                assertThat(entry.checkedIn()).isTrue();
+                assertThat(entry.persistedState()).isFalse();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("반영 실패")
+    class Failure {
+
+        @Test
+        @DisplayName("반영에 실패한 항목은 재시도 간격이 지나기 전에는 다시 꺼내지 않는다")
+        void requeue_WaitsBeforeRetry() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // when
+            buffer.requeue(buffer.drainReady());
+
+            // then
+            assertThat(buffer.drainReady()).isEmpty();
+            assertThat(buffer.size()).isEqualTo(1);
+            assertThat(buffer.drainAll()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("계속 실패하는 항목은 최대 횟수 후 버퍼에서 빼 실패 목록으로 옮긴다")
+        void requeue_GivesUpAfterMaxAttempts() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // when
+            for (int i = 0; i < CheckInBuffer.MAX_FLUSH_ATTEMPTS; i++) {
+                buffer.requeue(buffer.drainAll());
+            }
+
+            // then
+            assertThat(buffer.size()).isZero();
+            assertThat(buffer.pendingState(1L, targetDate)).isEmpty();
+            assertThat(buffer.getDeadLetters()).singleElement()
+                    .satisfies(entry -> assertThat(entry.checkedIn()).isTrue());
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기 덧씌우기")
+    class Overlay {
+
+        @Test
+        @DisplayName("대기 중인 출석 변경을 월간 횟수와 출석 여부에 반영한다")
+        void pendingOverlay() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ofSeconds(2), null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate.plusDays(1), () -> true);
+
+            // when & then
+            assertThat(buffer.pendingMonthlyDelta(1L, YearMonth.of(2025, 1))).isZero();
+            assertThat(buffer.pendingState(1L, targetDate)).contains(true);
+            assertThat(buffer.pendingState(1L, targetDate.plusDays(1))).contains(false);
+            assertThat(buffer.pendingState(2L, targetDate)).isEmpty();
+            assertThat(buffer.hasPending(TEST_USER_UUID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("반영 중인 항목도 반영이 끝날 때까지 월간 횟수에 포함한다")
+        void pendingOverlay_IncludesInFlight() {
+            // given
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, null, false, clock);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate.plusDays(1), () -> false);
+            List<CheckInBuffer.Pending> inFlight = buffer.drainReady();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate.plusDays(1), () -> false);
+
+            // when
+            int whileFlushing = buffer.pendingMonthlyDelta(1L, YearMonth.of(2025, 1));
+            buffer.complete(inFlight);
+            int afterComplete = buffer.pendingMonthlyDelta(1L, YearMonth.of(2025, 1));
+
+            // then: 반영 중 +2, 대기 중 취소 -1
+            assertThat(whileFlushing).isEqualTo(1);
+            assertThat(buffer.pendingState(1L, targetDate)).isEmpty();
+            assertThat(afterComplete).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("WAL")
+    class WriteAheadLog {
+
+        @Test
+        @DisplayName("반영 전에 종료되어도 재기동 시 WAL에서 대기 항목을 복구한다")
+        void replay_RestoresPending(@TempDir Path dir) throws Exception {
+            // given
+            Path walPath = dir.resolve("check-in.wal");
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, walPath, true, clock);
+            buffer.openWal();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.toggle(TEST_USER_UUID, 2L, targetDate, () -> false);
+            buffer.toggle(TEST_USER_UUID, 2L, targetDate, () -> false);
+            buffer.closeWal();
+
+            // when
+            CheckInBuffer restarted = new CheckInBuffer(true, Duration.ZERO, walPath, true, clock);
+            restarted.openWal();
+
+            // then
+            List<CheckInBuffer.Pending> drained = restarted.drainReady();
+            assertThat(drained).singleElement().satisfies(entry -> {
+                assertThat(entry.subscriptionId()).isEqualTo(1L);
+                assertThat(entry.checkedIn()).isTrue();
+                assertThat(entry.userUuid()).isEqualTo(TEST_USER_UUID);
+                assertThat(entry.persistedState()).isNull();
+            });
+            restarted.closeWal();
+        }
+
+        @Test
+        @DisplayName("반영이 끝난 항목은 WAL에서 지워진다")
+        void complete_CompactsWal(@TempDir Path dir) throws Exception {
+            // given
+            Path walPath = dir.resolve("check-in.wal");
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, walPath, false, clock);
+            buffer.openWal();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // when
+            buffer.complete(buffer.drainReady());
+            buffer.closeWal();
+
+            // then
+            CheckInBuffer restarted = new CheckInBuffer(true, Duration.ZERO, walPath, false, clock);
+            restarted.openWal();
+            assertThat(restarted.size()).isZero();
+            restarted.closeWal();
+        }
+
+        @Test
+        @DisplayName("반영 완료는 완료 표시만 추가하고, 반영 중 들어온 토글은 재기동 후에도 남는다")
+        void complete_AppendsMarker(@TempDir Path dir) throws Exception {
+            // given
+            Path walPath = dir.resolve("check-in.wal");
+            CheckInBuffer buffer = new CheckInBuffer(true, Duration.ZERO, walPath, false, clock);
+            buffer.openWal();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+            buffer.toggle(TEST_USER_UUID, 2L, targetDate, () -> false);
+            List<CheckInBuffer.Pending> inFlight = buffer.drainReady();
+            buffer.toggle(TEST_USER_UUID, 1L, targetDate, () -> false);
+
+            // when
+            buffer.complete(inFlight);
+            buffer.closeWal();
+
+            // then
+            assertThat(Files.readAllLines(walPath)).last().asString().startsWith("C\t2\t");
+            CheckInBuffer restarted = new CheckInBuffer(true, Duration.ZERO, walPath, false, clock);
+            restarted.openWal();
+            assertThat(restarted.drainReady()).singleElement().satisfies(entry -> {
+                assertThat(entry.subscriptionId()).isEqualTo(1L);
+                assertThat(entry.checkedIn()).isFalse();
+            });
+            restarted.closeWal();
+        }
+    }
+}
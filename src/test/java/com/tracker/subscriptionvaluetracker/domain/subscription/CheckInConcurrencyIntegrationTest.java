@@ -0,0 +1,141 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 구독·날짜에 동시 출석 요청이 몰려도 출석 기록은 하루 1건이고 카운터/롤업이 기록과 일치하는지 검증
+ * (스레드마다 별도 트랜잭션이 커밋되어야 하므로 @Transactional을 붙이지 않음)
+ */
+@SpringBootTest
+@DisplayName("출석 동시성 통합 테스트")
+class CheckInConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UsageLogRepository usageLogRepository;
+
+    @Autowired
+    private UsageMonthlyRollupRepository rollupRepository;
+
+    private final String TEST_USER_UUID = "test-user-concurrency";
+    private final LocalDate targetDate = LocalDate.now().minusDays(1);
+
+    private Long subscriptionId;
+
+    @BeforeEach
+    void setUp() {
+        SubscriptionForm form = new SubscriptionForm(
+                "헬스장", "gym", "1개월",
+                new BigDecimal("30000"), new BigDecimal("30000"),
+                LocalDate.now().minusMonths(1), null
+        );
+        subscriptionId = subscriptionService.createSubscription(TEST_USER_UUID, form).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        usageLogRepository.deleteAll(usageLogRepository.findBySubscriptionIdOrderByUsedAtDesc(subscriptionId));
+        rollupRepository.deleteAll(rollupRepository.findBySubscriptionIdInAndUsageMonthBetween(
+                List.of(subscriptionId), "0000-01", "9999-12"));
+        subscriptionRepository.deleteById(subscriptionId);
+    }
+
+    @Test
+    @DisplayName("같은 날짜 동시 출석은 한 요청만 성공하고 기록은 1건이다")
+    void concurrentCheckIn_OnlyOneSucceeds() throws Exception {
+        // given
+        AtomicInteger succeeded = new AtomicInteger();
+
+        // when
+        runConcurrently(() -> {
+            try {
+                subscriptionService.checkInOnDate(subscriptionId, TEST_USER_UUID, targetDate);
+                succeeded.incrementAndGet();
+            } catch (IllegalStateException | DataAccessException e) {
+                // 이미 출석 (MySQL은 0건 INSERT, H2 MERGE는 경합 시 중복 키 예외로 롤백)
+            }
+        });
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertCountersMatchLogs(1);
+    }
+
+    @Test
+    @DisplayName("같은 날짜 동시 토글 후에도 기록은 최대 1건이고 카운터/롤업이 기록과 일치한다")
+    void concurrentToggle_KeepsCountersConsistent() throws Exception {
+        // when
+        runConcurrently(() -> {
+            try {
+                subscriptionService.toggleCheckIn(subscriptionId, TEST_USER_UUID, targetDate);
+            } catch (DataAccessException e) {
+                // 경합에서 밀린 트랜잭션은 통째로 롤백되므로 상태에 영향 없음
+            }
+        });
+
+        // then
+        long logCount = usageLogRepository.countBySubscriptionId(subscriptionId);
+        assertThat(logCount).isLessThanOrEqualTo(1);
+        assertCountersMatchLogs(logCount);
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertCountersMatchLogs(long expectedCount) {
+        assertThat(usageLogRepository.countBySubscriptionId(subscriptionId)).isEqualTo(expectedCount);
+
+        Subscription subscription = subscriptionRepository.findById(subscriptionId).orElseThrow();
+        assertThat(subscription.getTotalUsageCount()).isEqualTo(expectedCount);
+
+        List<UsageMonthlyRollup> rollups = rollupRepository.findBySubscriptionIdInAndUsageMonthBetween(
+                List.of(subscriptionId), YearMonth.from(targetDate).toString(), YearMonth.from(targetDate).toString());
+        assertThat(rollups).hasSizeLessThanOrEqualTo(1);
+        assertThat(rollups.stream().mapToLong(UsageMonthlyRollup::getUsageCount).sum()).isEqualTo(expectedCount);
+    }
+}
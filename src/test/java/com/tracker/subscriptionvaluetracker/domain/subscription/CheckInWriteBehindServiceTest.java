@@ -0,0 +1,190 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.shard.ShardRouting;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckInWriteBehindService 테스트")
+class CheckInWriteBehindServiceTest {
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ShardRouting shardRouting;
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+    private final LocalDate targetDate = LocalDate.of(2025, 1, 15);
+
+    @Test
+    @DisplayName("버퍼가 꺼져 있으면 토글마다 바로 DB에 반영한다")
+    void toggle_BufferDisabled_DelegatesToService() {
+        // given
+        CheckInWriteBehindService service = createService(false);
+        given(subscriptionService.toggleCheckIn(1L, TEST_USER_UUID, targetDate)).willReturn(true);
+
+        // when
+        boolean result = service.toggleCheckIn(1L, TEST_USER_UUID, targetDate);
+
+        // then
+        assertThat(result).isTrue();
+        verify(subscriptionService, never()).applyCheckInStates(anyList());
+    }
+
+    @Test
+    @DisplayName("버퍼가 켜져 있으면 상태만 기록하고 사용자 조회 전에 배치로 반영한다")
+    void toggle_BufferEnabled_FlushesOnRead() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        given(subscriptionService.getSubscription(1L, TEST_USER_UUID))
+                .willReturn(Optional.of(mock(Subscription.class)));
+        given(subscriptionService.isCheckedIn(1L, targetDate)).willReturn(false);
+
+        // when
+        boolean result = service.toggleCheckIn(1L, TEST_USER_UUID, targetDate);
+        service.flushUser(TEST_USER_UUID);
+
+        // then
+        assertThat(result).isTrue();
+        verify(subscriptionService, never()).toggleCheckIn(any(), any(), any());
+        verify(subscriptionService).applyCheckInStates(argThat(changes ->
+                changes.size() == 1 && changes.get(0).checkedIn()));
+        verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("버퍼가 켜져 있으면 버퍼 상태를 덧씌운 카드 상태를 반환한다")
+    void toggleWithState_BufferEnabled_BuildsFromBuffer() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        Subscription subscription = mock(Subscription.class);
+        CheckInResult expected = mock(CheckInResult.class);
+        given(subscriptionService.getSubscription(1L, TEST_USER_UUID)).willReturn(Optional.of(subscription));
+        given(subscriptionService.isCheckedIn(1L, targetDate)).willReturn(false);
+        given(subscriptionService.getCheckInResult(subscription, targetDate, true)).willReturn(expected);
+
+        // when
+        CheckInResult result = service.toggleCheckInWithState(1L, TEST_USER_UUID, targetDate);
+
+        // then
+        assertThat(result).isSameAs(expected);
+        verify(subscriptionService, never()).toggleCheckInWithState(any(), any(), any());
+        verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 항목을 버퍼로 되돌려 다음 주기에 재시도한다")
+    void flush_Failure_Requeues() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        given(subscriptionService.getSubscription(1L, TEST_USER_UUID))
+                .willReturn(Optional.of(mock(Subscription.class)));
+        given(subscriptionService.isCheckedIn(1L, targetDate)).willReturn(false);
+        service.toggleCheckIn(1L, TEST_USER_UUID, targetDate);
+        willThrow(new IllegalStateException("DB 오류")).given(subscriptionService).applyCheckInStates(anyList());
+
+        // when
+        service.flush();
+
+        // then
+        assertThat(checkInBuffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 반영이 실패하면 항목별로 다시 반영해 실패한 항목만 버퍼에 남긴다")
+    void flush_BatchFailure_RetriesEachEntry() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        given(subscriptionService.getSubscription(anyLong(), eq(TEST_USER_UUID)))
+                .willReturn(Optional.of(mock(Subscription.class)));
+        given(subscriptionService.isCheckedIn(anyLong(), eq(targetDate))).willReturn(false);
+        service.toggleCheckIn(1L, TEST_USER_UUID, targetDate);
+        service.toggleCheckIn(2L, TEST_USER_UUID, targetDate);
+        willAnswer(invocation -> {
+            List<CheckInBuffer.Pending> changes = invocation.getArgument(0);
+            if (changes.stream().anyMatch(change -> change.subscriptionId().equals(1L))) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return null;
+        }).given(subscriptionService).applyCheckInStates(anyList());
+
+        // when
+        service.flush();
+
+        // then
+        assertThat(checkInBuffer.size()).isEqualTo(1);
+        assertThat(checkInBuffer.pendingState(1L, targetDate)).contains(true);
+        assertThat(checkInBuffer.pendingState(2L, targetDate)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 변경은 사용자별로 나눠 그 사용자를 바인딩한 채 반영한다")
+    void flush_GroupsByUser() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        String otherUserUuid = "other-user-uuid-5678";
+        given(subscriptionService.getSubscription(anyLong(), anyString()))
+                .willReturn(Optional.of(mock(Subscription.class)));
+        given(subscriptionService.isCheckedIn(anyLong(), eq(targetDate))).willReturn(false);
+        service.toggleCheckIn(1L, TEST_USER_UUID, targetDate);
+        service.toggleCheckIn(2L, otherUserUuid, targetDate);
+        List<String> boundUsers = new ArrayList<>();
+        willAnswer(invocation -> boundUsers.add(UserContext.currentUser()))
+                .given(subscriptionService).applyCheckInStates(anyList());
+
+        // when
+        service.flush();
+
+        // then
+        assertThat(boundUsers).containsExactlyInAnyOrder(TEST_USER_UUID, otherUserUuid);
+        assertThat(UserContext.currentUser()).isNull();
+    }
+
+    private CheckInBuffer checkInBuffer;
+
+    @Test
+    @DisplayName("이동 중인 사용자의 토글은 버퍼에 넣기 전에 거부한다")
+    void toggle_MovingUser_RejectedBeforeBuffering() {
+        // given
+        CheckInWriteBehindService service = createService(true);
+        given(subscriptionService.getSubscription(1L, TEST_USER_UUID))
+                .willReturn(Optional.of(mock(Subscription.class)));
+        willThrow(new IllegalStateException("이동 중")).given(shardRouting).checkNotMoving(TEST_USER_UUID);
+
+        // when & then
+        assertThatThrownBy(() -> service.toggleCheckIn(1L, TEST_USER_UUID, targetDate))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(checkInBuffer.size()).isZero();
+        verify(eventPublisher, never()).publishEvent(any(UserDataChangedEvent.class));
+    }
+
+    private CheckInWriteBehindService createService(boolean enabled) {
+        checkInBuffer = new CheckInBuffer(enabled, Duration.ZERO, null, false, Clock.systemDefaultZone());
+        return new CheckInWriteBehindService(subscriptionService, checkInBuffer, eventPublisher, shardRouting);
+    }
+}
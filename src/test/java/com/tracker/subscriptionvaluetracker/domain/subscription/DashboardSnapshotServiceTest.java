@@ -0,0 +1,121 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.ParallelReads;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.SyncVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardSnapshotService 테스트")
+class DashboardSnapshotServiceTest {
+
+    @Mock
+    private SubscriptionService subscriptionService;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private SyncVersionRepository syncVersionRepository;
+
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    private final String TEST_USER_UUID = "test-user-uuid-1234";
+
+    @BeforeEach
+    void setUp() {
+        dashboardSnapshotService = new DashboardSnapshotService(
+                subscriptionService, calendarService, new ParallelReads(true, 2, Duration.ofSeconds(5)),
+                syncVersionRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("요약 통계를 계산하고 같은 사용자의 재조회는 캐시에서 반환한다")
+    void getSnapshot_CachesPerUser() {
+        // given
+        given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
+                .willReturn(List.of(
+                        createViewDto(1L, "넷플릭스", "17000", 5),
+                        createViewDto(2L, "헬스장", "30000", 10)));
+        given(calendarService.getSubscriptionProgress(TEST_USER_UUID))
+                .willReturn(Collections.emptyList());
+
+        // when
+        DashboardSnapshot first = dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+        DashboardSnapshot second = dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getTotalMonthlyFee()).isEqualTo(new BigDecimal("47000"));
+        assertThat(first.getTotalUsageCount()).isEqualTo(15);
+        assertThat(first.getAvgDailyCost()).isEqualTo(new BigDecimal("3133"));
+        assertThat(first.getActiveSubscriptionCount()).isEqualTo(2L);
+        assertThat(first.getSnapshotDate()).isEqualTo(LocalDate.now());
+        verify(subscriptionService, times(1)).getSubscriptionsWithStats(TEST_USER_UUID);
+        assertThat(dashboardSnapshotService.getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 데이터 변경 이벤트를 받으면 해당 사용자 스냅샷만 다시 계산한다")
+    void onUserDataChanged_InvalidatesOnlyThatUser() {
+        // given
+        String otherUser = "other-user-uuid";
+        given(subscriptionService.getSubscriptionsWithStats(anyString())).willReturn(Collections.emptyList());
+        given(calendarService.getSubscriptionProgress(anyString())).willReturn(Collections.emptyList());
+        dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+        dashboardSnapshotService.getSnapshot(otherUser);
+
+        // when
+        dashboardSnapshotService.onUserDataChanged(UserDataChangedEvent.subscription(TEST_USER_UUID));
+        dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+        dashboardSnapshotService.getSnapshot(otherUser);
+
+        // then
+        verify(subscriptionService, times(2)).getSubscriptionsWithStats(TEST_USER_UUID);
+        verify(subscriptionService, times(1)).getSubscriptionsWithStats(otherUser);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 쓰기로 저장된 동기화 버전이 바뀌면 다시 계산한다")
+    void getSnapshot_PersistedVersionChanged_Rebuilds() {
+        // given
+        given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID)).willReturn(Collections.emptyList());
+        given(calendarService.getSubscriptionProgress(TEST_USER_UUID)).willReturn(Collections.emptyList());
+        given(syncVersionRepository.findVersion(TEST_USER_UUID)).willReturn(Optional.of(3L), Optional.of(3L), Optional.of(4L));
+
+        // when
+        DashboardSnapshot first = dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+        DashboardSnapshot cached = dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+        DashboardSnapshot rebuilt = dashboardSnapshotService.getSnapshot(TEST_USER_UUID);
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first);
+        verify(subscriptionService, times(2)).getSubscriptionsWithStats(TEST_USER_UUID);
+    }
+
+    private SubscriptionViewDto createViewDto(Long id, String name, String monthlyAmount, int usageCount) {
+        return new SubscriptionViewDto(
+                id, name, "test", "📌", "1개월",
+                new BigDecimal(monthlyAmount), new BigDecimal(monthlyAmount),
+                LocalDate.now(), null, usageCount,
+                new BigDecimal("3000"), "good", false
+        );
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -32,6 +33,12 @@ class SubscriptionControllerTest {
     @Mock
     private SubscriptionService subscriptionService;
 
+    @Mock
+    private CheckInWriteBehindService checkInWriteBehindService;
+
+    @Mock
+    private DashboardSnapshotService dashboardSnapshotService;
+
     @Mock
     private Model model;
 
@@ -201,7 +208,7 @@ class SubscriptionControllerTest {
         @DisplayName("오늘 출석 체크하고 캘린더로 리다이렉트한다")
         void checkIn_Today_RedirectsToCalendar() {
             // given
-            given(subscriptionService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
+            given(checkInWriteBehindService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
                     .willReturn(true);
 
             // when
@@ -218,7 +225,7 @@ class SubscriptionControllerTest {
             // given
             String dateStr = "2025-01-15";
             LocalDate targetDate = LocalDate.of(2025, 1, 15);
-            given(subscriptionService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(targetDate)))
+            given(checkInWriteBehindService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(targetDate)))
                     .willReturn(true);
 
             // when
@@ -233,7 +240,7 @@ class SubscriptionControllerTest {
         @DisplayName("출석 취소 시 취소 메시지를 표시한다")
         void checkIn_Cancel_ShowsCancelMessage() {
             // given
-            given(subscriptionService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
+            given(checkInWriteBehindService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
                     .willReturn(false);
 
             // when
@@ -244,11 +251,41 @@ class SubscriptionControllerTest {
             verify(redirectAttributes).addFlashAttribute("message", "출석이 취소되었습니다.");
         }
 
+        @Test
+        @DisplayName("HTMX 요청이면 토글 결과와 토글 전 스냅샷으로 카드와 요약 통계를 응답한다")
+        void checkIn_Htmx_UsesToggleResultWithoutReread() {
+            // given
+            SubscriptionViewDto before = createViewDto(1L, "넷플릭스");
+            SubscriptionViewDto after = new SubscriptionViewDto(
+                    1L, "넷플릭스", "netflix", "🎬", "1개월",
+                    new BigDecimal("17000"), new BigDecimal("17000"),
+                    LocalDate.now(), null, 6,
+                    new BigDecimal("2833"), "normal", true
+            );
+            DashboardSnapshot snapshot = new DashboardSnapshot(LocalDate.now(), List.of(before), List.of(),
+                    new BigDecimal("17000"), 5, new BigDecimal("3400"), 1);
+            given(request.getHeader("HX-Request")).willReturn("true");
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID)).willReturn(snapshot);
+            given(checkInWriteBehindService.toggleCheckInWithState(1L, TEST_USER_UUID, LocalDate.now()))
+                    .willReturn(new CheckInResult(true, LocalDate.now(), after, 6, new BigDecimal("2833"), "normal"));
+
+            // when
+            String result = controller.checkIn(1L, null, null, model, request, response, redirectAttributes);
+
+            // then
+            assertThat(result).isEqualTo("fragments/check-in-response");
+            verify(model).addAttribute("sub", after);
+            verify(model).addAttribute("totalUsageCount", 6);
+            verify(model).addAttribute("avgDailyCost", new BigDecimal("2833"));
+            verify(response).setHeader(eq("HX-Trigger"), contains(CheckInResult.APPLIED_EVENT));
+            verifyNoInteractions(subscriptionService);
+        }
+
         @Test
         @DisplayName("returnUrl이 있으면 해당 URL로 리다이렉트한다")
         void checkIn_WithReturnUrl() {
             // given
-            given(subscriptionService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
+            given(checkInWriteBehindService.toggleCheckIn(eq(1L), eq(TEST_USER_UUID), eq(LocalDate.now())))
                     .willReturn(true);
 
             // when
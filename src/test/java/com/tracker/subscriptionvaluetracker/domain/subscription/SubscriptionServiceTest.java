@@ -1,5 +1,9 @@
 package com.tracker.subscriptionvaluetracker.domain.subscription;
 
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
+import com.tracker.subscriptionvaluetracker.common.EmojiMapper;
+import com.tracker.subscriptionvaluetracker.common.UserDataChangedEvent;
+import com.tracker.subscriptionvaluetracker.domain.sync.ChangeLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,12 +12,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +40,21 @@ class SubscriptionServiceTest {
     @Mock
     private UsageLogRepository usageLogRepository;
 
+    @Mock
+    private UsageRollupService usageRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CheckInBuffer checkInBuffer;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private UsageArchivePolicy usageArchivePolicy;
+
     @InjectMocks
     private SubscriptionService subscriptionService;
 
@@ -235,16 +259,18 @@ class SubscriptionServiceTest {
             Subscription subscription = createTestSubscription("헬스장", "30000");
             given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
                     .willReturn(Optional.of(subscription));
-            given(usageLogRepository.findBySubscriptionIdAndUsedAt(1L, LocalDate.now()))
-                    .willReturn(Optional.empty());
-            given(usageLogRepository.save(any(UsageLog.class))).willAnswer(i -> i.getArgument(0));
+            given(usageLogRepository.deleteBySubscriptionIdAndUsedAt(1L, LocalDate.now())).willReturn(0);
+            given(usageLogRepository.insertIfAbsent(1L, LocalDate.now(), null)).willReturn(1);
 
             // when
             boolean result = subscriptionService.toggleCheckIn(1L, TEST_USER_UUID, LocalDate.now());
 
             // then
             assertThat(result).isTrue();
-            verify(usageLogRepository).save(any(UsageLog.class));
+            verify(usageLogRepository, never()).findBySubscriptionIdAndUsedAt(any(), any());
+            verify(subscriptionRepository).incrementUsage(1L, LocalDate.now());
+            verify(usageRollupService).increment(1L, LocalDate.now());
+            verify(changeLogService).record(TEST_USER_UUID, ChangeLogService.Change.usageLog(1L, LocalDate.now(), false));
         }
 
         @Test
@@ -252,19 +278,41 @@ class SubscriptionServiceTest {
         void toggleCheckIn_Cancel() {
             // given
             Subscription subscription = createTestSubscription("헬스장", "30000");
-            UsageLog existingLog = new UsageLog(1L, LocalDate.now());
 
             given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
                     .willReturn(Optional.of(subscription));
-            given(usageLogRepository.findBySubscriptionIdAndUsedAt(1L, LocalDate.now()))
-                    .willReturn(Optional.of(existingLog));
+            given(usageLogRepository.deleteBySubscriptionIdAndUsedAt(1L, LocalDate.now())).willReturn(1);
 
             // when
             boolean result = subscriptionService.toggleCheckIn(1L, TEST_USER_UUID, LocalDate.now());
 
             // then
             assertThat(result).isFalse();
-            verify(usageLogRepository).delete(existingLog);
+            verify(usageLogRepository, never()).insertIfAbsent(any(), any(), any());
+            verify(subscriptionRepository).decrementUsage(1L);
+            verify(usageRollupService).decrement(1L, LocalDate.now());
+            // 물리 삭제된 출석은 동기화용 삭제 기록(tombstone)으로 남김
+            verify(changeLogService).record(TEST_USER_UUID, ChangeLogService.Change.usageLog(1L, LocalDate.now(), true));
+        }
+
+        @Test
+        @DisplayName("동시 요청이 먼저 출석을 기록했으면 카운터를 다시 올리지 않고 출석 상태로 응답한다")
+        void toggleCheckIn_LostInsertRace() {
+            // given
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+
+            given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
+                    .willReturn(Optional.of(subscription));
+            given(usageLogRepository.deleteBySubscriptionIdAndUsedAt(1L, LocalDate.now())).willReturn(0);
+            given(usageLogRepository.insertIfAbsent(1L, LocalDate.now(), null)).willReturn(0);
+
+            // when
+            boolean result = subscriptionService.toggleCheckIn(1L, TEST_USER_UUID, LocalDate.now());
+
+            // then
+            assertThat(result).isTrue();
+            verify(subscriptionRepository, never()).incrementUsage(any(), any());
+            verifyNoInteractions(usageRollupService, eventPublisher, changeLogService);
         }
 
         @Test
@@ -276,15 +324,17 @@ class SubscriptionServiceTest {
 
             given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
                     .willReturn(Optional.of(subscription));
-            given(usageLogRepository.existsBySubscriptionIdAndUsedAt(1L, targetDate))
-                    .willReturn(false);
-            given(usageLogRepository.save(any(UsageLog.class))).willAnswer(i -> i.getArgument(0));
+            given(usageLogRepository.insertIfAbsent(1L, targetDate, null)).willReturn(1);
+            given(usageLogRepository.findBySubscriptionIdAndUsedAt(1L, targetDate))
+                    .willReturn(Optional.of(new UsageLog(1L, targetDate)));
 
             // when
             UsageLog result = subscriptionService.checkInOnDate(1L, TEST_USER_UUID, targetDate);
 
             // then
             assertThat(result.getUsedAt()).isEqualTo(targetDate);
+            verify(usageRollupService).increment(1L, targetDate);
+            verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
         }
 
         @Test
@@ -296,13 +346,335 @@ class SubscriptionServiceTest {
 
             given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
                     .willReturn(Optional.of(subscription));
-            given(usageLogRepository.existsBySubscriptionIdAndUsedAt(1L, targetDate))
-                    .willReturn(true);
+            given(usageLogRepository.insertIfAbsent(1L, targetDate, null)).willReturn(0);
 
             // when & then
             assertThatThrownBy(() -> subscriptionService.checkInOnDate(1L, TEST_USER_UUID, targetDate))
                     .isInstanceOf(IllegalStateException.class)
                     .hasMessage("해당 날짜에 이미 출석했습니다.");
+            verify(usageRollupService, never()).increment(any(), any());
+        }
+
+        @Test
+        @DisplayName("출석 기록을 취소하면 누적 카운터와 해당 월 롤업도 감소한다")
+        void cancelCheckIn_DecrementsRollup() {
+            // given
+            LocalDate targetDate = LocalDate.of(2025, 1, 15);
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            UsageLog usageLog = new UsageLog(1L, targetDate);
+
+            given(usageLogRepository.findById(10L)).willReturn(Optional.of(usageLog));
+            given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
+                    .willReturn(Optional.of(subscription));
+            given(usageLogRepository.deleteBySubscriptionIdAndUsedAt(1L, targetDate)).willReturn(1);
+
+            // when
+            subscriptionService.cancelCheckIn(10L, TEST_USER_UUID);
+
+            // then
+            verify(subscriptionRepository).decrementUsage(1L);
+            verify(usageRollupService).decrement(1L, targetDate);
+        }
+
+        @Test
+        @DisplayName("버퍼에 있는 동안 보관된 날짜의 변경은 반영하지 않고 나머지만 반영한다")
+        void applyCheckInStates_SkipsArchivedDate() {
+            // given
+            LocalDate archivedDate = LocalDate.of(2020, 1, 15);
+            LocalDate recentDate = LocalDate.now();
+            given(usageArchivePolicy.isArchived(archivedDate)).willReturn(true);
+            given(usageLogRepository.insertIfAbsent(1L, recentDate, null)).willReturn(1);
+
+            // when
+            subscriptionService.applyCheckInStates(List.of(
+                    new CheckInBuffer.Pending(1L, archivedDate, TEST_USER_UUID, false, true, 0L),
+                    new CheckInBuffer.Pending(1L, recentDate, TEST_USER_UUID, false, true, 0L)));
+
+            // then
+            verify(usageLogRepository, never()).insertIfAbsent(1L, archivedDate, null);
+            verify(subscriptionRepository, never()).incrementUsage(1L, archivedDate);
+            verify(subscriptionRepository).incrementUsage(1L, recentDate);
+        }
+    }
+
+    @Nested
+    @DisplayName("출석 토글 후 카드 상태")
+    class ToggleCheckInWithState {
+
+        @Test
+        @DisplayName("오늘 출석하면 토글 전 조회 값에 1을 더해 카드 상태를 계산하고 다시 조회하지 않는다")
+        void toggleToday_IncrementsWithoutReread() {
+            // given
+            LocalDate today = LocalDate.now();
+            String currentMonth = YearMonth.from(today).toString();
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(subscription, 1L);
+            given(subscriptionRepository.findCheckInContext(1L, TEST_USER_UUID, currentMonth, currentMonth, today))
+                    .willReturn(Optional.of(checkInContext(subscription, 4L, 4L, 0L)));
+            given(usageLogRepository.insertIfAbsent(1L, today, null)).willReturn(1);
+
+            // when
+            CheckInResult result = subscriptionService.toggleCheckInWithState(1L, TEST_USER_UUID, today);
+
+            // then
+            assertThat(result.checkedIn()).isTrue();
+            assertThat(result.subscription().getUsageCount()).isEqualTo(5);
+            assertThat(result.subscription().getDailyCost()).isEqualByComparingTo("6000");
+            assertThat(result.subscription().isCheckedInToday()).isTrue();
+            assertThat(result.dateMonthUsageCount()).isEqualTo(5);
+            verify(usageRollupService, never()).getMonthlyCount(any(), any());
+            verify(usageLogRepository, never()).existsBySubscriptionIdAndUsedAt(any(), any());
+            verify(usageLogRepository, never()).countBySubscriptionIdAndUsedAtBetween(any(), any(), any());
+            verify(subscriptionRepository, never()).findByIdAndUserUuid(any(), any());
+        }
+
+        @Test
+        @DisplayName("지난달 출석을 취소하면 이번 달 카드는 그대로 두고 해당 월 값만 1을 뺀다")
+        void cancelPreviousMonth_KeepsCurrentMonthCard() {
+            // given
+            LocalDate today = LocalDate.now();
+            LocalDate targetDate = today.minusMonths(1).withDayOfMonth(1);
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(subscription, 1L);
+            given(subscriptionRepository.findCheckInContext(1L, TEST_USER_UUID,
+                    YearMonth.from(today).toString(), YearMonth.from(targetDate).toString(), today))
+                    .willReturn(Optional.of(checkInContext(subscription, 3L, 10L, 1L)));
+            given(usageLogRepository.deleteBySubscriptionIdAndUsedAt(1L, targetDate)).willReturn(1);
+
+            // when
+            CheckInResult result = subscriptionService.toggleCheckInWithState(1L, TEST_USER_UUID, targetDate);
+
+            // then
+            assertThat(result.checkedIn()).isFalse();
+            assertThat(result.subscription().getUsageCount()).isEqualTo(3);
+            assertThat(result.subscription().isCheckedInToday()).isTrue();
+            assertThat(result.dateMonthUsageCount()).isEqualTo(9);
+            assertThat(result.dateMonthDailyCost()).isEqualByComparingTo("3333");
+            assertThat(result.dateMonthCostLevel()).isEqualTo("warning");
+            verify(usageRollupService).decrement(1L, targetDate);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 구독이면 쓰기 없이 예외가 발생한다")
+        void toggle_NotFound() {
+            // given
+            LocalDate today = LocalDate.now();
+            given(subscriptionRepository.findCheckInContext(eq(999L), eq(TEST_USER_UUID), any(), any(), eq(today)))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> subscriptionService.toggleCheckInWithState(999L, TEST_USER_UUID, today))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("구독을 찾을 수 없습니다.");
+            verifyNoInteractions(usageLogRepository, usageRollupService, changeLogService);
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 출석")
+    class BulkCheckIn {
+
+        @Test
+        @DisplayName("소유권과 기존 출석을 한 번씩 조회하고 새 출석만 조건부로 저장한다")
+        void bulkCheckIn_SavesOnlyNewEntries() {
+            // given
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(subscription, 1L);
+            LocalDate jan1 = LocalDate.of(2025, 1, 1);
+            LocalDate jan2 = LocalDate.of(2025, 1, 2);
+            LocalDate feb1 = LocalDate.of(2025, 2, 1);
+
+            given(subscriptionRepository.findByIdInAndUserUuid(Set.of(1L, 2L), TEST_USER_UUID))
+                    .willReturn(List.of(subscription));
+            given(usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(1L), jan1, feb1))
+                    .willReturn(List.of(new UsageLog(1L, jan1)));
+            given(usageLogRepository.insertIfAbsent(1L, jan2, "하체")).willReturn(1);
+            given(usageLogRepository.insertIfAbsent(1L, feb1, null)).willReturn(1);
+            given(usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(1L), jan2, feb1))
+                    .willReturn(List.of(new UsageLog(1L, jan2, "하체"), new UsageLog(1L, feb1)));
+
+            List<BulkCheckInEntry> entries = List.of(
+                    new BulkCheckInEntry(1L, jan1, null),
+                    new BulkCheckInEntry(1L, jan2, "하체"),
+                    new BulkCheckInEntry(1L, jan2, null),
+                    new BulkCheckInEntry(2L, jan2, null),
+                    new BulkCheckInEntry(1L, feb1, null),
+                    new BulkCheckInEntry(1L, null, null));
+
+            // when
+            List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(TEST_USER_UUID, entries);
+
+            // then
+            assertThat(results).extracting(BulkCheckInResult::status).containsExactly(
+                    BulkCheckInResult.Status.DUPLICATE,
+                    BulkCheckInResult.Status.CREATED,
+                    BulkCheckInResult.Status.DUPLICATE,
+                    BulkCheckInResult.Status.NOT_FOUND,
+                    BulkCheckInResult.Status.CREATED,
+                    BulkCheckInResult.Status.INVALID);
+            verify(usageLogRepository, times(2)).insertIfAbsent(any(), any(), any());
+            verify(subscriptionRepository).addUsage(1L, 2, feb1);
+            verify(usageRollupService).add(1L, YearMonth.of(2025, 1), 1L);
+            verify(usageRollupService).add(1L, YearMonth.of(2025, 2), 1L);
+            verify(eventPublisher, times(2)).publishEvent(any(UserDataChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("새로 저장할 출석이 없으면 카운터와 롤업을 건드리지 않는다")
+        void bulkCheckIn_NothingToSave() {
+            // given
+            given(subscriptionRepository.findByIdInAndUserUuid(Set.of(9L), TEST_USER_UUID))
+                    .willReturn(List.of());
+
+            // when
+            List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(TEST_USER_UUID,
+                    List.of(new BulkCheckInEntry(9L, LocalDate.of(2025, 1, 1), null)));
+
+            // then
+            assertThat(results).extracting(BulkCheckInResult::status)
+                    .containsExactly(BulkCheckInResult.Status.NOT_FOUND);
+            verify(usageLogRepository, never()).insertIfAbsent(any(), any(), any());
+            verifyNoInteractions(usageRollupService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("보관된 월의 날짜는 누락 데이터(INVALID)와 구분해 ARCHIVED로 응답한다")
+        void bulkCheckIn_ArchivedDate_Archived() {
+            // given
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(subscription, 1L);
+            LocalDate archivedDate = LocalDate.of(2020, 1, 1);
+
+            given(subscriptionRepository.findByIdInAndUserUuid(Set.of(1L), TEST_USER_UUID))
+                    .willReturn(List.of(subscription));
+            given(usageArchivePolicy.isArchived(archivedDate)).willReturn(true);
+
+            // when
+            List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(TEST_USER_UUID, List.of(
+                    new BulkCheckInEntry(1L, archivedDate, null),
+                    new BulkCheckInEntry(1L, null, null)));
+
+            // then
+            assertThat(results).extracting(BulkCheckInResult::status).containsExactly(
+                    BulkCheckInResult.Status.ARCHIVED,
+                    BulkCheckInResult.Status.INVALID);
+            verify(usageLogRepository, never()).insertIfAbsent(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("조회 이후 다른 요청이 먼저 기록한 출석은 배치 실패 없이 DUPLICATE로 응답한다")
+        void bulkCheckIn_ConcurrentInsert_Duplicate() {
+            // given
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(subscription, 1L);
+            LocalDate jan1 = LocalDate.of(2025, 1, 1);
+            LocalDate jan2 = LocalDate.of(2025, 1, 2);
+
+            given(subscriptionRepository.findByIdInAndUserUuid(Set.of(1L), TEST_USER_UUID))
+                    .willReturn(List.of(subscription));
+            given(usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(1L), jan1, jan2))
+                    .willReturn(List.of());
+            given(usageLogRepository.insertIfAbsent(1L, jan1, null)).willReturn(0);
+            given(usageLogRepository.insertIfAbsent(1L, jan2, null)).willReturn(1);
+            given(usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(1L), jan2, jan2))
+                    .willReturn(List.of(new UsageLog(1L, jan2)));
+
+            // when
+            List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(TEST_USER_UUID, List.of(
+                    new BulkCheckInEntry(1L, jan1, null),
+                    new BulkCheckInEntry(1L, jan2, null)));
+
+            // then
+            assertThat(results).extracting(BulkCheckInResult::status).containsExactly(
+                    BulkCheckInResult.Status.DUPLICATE,
+                    BulkCheckInResult.Status.CREATED);
+            verify(subscriptionRepository).addUsage(1L, 1, jan2);
+            verify(usageRollupService).add(1L, YearMonth.of(2025, 1), 1L);
+        }
+
+        @Test
+        @DisplayName("최대 건수를 넘으면 예외가 발생한다")
+        void bulkCheckIn_TooManyEntries() {
+            // given
+            List<BulkCheckInEntry> entries = Collections.nCopies(
+                    SubscriptionService.MAX_BULK_CHECK_IN + 1, new BulkCheckInEntry(1L, LocalDate.now(), null));
+
+            // when & then
+            assertThatThrownBy(() -> subscriptionService.bulkCheckIn(TEST_USER_UUID, entries))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("한 번에 최대 400건까지 출석할 수 있습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 요약 조회")
+    class Summary {
+
+        @Test
+        @DisplayName("요약 목록은 프로젝션만 조회하고 통계를 계산하지 않는다")
+        void getSubscriptionSummaries_SkipsStats() {
+            // given
+            SubscriptionSummary summary = mock(SubscriptionSummary.class);
+            given(summary.getId()).willReturn(1L);
+            given(summary.getName()).willReturn("헬스장");
+            given(summary.getEmojiCode()).willReturn("gym");
+            given(subscriptionRepository.findCurrentSummaries(eq(TEST_USER_UUID), any(LocalDate.class)))
+                    .willReturn(List.of(summary));
+
+            // when
+            List<SubscriptionSummaryDto> result = subscriptionService.getSubscriptionSummaries(TEST_USER_UUID);
+
+            // then
+            assertThat(result).containsExactly(new SubscriptionSummaryDto(1L, "헬스장", "gym", EmojiMapper.toEmoji("gym")));
+            verifyNoInteractions(usageLogRepository, usageRollupService);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 구독 요약을 조회하면 예외가 발생한다")
+        void getSubscriptionSummary_NotFound() {
+            // given
+            given(subscriptionRepository.findSummaryByIdAndUserUuid(999L, TEST_USER_UUID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> subscriptionService.getSubscriptionSummary(999L, TEST_USER_UUID))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("구독을 찾을 수 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("출석 기록 페이지 조회")
+    class UsageLogPage {
+
+        @Test
+        @DisplayName("첫 페이지는 limit + 1건을 조회하고 마지막 페이지면 커서가 없다")
+        void firstPage_LastPage() {
+            // given
+            Subscription subscription = createTestSubscription("헬스장", "30000");
+            given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID))
+                    .willReturn(Optional.of(subscription));
+            UsageLog usageLog = new UsageLog(1L, LocalDate.of(2025, 1, 15), null);
+            given(usageLogRepository.findPageBySubscriptionId(1L, Limit.of(21))).willReturn(List.of(usageLog));
+
+            // when
+            CursorPage<UsageLog> page = subscriptionService.getUsageLogPage(1L, TEST_USER_UUID, null, null);
+
+            // then
+            assertThat(page.items()).containsExactly(usageLog);
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 구독이면 예외가 발생한다")
+        void notOwned_ThrowsException() {
+            // given
+            given(subscriptionRepository.findByIdAndUserUuid(1L, TEST_USER_UUID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> subscriptionService.getUsageLogPage(1L, TEST_USER_UUID, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("구독을 찾을 수 없습니다.");
+            verifyNoInteractions(usageLogRepository);
         }
     }
 
@@ -317,7 +689,7 @@ class SubscriptionServiceTest {
             Subscription subscription = createTestSubscription("넷플릭스", "17000");
             setSubscriptionId(subscription, 1L);
 
-            given(usageLogRepository.countBySubscriptionIdAndUsedAtBetween(eq(1L), any(), any())).willReturn(0L);
+            given(usageRollupService.getMonthlyCount(1L, YearMonth.now())).willReturn(0);
 
             // when
             BigDecimal result = subscriptionService.calculateMonthlyDailyCost(subscription);
@@ -334,7 +706,7 @@ class SubscriptionServiceTest {
             Subscription subscription = createTestSubscription("헬스장", "30000");
             setSubscriptionId(subscription, 1L);
 
-            given(usageLogRepository.countBySubscriptionIdAndUsedAtBetween(eq(1L), any(), any())).willReturn(10L);
+            given(usageRollupService.getMonthlyCount(1L, YearMonth.now())).willReturn(10);
 
             // when
             BigDecimal result = subscriptionService.calculateMonthlyDailyCost(subscription);
@@ -357,7 +729,7 @@ class SubscriptionServiceTest {
             setSubscriptionId(subscription, 1L);
 
             // 이번 달 15회 사용
-            given(usageLogRepository.countBySubscriptionIdAndUsedAtBetween(eq(1L), any(), any())).willReturn(15L);
+            given(usageRollupService.getMonthlyCount(1L, YearMonth.now())).willReturn(15);
 
             // when
             BigDecimal result = subscriptionService.calculateMonthlyDailyCost(subscription);
@@ -443,7 +815,86 @@ class SubscriptionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("구독 통계 일괄 조회")
+    class SubscriptionsWithStats {
+
+        @Test
+        @DisplayName("월간 사용 횟수는 롤업에서, 오늘 출석 여부는 구독 전체를 한 번에 조회한다")
+        void getSubscriptionsWithStats_SingleAggregateQuery() {
+            // given
+            Subscription gym = createTestSubscription("헬스장", "30000");
+            setSubscriptionId(gym, 1L);
+            Subscription netflix = createTestSubscription("넷플릭스", "17000");
+            setSubscriptionId(netflix, 2L);
+
+            given(subscriptionRepository.findCurrentSubscriptions(eq(TEST_USER_UUID), any(LocalDate.class)))
+                    .willReturn(List.of(gym, netflix));
+            YearMonth currentMonth = YearMonth.now();
+            given(usageRollupService.getMonthlyCounts(List.of(1L, 2L), currentMonth, currentMonth))
+                    .willReturn(Map.of(1L, Map.of(currentMonth, 10L)));
+            given(usageLogRepository.findSubscriptionIdsCheckedInOn(List.of(1L, 2L), LocalDate.now()))
+                    .willReturn(List.of(1L));
+
+            // when
+            List<SubscriptionViewDto> result = subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID);
+
+            // then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getUsageCount()).isEqualTo(10);
+            assertThat(result.get(0).getDailyCost()).isEqualTo(new BigDecimal("3000"));
+            assertThat(result.get(0).isCheckedInToday()).isTrue();
+            // 사용 기록이 없는 구독은 월 금액 전체가 회당 비용
+            assertThat(result.get(1).getUsageCount()).isZero();
+            assertThat(result.get(1).getDailyCost()).isEqualTo(new BigDecimal("17000"));
+            assertThat(result.get(1).isCheckedInToday()).isFalse();
+
+            verify(usageRollupService, never()).getMonthlyCount(any(), any());
+            verify(usageLogRepository, never()).existsBySubscriptionIdAndUsedAt(any(), any());
+        }
+
+        @Test
+        @DisplayName("구독이 없으면 집계 쿼리를 실행하지 않는다")
+        void getSubscriptionsWithStats_NoSubscriptions() {
+            // given
+            given(subscriptionRepository.findCurrentSubscriptions(eq(TEST_USER_UUID), any(LocalDate.class)))
+                    .willReturn(List.of());
+
+            // when
+            List<SubscriptionViewDto> result = subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID);
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(usageLogRepository);
+        }
+    }
+
     // Helper methods
+    private SubscriptionCheckInContext checkInContext(Subscription subscription, Long currentMonthCount,
+                                                      Long dateMonthCount, Long todayCount) {
+        return new SubscriptionCheckInContext() {
+            @Override
+            public Subscription getSubscription() {
+                return subscription;
+            }
+
+            @Override
+            public Long getCurrentMonthCount() {
+                return currentMonthCount;
+            }
+
+            @Override
+            public Long getDateMonthCount() {
+                return dateMonthCount;
+            }
+
+            @Override
+            public Long getTodayCount() {
+                return todayCount;
+            }
+        };
+    }
+
     private Subscription createTestSubscription(String name, String monthlyAmount) {
         return new Subscription(
                 TEST_USER_UUID, name, "test", "1개월",
@@ -0,0 +1,200 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import com.tracker.subscriptionvaluetracker.common.CursorPage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 보존 기간(3개월)이 지난 달을 보관해도 출석 조회 결과가 같고, 보관된 날짜의 쓰기는 거부되는지 검증
+ */
+@SpringBootTest(properties = {
+        "tracker.usage-archive.enabled=true",
+        "tracker.usage-archive.retention-months=3"
+})
+@Transactional
+@DisplayName("출석 기록 보관 통합 테스트")
+class UsageArchiveIntegrationTest {
+
+    private static final String TEST_USER_UUID = "test-user-archive";
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UsageLogRepository usageLogRepository;
+
+    @Autowired
+    private UsageLogArchiveRepository usageLogArchiveRepository;
+
+    @Autowired
+    private UsageArchiveService usageArchiveService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final YearMonth oldMonth = YearMonth.now().minusMonths(6);
+    private final LocalDate today = LocalDate.now();
+
+    private Long subscriptionId;
+
+    @BeforeEach
+    void setUp() {
+        SubscriptionForm form = new SubscriptionForm(
+                "헬스장", "gym", "1개월",
+                new BigDecimal("30000"), new BigDecimal("30000"),
+                today.minusYears(1), null
+        );
+        subscriptionId = subscriptionService.createSubscription(TEST_USER_UUID, form).getId();
+
+        // 보관 대상 달의 기록은 보관 기능을 켜기 전부터 있던 데이터 (서비스는 보관된 날짜 쓰기를 거부)
+        usageLogRepository.saveAll(List.of(
+                new UsageLog(subscriptionId, oldMonth.atDay(3)),
+                new UsageLog(subscriptionId, oldMonth.atDay(10), "PT\t하체"),
+                new UsageLog(subscriptionId, oldMonth.atEndOfMonth())));
+        subscriptionService.checkInOnDate(subscriptionId, TEST_USER_UUID, today.minusDays(1));
+        subscriptionService.checkInOnDate(subscriptionId, TEST_USER_UUID, today);
+        subscriptionRepository.recalculateUsageCounters();
+    }
+
+    @Test
+    @DisplayName("보관 후에도 기간 조회, 출석 여부, 누적 횟수, 사용 기록 페이지, 내보내기 결과가 같다")
+    void archiveMonth_ReadsUnchanged() {
+        // given
+        List<String> rangeBefore = range();
+        List<String> pagesBefore = pages();
+        List<String> streamBefore = stream();
+        long countBefore = usageLogRepository.countBySubscriptionId(subscriptionId);
+        Subscription counterBefore = subscriptionRepository.findById(subscriptionId).orElseThrow();
+        long totalBefore = counterBefore.getTotalUsageCount();
+        LocalDate lastUsedBefore = counterBefore.getLastUsedAt();
+
+        // when
+        assertThat(usageArchiveService.findArchivableMonths()).contains(oldMonth);
+        int archived = usageArchiveService.archiveMonth(oldMonth, Set.of());
+        entityManager.flush();
+        entityManager.clear();
+        subscriptionRepository.recalculateUsageCounters();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(usageLogRepository.findBySubscriptionIdAndUsedAtBetween(
+                subscriptionId, oldMonth.atDay(1), oldMonth.atEndOfMonth())).isEmpty();
+        assertThat(usageLogArchiveRepository.findByUsageMonth(oldMonth.toString()))
+                .filteredOn(archive -> archive.getSubscriptionId().equals(subscriptionId))
+                .singleElement()
+                .satisfies(archive -> assertThat(archive.getUsageCount()).isEqualTo(3));
+
+        assertThat(range()).containsExactlyElementsOf(rangeBefore);
+        assertThat(pages()).containsExactlyElementsOf(pagesBefore);
+        assertThat(stream()).containsExactlyElementsOf(streamBefore);
+        assertThat(usageLogRepository.countBySubscriptionId(subscriptionId)).isEqualTo(countBefore);
+        assertThat(usageLogRepository.existsBySubscriptionIdAndUsedAt(subscriptionId, oldMonth.atDay(10))).isTrue();
+        assertThat(usageLogRepository.existsBySubscriptionIdAndUsedAt(subscriptionId, oldMonth.atDay(11))).isFalse();
+
+        Subscription counterAfter = subscriptionRepository.findById(subscriptionId).orElseThrow();
+        assertThat(counterAfter.getTotalUsageCount()).isEqualTo(totalBefore);
+        assertThat(counterAfter.getLastUsedAt()).isEqualTo(lastUsedBefore);
+    }
+
+    @Test
+    @DisplayName("최근 출석을 모두 취소하면 마지막 사용일은 보관된 마지막 출석일이 된다")
+    void cancelRecent_LastUsedAtFallsBackToArchive() {
+        // given
+        usageArchiveService.archiveMonth(oldMonth, Set.of());
+
+        // when
+        subscriptionService.toggleCheckIn(subscriptionId, TEST_USER_UUID, today);
+        subscriptionService.toggleCheckIn(subscriptionId, TEST_USER_UUID, today.minusDays(1));
+        entityManager.clear();
+
+        // then
+        Subscription subscription = subscriptionRepository.findById(subscriptionId).orElseThrow();
+        assertThat(subscription.getLastUsedAt()).isEqualTo(oldMonth.atEndOfMonth());
+        assertThat(subscription.getTotalUsageCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("보관된 날짜의 출석/토글은 거부되고 일괄 출석에서는 ARCHIVED로 응답한다")
+    void archivedDate_WritesRejected() {
+        // given
+        LocalDate archivedDate = oldMonth.atDay(15);
+
+        // when & then
+        assertThatThrownBy(() -> subscriptionService.checkInOnDate(subscriptionId, TEST_USER_UUID, archivedDate))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("보관된 기간");
+        assertThatThrownBy(() -> subscriptionService.toggleCheckIn(subscriptionId, TEST_USER_UUID, archivedDate))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<BulkCheckInResult> results = subscriptionService.bulkCheckIn(TEST_USER_UUID, List.of(
+                new BulkCheckInEntry(subscriptionId, archivedDate, null),
+                new BulkCheckInEntry(subscriptionId, today.minusDays(2), null)));
+        assertThat(results).extracting(BulkCheckInResult::status)
+                .containsExactly(BulkCheckInResult.Status.ARCHIVED, BulkCheckInResult.Status.CREATED);
+    }
+
+    @Test
+    @DisplayName("건너뛸 구독(샤드 이동 중인 사용자)의 기록은 보관하지 않고 남긴다")
+    void archiveMonth_ExcludedSubscription_Kept() {
+        // when
+        int archived = usageArchiveService.archiveMonth(oldMonth, Set.of(subscriptionId));
+
+        // then
+        assertThat(archived).isZero();
+        assertThat(usageLogRepository.findBySubscriptionIdAndUsedAtBetween(
+                subscriptionId, oldMonth.atDay(1), oldMonth.atEndOfMonth())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("보존 기간 안의 달은 보관할 수 없다")
+    void archiveMonth_RetainedMonth_Throws() {
+        assertThatThrownBy(() -> usageArchiveService.archiveMonth(YearMonth.now().minusMonths(1), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> range() {
+        return usageLogRepository.findBySubscriptionIdsAndDateRange(List.of(subscriptionId), oldMonth.atDay(1), today)
+                .stream().map(this::describe).toList();
+    }
+
+    // 한 페이지 2건씩 끝까지 (보관된 달과 최근 기록의 경계를 넘어가는지 확인)
+    private List<String> pages() {
+        List<String> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<UsageLog> page = subscriptionService.getUsageLogPage(subscriptionId, TEST_USER_UUID, cursor, 2);
+            page.items().forEach(log -> items.add(describe(log)));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+
+    private List<String> stream() {
+        try (Stream<UsageLog> logs = usageLogRepository.streamByUserUuid(TEST_USER_UUID)) {
+            return logs.map(this::describe).sorted().toList();
+        }
+    }
+
+    private String describe(UsageLog log) {
+        return log.getSubscriptionId() + ":" + log.getUsedAt() + ":" + log.getNote();
+    }
+}
@@ -0,0 +1,198 @@
+package com.tracker.subscriptionvaluetracker.domain.subscription;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsageRollupService 테스트")
+class UsageRollupServiceTest {
+
+    @Mock
+    private UsageMonthlyRollupRepository rollupRepository;
+
+    @Mock
+    private UsageLogRepository usageLogRepository;
+
+    @InjectMocks
+    private UsageRollupService usageRollupService;
+
+    @Nested
+    @DisplayName("롤업 증감")
+    class IncrementDecrement {
+
+        @Test
+        @DisplayName("해당 월 롤업이 있으면 횟수만 증가시킨다")
+        void increment_ExistingMonth() {
+            // given
+            given(rollupRepository.addUsageCount(eq(1L), eq("2025-01"), eq(1L), any(LocalDateTime.class)))
+                    .willReturn(1);
+
+            // when
+            usageRollupService.increment(1L, LocalDate.of(2025, 1, 15));
+
+            // then
+            verify(rollupRepository, never()).save(any(UsageMonthlyRollup.class));
+        }
+
+        @Test
+        @DisplayName("해당 월 첫 출석이면 빈 롤업 행을 만든 뒤 횟수를 증가시킨다")
+        void increment_FirstOfMonth() {
+            // given
+            given(rollupRepository.addUsageCount(eq(1L), eq("2025-01"), eq(1L), any(LocalDateTime.class)))
+                    .willReturn(0, 1);
+
+            // when
+            usageRollupService.increment(1L, LocalDate.of(2025, 1, 15));
+
+            // then
+            verify(rollupRepository).insertIfAbsent(eq(1L), eq("2025-01"), any(LocalDateTime.class));
+            verify(rollupRepository, times(2)).addUsageCount(eq(1L), eq("2025-01"), eq(1L), any(LocalDateTime.class));
+            verify(rollupRepository, never()).save(any(UsageMonthlyRollup.class));
+        }
+
+        @Test
+        @DisplayName("출석 취소 시 해당 월 횟수를 감소시킨다")
+        void decrement_Success() {
+            // when
+            usageRollupService.decrement(1L, LocalDate.of(2025, 1, 15));
+
+            // then
+            verify(rollupRepository).addUsageCount(eq(1L), eq("2025-01"), eq(-1L), any(LocalDateTime.class));
+            verify(rollupRepository, never()).save(any(UsageMonthlyRollup.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("롤업 조회")
+    class Read {
+
+        @Test
+        @DisplayName("롤업이 없는 달의 사용 횟수는 0이다")
+        void getMonthlyCount_NoRollup() {
+            // given
+            given(rollupRepository.findBySubscriptionIdAndUsageMonth(1L, "2025-01"))
+                    .willReturn(Optional.empty());
+
+            // when
+            int result = usageRollupService.getMonthlyCount(1L, YearMonth.of(2025, 1));
+
+            // then
+            assertThat(result).isZero();
+        }
+
+        @Test
+        @DisplayName("기간 내 롤업을 구독별 연월 맵으로 변환한다")
+        void getMonthlyCounts_PivotsBySubscription() {
+            // given
+            given(rollupRepository.findBySubscriptionIdInAndUsageMonthBetween(List.of(1L, 2L), "2024-08", "2025-01"))
+                    .willReturn(List.of(
+                            new UsageMonthlyRollup(1L, YearMonth.of(2025, 1), 8),
+                            new UsageMonthlyRollup(2L, YearMonth.of(2024, 8), 3)
+                    ));
+
+            // when
+            Map<Long, Map<YearMonth, Long>> result = usageRollupService.getMonthlyCounts(
+                    List.of(1L, 2L), YearMonth.of(2024, 8), YearMonth.of(2025, 1));
+
+            // then
+            assertThat(result.get(1L)).containsEntry(YearMonth.of(2025, 1), 8L);
+            assertThat(result.get(2L)).containsEntry(YearMonth.of(2024, 8), 3L);
+        }
+
+        @Test
+        @DisplayName("구독이 없으면 쿼리를 실행하지 않는다")
+        void getMonthlyCounts_Empty() {
+            // when
+            Map<Long, Map<YearMonth, Long>> result = usageRollupService.getMonthlyCounts(
+                    List.of(), YearMonth.of(2024, 8), YearMonth.of(2025, 1));
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(rollupRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("롤업 재구축")
+    class Rebuild {
+
+        @Test
+        @DisplayName("주어진 구독들의 출석 기록이 있는 월과 기존 롤업 행의 월을 구독별로 모은다")
+        void findMonthsToRebuild_Success() {
+            // given
+            given(usageLogRepository.countMonthlyUsage(List.of(1L, 2L))).willReturn(List.of(
+                    monthlyUsageCount(1L, YearMonth.of(2025, 1), 5L),
+                    monthlyUsageCount(1L, YearMonth.of(2025, 2), 2L)
+            ));
+            given(rollupRepository.findBySubscriptionIdIn(List.of(1L, 2L))).willReturn(List.of(
+                    new UsageMonthlyRollup(1L, YearMonth.of(2025, 2), 3L),
+                    new UsageMonthlyRollup(2L, YearMonth.of(2024, 12), 1L)
+            ));
+
+            // when
+            Map<Long, Set<YearMonth>> result = usageRollupService.findMonthsToRebuild(List.of(1L, 2L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L, 2L);
+            assertThat(result.get(1L)).containsExactly(YearMonth.of(2025, 1), YearMonth.of(2025, 2));
+            assertThat(result.get(2L)).containsExactly(YearMonth.of(2024, 12));
+        }
+
+        @Test
+        @DisplayName("월마다 행을 보장한 뒤 전체 삭제 없이 UPDATE로 다시 계산한다")
+        void recount_UpdatesEachMonth() {
+            // when
+            usageRollupService.recount(1L, Set.of(YearMonth.of(2025, 2)));
+
+            // then
+            verify(rollupRepository).insertIfAbsent(eq(1L), eq("2025-02"), any(LocalDateTime.class));
+            verify(rollupRepository).recountUsage(eq(1L), eq("2025-02"), eq(LocalDate.of(2025, 2, 1)),
+                    eq(LocalDate.of(2025, 2, 28)), any(LocalDateTime.class));
+            verify(rollupRepository, never()).deleteAllInBatch();
+        }
+    }
+
+    // Helper methods
+    private MonthlyUsageCount monthlyUsageCount(Long subscriptionId, YearMonth month, Long count) {
+        return new MonthlyUsageCount() {
+            @Override
+            public Long getSubscriptionId() {
+                return subscriptionId;
+            }
+
+            @Override
+            public Integer getUsageYear() {
+                return month.getYear();
+            }
+
+            @Override
+            public Integer getUsageMonth() {
+                return month.getMonthValue();
+            }
+
+            @Override
+            public Long getUsageCount() {
+                return count;
+            }
+        };
+    }
+}
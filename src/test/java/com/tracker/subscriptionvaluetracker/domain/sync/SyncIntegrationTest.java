@@ -0,0 +1,178 @@
+package com.tracker.subscriptionvaluetracker.domain.sync;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentForm;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentService;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageForm;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentViewDto;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionViewDto;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLog;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@DisplayName("델타 동기화 통합 테스트")
+class SyncIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private InvestmentService investmentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final String TEST_USER_UUID = "test-user-sync";
+
+    @Test
+    @DisplayName("since가 없으면 전체 목록과 현재 버전을 반환한다")
+    void fullSync() {
+        // given
+        Subscription subscription = createSubscription();
+
+        // when
+        SyncResult result = syncService.sync(TEST_USER_UUID, null);
+
+        // then
+        assertThat(result.full()).isTrue();
+        assertThat(result.version()).isEqualTo(1);
+        assertThat(result.subscriptions()).extracting(SubscriptionViewDto::getId).containsExactly(subscription.getId());
+    }
+
+    @Test
+    @DisplayName("since 이후 출석/취소는 마지막 상태만 반환하고 통계가 바뀐 구독도 함께 반환한다")
+    void deltaSync_UsageLogs() {
+        // given
+        Subscription subscription = createSubscription();
+        long since = syncService.sync(TEST_USER_UUID, null).version();
+        LocalDate kept = LocalDate.now().minusDays(2);
+        LocalDate cancelled = LocalDate.now().minusDays(1);
+        subscriptionService.toggleCheckIn(subscription.getId(), TEST_USER_UUID, kept);
+        subscriptionService.toggleCheckIn(subscription.getId(), TEST_USER_UUID, cancelled);
+        subscriptionService.toggleCheckIn(subscription.getId(), TEST_USER_UUID, cancelled);
+        flushAndClear();
+
+        // when
+        SyncResult result = syncService.sync(TEST_USER_UUID, since);
+
+        // then
+        assertThat(result.full()).isFalse();
+        assertThat(result.version()).isEqualTo(since + 3);
+        assertThat(result.usageLogs()).extracting(UsageLog::getUsedAt).containsExactly(kept);
+        assertThat(result.tombstones()).containsExactly(
+                new SyncResult.Tombstone(ChangeLog.EntityType.USAGE_LOG, null, subscription.getId(), cancelled));
+        assertThat(result.subscriptions()).extracting(SubscriptionViewDto::getId).containsExactly(subscription.getId());
+
+        // 같은 버전으로 다시 요청하면 변경 없음
+        SyncResult empty = syncService.sync(TEST_USER_UUID, result.version());
+        assertThat(empty.version()).isEqualTo(result.version());
+        assertThat(empty.subscriptions()).isEmpty();
+        assertThat(empty.tombstones()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("soft delete된 구독과 삭제된 투자 사용 기록은 tombstone으로 반환한다")
+    void deltaSync_Tombstones() {
+        // given
+        Subscription subscription = createSubscription();
+        Investment investment = createInvestment();
+        InvestmentUsage usage = investmentService.addUsage(investment.getId(), TEST_USER_UUID, usageForm());
+        long since = syncService.sync(TEST_USER_UUID, null).version();
+        subscriptionService.deleteSubscription(subscription.getId(), TEST_USER_UUID);
+        investmentService.deleteUsage(usage.getId(), TEST_USER_UUID);
+        flushAndClear();
+
+        // when
+        SyncResult result = syncService.sync(TEST_USER_UUID, since);
+
+        // then
+        assertThat(result.tombstones()).containsExactlyInAnyOrder(
+                SyncResult.Tombstone.of(ChangeLog.EntityType.SUBSCRIPTION, subscription.getId()),
+                SyncResult.Tombstone.of(ChangeLog.EntityType.INVESTMENT_USAGE, usage.getId()));
+        assertThat(result.subscriptions()).isEmpty();
+        assertThat(result.investments()).extracting(InvestmentViewDto::getId).containsExactly(investment.getId());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 변경은 반환하지 않는다")
+    void deltaSync_OtherUser() {
+        // given
+        createSubscription();
+        long since = syncService.sync(TEST_USER_UUID, null).version();
+        subscriptionService.createSubscription("other-user-sync", subscriptionForm());
+
+        // when
+        SyncResult result = syncService.sync(TEST_USER_UUID, since);
+
+        // then
+        assertThat(result.version()).isEqualTo(since);
+        assertThat(result.subscriptions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("since가 음수면 예외가 발생한다")
+    void negativeSince_ThrowsException() {
+        assertThatThrownBy(() -> syncService.sync(TEST_USER_UUID, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Subscription createSubscription() {
+        return subscriptionService.createSubscription(TEST_USER_UUID, subscriptionForm());
+    }
+
+    private SubscriptionForm subscriptionForm() {
+        return new SubscriptionForm(
+                "헬스장",
+                "gym",
+                "1개월",
+                new BigDecimal("30000"),
+                new BigDecimal("30000"),
+                LocalDate.now().minusMonths(1),
+                null
+        );
+    }
+
+    private Investment createInvestment() {
+        InvestmentForm form = new InvestmentForm();
+        form.setName("크레마 카르타");
+        form.setEmojiCode("ereader");
+        form.setCategory("E_READER");
+        form.setPurchasePrice(new BigDecimal("189000"));
+        form.setPurchaseDate(LocalDate.now().minusMonths(1));
+        form.setComparisonBaseline(new BigDecimal("15000"));
+        return investmentService.createInvestment(TEST_USER_UUID, form);
+    }
+
+    private InvestmentUsageForm usageForm() {
+        InvestmentUsageForm form = new InvestmentUsageForm();
+        form.setItemName("전자책");
+        form.setOriginalPrice(new BigDecimal("15000"));
+        form.setActualPrice(new BigDecimal("0"));
+        form.setUsedAt(LocalDate.now());
+        return form;
+    }
+}
@@ -0,0 +1,177 @@
+package com.tracker.subscriptionvaluetracker.maintenance;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentForm;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentService;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsage;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLog;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("누적 카운터 정합성 통합 테스트")
+class CounterConsistencyIntegrationTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private InvestmentService investmentService;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private CounterConsistencyService counterConsistencyService;
+
+    @Autowired
+    private CounterRepairRunner counterRepairRunner;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final String TEST_USER_UUID = "test-user-counter";
+
+    @Test
+    @DisplayName("출석 추가/취소 시 구독 누적 카운터가 함께 갱신된다")
+    void subscriptionCountersFollowCheckIns() {
+        // given
+        Subscription subscription = createSubscription();
+        LocalDate first = LocalDate.now().minusDays(2);
+        LocalDate second = LocalDate.now().minusDays(1);
+
+        // when
+        subscriptionService.checkInOnDate(subscription.getId(), TEST_USER_UUID, first);
+        UsageLog latest = subscriptionService.checkInOnDate(subscription.getId(), TEST_USER_UUID, second);
+        subscriptionService.cancelCheckIn(latest.getId(), TEST_USER_UUID);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Subscription found = subscriptionRepository.findById(subscription.getId()).orElseThrow();
+        assertThat(found.getTotalUsageCount()).isEqualTo(1);
+        assertThat(found.getLastUsedAt()).isEqualTo(first);
+        assertThat(counterConsistencyService.check().isConsistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용 기록 추가/삭제 시 투자 누적 카운터가 함께 갱신된다")
+    void investmentCountersFollowUsages() {
+        // given
+        Investment investment = createInvestment();
+
+        // when
+        investmentService.addUsage(investment.getId(), TEST_USER_UUID, usageForm("33000", "0"));
+        InvestmentUsage second = investmentService.addUsage(investment.getId(), TEST_USER_UUID, usageForm("20000", "5000"));
+        investmentService.deleteUsage(second.getId(), TEST_USER_UUID);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Investment found = investmentRepository.findById(investment.getId()).orElseThrow();
+        assertThat(found.getUsageCount()).isEqualTo(1);
+        assertThat(found.getTotalSavings()).isEqualByComparingTo("33000");
+        assertThat(counterConsistencyService.check().isConsistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("어긋난 카운터를 검사에서 찾아내고 복구한다")
+    void repairFixesDriftedCounters() {
+        // given
+        Subscription subscription = createSubscription();
+        subscriptionService.checkInOnDate(subscription.getId(), TEST_USER_UUID, LocalDate.now());
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Subscription s SET s.totalUsageCount = 99 WHERE s.id = :id")
+                .setParameter("id", subscription.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        CounterCheckResult before = counterConsistencyService.check();
+        CounterCheckResult after = counterConsistencyService.repair();
+
+        // then
+        assertThat(before.getMismatchedSubscriptionIds()).contains(subscription.getId());
+        assertThat(after.isConsistent()).isTrue();
+        assertThat(subscriptionRepository.findById(subscription.getId()).orElseThrow().getTotalUsageCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카운터 컬럼 추가 직후처럼 기록만 있고 카운터가 초기값이면 기동 시 자동으로 채운다")
+    void backfillFillsUncountedCounters() {
+        // given
+        Subscription subscription = createSubscription();
+        LocalDate usedAt = LocalDate.now().minusDays(1);
+        subscriptionService.checkInOnDate(subscription.getId(), TEST_USER_UUID, usedAt);
+        Investment investment = createInvestment();
+        investmentService.addUsage(investment.getId(), TEST_USER_UUID, usageForm("33000", "0"));
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Subscription s SET s.totalUsageCount = 0, s.lastUsedAt = NULL").executeUpdate();
+        entityManager.createQuery("UPDATE Investment i SET i.usageCount = 0, i.totalSavings = 0").executeUpdate();
+        entityManager.clear();
+        assertThat(counterConsistencyService.needsBackfill()).isTrue();
+
+        // when
+        counterRepairRunner.backfillIfUncounted();
+
+        // then
+        Subscription found = subscriptionRepository.findById(subscription.getId()).orElseThrow();
+        assertThat(found.getTotalUsageCount()).isEqualTo(1);
+        assertThat(found.getLastUsedAt()).isEqualTo(usedAt);
+        assertThat(investmentRepository.findById(investment.getId()).orElseThrow().getUsageCount()).isEqualTo(1);
+        assertThat(counterConsistencyService.needsBackfill()).isFalse();
+    }
+
+    private Subscription createSubscription() {
+        SubscriptionForm form = new SubscriptionForm(
+                "헬스장",
+                "gym",
+                "1개월",
+                new BigDecimal("30000"),
+                new BigDecimal("30000"),
+                LocalDate.now().minusMonths(1),
+                null
+        );
+        return subscriptionService.createSubscription(TEST_USER_UUID, form);
+    }
+
+    private Investment createInvestment() {
+        InvestmentForm form = new InvestmentForm();
+        form.setName("크레마 카르타");
+        form.setEmojiCode("ereader");
+        form.setCategory("E_READER");
+        form.setPurchasePrice(new BigDecimal("189000"));
+        form.setPurchaseDate(LocalDate.now().minusMonths(1));
+        form.setComparisonBaseline(new BigDecimal("15000"));
+        return investmentService.createInvestment(TEST_USER_UUID, form);
+    }
+
+    private InvestmentUsageForm usageForm(String originalPrice, String actualPrice) {
+        InvestmentUsageForm form = new InvestmentUsageForm();
+        form.setItemName("클린 코드");
+        form.setOriginalPrice(new BigDecimal(originalPrice));
+        form.setActualPrice(new BigDecimal(actualPrice));
+        form.setUsedAt(LocalDate.now());
+        return form;
+    }
+}
@@ -0,0 +1,149 @@
+package com.tracker.subscriptionvaluetracker.shard;
+
+import com.tracker.subscriptionvaluetracker.common.UserContext;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "tracker.sharding.enabled=true",
+        "tracker.sharding.urls=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+        "tracker.sharding.move-settle-time=0s"
+})
+@DisplayName("사용자 샤딩 통합 테스트 (H2 샤드 3개)")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private ShardRouting shardRouting;
+
+    @Autowired
+    private ShardAdminService shardAdminService;
+
+    @Test
+    @DisplayName("사용자 데이터는 userUuid 해시로 정해진 샤드에만 저장된다")
+    void usersAreSpreadByHash() {
+        // given
+        List<String> users = IntStream.range(0, 12).mapToObj(i -> "shard-spread-user-" + i).toList();
+
+        // when
+        users.forEach(this::createSubscription);
+
+        // then
+        Set<Integer> usedShards = new HashSet<>();
+        for (String userUuid : users) {
+            int expected = ShardDirectory.hashShard(userUuid, 3);
+            usedShards.add(expected);
+            assertThat(shardRouting.shardOf(userUuid)).isEqualTo(expected);
+            for (int shard = 0; shard < 3; shard++) {
+                assertThat(countSubscriptions(shard, userUuid)).isEqualTo(shard == expected ? 1 : 0);
+            }
+        }
+        assertThat(usedShards).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("이동한 사용자의 데이터는 ID 그대로 대상 샤드로 옮겨지고 이후 조회/쓰기도 대상 샤드에서 한다")
+    void moveUser_CopiesDataAndRoutesToTarget() {
+        // given
+        String userUuid = "shard-move-user";
+        Subscription subscription = createSubscription(userUuid);
+        UserContext.runAs(userUuid, () ->
+                subscriptionService.checkInOnDate(subscription.getId(), userUuid, LocalDate.now().minusDays(1)));
+        int source = shardRouting.shardOf(userUuid);
+        int target = (source + 1) % 3;
+
+        // when
+        ShardMoveResult result = shardAdminService.moveUser(userUuid, target);
+        UserContext.runAs(userUuid, () ->
+                subscriptionService.checkInOnDate(subscription.getId(), userUuid, LocalDate.now()));
+
+        // then
+        assertThat(result.movedRows()).containsEntry("subscription", 1).containsEntry("usage_log", 1);
+        assertThat(shardRouting.shardOf(userUuid)).isEqualTo(target);
+        assertThat(countSubscriptions(source, userUuid)).isZero();
+        assertThat(countSubscriptions(target, userUuid)).isEqualTo(1);
+        assertThat(jdbc(target).queryForObject(
+                "SELECT COUNT(*) FROM usage_log WHERE subscription_id = ?", Long.class, subscription.getId()))
+                .isEqualTo(2);
+        AtomicReference<Integer> totalUsage = new AtomicReference<>();
+        UserContext.runAs(userUuid, () ->
+                totalUsage.set(subscriptionService.getTotalUsageCount(subscription.getId())));
+        assertThat(totalUsage.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이동 중인 사용자의 쓰기는 거부되고 데이터가 바뀌지 않는다")
+    void writeWhileMoving_IsRejected() {
+        // given
+        String userUuid = "shard-moving-user";
+        createSubscription(userUuid);
+        int shard = shardRouting.shardOf(userUuid);
+        shardRouting.getDirectory().markMoving(userUuid, shard);
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> UserContext.runAs(userUuid, () -> subscriptionService.createSubscription(userUuid,
+                    new SubscriptionForm("넷플릭스", "tv", "1개월", new BigDecimal("17000"), new BigDecimal("17000"),
+                            LocalDate.now().minusMonths(1), null))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("옮기는 중");
+            assertThat(countSubscriptions(shard, userUuid)).isEqualTo(1);
+        } finally {
+            shardRouting.getDirectory().assign(userUuid, shard);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 집계는 모든 샤드의 건수를 합산한다")
+    void stats_SumsAllShards() {
+        // given
+        ShardStatsSummary before = shardAdminService.getStats();
+
+        // when
+        IntStream.range(0, 3).forEach(i -> createSubscription("shard-stats-user-" + i));
+        ShardStatsSummary after = shardAdminService.getStats();
+
+        // then
+        assertThat(after.shards()).hasSize(3);
+        assertThat(after.total().subscriptions()).isEqualTo(before.total().subscriptions() + 3);
+        assertThat(after.total().users()).isEqualTo(before.total().users() + 3);
+        assertThat(after.total().subscriptions())
+                .isEqualTo(after.shards().stream().mapToLong(ShardStats::subscriptions).sum());
+    }
+
+    private Subscription createSubscription(String userUuid) {
+        AtomicReference<Subscription> created = new AtomicReference<>();
+        UserContext.runAs(userUuid, () -> created.set(subscriptionService.createSubscription(userUuid,
+                new SubscriptionForm("헬스장", "gym", "1개월", new BigDecimal("30000"), new BigDecimal("30000"),
+                        LocalDate.now().minusMonths(1), null))));
+        return created.get();
+    }
+
+    private long countSubscriptions(int shard, String userUuid) {
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM subscription WHERE user_uuid = ?", Long.class, userUuid);
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(shardRouting.getShardDataSources().get(shard));
+    }
+}
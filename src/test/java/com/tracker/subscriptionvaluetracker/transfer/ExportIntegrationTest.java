@@ -0,0 +1,89 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("내보내기 통합 테스트")
+class ExportIntegrationTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    private final String TEST_USER_UUID = "test-user-export";
+
+    @Test
+    @DisplayName("영속성 컨텍스트를 비우는 주기보다 많은 출석 기록도 모두 순서대로 내보낸다")
+    void exportsUsageLogsAcrossClearInterval() throws Exception {
+        // given
+        Subscription subscription = createSubscription("헬스장", TEST_USER_UUID);
+        Subscription other = createSubscription("넷플릭스", "other-user-export");
+        LocalDate start = LocalDate.now().minusDays(ExportService.CLEAR_INTERVAL + 9);
+        for (int i = 0; i < ExportService.CLEAR_INTERVAL + 10; i++) {
+            subscriptionService.checkInOnDate(subscription.getId(), TEST_USER_UUID, start.plusDays(i));
+        }
+        subscriptionService.checkInOnDate(other.getId(), "other-user-export", LocalDate.now());
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(TEST_USER_UUID, TransferDataset.USAGE_LOGS, TransferFormat.NDJSON, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(count).isEqualTo(ExportService.CLEAR_INTERVAL + 10);
+        assertThat(lines).hasSize(ExportService.CLEAR_INTERVAL + 10);
+        assertThat(lines.get(0)).contains("\"usedAt\":\"" + start + "\"");
+        assertThat(lines).allMatch(line -> line.contains("\"subscriptionId\":" + subscription.getId() + ","));
+    }
+
+    @Test
+    @DisplayName("삭제된 구독도 CSV로 내보낸다")
+    void exportsSubscriptionsAsCsv() throws Exception {
+        // given
+        Subscription active = createSubscription("헬스장", TEST_USER_UUID);
+        Subscription deleted = createSubscription("넷플릭스, 프리미엄", TEST_USER_UUID);
+        subscriptionService.deleteSubscription(deleted.getId(), TEST_USER_UUID);
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(TEST_USER_UUID, TransferDataset.SUBSCRIPTIONS, TransferFormat.CSV, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith(ExportWriter.BOM + "id,name,");
+        assertThat(lines.get(1)).startsWith(active.getId() + ",헬스장,");
+        assertThat(lines.get(2)).startsWith(deleted.getId() + ",\"넷플릭스, 프리미엄\",").contains(",false,");
+    }
+
+    private Subscription createSubscription(String name, String userUuid) {
+        SubscriptionForm form = new SubscriptionForm(
+                name,
+                "gym",
+                "1개월",
+                new BigDecimal("30000"),
+                new BigDecimal("30000"),
+                LocalDate.now().minusYears(2),
+                null
+        );
+        return subscriptionService.createSubscription(userUuid, form);
+    }
+}
@@ -0,0 +1,70 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportWriter 테스트")
+class ExportWriterTest {
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("BOM과 헤더 후 행을 쉼표로 구분해 기록한다")
+        void writesHeaderAndRows() throws Exception {
+            // given
+            StringWriter out = new StringWriter();
+            ExportWriter writer = new ExportWriter(out, TransferFormat.CSV, List.of("id", "usedAt", "note"));
+
+            // when
+            writer.writeHeader();
+            writer.writeRow(Arrays.asList(1L, LocalDate.of(2025, 1, 15), null));
+
+            // then
+            assertThat(out.toString()).isEqualTo(ExportWriter.BOM + "id,usedAt,note\n1,2025-01-15,\n");
+        }
+
+        @Test
+        @DisplayName("쉼표/따옴표/줄바꿈이 있는 값은 큰따옴표로 감싼다")
+        void quotesSpecialCharacters() {
+            assertThat(ExportWriter.csvValue("헬스장, PT")).isEqualTo("\"헬스장, PT\"");
+            assertThat(ExportWriter.csvValue("\"특가\"")).isEqualTo("\"\"\"특가\"\"\"");
+            assertThat(ExportWriter.csvValue("첫 줄\n둘째 줄")).isEqualTo("\"첫 줄\n둘째 줄\"");
+            assertThat(ExportWriter.csvValue(new BigDecimal("1E+4"))).isEqualTo("10000");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("행마다 JSON 객체 한 줄을 기록하고 헤더는 쓰지 않는다")
+        void writesOneObjectPerLine() throws Exception {
+            // given
+            StringWriter out = new StringWriter();
+            ExportWriter writer = new ExportWriter(out, TransferFormat.NDJSON,
+                    List.of("id", "name", "amount", "isActive", "endDate"));
+
+            // when
+            writer.writeHeader();
+            writer.writeRow(Arrays.asList(1L, "넷플릭스 \"프리미엄\"", new BigDecimal("17000"), true, null));
+            writer.writeRow(Arrays.asList(2L, "줄\n바꿈", BigDecimal.ZERO, false, LocalDate.of(2025, 2, 1)));
+
+            // then
+            assertThat(out.toString()).isEqualTo(
+                    "{\"id\":1,\"name\":\"넷플릭스 \\\"프리미엄\\\"\",\"amount\":17000,\"isActive\":true,\"endDate\":null}\n" +
+                    "{\"id\":2,\"name\":\"줄\\n바꿈\",\"amount\":0,\"isActive\":false,\"endDate\":\"2025-02-01\"}\n");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentForm;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionForm;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionService;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("가져오기 통합 테스트")
+class ImportIntegrationTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UsageLogRepository usageLogRepository;
+
+    @Autowired
+    private InvestmentService investmentService;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final String TEST_USER_UUID = "test-user-import";
+
+    @Test
+    @DisplayName("청크 크기보다 많은 출석 기록을 가져오고 중복과 잘못된 행은 따로 집계한다")
+    void importsUsageLogsInChunks() throws Exception {
+        // given
+        Subscription subscription = createSubscription();
+        Subscription others = createOtherUsersSubscription();
+        int days = ImportService.CHUNK_SIZE + 50;
+        LocalDate start = LocalDate.now().minusDays(days);
+        StringBuilder csv = new StringBuilder("subscriptionId,usedAt,note\n");
+        for (int i = 0; i < days; i++) {
+            csv.append(subscription.getId()).append(',').append(start.plusDays(i)).append(",\n");
+        }
+        csv.append(subscription.getId()).append(',').append(start).append(",중복\n");
+        csv.append(others.getId()).append(',').append(start).append(",\n");
+        csv.append(subscription.getId()).append(",2025/01/01,\n");
+
+        // when
+        ImportResult result = importService.importData(TEST_USER_UUID, TransferDataset.USAGE_LOGS,
+                TransferFormat.CSV, body(csv.toString()), 0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(days);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getLastCommittedRow()).isEqualTo(days + 3);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::rowNumber).containsExactly(days + 2L, days + 3L);
+        assertThat(usageLogRepository.countBySubscriptionId(subscription.getId())).isEqualTo(days);
+        assertThat(subscriptionRepository.findById(subscription.getId()).orElseThrow().getTotalUsageCount())
+                .isEqualTo(days);
+    }
+
+    @Test
+    @DisplayName("resumeAfterRow 이전 행은 건너뛰고 이어서 가져온다")
+    void resumesAfterRow() throws Exception {
+        // given
+        Investment investment = createInvestment();
+        String ndjson = usageLine(investment.getId(), "클린 코드", 33000)
+                + usageLine(investment.getId(), "리팩터링", 35000)
+                + usageLine(investment.getId(), "이펙티브 자바", 36000);
+
+        // when
+        ImportResult result = importService.importData(TEST_USER_UUID, TransferDataset.INVESTMENT_USAGES,
+                TransferFormat.NDJSON, body(ndjson), 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getLastCommittedRow()).isEqualTo(3);
+        Investment found = investmentRepository.findById(investment.getId()).orElseThrow();
+        assertThat(found.getUsageCount()).isEqualTo(2);
+        assertThat(found.getTotalSavings()).isEqualByComparingTo("71000");
+    }
+
+    private String usageLine(Long investmentId, String itemName, int originalPrice) {
+        return "{\"investmentId\":" + investmentId + ",\"usedAt\":\"" + LocalDate.now().minusDays(1)
+                + "\",\"itemName\":\"" + itemName + "\",\"originalPrice\":" + originalPrice
+                + ",\"actualPrice\":0,\"source\":\"밀리의서재\"}\n";
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Subscription createSubscription() {
+        return subscriptionService.createSubscription(TEST_USER_UUID, subscriptionForm());
+    }
+
+    private Subscription createOtherUsersSubscription() {
+        return subscriptionService.createSubscription("other-user-import", subscriptionForm());
+    }
+
+    private SubscriptionForm subscriptionForm() {
+        return new SubscriptionForm(
+                "헬스장",
+                "gym",
+                "1개월",
+                new BigDecimal("30000"),
+                new BigDecimal("30000"),
+                LocalDate.now().minusYears(2),
+                null
+        );
+    }
+
+    private Investment createInvestment() {
+        InvestmentForm form = new InvestmentForm();
+        form.setName("크레마 카르타");
+        form.setEmojiCode("ereader");
+        form.setCategory("E_READER");
+        form.setPurchasePrice(new BigDecimal("189000"));
+        form.setPurchaseDate(LocalDate.now().minusMonths(1));
+        form.setComparisonBaseline(new BigDecimal("15000"));
+        return investmentService.createInvestment(TEST_USER_UUID, form);
+    }
+}
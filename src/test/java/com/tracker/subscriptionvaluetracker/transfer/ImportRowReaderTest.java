@@ -0,0 +1,109 @@
+package com.tracker.subscriptionvaluetracker.transfer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ImportRowReader 테스트")
+class ImportRowReaderTest {
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("BOM과 헤더를 건너뛰고 헤더 이름으로 값을 읽는다")
+        void readsRowsByHeader() throws Exception {
+            // given
+            String csv = ExportWriter.BOM + "subscriptionId,usedAt,note\r\n1,2025-01-15,\r\n\n2,2025-01-16,\"PT, 하체\"\n";
+
+            // when
+            List<ImportRow> rows = readAll(csv, TransferFormat.CSV);
+
+            // then
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).rowNumber()).isEqualTo(1);
+            assertThat(rows.get(0).get("subscriptionId")).isEqualTo("1");
+            assertThat(rows.get(0).get("note")).isNull();
+            assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+            assertThat(rows.get(1).get("note")).isEqualTo("PT, 하체");
+        }
+
+        @Test
+        @DisplayName("따옴표 안의 줄바꿈과 두 번 쓴 따옴표를 값으로 읽는다")
+        void readsQuotedMultilineValue() throws Exception {
+            // when
+            List<ImportRow> rows = readAll("id,note\n1,\"첫 줄\n\"\"둘째\"\" 줄\"\n2,끝\n", TransferFormat.CSV);
+
+            // then
+            assertThat(rows).extracting(row -> row.get("note")).containsExactly("첫 줄\n\"둘째\" 줄", "끝");
+        }
+
+        @Test
+        @DisplayName("컬럼 수가 헤더보다 많은 행은 오류로 표시하고 다음 행을 계속 읽는다")
+        void tooManyColumns_ReportsRowError() throws Exception {
+            // when
+            List<ImportRow> rows = readAll("id,note\n1,a,b\n2,c\n", TransferFormat.CSV);
+
+            // then
+            assertThat(rows.get(0).error()).isEqualTo("컬럼 수가 헤더보다 많습니다.");
+            assertThat(rows.get(1).error()).isNull();
+            assertThat(rows.get(1).get("note")).isEqualTo("c");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("한 줄에 하나씩 평평한 JSON 객체를 읽는다")
+        void readsOneObjectPerLine() throws Exception {
+            // given
+            String ndjson = "{\"investmentId\":1,\"itemName\":\"클린 \\\"코드\\\"\",\"originalPrice\":33000,\"note\":null}\n"
+                    + "\n"
+                    + "{ \"investmentId\" : 2 , \"itemName\" : \"\\uc218\\uc601\" }\n";
+
+            // when
+            List<ImportRow> rows = readAll(ndjson, TransferFormat.NDJSON);
+
+            // then
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0).get("itemName")).isEqualTo("클린 \"코드\"");
+            assertThat(rows.get(0).get("originalPrice")).isEqualTo("33000");
+            assertThat(rows.get(0).get("note")).isNull();
+            assertThat(rows.get(1).rowNumber()).isEqualTo(2);
+            assertThat(rows.get(1).get("itemName")).isEqualTo("수영");
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 줄은 오류로 표시하고 다음 줄을 계속 읽는다")
+        void malformedLine_ReportsRowError() throws Exception {
+            // when
+            List<ImportRow> rows = readAll("{\"id\":1,\n{\"id\":{\"nested\":true}}\n{\"id\":3}\n", TransferFormat.NDJSON);
+
+            // then
+            assertThat(rows).hasSize(3);
+            assertThat(rows.get(0).error()).isNotNull();
+            assertThat(rows.get(1).error()).isEqualTo("중첩된 객체나 배열은 지원하지 않습니다.");
+            assertThat(rows.get(2).get("id")).isEqualTo("3");
+        }
+    }
+
+    private List<ImportRow> readAll(String content, TransferFormat format) throws IOException {
+        ImportRowReader reader = new ImportRowReader(new StringReader(content), format);
+        List<ImportRow> rows = new ArrayList<>();
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tracker.subscriptionvaluetracker.web;
 
+import com.tracker.subscriptionvaluetracker.common.ParallelReads;
 import com.tracker.subscriptionvaluetracker.domain.subscription.*;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,10 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ui.Model;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Collections;
@@ -30,10 +33,16 @@ import static org.mockito.Mockito.*;
 class CalendarControllerTest {
 
     @Mock
-    private CalendarService calendarService;
+    private CalendarGridService calendarGridService;
 
     @Mock
-    private SubscriptionService subscriptionService;
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Mock
+    private CheckInWriteBehindService checkInWriteBehindService;
+
+    @Spy
+    private ParallelReads parallelReads = new ParallelReads(true, 2, Duration.ofSeconds(5));
 
     @Mock
     private Model model;
@@ -63,10 +72,10 @@ class CalendarControllerTest {
         @DisplayName("캘린더 페이지를 반환한다")
         void calendar_ReturnsCalendarView() {
             // given
-            given(calendarService.getCalendarDays(anyString(), anyInt(), anyInt()))
-                    .willReturn(Collections.emptyList());
-            given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(anyString(), anyInt(), anyInt()))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             String result = controller.calendar(null, null, model, request, response);
@@ -82,10 +91,10 @@ class CalendarControllerTest {
         @DisplayName("특정 년월을 지정하면 해당 월의 캘린더를 표시한다")
         void calendar_WithYearMonth() {
             // given
-            given(calendarService.getCalendarDays(TEST_USER_UUID, 2025, 6))
-                    .willReturn(Collections.emptyList());
-            given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 6))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             String result = controller.calendar(2025, 6, model, request, response);
@@ -100,10 +109,10 @@ class CalendarControllerTest {
         @DisplayName("월이 12를 초과하면 다음 해 1월로 처리한다")
         void calendar_MonthOverflow() {
             // given
-            given(calendarService.getCalendarDays(TEST_USER_UUID, 2026, 1))
-                    .willReturn(Collections.emptyList());
-            given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, 2026, 1))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             String result = controller.calendar(2025, 13, model, request, response);
@@ -117,10 +126,10 @@ class CalendarControllerTest {
         @DisplayName("월이 1 미만이면 이전 해 12월로 처리한다")
         void calendar_MonthUnderflow() {
             // given
-            given(calendarService.getCalendarDays(TEST_USER_UUID, 2024, 12))
-                    .willReturn(Collections.emptyList());
-            given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, 2024, 12))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             String result = controller.calendar(2025, 0, model, request, response);
@@ -131,16 +140,16 @@ class CalendarControllerTest {
         }
 
         @Test
-        @DisplayName("구독 통계가 올바르게 계산된다")
-        void calendar_CalculatesStats() {
+        @DisplayName("스냅샷의 구독 통계를 모델에 담는다")
+        void calendar_UsesSnapshotStats() {
             // given
             SubscriptionViewDto dto1 = createViewDto(1L, "넷플릭스", "17000", 5);
             SubscriptionViewDto dto2 = createViewDto(2L, "헬스장", "30000", 10);
 
-            given(calendarService.getCalendarDays(anyString(), anyInt(), anyInt()))
+            given(calendarGridService.getCalendarDays(anyString(), anyInt(), anyInt()))
                     .willReturn(Collections.emptyList());
-            given(subscriptionService.getSubscriptionsWithStats(TEST_USER_UUID))
-                    .willReturn(List.of(dto1, dto2));
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(List.of(dto1, dto2)));
 
             // when
             controller.calendar(null, null, model, request, response);
@@ -160,10 +169,10 @@ class CalendarControllerTest {
         @DisplayName("캘린더 그리드 프래그먼트를 반환한다")
         void calendarGrid_ReturnsFragment() {
             // given
-            given(calendarService.getCalendarDays(TEST_USER_UUID, 2025, 1))
-                    .willReturn(Collections.emptyList());
-            given(calendarService.getSubscriptionsForLegend(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             String result = controller.calendarGrid(2025, 1, model, request, response);
@@ -178,10 +187,10 @@ class CalendarControllerTest {
         @DisplayName("이전/다음 월 정보가 포함된다")
         void calendarGrid_ContainsNavigation() {
             // given
-            given(calendarService.getCalendarDays(TEST_USER_UUID, 2025, 1))
-                    .willReturn(Collections.emptyList());
-            given(calendarService.getSubscriptionsForLegend(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, 2025, 1))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             controller.calendarGrid(2025, 1, model, request, response);
@@ -198,10 +207,10 @@ class CalendarControllerTest {
         void calendarGrid_IsCurrentMonth() {
             // given
             YearMonth now = YearMonth.now();
-            given(calendarService.getCalendarDays(TEST_USER_UUID, now.getYear(), now.getMonthValue()))
-                    .willReturn(Collections.emptyList());
-            given(calendarService.getSubscriptionsForLegend(TEST_USER_UUID))
+            given(calendarGridService.getCalendarDays(TEST_USER_UUID, now.getYear(), now.getMonthValue()))
                     .willReturn(Collections.emptyList());
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(Collections.emptyList()));
 
             // when
             controller.calendarGrid(now.getYear(), now.getMonthValue(), model, request, response);
@@ -211,7 +220,51 @@ class CalendarControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /calendar/check-in")
+    class CalendarCheckIn {
+
+        @Test
+        @DisplayName("토글 결과로 셀 칩, 카드, 요약 통계만 담은 프래그먼트를 반환한다")
+        void checkIn_ReturnsCellFragment() {
+            // given
+            LocalDate date = LocalDate.of(2025, 1, 15);
+            SubscriptionViewDto before = createViewDto(1L, "헬스장", "30000", 9);
+            SubscriptionViewDto other = createViewDto(2L, "넷플릭스", "17000", 5);
+            SubscriptionViewDto after = createViewDto(1L, "헬스장", "30000", 10);
+            given(dashboardSnapshotService.getSnapshot(TEST_USER_UUID))
+                    .willReturn(createSnapshot(List.of(before, other)));
+            given(checkInWriteBehindService.toggleCheckInWithState(1L, TEST_USER_UUID, date))
+                    .willReturn(new CheckInResult(true, date, after, 10, new BigDecimal("3000"), "normal"));
+
+            // when
+            String result = controller.checkIn(1L, "2025-01-15", model, request, response);
+
+            // then
+            assertThat(result).isEqualTo("fragments/calendar-check-in :: response");
+            verify(model).addAttribute("totalUsageCount", 15);
+            verify(model).addAttribute("cardVisible", true);
+            verify(model).addAttribute(eq("usage"), argThat(usage -> usage instanceof CalendarDayDto.UsageEntry entry
+                    && entry.getDailyCost().equals(new BigDecimal("3000")) && entry.getCostLevel().equals("normal")));
+            verify(response).setHeader(eq("HX-Trigger"), contains("\"checkedIn\":true"));
+            verifyNoInteractions(calendarGridService);
+        }
+    }
+
     // Helper method
+    private DashboardSnapshot createSnapshot(List<SubscriptionViewDto> subscriptions) {
+        BigDecimal totalMonthlyFee = subscriptions.stream()
+                .map(SubscriptionViewDto::getMonthlyAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int totalUsageCount = subscriptions.stream()
+                .mapToInt(SubscriptionViewDto::getUsageCount)
+                .sum();
+        return new DashboardSnapshot(
+                LocalDate.now(), subscriptions, Collections.emptyList(),
+                totalMonthlyFee, totalUsageCount, BigDecimal.ZERO, subscriptions.size()
+        );
+    }
+
     private SubscriptionViewDto createViewDto(Long id, String name, String monthlyAmount, int usageCount) {
         return new SubscriptionViewDto(
                 id, name, "test", "📌", "1개월",
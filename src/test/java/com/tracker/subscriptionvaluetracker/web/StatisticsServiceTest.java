@@ -1,11 +1,12 @@
 package com.tracker.subscriptionvaluetracker.web;
 
 import com.tracker.subscriptionvaluetracker.domain.investment.Investment;
+import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentDailySavings;
 import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentRepository;
 import com.tracker.subscriptionvaluetracker.domain.investment.InvestmentUsageRepository;
 import com.tracker.subscriptionvaluetracker.domain.subscription.Subscription;
 import com.tracker.subscriptionvaluetracker.domain.subscription.SubscriptionRepository;
-import com.tracker.subscriptionvaluetracker.domain.subscription.UsageLogRepository;
+import com.tracker.subscriptionvaluetracker.domain.subscription.UsageRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,8 +18,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +29,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +42,7 @@ class StatisticsServiceTest {
     private SubscriptionRepository subscriptionRepository;
 
     @Mock
-    private UsageLogRepository usageLogRepository;
+    private UsageRollupService usageRollupService;
 
     @Mock
     private InvestmentRepository investmentRepository;
@@ -60,8 +66,13 @@ class StatisticsServiceTest {
             Subscription subscription = createSubscription(1L, "헬스장");
             when(subscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
                     .thenReturn(List.of(subscription));
-            when(usageLogRepository.countBySubscriptionIdAndUsedAtBetween(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(5L);
+            YearMonth currentMonth = YearMonth.now();
+            Map<YearMonth, Long> countsByMonth = new HashMap<>();
+            for (int i = 0; i < 6; i++) {
+                countsByMonth.put(currentMonth.minusMonths(i), 5L);
+            }
+            when(usageRollupService.getMonthlyCounts(List.of(1L), currentMonth.minusMonths(5), currentMonth))
+                    .thenReturn(Map.of(1L, countsByMonth));
 
             // when
             Map<String, Object> result = statisticsService.getMonthlyUsageStats(USER_UUID);
@@ -98,6 +109,39 @@ class StatisticsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getMonthlyUsageBySubscription")
+    class GetMonthlyUsageBySubscription {
+
+        @Test
+        @DisplayName("월간 롤업 조회 한 번으로 구독별 최근 6개월 사용 횟수를 반환한다")
+        void returnsMonthlyUsageBySubscription() {
+            // given
+            Subscription gym = createSubscription(1L, "헬스장");
+            Subscription netflix = createSubscription(2L, "넷플릭스");
+            YearMonth currentMonth = YearMonth.now();
+            when(subscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
+                    .thenReturn(List.of(gym, netflix));
+            when(usageRollupService.getMonthlyCounts(List.of(1L, 2L), currentMonth.minusMonths(5), currentMonth))
+                    .thenReturn(Map.of(
+                            1L, Map.of(currentMonth, 8L),
+                            2L, Map.of(currentMonth.minusMonths(5), 3L)
+                    ));
+
+            // when
+            Map<String, Object> result = statisticsService.getMonthlyUsageBySubscription(USER_UUID);
+
+            // then
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> datasets = (List<Map<String, Object>>) result.get("datasets");
+            assertThat(datasets).hasSize(2);
+            assertThat(datasets.get(0).get("data")).isEqualTo(List.of(0L, 0L, 0L, 0L, 0L, 8L));
+            assertThat(datasets.get(1).get("data")).isEqualTo(List.of(3L, 0L, 0L, 0L, 0L, 0L));
+            verify(usageRollupService, times(1))
+                    .getMonthlyCounts(any(), any(YearMonth.class), any(YearMonth.class));
+        }
+    }
+
     @Nested
     @DisplayName("getSubscriptionCostComparison")
     class GetSubscriptionCostComparison {
@@ -130,14 +174,18 @@ class StatisticsServiceTest {
     class GetInvestmentSavingsStats {
 
         @Test
-        @DisplayName("최근 6개월 투자 절약액을 반환한다")
+        @DisplayName("최근 6개월 투자 절약액을 날짜별 합계 한 번으로 조회해 월별로 합산한다")
         void returnsInvestmentSavingsStats() {
             // given
-            Investment investment = createInvestment(1L, "전자책 리더기");
+            YearMonth currentMonth = YearMonth.now();
             when(investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
-                    .thenReturn(List.of(investment));
-            when(investmentUsageRepository.calculateMonthlySavings(anyLong(), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(new BigDecimal("10000"));
+                    .thenReturn(List.of(createInvestment(1L, "전자책 리더기"), createInvestment(2L, "공기청정기")));
+            when(investmentUsageRepository.sumSavingsByDate(
+                    List.of(1L, 2L), currentMonth.minusMonths(5).atDay(1), currentMonth.atEndOfMonth()))
+                    .thenReturn(List.of(
+                            dailySavings(currentMonth.minusMonths(5).atDay(1), new BigDecimal("3000")),
+                            dailySavings(currentMonth.atDay(1), new BigDecimal("10000")),
+                            dailySavings(currentMonth.atEndOfMonth(), new BigDecimal("5000"))));
 
             // when
             Map<String, Object> result = statisticsService.getInvestmentSavingsStats(USER_UUID);
@@ -146,7 +194,10 @@ class StatisticsServiceTest {
             @SuppressWarnings("unchecked")
             List<BigDecimal> data = (List<BigDecimal>) result.get("data");
             assertThat(data).hasSize(6);
-            assertThat(data).allMatch(savings -> savings.compareTo(new BigDecimal("10000")) == 0);
+            assertThat(data.get(0)).isEqualByComparingTo("3000");
+            assertThat(data.get(5)).isEqualByComparingTo("15000");
+            assertThat(data.subList(1, 5)).allMatch(savings -> savings.compareTo(BigDecimal.ZERO) == 0);
+            verify(investmentUsageRepository, never()).calculateMonthlySavings(anyLong(), any(LocalDate.class), any(LocalDate.class));
         }
 
         @Test
@@ -193,6 +244,75 @@ class StatisticsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getBundle")
+    class GetBundle {
+
+        @Test
+        @DisplayName("한 번의 공유 조회로 요약과 모든 차트를 계산한다")
+        void computesSummaryAndChartsFromSharedLoad() {
+            // given
+            Subscription sub1 = createSubscription(1L, "헬스장", new BigDecimal("50000"));
+            Subscription sub2 = createSubscription(2L, "넷플릭스", new BigDecimal("15000"));
+            when(subscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
+                    .thenReturn(List.of(sub1, sub2));
+            YearMonth currentMonth = YearMonth.now();
+            when(usageRollupService.getMonthlyCounts(List.of(1L, 2L), currentMonth.minusMonths(5), currentMonth))
+                    .thenReturn(Map.of(
+                            1L, Map.of(currentMonth, 5L),
+                            2L, Map.of(currentMonth, 2L, currentMonth.minusMonths(1), 3L)));
+            Investment investment = createInvestment(10L, "전자책 리더기");
+            when(investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
+                    .thenReturn(List.of(investment));
+            when(investmentUsageRepository.sumSavingsByDate(
+                    List.of(10L), currentMonth.minusMonths(5).atDay(1), currentMonth.atEndOfMonth()))
+                    .thenReturn(List.of(
+                            dailySavings(currentMonth.atDay(1), new BigDecimal("10000")),
+                            dailySavings(currentMonth.atEndOfMonth(), new BigDecimal("5000"))));
+
+            // when
+            StatsBundle bundle = statisticsService.getBundle(USER_UUID);
+
+            // then
+            assertThat(bundle.summary().subscriptionCount()).isEqualTo(2L);
+            assertThat(bundle.summary().totalMonthlyFee()).isEqualByComparingTo("65000");
+            assertThat(bundle.summary().investmentCount()).isEqualTo(1L);
+            assertThat(bundle.monthlyUsage().data()).containsExactly(0L, 0L, 0L, 0L, 3L, 7L);
+            assertThat(bundle.monthlyUsageBySubscription().labels()).hasSize(6);
+            assertThat(bundle.monthlyUsageBySubscription().datasets())
+                    .extracting(StatsBundle.Dataset::label)
+                    .containsExactly("헬스장", "넷플릭스");
+            assertThat(bundle.costComparison().labels()).containsExactly("헬스장", "넷플릭스");
+            assertThat(bundle.investmentSavings().data().get(5)).isEqualByComparingTo("15000");
+            assertThat(bundle.investmentSavings().data().get(0)).isEqualByComparingTo("0");
+
+            verify(subscriptionRepository, times(1)).findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID);
+            verify(investmentRepository, times(1)).findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID);
+            verify(investmentUsageRepository, never()).calculateMonthlySavings(anyLong(), any(LocalDate.class), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("투자가 없으면 절약액 조회 없이 0원을 반환한다")
+        void returnsZeroSavingsWithoutQueryWhenNoInvestments() {
+            // given
+            when(subscriptionRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
+                    .thenReturn(Collections.emptyList());
+            when(usageRollupService.getMonthlyCounts(any(), any(YearMonth.class), any(YearMonth.class)))
+                    .thenReturn(Collections.emptyMap());
+            when(investmentRepository.findByUserUuidAndIsActiveTrueOrderByCreatedAtDesc(USER_UUID))
+                    .thenReturn(Collections.emptyList());
+
+            // when
+            StatsBundle bundle = statisticsService.getBundle(USER_UUID);
+
+            // then
+            assertThat(bundle.summary().investmentCount()).isZero();
+            assertThat(bundle.investmentSavings().data()).hasSize(6)
+                    .allMatch(savings -> savings.compareTo(BigDecimal.ZERO) == 0);
+            verify(investmentUsageRepository, never()).sumSavingsByDate(any(), any(), any());
+        }
+    }
+
     private Subscription createSubscription(Long id, String name) {
         return createSubscription(id, name, new BigDecimal("50000"));
     }
@@ -224,4 +344,18 @@ class StatisticsServiceTest {
         }
         return investment;
     }
+
+    private InvestmentDailySavings dailySavings(LocalDate usedAt, BigDecimal savings) {
+        return new InvestmentDailySavings() {
+            @Override
+            public LocalDate getUsedAt() {
+                return usedAt;
+            }
+
+            @Override
+            public BigDecimal getSavings() {
+                return savings;
+            }
+        };
+    }
 }